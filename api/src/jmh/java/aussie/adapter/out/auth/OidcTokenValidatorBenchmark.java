@@ -0,0 +1,144 @@
+package aussie.adapter.out.auth;
+
+import java.net.URI;
+import java.security.KeyPairGenerator;
+import java.security.interfaces.RSAPublicKey;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import io.smallrye.mutiny.Uni;
+import org.jose4j.jwk.JsonWebKey;
+import org.jose4j.jwk.JsonWebKeySet;
+import org.jose4j.jwk.RsaJsonWebKey;
+import org.jose4j.jws.AlgorithmIdentifiers;
+import org.jose4j.jws.JsonWebSignature;
+import org.jose4j.jwt.JwtClaims;
+import org.jose4j.jwt.NumericDate;
+import org.jose4j.jwt.consumer.JwtConsumerBuilder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import aussie.core.model.auth.TokenProviderConfig;
+import aussie.core.model.auth.TokenValidationResult;
+import aussie.core.port.out.JwksCache;
+
+/**
+ * Measures OIDC token validation throughput.
+ *
+ * <p>{@code legacyValidate} reproduces the previous pipeline (separate key ID parse,
+ * per-request consumer construction, defensive claims copy) so both variants can be
+ * compared in a single run: {@code ./gradlew jmh -PjmhIncludes=OidcTokenValidator}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class OidcTokenValidatorBenchmark {
+
+    private static final String ISSUER = "https://auth.example.com";
+    private static final String KEY_ID = "bench-key";
+    private static final URI JWKS_URI = URI.create("https://auth.example.com/.well-known/jwks.json");
+
+    private OidcTokenValidator validator;
+    private TokenProviderConfig config;
+    private RsaJsonWebKey jwk;
+    private String token;
+
+    @Setup
+    public void setUp() throws Exception {
+        final var keyGen = KeyPairGenerator.getInstance("RSA");
+        keyGen.initialize(2048);
+        final var keyPair = keyGen.generateKeyPair();
+
+        jwk = new RsaJsonWebKey((RSAPublicKey) keyPair.getPublic());
+        jwk.setKeyId(KEY_ID);
+        jwk.setAlgorithm(AlgorithmIdentifiers.RSA_USING_SHA256);
+
+        final var claims = new JwtClaims();
+        claims.setSubject("user-123");
+        claims.setIssuer(ISSUER);
+        claims.setAudience("aussie");
+        claims.setExpirationTime(
+                NumericDate.fromSeconds(Instant.now().plusSeconds(86400).getEpochSecond()));
+        claims.setIssuedAt(NumericDate.now());
+        claims.setGeneratedJwtId();
+        claims.setClaim("roles", "admin,user");
+        claims.setClaim("external_id", "ext-123");
+
+        final var jws = new JsonWebSignature();
+        jws.setPayload(claims.toJson());
+        jws.setKey(keyPair.getPrivate());
+        jws.setKeyIdHeaderValue(KEY_ID);
+        jws.setAlgorithmHeaderValue(AlgorithmIdentifiers.RSA_USING_SHA256);
+        token = jws.getCompactSerialization();
+
+        config = TokenProviderConfig.builder("bench", ISSUER, JWKS_URI)
+                .claimsMapping(Map.of("external_id", "internal_id"))
+                .build();
+        validator = new OidcTokenValidator(new StaticJwksCache(jwk));
+    }
+
+    @Benchmark
+    public TokenValidationResult validate() {
+        return validator.validate(token, config).await().indefinitely();
+    }
+
+    @Benchmark
+    public TokenValidationResult legacyValidate() throws Exception {
+        final var header = new JsonWebSignature();
+        header.setCompactSerialization(token);
+        if (!KEY_ID.equals(header.getKeyIdHeaderValue())) {
+            throw new IllegalStateException("Unexpected key ID");
+        }
+
+        final var consumer = new JwtConsumerBuilder()
+                .setRequireSubject()
+                .setRequireExpirationTime()
+                .setAllowedClockSkewInSeconds(30)
+                .setExpectedIssuer(config.issuer())
+                .setVerificationKey(jwk.getKey())
+                .setSkipDefaultAudienceValidation()
+                .build();
+        final var claims = consumer.processToClaims(token);
+
+        final Map<String, Object> claimsMap = new HashMap<>(claims.getClaimsMap());
+        for (var mapping : config.claimsMapping().entrySet()) {
+            if (claimsMap.containsKey(mapping.getKey())) {
+                claimsMap.put(mapping.getValue(), claimsMap.get(mapping.getKey()));
+            }
+        }
+        return new TokenValidationResult.Valid(
+                claims.getSubject(),
+                claims.getIssuer(),
+                claimsMap,
+                Instant.ofEpochSecond(claims.getExpirationTime().getValue()));
+    }
+
+    private record StaticJwksCache(JsonWebKey key) implements JwksCache {
+
+        @Override
+        public Uni<JsonWebKeySet> getKeySet(URI jwksUri) {
+            return Uni.createFrom().item(new JsonWebKeySet(key));
+        }
+
+        @Override
+        public Uni<Optional<JsonWebKey>> getKey(URI jwksUri, String keyId) {
+            return Uni.createFrom().item(Optional.of(key));
+        }
+
+        @Override
+        public Uni<JsonWebKeySet> refresh(URI jwksUri) {
+            return getKeySet(jwksUri);
+        }
+
+        @Override
+        public void invalidate(URI jwksUri) {}
+    }
+}
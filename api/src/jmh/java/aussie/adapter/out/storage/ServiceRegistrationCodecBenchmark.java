@@ -0,0 +1,114 @@
+package aussie.adapter.out.storage;
+
+import java.util.ArrayList;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jdk8.Jdk8Module;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import aussie.core.model.common.CorsConfig;
+import aussie.core.model.ratelimit.EndpointRateLimitConfig;
+import aussie.core.model.routing.EndpointConfig;
+import aussie.core.model.routing.EndpointType;
+import aussie.core.model.routing.EndpointVisibility;
+import aussie.core.model.service.ServiceRegistration;
+
+/**
+ * Measures decode time of a stored service registration.
+ *
+ * <p>{@code legacyDecodeJson} reproduces the previous read path, which parsed JSON
+ * text on every Cassandra row and Redis cache hit. Each benchmark also reports the
+ * size of the value it reads or writes as the {@code encodedBytes} counter, so bytes
+ * per registration appear next to the timings:
+ * {@code ./gradlew jmh -PjmhIncludes=ServiceRegistrationCodec}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ServiceRegistrationCodecBenchmark {
+
+    @Param({"500"})
+    public int endpointCount;
+
+    private ServiceRegistrationCodec codec;
+    private ObjectMapper jsonMapper;
+    private ServiceRegistration registration;
+    private byte[] encoded;
+    private byte[] json;
+
+    @Setup
+    public void setUp() throws Exception {
+        codec = new ServiceRegistrationCodec();
+        jsonMapper = new ObjectMapper()
+                .registerModule(new Jdk8Module())
+                .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+
+        final var endpoints = new ArrayList<EndpointConfig>();
+        for (int i = 0; i < endpointCount; i++) {
+            endpoints.add(new EndpointConfig(
+                    "/api/v1/resource-" + i + "/{id}",
+                    i % 3 == 0 ? Set.of("GET") : Set.of("GET", "POST", "PUT"),
+                    i % 2 == 0 ? EndpointVisibility.PUBLIC : EndpointVisibility.PRIVATE,
+                    Optional.empty(),
+                    true,
+                    EndpointType.HTTP,
+                    i % 10 == 0 ? Optional.of(EndpointRateLimitConfig.of(100, 60)) : Optional.empty()));
+        }
+        registration = ServiceRegistration.builder("orders")
+                .displayName("Orders")
+                .baseUrl("http://orders:8080")
+                .endpoints(endpoints)
+                .corsConfig(CorsConfig.allowAll())
+                .build();
+
+        encoded = codec.encode(registration);
+        json = jsonMapper.writeValueAsBytes(registration);
+    }
+
+    @Benchmark
+    public ServiceRegistration decodeBinary(Size size) {
+        size.encodedBytes = encoded.length;
+        return codec.decode(encoded);
+    }
+
+    @Benchmark
+    public ServiceRegistration legacyDecodeJson(Size size) throws Exception {
+        size.encodedBytes = json.length;
+        return jsonMapper.readValue(json, ServiceRegistration.class);
+    }
+
+    @Benchmark
+    public byte[] encodeBinary(Size size) {
+        final var data = codec.encode(registration);
+        size.encodedBytes = data.length;
+        return data;
+    }
+
+    /**
+     * Size of the value each benchmark reads or writes, reported alongside its timing.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Size {
+
+        public long encodedBytes;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            encodedBytes = 0;
+        }
+    }
+}
@@ -0,0 +1,173 @@
+package aussie.adapter.out.telemetry;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Measures the per-request cost of recording gateway and attribution metrics.
+ *
+ * <p>The {@code legacy*} variants reproduce the previous builder-per-call recording
+ * so both can be compared in a single run:
+ * {@code ./gradlew jmh -PjmhIncludes=GatewayMetrics}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class GatewayMetricsBenchmark {
+
+    private static final String SERVICE_ID = "orders";
+
+    private MeterRegistry registry;
+    private GatewayMetrics metrics;
+    private TrafficAttributionService attribution;
+    private TrafficAttribution dimensions;
+    private TrafficAttributionService.RequestMetrics requestMetrics;
+
+    @Setup
+    public void setUp() {
+        registry = new SimpleMeterRegistry();
+        final var config = new BenchmarkTelemetryConfig();
+        metrics = new GatewayMetrics(registry, config);
+        attribution = new TrafficAttributionService(registry, config);
+        dimensions = new TrafficAttribution(SERVICE_ID, "team-a", "tenant-1", "web", "prod");
+        requestMetrics = new TrafficAttributionService.RequestMetrics(512, 4096, 12);
+    }
+
+    @Benchmark
+    public void recordRequest() {
+        metrics.recordRequest(SERVICE_ID, "GET", 200);
+        metrics.recordProxyLatency(SERVICE_ID, "GET", 200, 12);
+    }
+
+    @Benchmark
+    public void legacyRecordRequest() {
+        Counter.builder("aussie.requests.total")
+                .description("Total number of requests processed")
+                .tag("service_id", SERVICE_ID)
+                .tag("method", "GET")
+                .tag("status", String.valueOf(200))
+                .tag("status_class", "2xx")
+                .register(registry)
+                .increment();
+
+        Timer.builder("aussie.proxy.latency")
+                .description("Time to receive response from upstream service")
+                .tag("service_id", SERVICE_ID)
+                .tag("method", "GET")
+                .tag("status_class", "2xx")
+                .publishPercentiles(0.5, 0.9, 0.95, 0.99)
+                .register(registry)
+                .record(12, TimeUnit.MILLISECONDS);
+    }
+
+    @Benchmark
+    public void recordAttributedRequest() {
+        attribution.recordAttributedRequest(dimensions, requestMetrics);
+    }
+
+    @Benchmark
+    public void legacyRecordAttributedRequest() {
+        final var tags = Tags.of(
+                "service_id", dimensions.serviceIdOrUnknown(),
+                "team_id", dimensions.teamIdOrUnknown(),
+                "tenant_id", dimensions.tenantIdOrUnknown(),
+                "environment", dimensions.environmentOrUnknown());
+
+        Counter.builder("aussie.attributed.requests.total").tags(tags).register(registry).increment();
+        Counter.builder("aussie.attributed.bytes.ingress")
+                .tags(tags)
+                .register(registry)
+                .increment(requestMetrics.requestBytes());
+        Counter.builder("aussie.attributed.bytes.egress")
+                .tags(tags)
+                .register(registry)
+                .increment(requestMetrics.responseBytes());
+        Counter.builder("aussie.attributed.compute.units").tags(tags).register(registry).increment(1.0);
+        Timer.builder("aussie.attributed.duration")
+                .tags(tags)
+                .publishPercentiles(0.5, 0.9, 0.99)
+                .register(registry)
+                .record(requestMetrics.durationMs(), TimeUnit.MILLISECONDS);
+    }
+
+    private static final class BenchmarkTelemetryConfig implements TelemetryConfig {
+
+        @Override
+        public boolean enabled() {
+            return true;
+        }
+
+        @Override
+        public TracingConfig tracing() {
+            return null;
+        }
+
+        @Override
+        public MetricsConfig metrics() {
+            return new MetricsConfig() {
+                @Override
+                public boolean enabled() {
+                    return true;
+                }
+
+                @Override
+                public int bufferSize() {
+                    return 8192;
+                }
+
+                @Override
+                public Duration flushInterval() {
+                    return Duration.ofMillis(100);
+                }
+            };
+        }
+
+        @Override
+        public SecurityConfig security() {
+            return null;
+        }
+
+        @Override
+        public AttributionConfig attribution() {
+            return new AttributionConfig() {
+                @Override
+                public boolean enabled() {
+                    return true;
+                }
+
+                @Override
+                public String teamHeader() {
+                    return "X-Team-ID";
+                }
+
+                @Override
+                public String tenantHeader() {
+                    return "X-Tenant-ID";
+                }
+
+                @Override
+                public String clientAppHeader() {
+                    return "X-Client-Application";
+                }
+            };
+        }
+
+        @Override
+        public AttributesConfig attributes() {
+            return null;
+        }
+    }
+}
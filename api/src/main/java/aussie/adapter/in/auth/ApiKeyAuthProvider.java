@@ -7,6 +7,8 @@ import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
 import jakarta.ws.rs.core.MultivaluedMap;
 
+import io.smallrye.mutiny.Uni;
+
 import aussie.core.model.auth.AuthenticationContext;
 import aussie.core.model.auth.AuthenticationResult;
 import aussie.core.model.auth.Principal;
@@ -53,51 +55,49 @@ public class ApiKeyAuthProvider implements AuthenticationProvider {
     }
 
     /**
-     * Authenticate using API key validation.
+     * Authenticate using API key validation, blocking on {@link #authenticateAsync}.
      *
-     * <p><strong>Note on blocking behavior:</strong> This method intentionally uses
-     * {@code .await().indefinitely()} to block on the reactive validation call because
-     * the {@link AuthenticationProvider} SPI is synchronous.
+     * <p>Must not be called on the event loop.
      *
-     * <p>This is an acceptable use of blocking because:
-     * <ul>
-     *   <li>This provider is only used in the deprecated legacy authentication filter</li>
-     *   <li>The primary authentication path uses Quarkus Security via
-     *       {@code ApiKeyAuthenticationMechanism}, which is fully reactive</li>
-     *   <li>The legacy filter is disabled by default (aussie.auth.use-legacy-filter=false)</li>
-     * </ul>
+     * @deprecated Part of the deprecated legacy authentication system. Use Quarkus
+     *             Security with {@code ApiKeyAuthenticationMechanism} instead.
+     */
+    @Override
+    @Deprecated
+    public AuthenticationResult authenticate(MultivaluedMap<String, String> headers, String path) {
+        return authenticateAsync(headers, path).await().indefinitely();
+    }
+
+    /**
+     * Authenticate using API key validation.
      *
-     * <p>New deployments should use the Quarkus Security integration and not enable
-     * the legacy filter. This provider exists for backward compatibility only.
+     * <p>The key lookup is reactive, so this runs on the event loop without
+     * blocking.
      *
      * @deprecated Part of the deprecated legacy authentication system. Use Quarkus
      *             Security with {@code ApiKeyAuthenticationMechanism} instead.
      */
     @Override
     @Deprecated
-    public AuthenticationResult authenticate(MultivaluedMap<String, String> headers, String path) {
+    public Uni<AuthenticationResult> authenticateAsync(MultivaluedMap<String, String> headers, String path) {
         String authHeader = headers.getFirst("Authorization");
 
         // No Authorization header - skip to next provider
         if (authHeader == null || authHeader.isBlank()) {
-            return AuthenticationResult.Skip.instance();
+            return Uni.createFrom().item(AuthenticationResult.Skip.instance());
         }
 
         // Not a Bearer token - skip to next provider
         if (!authHeader.startsWith(BEARER_PREFIX)) {
-            return AuthenticationResult.Skip.instance();
+            return Uni.createFrom().item(AuthenticationResult.Skip.instance());
         }
 
         String key = authHeader.substring(BEARER_PREFIX.length()).trim();
         if (key.isBlank()) {
-            return AuthenticationResult.Failure.unauthorized("Empty API key");
+            return Uni.createFrom().item(AuthenticationResult.Failure.unauthorized("Empty API key"));
         }
 
-        // Validate the key (blocking call for legacy SPI compatibility)
-        return apiKeyService
-                .validate(key)
-                .await()
-                .indefinitely()
+        return apiKeyService.validate(key).map(validated -> validated
                 .map(apiKey -> {
                     var context = AuthenticationContext.builder(Principal.service(apiKey.id(), apiKey.name()))
                             .permissions(apiKey.permissions())
@@ -108,6 +108,6 @@ public class ApiKeyAuthProvider implements AuthenticationProvider {
 
                     return (AuthenticationResult) new AuthenticationResult.Success(context);
                 })
-                .orElse(AuthenticationResult.Failure.unauthorized("Invalid API key"));
+                .orElse(AuthenticationResult.Failure.unauthorized("Invalid API key")));
     }
 }
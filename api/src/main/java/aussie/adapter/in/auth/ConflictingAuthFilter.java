@@ -5,6 +5,7 @@ import java.util.Map;
 import jakarta.annotation.Priority;
 import jakarta.enterprise.inject.Instance;
 import jakarta.inject.Inject;
+import jakarta.inject.Singleton;
 import jakarta.ws.rs.Priorities;
 import jakarta.ws.rs.container.ContainerRequestContext;
 import jakarta.ws.rs.container.ContainerRequestFilter;
@@ -26,9 +27,13 @@ import aussie.core.config.SessionConfig;
  * and potential security issues like confused deputy attacks.
  */
 @Provider
+@Singleton
 @Priority(Priorities.AUTHENTICATION - 100) // Run before authentication
 public class ConflictingAuthFilter implements ContainerRequestFilter {
 
+    public static final String ERROR_CODE = "conflicting_authentication";
+    public static final String ERROR_MESSAGE = "Request cannot contain both Authorization header and session cookie";
+
     private static final Logger LOG = Logger.getLogger(ConflictingAuthFilter.class);
 
     private final Instance<SessionConfig> sessionConfigInstance;
@@ -51,39 +56,48 @@ public class ConflictingAuthFilter implements ContainerRequestFilter {
                 "ConflictingAuthFilter.filter() called for path: %s",
                 requestContext.getUriInfo().getPath());
 
+        if (hasConflictingAuth(routingContext.request())) {
+            LOG.warnf("Rejecting request with conflicting authentication: "
+                    + "both Authorization header and session cookie present");
+
+            requestContext.abortWith(Response.status(Response.Status.BAD_REQUEST)
+                    .entity(Map.of("error", ERROR_CODE, "message", ERROR_MESSAGE))
+                    .type(MediaType.APPLICATION_JSON)
+                    .build());
+        }
+    }
+
+    /**
+     * Check whether a request carries both an Authorization header and a session cookie.
+     *
+     * <p>Always false when sessions are disabled or not configured. Shared with the
+     * proxy fast path, which does not run JAX-RS filters.
+     *
+     * @param request the Vert.x request
+     * @return true if the request should be rejected
+     */
+    public boolean hasConflictingAuth(HttpServerRequest request) {
         // Skip if session config is not available (e.g., in tests without session config)
         if (!sessionConfigInstance.isResolvable()) {
             LOG.info("Session config not resolvable, skipping");
-            return;
+            return false;
         }
 
         SessionConfig sessionConfig = sessionConfigInstance.get();
 
         // Skip if sessions are disabled
         if (!sessionConfig.enabled()) {
-            return;
+            return false;
         }
 
         // Skip if cookie manager is not available
         if (!cookieManagerInstance.isResolvable()) {
-            return;
+            return false;
         }
 
-        boolean hasAuthHeader = requestContext.getHeaderString("Authorization") != null;
-
-        HttpServerRequest request = routingContext.request();
+        boolean hasAuthHeader = request.getHeader("Authorization") != null;
         boolean hasSessionCookie = cookieManagerInstance.get().hasSessionCookie(request);
 
-        if (hasAuthHeader && hasSessionCookie) {
-            LOG.warnf("Rejecting request with conflicting authentication: "
-                    + "both Authorization header and session cookie present");
-
-            requestContext.abortWith(Response.status(Response.Status.BAD_REQUEST)
-                    .entity(Map.of(
-                            "error", "conflicting_authentication",
-                            "message", "Request cannot contain both Authorization header and session cookie"))
-                    .type(MediaType.APPLICATION_JSON)
-                    .build());
-        }
+        return hasAuthHeader && hasSessionCookie;
     }
 }
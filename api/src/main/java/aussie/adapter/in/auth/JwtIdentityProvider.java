@@ -95,9 +95,16 @@ public class JwtIdentityProvider implements IdentityProvider<JwtAuthenticationRe
 
             // Expand roles to permissions
             return expandRolesToPermissions(tokenRoles).map(rolePermissions -> {
-                // Combine direct permissions with role-expanded permissions
-                final var allPermissions = new HashSet<String>(directPermissions);
-                allPermissions.addAll(rolePermissions);
+                // Combine direct permissions with role-expanded permissions; the expansion is
+                // an immutable, shared bitset, so it is only copied when there is something to add
+                final Set<String> allPermissions;
+                if (directPermissions.isEmpty()) {
+                    allPermissions = rolePermissions;
+                } else {
+                    final var combined = new HashSet<String>(directPermissions);
+                    combined.addAll(rolePermissions);
+                    allPermissions = combined;
+                }
 
                 // Map permissions to Quarkus Security roles
                 final Set<String> securityRoles = Permission.toRoles(allPermissions);
@@ -7,10 +7,14 @@ import jakarta.enterprise.inject.Instance;
 import jakarta.inject.Inject;
 
 import io.quarkus.vertx.web.RouteFilter;
+import io.vertx.core.MultiMap;
+import io.vertx.core.http.HttpHeaders;
+import io.vertx.core.http.HttpMethod;
 import io.vertx.ext.web.RoutingContext;
 import org.jboss.logging.Logger;
 
 import aussie.core.model.common.CorsConfig;
+import aussie.core.model.common.CorsPolicy;
 
 /**
  * CORS filter for gateway requests using Vert.x RouteFilter.
@@ -22,23 +26,37 @@ import aussie.core.model.common.CorsConfig;
  * <p>
  * This filter runs at the Vert.x routing level (before JAX-RS) to ensure
  * all requests, including proxied ones, get proper CORS handling.
+ *
+ * <p>
+ * The configuration is compiled once into a {@link CorsPolicy} with its response
+ * headers prebuilt, so preflights are answered without re-matching patterns or
+ * re-joining header values.
  */
 @ApplicationScoped
 public class CorsFilter {
 
     private static final Logger LOG = Logger.getLogger(CorsFilter.class);
 
-    private static final String ORIGIN_HEADER = "Origin";
-    private static final String ACCESS_CONTROL_ALLOW_ORIGIN = "Access-Control-Allow-Origin";
-    private static final String ACCESS_CONTROL_ALLOW_METHODS = "Access-Control-Allow-Methods";
-    private static final String ACCESS_CONTROL_ALLOW_HEADERS = "Access-Control-Allow-Headers";
-    private static final String ACCESS_CONTROL_EXPOSE_HEADERS = "Access-Control-Expose-Headers";
-    private static final String ACCESS_CONTROL_ALLOW_CREDENTIALS = "Access-Control-Allow-Credentials";
-    private static final String ACCESS_CONTROL_MAX_AGE = "Access-Control-Max-Age";
-    private static final String ACCESS_CONTROL_REQUEST_METHOD = "Access-Control-Request-Method";
-    private static final String VARY = "Vary";
+    private static final CharSequence ORIGIN_HEADER = HttpHeaders.createOptimized("Origin");
+    private static final CharSequence ACCESS_CONTROL_ALLOW_ORIGIN =
+            HttpHeaders.createOptimized("Access-Control-Allow-Origin");
+    private static final CharSequence ACCESS_CONTROL_ALLOW_METHODS =
+            HttpHeaders.createOptimized("Access-Control-Allow-Methods");
+    private static final CharSequence ACCESS_CONTROL_ALLOW_HEADERS =
+            HttpHeaders.createOptimized("Access-Control-Allow-Headers");
+    private static final CharSequence ACCESS_CONTROL_EXPOSE_HEADERS =
+            HttpHeaders.createOptimized("Access-Control-Expose-Headers");
+    private static final CharSequence ACCESS_CONTROL_ALLOW_CREDENTIALS =
+            HttpHeaders.createOptimized("Access-Control-Allow-Credentials");
+    private static final CharSequence ACCESS_CONTROL_MAX_AGE = HttpHeaders.createOptimized("Access-Control-Max-Age");
+    private static final CharSequence ACCESS_CONTROL_REQUEST_METHOD =
+            HttpHeaders.createOptimized("Access-Control-Request-Method");
+    private static final CharSequence VARY = HttpHeaders.createOptimized("Vary");
+    private static final CharSequence WILDCARD = HttpHeaders.createOptimized("*");
+    private static final CharSequence TRUE = HttpHeaders.createOptimized("true");
 
     private final Instance<GatewayCorsConfig> corsConfigInstance;
+    private volatile CompiledCors compiled;
 
     @Inject
     public CorsFilter(Instance<GatewayCorsConfig> corsConfigInstance) {
@@ -75,88 +93,67 @@ public class CorsFilter {
                 "CORS request: %s %s from origin %s",
                 rc.request().method(), rc.request().path(), origin);
 
-        // Build global CORS config
-        CorsConfig corsConfig = buildGlobalCorsConfig(globalConfig);
+        var cors = compiled(globalConfig);
 
         // Handle preflight (OPTIONS) requests
-        if ("OPTIONS".equalsIgnoreCase(rc.request().method().name())) {
+        if (HttpMethod.OPTIONS.equals(rc.request().method())) {
             LOG.debugf("Handling CORS preflight for origin %s", origin);
-            handlePreflight(rc, origin, corsConfig);
+            handlePreflight(rc, origin, cors);
             return; // Don't call next() - we're handling the response
         }
 
         // For non-preflight requests, add CORS headers and continue
-        addCorsHeaders(rc, origin, corsConfig);
+        addCorsHeaders(rc, origin, cors);
         rc.next();
     }
 
-    private void handlePreflight(RoutingContext rc, String origin, CorsConfig corsConfig) {
+    private void handlePreflight(RoutingContext rc, String origin, CompiledCors cors) {
         String requestMethod = rc.request().getHeader(ACCESS_CONTROL_REQUEST_METHOD);
 
         // Check if origin is allowed
-        if (!corsConfig.isOriginAllowed(origin)) {
+        if (!cors.policy().isOriginAllowed(origin)) {
             LOG.debugf("CORS preflight rejected: origin %s not allowed", origin);
             rc.response().setStatusCode(403).end("Forbidden");
             return;
         }
 
         // Check if method is allowed
-        if (requestMethod != null && !corsConfig.isMethodAllowed(requestMethod)) {
+        if (requestMethod != null && !cors.policy().isMethodAllowed(requestMethod)) {
             LOG.debugf("CORS preflight rejected: method %s not allowed", requestMethod);
             rc.response().setStatusCode(403).end("Forbidden");
             return;
         }
 
-        // Set allowed origin
-        if (corsConfig.allowedOrigins().contains("*") && !corsConfig.allowCredentials()) {
-            rc.response().putHeader(ACCESS_CONTROL_ALLOW_ORIGIN, "*");
-        } else {
-            rc.response().putHeader(ACCESS_CONTROL_ALLOW_ORIGIN, origin);
-            rc.response().putHeader(VARY, ORIGIN_HEADER);
+        var headers = rc.response().headers();
+        headers.addAll(cors.preflightHeaders());
+        if (!cors.policy().respondsWithWildcardOrigin()) {
+            headers.set(ACCESS_CONTROL_ALLOW_ORIGIN, origin);
         }
 
-        // Set allowed methods
-        rc.response().putHeader(ACCESS_CONTROL_ALLOW_METHODS, corsConfig.getAllowedMethodsString());
-
-        // Set allowed headers
-        rc.response().putHeader(ACCESS_CONTROL_ALLOW_HEADERS, corsConfig.getAllowedHeadersString());
-
-        // Set credentials
-        if (corsConfig.allowCredentials()) {
-            rc.response().putHeader(ACCESS_CONTROL_ALLOW_CREDENTIALS, "true");
-        }
-
-        // Set max age
-        corsConfig.maxAge().ifPresent(maxAge -> rc.response().putHeader(ACCESS_CONTROL_MAX_AGE, maxAge.toString()));
-
         LOG.debugf("CORS preflight accepted for origin %s", origin);
         rc.response().setStatusCode(200).end();
     }
 
-    private void addCorsHeaders(RoutingContext rc, String origin, CorsConfig corsConfig) {
+    private void addCorsHeaders(RoutingContext rc, String origin, CompiledCors cors) {
         // Check if origin is allowed
-        if (!corsConfig.isOriginAllowed(origin)) {
+        if (!cors.policy().isOriginAllowed(origin)) {
             return;
         }
 
-        // Set allowed origin
-        if (corsConfig.allowedOrigins().contains("*") && !corsConfig.allowCredentials()) {
-            rc.response().putHeader(ACCESS_CONTROL_ALLOW_ORIGIN, "*");
-        } else {
-            rc.response().putHeader(ACCESS_CONTROL_ALLOW_ORIGIN, origin);
-            rc.response().putHeader(VARY, ORIGIN_HEADER);
-        }
-
-        // Set credentials
-        if (corsConfig.allowCredentials()) {
-            rc.response().putHeader(ACCESS_CONTROL_ALLOW_CREDENTIALS, "true");
+        var headers = rc.response().headers();
+        headers.addAll(cors.responseHeaders());
+        if (!cors.policy().respondsWithWildcardOrigin()) {
+            headers.set(ACCESS_CONTROL_ALLOW_ORIGIN, origin);
         }
+    }
 
-        // Set exposed headers
-        String exposedHeaders = corsConfig.getExposedHeadersString();
-        if (exposedHeaders != null) {
-            rc.response().putHeader(ACCESS_CONTROL_EXPOSE_HEADERS, exposedHeaders);
+    private CompiledCors compiled(GatewayCorsConfig globalConfig) {
+        var current = compiled;
+        if (current == null || current.source() != globalConfig) {
+            current = CompiledCors.compile(globalConfig, buildGlobalCorsConfig(globalConfig));
+            compiled = current;
         }
+        return current;
     }
 
     private CorsConfig buildGlobalCorsConfig(GatewayCorsConfig globalConfig) {
@@ -168,4 +165,52 @@ public class CorsFilter {
                 globalConfig.allowCredentials(),
                 globalConfig.maxAge());
     }
+
+    /**
+     * A compiled policy with its response headers prebuilt for each kind of response.
+     *
+     * <p>Only {@code Access-Control-Allow-Origin} depends on the request, and only when
+     * the policy echoes the origin; every other header is copied from these maps.
+     */
+    private record CompiledCors(
+            GatewayCorsConfig source, CorsPolicy policy, MultiMap preflightHeaders, MultiMap responseHeaders) {
+
+        static CompiledCors compile(GatewayCorsConfig source, CorsConfig config) {
+            var policy = CorsPolicy.compile(config);
+
+            var preflight = originHeaders(policy);
+            preflight.add(ACCESS_CONTROL_ALLOW_METHODS, HttpHeaders.createOptimized(policy.allowedMethodsHeader()));
+            preflight.add(ACCESS_CONTROL_ALLOW_HEADERS, HttpHeaders.createOptimized(policy.allowedHeadersHeader()));
+            if (policy.allowCredentials()) {
+                preflight.add(ACCESS_CONTROL_ALLOW_CREDENTIALS, TRUE);
+            }
+            if (policy.maxAgeHeader() != null) {
+                preflight.add(ACCESS_CONTROL_MAX_AGE, HttpHeaders.createOptimized(policy.maxAgeHeader()));
+            }
+
+            var response = originHeaders(policy);
+            if (policy.allowCredentials()) {
+                response.add(ACCESS_CONTROL_ALLOW_CREDENTIALS, TRUE);
+            }
+            if (policy.exposedHeadersHeader() != null) {
+                response.add(ACCESS_CONTROL_EXPOSE_HEADERS, HttpHeaders.createOptimized(policy.exposedHeadersHeader()));
+            }
+
+            return new CompiledCors(source, policy, preflight, response);
+        }
+
+        /**
+         * Wildcard policies answer with a fixed {@code *}; echoing policies set the
+         * origin per request and must vary on it.
+         */
+        private static MultiMap originHeaders(CorsPolicy policy) {
+            var headers = HttpHeaders.headers();
+            if (policy.respondsWithWildcardOrigin()) {
+                headers.add(ACCESS_CONTROL_ALLOW_ORIGIN, WILDCARD);
+            } else {
+                headers.add(VARY, ORIGIN_HEADER);
+            }
+            return headers;
+        }
+    }
 }
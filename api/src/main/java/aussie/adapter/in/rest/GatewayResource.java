@@ -1,8 +1,5 @@
 package aussie.adapter.in.rest;
 
-import java.util.HashMap;
-import java.util.List;
-
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
 import jakarta.ws.rs.DELETE;
@@ -22,6 +19,7 @@ import io.smallrye.mutiny.Uni;
 import io.vertx.ext.web.RoutingContext;
 
 import aussie.adapter.in.problem.GatewayProblem;
+import aussie.adapter.out.http.MultiMapHeaders;
 import aussie.core.model.gateway.GatewayRequest;
 import aussie.core.model.gateway.GatewayResult;
 import aussie.core.port.in.GatewayUseCase;
@@ -97,10 +95,8 @@ public class GatewayResource {
     }
 
     private GatewayRequest toGatewayRequest(String path, ContainerRequestContext requestContext, byte[] body) {
-        var headers = new HashMap<String, List<String>>();
-        for (var entry : requestContext.getHeaders().entrySet()) {
-            headers.put(entry.getKey(), List.copyOf(entry.getValue()));
-        }
+        // Read headers through from the Vert.x request rather than copying them
+        var headers = new MultiMapHeaders(routingContext.request().headers());
 
         var clientIp = extractClientIp();
 
@@ -202,21 +202,25 @@ public class TranslationConfigResource {
      *
      * @param versionId the version ID to activate
      * @param ctx security context for determining the actor
-     * @return 204 No Content if activated, or 404 if not found
+     * @return 204 No Content if activated, 404 if not found, or 400 if the version does not compile
      */
     @PUT
     @Path("/{versionId}/activate")
     @PermissionsAllowed({Permission.TRANSLATION_CONFIG_WRITE_VALUE, Permission.ADMIN_VALUE})
     public Uni<Response> activateVersion(@PathParam("versionId") String versionId, @Context SecurityContext ctx) {
         final var actor = getUserId(ctx);
-        return configService.activate(versionId).map(activated -> {
-            if (activated) {
-                LOG.infof("Translation config activated: versionId=%s, actor=%s", versionId, actor);
-                return Response.noContent().build();
-            } else {
-                throw GatewayProblem.resourceNotFound("TranslationConfigVersion", versionId);
-            }
-        });
+        return configService
+                .activate(versionId)
+                .map(activated -> {
+                    if (activated) {
+                        LOG.infof("Translation config activated: versionId=%s, actor=%s", versionId, actor);
+                        return Response.noContent().build();
+                    } else {
+                        throw GatewayProblem.resourceNotFound("TranslationConfigVersion", versionId);
+                    }
+                })
+                .onFailure(ConfigValidationException.class)
+                .transform(this::validationFailed);
     }
 
     /**
@@ -224,7 +228,7 @@ public class TranslationConfigResource {
      *
      * @param versionNumber the version number to rollback to
      * @param ctx security context for determining the actor
-     * @return the activated version or 404 if not found
+     * @return the activated version, 404 if not found, or 400 if the version does not compile
      */
     @POST
     @Path("/rollback/{versionNumber}")
@@ -238,7 +242,14 @@ public class TranslationConfigResource {
                         versionNumber, version.id(), actor)))
                 .map(opt -> opt.map(version -> Response.ok(TranslationConfigVersionDto.fromModel(version))
                                 .build())
-                        .orElseThrow(() -> GatewayProblem.notFound("Version " + versionNumber + " not found")));
+                        .orElseThrow(() -> GatewayProblem.notFound("Version " + versionNumber + " not found")))
+                .onFailure(ConfigValidationException.class)
+                .transform(this::validationFailed);
+    }
+
+    private Throwable validationFailed(Throwable error) {
+        final var ex = (ConfigValidationException) error;
+        return GatewayProblem.badRequest("Validation failed: " + String.join(", ", ex.getErrors()));
     }
 
     /**
@@ -8,11 +8,14 @@ import java.util.Map;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
 
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.enterprise.event.ObservesAsync;
 import jakarta.inject.Inject;
 
 import io.smallrye.mutiny.Uni;
+import io.vertx.core.Context;
 import io.vertx.core.MultiMap;
 import io.vertx.core.Vertx;
 import io.vertx.core.http.WebSocketConnectOptions;
@@ -25,6 +28,7 @@ import aussie.core.config.WebSocketConfig;
 import aussie.core.model.ratelimit.MessageRateLimitHandler;
 import aussie.core.model.session.SessionInvalidatedEvent;
 import aussie.core.model.websocket.WebSocketProxySession;
+import aussie.core.model.websocket.WebSocketTimerWheel;
 import aussie.core.model.websocket.WebSocketUpgradeRequest;
 import aussie.core.model.websocket.WebSocketUpgradeResult;
 import aussie.core.port.in.WebSocketGatewayUseCase;
@@ -47,14 +51,20 @@ public class WebSocketGateway {
 
     private static final Logger LOG = Logger.getLogger(WebSocketGateway.class);
 
+    // Slots in the session timer wheel; with the default 1s tick one revolution spans ~8.5 minutes
+    private static final int TIMER_WHEEL_SLOTS = 512;
+
     // Track active sessions for metrics/debugging (per-instance count)
     private final Map<String, WebSocketProxySession> activeSessions = new ConcurrentHashMap<>();
+    private final WebSocketSessionIndex sessionIndex = new WebSocketSessionIndex();
 
     private final WebSocketGatewayUseCase gatewayUseCase;
     private final WebSocketConfig config;
     private final Vertx vertx;
     private final GatewayMetrics metrics;
     private final WebSocketRateLimitService rateLimitService;
+    private final WebSocketTimerWheel timerWheel;
+    private long timerWheelTickId = -1;
 
     @Inject
     public WebSocketGateway(
@@ -68,6 +78,24 @@ public class WebSocketGateway {
         this.vertx = vertx;
         this.metrics = metrics;
         this.rateLimitService = rateLimitService;
+        this.timerWheel =
+                new WebSocketTimerWheel(config.timerTick().toMillis(), TIMER_WHEEL_SLOTS, System::currentTimeMillis);
+    }
+
+    @PostConstruct
+    void init() {
+        metrics.registerWebSocketBufferGauges(
+                this, WebSocketGateway::getBufferedBytes, WebSocketGateway::getMaxSessionBufferedBytes);
+        // One periodic timer enforces idle, lifetime and ping deadlines for every session
+        timerWheelTickId = vertx.setPeriodic(timerWheel.tickMillis(), id -> timerWheel.tick());
+    }
+
+    @PreDestroy
+    void shutdown() {
+        if (timerWheelTickId != -1) {
+            vertx.cancelTimer(timerWheelTickId);
+        }
+        closeAll(List.copyOf(activeSessions.values()), (short) 1001, "Server shutting down");
     }
 
     /**
@@ -185,13 +213,14 @@ public class WebSocketGateway {
                                         sessionId,
                                         clientWs,
                                         backendWs,
-                                        vertx,
+                                        timerWheel,
                                         config,
                                         authSessionId,
                                         userId,
                                         messageHandler);
 
                                 activeSessions.put(sessionId, session);
+                                sessionIndex.add(session);
 
                                 // Track connection metrics
                                 metrics.incrementActiveWebSockets();
@@ -200,6 +229,7 @@ public class WebSocketGateway {
                                 // Clean up session when closed
                                 clientWs.closeHandler(v -> {
                                     activeSessions.remove(sessionId);
+                                    sessionIndex.remove(session);
                                     metrics.decrementActiveWebSockets();
                                     rateLimitService
                                             .cleanupConnection(serviceId, clientId, sessionId)
@@ -231,22 +261,8 @@ public class WebSocketGateway {
     }
 
     private MessageRateLimitHandler createMessageRateLimitHandler(String serviceId, String clientId, String sessionId) {
-        if (!rateLimitService.isMessageRateLimitEnabled()) {
-            return MessageRateLimitHandler.noOp();
-        }
-
-        return onAllowed -> rateLimitService
-                .checkMessageLimit(serviceId, clientId, sessionId)
-                .map(decision -> {
-                    if (decision.allowed()) {
-                        onAllowed.run();
-                    } else {
-                        metrics.recordRateLimitExceeded(serviceId, "ws_message");
-                        throw new RuntimeException("Message rate limit exceeded");
-                    }
-                    return null;
-                })
-                .replaceWithVoid();
+        return rateLimitService.createMessageHandler(
+                serviceId, clientId, sessionId, () -> metrics.recordRateLimitExceeded(serviceId, "ws_message"));
     }
 
     private String extractClientId(RoutingContext ctx) {
@@ -287,14 +303,32 @@ public class WebSocketGateway {
      * @param event the session invalidation event
      */
     void onSessionInvalidated(@ObservesAsync SessionInvalidatedEvent event) {
-        var sessionsToClose = activeSessions.values().stream()
-                .filter(session -> session.shouldCloseFor(event))
-                .toList();
+        var sessionsToClose = sessionIndex.find(event);
 
         if (!sessionsToClose.isEmpty()) {
             LOG.infov("Closing {0} WebSocket session(s) due to logout", sessionsToClose.size());
-            sessionsToClose.forEach(session -> session.closeWithReason((short) 1000, "Session logged out"));
+            closeAll(sessionsToClose, (short) 1000, "Session logged out");
+        }
+    }
+
+    /**
+     * Close many sessions, each on the event loop that owns its sockets.
+     *
+     * <p>Sessions are grouped by context so every event loop sends its own close
+     * frames in one task, rather than one thread writing to every socket.
+     */
+    private void closeAll(List<WebSocketProxySession> sessions, short code, String reason) {
+        var byContext = new HashMap<Context, List<WebSocketProxySession>>();
+        for (var session : sessions) {
+            var context = session.context();
+            if (context == null) {
+                session.closeWithReason(code, reason);
+            } else {
+                byContext.computeIfAbsent(context, c -> new ArrayList<>()).add(session);
+            }
         }
+        byContext.forEach((context, group) -> context.runOnContext(
+                v -> group.forEach(session -> session.closeWithReason(code, reason))));
     }
 
     private int mapErrorToStatusCode(Throwable error) {
@@ -348,4 +382,30 @@ public class WebSocketGateway {
     public int getActiveSessionCount() {
         return activeSessions.size();
     }
+
+    /**
+     * Get the bytes pending write across all active sessions (per-instance).
+     *
+     * @return buffered byte count
+     */
+    public long getBufferedBytes() {
+        long total = 0;
+        for (var session : activeSessions.values()) {
+            total += session.bufferedBytes();
+        }
+        return total;
+    }
+
+    /**
+     * Get the bytes pending write in the most backed-up active session.
+     *
+     * @return largest per-session buffered byte count
+     */
+    public long getMaxSessionBufferedBytes() {
+        long max = 0;
+        for (var session : activeSessions.values()) {
+            max = Math.max(max, session.bufferedBytes());
+        }
+        return max;
+    }
 }
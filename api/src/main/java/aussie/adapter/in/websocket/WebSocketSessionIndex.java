@@ -0,0 +1,79 @@
+package aussie.adapter.in.websocket;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import aussie.core.model.session.SessionInvalidatedEvent;
+import aussie.core.model.websocket.WebSocketProxySession;
+
+/**
+ * Secondary indexes from auth session ID and user ID to open proxy sessions.
+ *
+ * <p>Lets logout-driven closes find the affected sessions without scanning every
+ * open socket. Only authenticated sessions are indexed, matching
+ * {@link WebSocketProxySession#shouldCloseFor(SessionInvalidatedEvent)}.
+ */
+final class WebSocketSessionIndex {
+
+    private final Map<String, Set<WebSocketProxySession>> byAuthSession = new ConcurrentHashMap<>();
+    private final Map<String, Set<WebSocketProxySession>> byUser = new ConcurrentHashMap<>();
+
+    void add(WebSocketProxySession session) {
+        if (session.authSessionId().isEmpty()) {
+            return;
+        }
+        index(byAuthSession, session.authSessionId().get(), session);
+        session.userId().ifPresent(userId -> index(byUser, userId, session));
+    }
+
+    void remove(WebSocketProxySession session) {
+        if (session.authSessionId().isEmpty()) {
+            return;
+        }
+        unindex(byAuthSession, session.authSessionId().get(), session);
+        session.userId().ifPresent(userId -> unindex(byUser, userId, session));
+    }
+
+    /**
+     * Find the sessions an invalidation applies to.
+     *
+     * @param event the session invalidation event
+     * @return matching sessions, each listed once
+     */
+    List<WebSocketProxySession> find(SessionInvalidatedEvent event) {
+        var matches = new LinkedHashSet<WebSocketProxySession>();
+        event.sessionId().map(byAuthSession::get).ifPresent(matches::addAll);
+        event.userId().map(byUser::get).ifPresent(matches::addAll);
+        return List.copyOf(matches);
+    }
+
+    /**
+     * Get the number of distinct auth sessions and users with open connections.
+     *
+     * @return indexed key count
+     */
+    int keyCount() {
+        return byAuthSession.size() + byUser.size();
+    }
+
+    private static void index(
+            Map<String, Set<WebSocketProxySession>> index, String key, WebSocketProxySession session) {
+        // compute() keeps add and remove of the last entry atomic, so a set is never dropped while in use
+        index.compute(key, (k, sessions) -> {
+            var set = sessions != null ? sessions : ConcurrentHashMap.<WebSocketProxySession>newKeySet();
+            set.add(session);
+            return set;
+        });
+    }
+
+    private static void unindex(
+            Map<String, Set<WebSocketProxySession>> index, String key, WebSocketProxySession session) {
+        index.computeIfPresent(key, (k, sessions) -> {
+            sessions.remove(session);
+            return sessions.isEmpty() ? null : sessions;
+        });
+    }
+}
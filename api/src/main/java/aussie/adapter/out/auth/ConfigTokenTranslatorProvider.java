@@ -5,6 +5,7 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Map;
 import java.util.Optional;
+import java.util.regex.PatternSyntaxException;
 
 import jakarta.annotation.PostConstruct;
 import jakarta.enterprise.context.ApplicationScoped;
@@ -17,7 +18,7 @@ import org.jboss.logging.Logger;
 
 import aussie.adapter.out.telemetry.TokenTranslationMetrics;
 import aussie.core.config.TokenTranslationConfig;
-import aussie.core.model.auth.ClaimTranslator;
+import aussie.core.model.auth.CompiledTranslationPlan;
 import aussie.core.model.auth.TranslatedClaims;
 import aussie.core.model.auth.TranslationConfigSchema;
 import aussie.spi.TokenTranslatorProvider;
@@ -42,6 +43,7 @@ public class ConfigTokenTranslatorProvider implements TokenTranslatorProvider {
     private final ObjectMapper objectMapper;
     private final TokenTranslationMetrics metrics;
     private volatile TranslationConfigSchema schema;
+    private volatile CompiledTranslationPlan plan;
     private volatile boolean available;
 
     @Inject
@@ -93,12 +95,13 @@ public class ConfigTokenTranslatorProvider implements TokenTranslatorProvider {
 
     @Override
     public Uni<TranslatedClaims> translate(String issuer, String subject, Map<String, Object> claims) {
-        if (schema == null) {
+        final var currentPlan = plan;
+        if (currentPlan == null) {
             LOG.warnf("Config translation requested but no schema loaded: issuer=%s, subject=%s", issuer, subject);
             return Uni.createFrom().item(TranslatedClaims.empty());
         }
 
-        final var result = ClaimTranslator.translate(schema, claims);
+        final var result = currentPlan.translate(claims);
 
         LOG.debugf(
                 "Config translation: issuer=%s, subject=%s, roles=%s, permissions=%s",
@@ -119,7 +122,9 @@ public class ConfigTokenTranslatorProvider implements TokenTranslatorProvider {
             }
 
             final var content = Files.readString(configPath);
-            schema = objectMapper.readValue(content, TranslationConfigSchema.class);
+            final var loaded = objectMapper.readValue(content, TranslationConfigSchema.class);
+            plan = CompiledTranslationPlan.compile(loaded);
+            schema = loaded;
             available = true;
 
             final var duration = System.currentTimeMillis() - startTime;
@@ -133,7 +138,7 @@ public class ConfigTokenTranslatorProvider implements TokenTranslatorProvider {
             LOG.infof(
                     "Loaded token translation config: path=%s, version=%d, sources=%d, transforms=%d, mappings=%d, duration=%dms",
                     path, schema.version(), sourcesCount, transformsCount, mappingsCount, duration);
-        } catch (IOException e) {
+        } catch (IOException | PatternSyntaxException e) {
             final var duration = System.currentTimeMillis() - startTime;
             metrics.recordConfigReload(false);
             LOG.errorf(e, "Failed to load token translation config: path=%s, duration=%dms", path, duration);
@@ -1,23 +1,23 @@
 package aussie.adapter.out.auth;
 
 import java.time.Instant;
-import java.util.HashMap;
 import java.util.Map;
 
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import io.smallrye.mutiny.Uni;
 import org.jboss.logging.Logger;
 import org.jose4j.jwk.JsonWebKey;
-import org.jose4j.jws.JsonWebSignature;
 import org.jose4j.jwt.JwtClaims;
 import org.jose4j.jwt.MalformedClaimException;
 import org.jose4j.jwt.NumericDate;
 import org.jose4j.jwt.consumer.InvalidJwtException;
 import org.jose4j.jwt.consumer.JwtConsumer;
 import org.jose4j.jwt.consumer.JwtConsumerBuilder;
-import org.jose4j.lang.JoseException;
+import org.jose4j.jwt.consumer.JwtContext;
 
 import aussie.core.model.auth.TokenProviderConfig;
 import aussie.core.model.auth.TokenValidationResult;
@@ -35,18 +35,38 @@ import aussie.spi.TokenValidatorProvider;
  * <li>Validates audience (aud) claim if configured</li>
  * <li>Validates expiration (exp) and not-before (nbf) claims</li>
  * </ul>
+ *
+ * <p>
+ * Each token is parsed exactly once into a {@link JwtContext}. The key ID is read
+ * from that context, and the same context is handed to a precompiled
+ * {@link JwtConsumer} for signature and claim validation. Consumers are immutable
+ * and thread-safe, so one is built per (provider, signing key) pair and reused
+ * across requests.
  */
 @ApplicationScoped
 public class OidcTokenValidator implements TokenValidatorProvider {
 
     private static final Logger LOG = Logger.getLogger(OidcTokenValidator.class);
     private static final int CLOCK_SKEW_SECONDS = 30;
+    private static final int MAX_CACHED_CONSUMERS = 256;
+
+    /**
+     * Parses the compact serialization without verifying anything. Verification
+     * happens in the second pass once the signing key has been resolved.
+     */
+    private static final JwtConsumer PARSING_CONSUMER = new JwtConsumerBuilder()
+            .setSkipAllValidators()
+            .setDisableRequireSignature()
+            .setSkipSignatureVerification()
+            .build();
 
     private final JwksCache jwksCache;
+    private final Cache<ConsumerKey, JwtConsumer> consumers;
 
     @Inject
     public OidcTokenValidator(JwksCache jwksCache) {
         this.jwksCache = jwksCache;
+        this.consumers = Caffeine.newBuilder().maximumSize(MAX_CACHED_CONSUMERS).build();
     }
 
     @Override
@@ -65,14 +85,16 @@ public class OidcTokenValidator implements TokenValidatorProvider {
             return Uni.createFrom().item(new TokenValidationResult.NoToken());
         }
 
-        return extractKeyId(token)
-                .flatMap(keyId -> jwksCache.getKey(config.jwksUri(), keyId))
-                .flatMap(keyOpt -> {
-                    if (keyOpt.isEmpty()) {
-                        // Key not found, try refreshing JWKS (key rotation scenario)
-                        return retryWithRefresh(token, config);
-                    }
-                    return validateWithKey(token, config, keyOpt.get());
+        return parse(token)
+                .flatMap(context -> {
+                    final var keyId = extractKeyId(context);
+                    return jwksCache.getKey(config.jwksUri(), keyId).flatMap(keyOpt -> {
+                        if (keyOpt.isEmpty()) {
+                            // Key not found, try refreshing JWKS (key rotation scenario)
+                            return retryWithRefresh(context, keyId, config);
+                        }
+                        return Uni.createFrom().item(validateWithKey(context, config, keyOpt.get()));
+                    });
                 })
                 .onFailure()
                 .recoverWithItem(error -> {
@@ -81,59 +103,67 @@ public class OidcTokenValidator implements TokenValidatorProvider {
                 });
     }
 
-    private Uni<String> extractKeyId(String token) {
+    private Uni<JwtContext> parse(String token) {
         return Uni.createFrom().item(() -> {
             try {
-                JsonWebSignature jws = new JsonWebSignature();
-                jws.setCompactSerialization(token);
-                return jws.getKeyIdHeaderValue();
-            } catch (JoseException e) {
+                return PARSING_CONSUMER.process(token);
+            } catch (InvalidJwtException e) {
                 throw new TokenParseException("Failed to parse token: " + e.getMessage(), e);
             }
         });
     }
 
-    private Uni<TokenValidationResult> retryWithRefresh(String token, TokenProviderConfig config) {
+    private String extractKeyId(JwtContext context) {
+        final var joseObjects = context.getJoseObjects();
+        if (joseObjects.isEmpty()) {
+            return null;
+        }
+        // Outermost structure carries the signing key ID
+        return joseObjects.get(0).getKeyIdHeaderValue();
+    }
+
+    private Uni<TokenValidationResult> retryWithRefresh(JwtContext context, String keyId, TokenProviderConfig config) {
         LOG.infov("Key not found, refreshing JWKS for {0}", config.issuer());
-        return extractKeyId(token)
-                .flatMap(keyId -> jwksCache.refresh(config.jwksUri()).map(keySet -> keySet.getJsonWebKeys().stream()
+        return jwksCache
+                .refresh(config.jwksUri())
+                .map(keySet -> keySet.getJsonWebKeys().stream()
                         .filter(k -> keyId == null || keyId.equals(k.getKeyId()))
-                        .findFirst()))
-                .flatMap(keyOpt -> {
+                        .findFirst())
+                .map(keyOpt -> {
                     if (keyOpt.isEmpty()) {
-                        return Uni.createFrom()
-                                .item(new TokenValidationResult.Invalid("Signing key not found in JWKS"));
+                        return new TokenValidationResult.Invalid("Signing key not found in JWKS");
                     }
-                    return validateWithKey(token, config, keyOpt.get());
+                    return validateWithKey(context, config, keyOpt.get());
                 });
     }
 
-    private Uni<TokenValidationResult> validateWithKey(String token, TokenProviderConfig config, JsonWebKey key) {
-        return Uni.createFrom().item(() -> {
-            try {
-                JwtConsumerBuilder builder = new JwtConsumerBuilder()
-                        .setRequireSubject()
-                        .setRequireExpirationTime()
-                        .setAllowedClockSkewInSeconds(CLOCK_SKEW_SECONDS)
-                        .setExpectedIssuer(config.issuer())
-                        .setVerificationKey(key.getKey());
-
-                // Add audience validation if configured
-                if (!config.audiences().isEmpty()) {
-                    builder.setExpectedAudience(config.audiences().toArray(new String[0]));
-                } else {
-                    builder.setSkipDefaultAudienceValidation();
-                }
+    private TokenValidationResult validateWithKey(JwtContext context, TokenProviderConfig config, JsonWebKey key) {
+        try {
+            final var consumer = consumers.get(new ConsumerKey(config, key), k -> buildConsumer(config, key));
+            consumer.processContext(context);
+            return buildValidResult(context.getJwtClaims(), config);
+        } catch (InvalidJwtException e) {
+            LOG.debugv("JWT validation failed: {0}", e.getMessage());
+            return new TokenValidationResult.Invalid(summarizeJwtError(e));
+        }
+    }
 
-                JwtConsumer consumer = builder.build();
-                JwtClaims claims = consumer.processToClaims(token);
+    private JwtConsumer buildConsumer(TokenProviderConfig config, JsonWebKey key) {
+        JwtConsumerBuilder builder = new JwtConsumerBuilder()
+                .setRequireSubject()
+                .setRequireExpirationTime()
+                .setAllowedClockSkewInSeconds(CLOCK_SKEW_SECONDS)
+                .setExpectedIssuer(config.issuer())
+                .setVerificationKey(key.getKey());
+
+        // Add audience validation if configured
+        if (!config.audiences().isEmpty()) {
+            builder.setExpectedAudience(config.audiences().toArray(new String[0]));
+        } else {
+            builder.setSkipDefaultAudienceValidation();
+        }
 
-                return buildValidResult(claims, config);
-            } catch (InvalidJwtException e) {
-                LOG.debugv("JWT validation failed: {0}", e.getMessage());
-                return new TokenValidationResult.Invalid(summarizeJwtError(e));
-            }
-        });
+        return builder.build();
     }
 
     private TokenValidationResult buildValidResult(JwtClaims claims, TokenProviderConfig config) {
@@ -142,7 +172,8 @@ public class OidcTokenValidator implements TokenValidatorProvider {
             String issuer = claims.getIssuer();
             NumericDate expiration = claims.getExpirationTime();
 
-            Map<String, Object> claimsMap = new HashMap<>(claims.getClaimsMap());
+            // jose4j already hands back a fresh map, so mappings are applied in place
+            Map<String, Object> claimsMap = claims.getClaimsMap();
 
             // Apply claims mapping if configured
             for (var mapping : config.claimsMapping().entrySet()) {
@@ -176,6 +207,13 @@ public class OidcTokenValidator implements TokenValidatorProvider {
         return "Token validation failed";
     }
 
+    /**
+     * Cache key for precompiled consumers. Signing keys are compared by identity,
+     * so a JWKS refresh that yields new key instances naturally gets new consumers
+     * while the stale ones age out of the bounded cache.
+     */
+    private record ConsumerKey(TokenProviderConfig config, JsonWebKey key) {}
+
     public static class TokenParseException extends RuntimeException {
         public TokenParseException(String message, Throwable cause) {
             super(message, cause);
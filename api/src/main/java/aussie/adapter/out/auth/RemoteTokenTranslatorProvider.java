@@ -1,17 +1,26 @@
 package aussie.adapter.out.auth;
 
+import java.util.ArrayList;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import io.smallrye.mutiny.Uni;
+import io.smallrye.mutiny.subscription.UniEmitter;
+import io.vertx.core.json.JsonArray;
 import io.vertx.core.json.JsonObject;
+import io.vertx.ext.web.client.WebClientOptions;
 import io.vertx.mutiny.core.Vertx;
+import io.vertx.mutiny.core.buffer.Buffer;
+import io.vertx.mutiny.ext.web.client.HttpResponse;
 import io.vertx.mutiny.ext.web.client.WebClient;
 import org.eclipse.microprofile.health.HealthCheckResponse;
 import org.jboss.logging.Logger;
@@ -48,6 +57,13 @@ import aussie.spi.TokenTranslatorProvider;
  *   "permissions": ["read", "write"]
  * }
  * }</pre>
+ *
+ * <h2>Coalescing and Batching</h2>
+ * <p>Concurrent translations with the same issuer, subject and claims share one
+ * remote call. When a batch URL is configured, translations arriving within the
+ * batch window are sent together as {@code {"requests": [ ... ]}} and answered
+ * with {@code {"results": [ ... ]}} in the same order. Calls go through a
+ * dedicated connection pool sized by {@code max-pool-size}.
  */
 @ApplicationScoped
 public class RemoteTokenTranslatorProvider implements TokenTranslatorProvider {
@@ -55,16 +71,31 @@ public class RemoteTokenTranslatorProvider implements TokenTranslatorProvider {
     private static final Logger LOG = Logger.getLogger(RemoteTokenTranslatorProvider.class);
     private static final String NAME = "remote";
     private static final int PRIORITY = 25;
+    private static final String BATCH_ENTRY_ERROR = "BatchEntryError";
 
+    private final Vertx vertx;
     private final WebClient webClient;
     private final TokenTranslationConfig config;
     private final TokenTranslationMetrics metrics;
     private final ObjectMapper objectMapper;
+    private final ConcurrentMap<FlightKey, Uni<TranslatedClaims>> inFlight = new ConcurrentHashMap<>();
+
+    // Translations waiting for the next batch request
+    private final Object batchLock = new Object();
+    private List<PendingTranslation> pendingBatch = new ArrayList<>();
+    private boolean batchFlushScheduled;
 
     @Inject
     public RemoteTokenTranslatorProvider(
             Vertx vertx, TokenTranslationConfig config, TokenTranslationMetrics metrics, ObjectMapper objectMapper) {
-        this.webClient = WebClient.create(vertx);
+        final var remote = config.remote();
+        final var options = new WebClientOptions()
+                .setMaxPoolSize(remote.maxPoolSize())
+                .setConnectTimeout((int) remote.connectTimeout().toMillis())
+                .setKeepAlive(true)
+                .setKeepAliveTimeout((int) remote.keepAliveTimeout().toSeconds());
+        this.vertx = vertx;
+        this.webClient = WebClient.create(vertx, options);
         this.config = config;
         this.metrics = metrics;
         this.objectMapper = objectMapper;
@@ -82,19 +113,19 @@ public class RemoteTokenTranslatorProvider implements TokenTranslatorProvider {
 
     @Override
     public boolean isAvailable() {
-        return config.remote().url().isPresent() && !config.remote().url().get().isBlank();
+        return singleUrl().isPresent() || batchUrl().isPresent();
     }
 
     @Override
     public Optional<HealthCheckResponse> healthCheck() {
-        final var url = config.remote().url();
-        if (url.isPresent() && !url.get().isBlank()) {
-            return Optional.of(HealthCheckResponse.named("token-translator-remote")
+        if (isAvailable()) {
+            final var builder = HealthCheckResponse.named("token-translator-remote")
                     .up()
                     .withData("provider", NAME)
-                    .withData("url", url.get())
-                    .withData("timeout", config.remote().timeout().toString())
-                    .build());
+                    .withData("timeout", config.remote().timeout().toString());
+            singleUrl().ifPresent(url -> builder.withData("url", url));
+            batchUrl().ifPresent(url -> builder.withData("batchUrl", url));
+            return Optional.of(builder.build());
         } else {
             return Optional.of(HealthCheckResponse.named("token-translator-remote")
                     .down()
@@ -105,15 +136,38 @@ public class RemoteTokenTranslatorProvider implements TokenTranslatorProvider {
     }
 
     @Override
-    @SuppressWarnings("unchecked")
     public Uni<TranslatedClaims> translate(String issuer, String subject, Map<String, Object> claims) {
-        final var url = config.remote().url().orElseThrow(() -> new IllegalStateException("Remote URL not configured"));
-        final var startTime = System.currentTimeMillis();
+        final var key = new FlightKey(issuer, subject, claims);
+        final var existing = inFlight.get(key);
+        if (existing != null) {
+            metrics.recordRemoteCoalesced();
+            return existing;
+        }
 
-        LOG.debugf(
-                "Calling remote translation service: url=%s, issuer=%s, subject=%s, claimsCount=%d",
-                url, issuer, subject, claims.size());
+        // The memoized call is shared by every caller that arrives before it completes
+        final var flight = Uni.createFrom()
+                .deferred(() -> fetch(issuer, subject, claims))
+                .eventually(() -> inFlight.remove(key))
+                .memoize()
+                .indefinitely();
+        final var raced = inFlight.putIfAbsent(key, flight);
+        if (raced != null) {
+            metrics.recordRemoteCoalesced();
+            return raced;
+        }
+        return flight;
+    }
 
+    private Uni<TranslatedClaims> fetch(String issuer, String subject, Map<String, Object> claims) {
+        // Deferred so that setup failures (bad claims, missing URL) also go through the fail mode
+        return Uni.createFrom()
+                .deferred(() -> call(issuer, subject, claims))
+                .onFailure()
+                .recoverWithItem(this::handleFailure);
+    }
+
+    @SuppressWarnings("unchecked")
+    private Uni<TranslatedClaims> call(String issuer, String subject, Map<String, Object> claims) {
         // Use ObjectMapper to safely convert claims to JSON-compatible types
         // This handles non-JSON-native types like Instant, custom objects, etc.
         final Map<String, Object> jsonSafeClaims = objectMapper.convertValue(claims, Map.class);
@@ -122,14 +176,30 @@ public class RemoteTokenTranslatorProvider implements TokenTranslatorProvider {
                 .put("subject", subject)
                 .put("claims", new JsonObject(jsonSafeClaims));
 
-        final var timeout = config.remote().timeout().toMillis();
+        final var batchUrl = batchUrl();
+        if (batchUrl.isPresent()) {
+            return Uni.createFrom().emitter(emitter -> enqueue(batchUrl.get(), request, emitter));
+        }
+        final var url = singleUrl().orElseThrow(() -> new IllegalStateException("Remote URL not configured"));
+        return sendSingle(url, issuer, subject, request);
+    }
 
-        return webClient
-                .postAbs(url)
-                .timeout(timeout)
-                .putHeader("Content-Type", "application/json")
-                .putHeader("Accept", "application/json")
-                .sendJsonObject(request)
+    private Optional<String> singleUrl() {
+        return config.remote().url().filter(url -> !url.isBlank());
+    }
+
+    private Optional<String> batchUrl() {
+        return config.remote().batchUrl().filter(url -> !url.isBlank());
+    }
+
+    private Uni<TranslatedClaims> sendSingle(String url, String issuer, String subject, JsonObject request) {
+        final var startTime = System.currentTimeMillis();
+
+        LOG.debugf(
+                "Calling remote translation service: url=%s, issuer=%s, subject=%s, claimsCount=%d",
+                url, issuer, subject, request.getJsonObject("claims").size());
+
+        return post(url, request)
                 .map(response -> {
                     final var duration = System.currentTimeMillis() - startTime;
                     metrics.recordRemoteCall(response.statusCode(), duration);
@@ -154,14 +224,117 @@ public class RemoteTokenTranslatorProvider implements TokenTranslatorProvider {
                     return result;
                 })
                 .onFailure()
-                .invoke(error -> {
-                    final var duration = System.currentTimeMillis() - startTime;
-                    metrics.recordRemoteCall(0, duration);
-                    metrics.recordError(NAME, error.getClass().getSimpleName());
-                    LOG.warnf(error, "Remote translation error: url=%s, duration=%dms", url, duration);
-                })
-                .onFailure()
-                .recoverWithItem(this::handleFailure);
+                .invoke(error -> recordCallFailure(url, startTime, error));
+    }
+
+    private Uni<HttpResponse<Buffer>> post(String url, JsonObject body) {
+        return webClient
+                .postAbs(url)
+                .timeout(config.remote().timeout().toMillis())
+                .putHeader("Content-Type", "application/json")
+                .putHeader("Accept", "application/json")
+                .sendJsonObject(body);
+    }
+
+    private void recordCallFailure(String url, long startTime, Throwable error) {
+        final var duration = System.currentTimeMillis() - startTime;
+        metrics.recordRemoteCall(0, duration);
+        metrics.recordError(NAME, error.getClass().getSimpleName());
+        LOG.warnf(error, "Remote translation error: url=%s, duration=%dms", url, duration);
+    }
+
+    private void enqueue(String batchUrl, JsonObject request, UniEmitter<? super TranslatedClaims> emitter) {
+        List<PendingTranslation> ready = null;
+        boolean scheduleFlush = false;
+        synchronized (batchLock) {
+            pendingBatch.add(new PendingTranslation(request, emitter));
+            if (pendingBatch.size() >= Math.max(1, config.remote().batchMaxSize())) {
+                ready = pendingBatch;
+                pendingBatch = new ArrayList<>();
+            } else if (!batchFlushScheduled) {
+                batchFlushScheduled = true;
+                scheduleFlush = true;
+            }
+        }
+
+        if (ready != null) {
+            sendBatch(batchUrl, ready);
+        } else if (scheduleFlush) {
+            final long window = Math.max(1, config.remote().batchWindow().toMillis());
+            vertx.setTimer(window, id -> flushBatch(batchUrl));
+        }
+    }
+
+    private void flushBatch(String batchUrl) {
+        final List<PendingTranslation> ready;
+        synchronized (batchLock) {
+            batchFlushScheduled = false;
+            if (pendingBatch.isEmpty()) {
+                return;
+            }
+            ready = pendingBatch;
+            pendingBatch = new ArrayList<>();
+        }
+        sendBatch(batchUrl, ready);
+    }
+
+    private void sendBatch(String batchUrl, List<PendingTranslation> batch) {
+        final var startTime = System.currentTimeMillis();
+        final var requests = new JsonArray();
+        batch.forEach(pending -> requests.add(pending.request()));
+
+        LOG.debugf("Calling remote translation batch endpoint: url=%s, size=%d", batchUrl, batch.size());
+
+        post(batchUrl, new JsonObject().put("requests", requests))
+                .subscribe()
+                .with(
+                        response -> completeBatch(batchUrl, batch, response, startTime),
+                        error -> {
+                            recordCallFailure(batchUrl, startTime, error);
+                            batch.forEach(pending -> pending.emitter().fail(error));
+                        });
+    }
+
+    private void completeBatch(
+            String batchUrl, List<PendingTranslation> batch, HttpResponse<Buffer> response, long startTime) {
+        final var duration = System.currentTimeMillis() - startTime;
+        metrics.recordRemoteCall(response.statusCode(), duration);
+
+        final JsonArray results;
+        try {
+            if (response.statusCode() != 200) {
+                throw new RemoteTranslationException(
+                        "Remote translation service returned status " + response.statusCode());
+            }
+            results = response.bodyAsJsonObject().getJsonArray("results");
+            if (results == null || results.size() != batch.size()) {
+                throw new RemoteTranslationException("Remote translation batch response does not match request");
+            }
+        } catch (RuntimeException e) {
+            LOG.warnf(
+                    "Remote translation batch failed: url=%s, status=%d, size=%d, duration=%dms",
+                    batchUrl, response.statusCode(), batch.size(), duration);
+            recordCallFailure(batchUrl, startTime, e);
+            batch.forEach(pending -> pending.emitter().fail(e));
+            return;
+        }
+
+        for (int i = 0; i < batch.size(); i++) {
+            final var emitter = batch.get(i).emitter();
+            try {
+                final var result = results.getJsonObject(i);
+                if (result.containsKey("error")) {
+                    metrics.recordError(NAME, BATCH_ENTRY_ERROR);
+                    emitter.fail(new RemoteTranslationException(
+                            "Remote translation failed: " + result.getValue("error")));
+                } else {
+                    emitter.complete(parseResponse(result));
+                }
+            } catch (RuntimeException e) {
+                metrics.recordError(NAME, e.getClass().getSimpleName());
+                emitter.fail(e);
+            }
+        }
     }
 
     private TranslatedClaims parseResponse(JsonObject json) {
@@ -198,6 +371,10 @@ public class RemoteTokenTranslatorProvider implements TokenTranslatorProvider {
         throw new RemoteTranslationException("Remote token translation failed: " + error.getMessage(), error);
     }
 
+    private record FlightKey(String issuer, String subject, Map<String, Object> claims) {}
+
+    private record PendingTranslation(JsonObject request, UniEmitter<? super TranslatedClaims> emitter) {}
+
     /**
      * Exception thrown when remote translation fails.
      */
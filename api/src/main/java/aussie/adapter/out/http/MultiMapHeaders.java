@@ -0,0 +1,76 @@
+package aussie.adapter.out.http;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import io.vertx.core.MultiMap;
+
+/**
+ * Read-only {@code Map<String, List<String>>} view over Vert.x headers.
+ *
+ * <p>Lets the gateway model read request and upstream response headers straight
+ * from the Vert.x {@link MultiMap} instead of copying them into a map of lists.
+ * Lookups are case-insensitive, as in the underlying multimap.
+ */
+public final class MultiMapHeaders extends AbstractMap<String, List<String>> {
+
+    private final MultiMap headers;
+    private Set<Map.Entry<String, List<String>>> entrySet;
+
+    public MultiMapHeaders(MultiMap headers) {
+        this.headers = headers;
+    }
+
+    @Override
+    public List<String> get(Object key) {
+        if (!(key instanceof String name)) {
+            return null;
+        }
+        var values = headers.getAll(name);
+        return values.isEmpty() ? null : values;
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return key instanceof String name && headers.contains(name);
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return headers.isEmpty();
+    }
+
+    @Override
+    public Set<Map.Entry<String, List<String>>> entrySet() {
+        if (entrySet == null) {
+            entrySet = new AbstractSet<>() {
+                @Override
+                public Iterator<Map.Entry<String, List<String>>> iterator() {
+                    var names = headers.names().iterator();
+                    return new Iterator<>() {
+                        @Override
+                        public boolean hasNext() {
+                            return names.hasNext();
+                        }
+
+                        @Override
+                        public Map.Entry<String, List<String>> next() {
+                            var name = names.next();
+                            return Map.entry(name, headers.getAll(name));
+                        }
+                    };
+                }
+
+                @Override
+                public int size() {
+                    return headers.names().size();
+                }
+            };
+        }
+        return entrySet;
+    }
+}
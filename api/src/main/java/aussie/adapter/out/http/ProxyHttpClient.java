@@ -1,8 +1,6 @@
 package aussie.adapter.out.http;
 
 import java.net.URI;
-import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -216,10 +214,21 @@ public class ProxyHttpClient implements ProxyClient {
                 .timeout(httpConfig.requestTimeout().toMillis());
     }
 
+    /**
+     * Copy the prepared headers into the outgoing request. The prepared headers are a
+     * filtered view over the inbound request, so this is the only copy made.
+     */
     private void applyHeaders(PreparedProxyRequest preparedRequest, HttpRequest<Buffer> httpRequest) {
+        var outbound = httpRequest.headers();
         for (var entry : preparedRequest.headers().entrySet()) {
-            for (var value : entry.getValue()) {
-                httpRequest.putHeader(entry.getKey(), value);
+            final var values = entry.getValue();
+            if (values.isEmpty()) {
+                continue;
+            }
+            // Replace WebClient defaults (e.g. User-Agent) rather than sending them alongside
+            outbound.set(entry.getKey(), values.get(0));
+            for (int i = 1; i < values.size(); i++) {
+                outbound.add(entry.getKey(), values.get(i));
             }
         }
     }
@@ -233,13 +242,7 @@ public class ProxyHttpClient implements ProxyClient {
     }
 
     private ProxyResponse toProxyResponse(HttpResponse<Buffer> response) {
-        Map<String, List<String>> headers = new HashMap<>();
-
-        for (var name : response.headers().names()) {
-            headers.computeIfAbsent(name, k -> new ArrayList<>())
-                    .addAll(response.headers().getAll(name));
-        }
-
+        var headers = new MultiMapHeaders(response.headers().getDelegate());
         var filteredHeaders = requestPreparer.filterResponseHeaders(headers);
         var responseBody = response.body() != null ? response.body().getBytes() : new byte[0];
 
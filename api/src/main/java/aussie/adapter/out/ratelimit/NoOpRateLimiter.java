@@ -1,5 +1,7 @@
 package aussie.adapter.out.ratelimit;
 
+import java.util.Optional;
+
 import io.smallrye.mutiny.Uni;
 
 import aussie.core.model.ratelimit.EffectiveRateLimit;
@@ -33,6 +35,11 @@ public final class NoOpRateLimiter implements RateLimiter {
         return Uni.createFrom().item(RateLimitDecision.allow());
     }
 
+    @Override
+    public Optional<RateLimitDecision> tryCheckAndConsume(RateLimitKey key, EffectiveRateLimit limit) {
+        return Optional.of(RateLimitDecision.allow());
+    }
+
     @Override
     public Uni<RateLimitDecision> getStatus(RateLimitKey key, EffectiveRateLimit limit) {
         return Uni.createFrom().item(RateLimitDecision.allow());
@@ -1,5 +1,6 @@
 package aussie.adapter.out.ratelimit.memory;
 
+import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.Executors;
@@ -108,6 +109,16 @@ public final class InMemoryRateLimiter implements RateLimiter {
         return Uni.createFrom().item(decision);
     }
 
+    @Override
+    public Optional<RateLimitDecision> tryCheckAndConsume(RateLimitKey key, EffectiveRateLimit limit) {
+        if (!enabled) {
+            return Optional.of(RateLimitDecision.allow());
+        }
+
+        final var handler = algorithmRegistry.getHandler(algorithm);
+        return Optional.of(computeDecision(key.toCacheKey(), handler, limit, clock.getAsLong()));
+    }
+
     @Override
     public Uni<RateLimitDecision> getStatus(RateLimitKey key, EffectiveRateLimit limit) {
         if (!enabled) {
@@ -0,0 +1,29 @@
+package aussie.adapter.out.storage;
+
+import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.Uni;
+
+import aussie.core.port.out.RegistryChangePublisher;
+
+/**
+ * No-operation change publisher for when registry change notifications are disabled.
+ *
+ * <p>Nothing is published and nothing is received; instances pick up each
+ * other's changes when their route cache TTL expires.
+ */
+public class NoOpRegistryChangePublisher implements RegistryChangePublisher {
+
+    public static final NoOpRegistryChangePublisher INSTANCE = new NoOpRegistryChangePublisher();
+
+    private NoOpRegistryChangePublisher() {}
+
+    @Override
+    public Uni<Void> publish(String serviceId) {
+        return Uni.createFrom().voidItem();
+    }
+
+    @Override
+    public Multi<String> subscribe() {
+        return Multi.createFrom().empty();
+    }
+}
@@ -0,0 +1,74 @@
+package aussie.adapter.out.storage;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.inject.Disposes;
+import jakarta.enterprise.inject.Produces;
+import jakarta.enterprise.inject.spi.CDI;
+import jakarta.inject.Inject;
+
+import io.quarkus.redis.datasource.RedisDataSource;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.jboss.logging.Logger;
+
+import aussie.adapter.out.storage.redis.RedisRegistryChangePublisher;
+import aussie.core.port.out.RegistryChangePublisher;
+
+/**
+ * CDI producer for the service registry change publisher.
+ *
+ * <p>Notifications are opt-in because they need Redis:
+ * <ul>
+ *   <li>{@code aussie.storage.change-notifications.enabled} - publish and receive
+ *       change notifications over Redis pub/sub (default: false)</li>
+ *   <li>{@code aussie.storage.change-notifications.channel} - pub/sub channel
+ *       (default: aussie:registry:changes)</li>
+ * </ul>
+ *
+ * <p>When disabled, instances pick up each other's changes when the route cache
+ * TTL expires.
+ */
+@ApplicationScoped
+public class RegistryChangePublisherProducer {
+
+    private static final Logger LOG = Logger.getLogger(RegistryChangePublisherProducer.class);
+
+    private final boolean enabled;
+    private final String channel;
+
+    @Inject
+    public RegistryChangePublisherProducer(
+            @ConfigProperty(name = "aussie.storage.change-notifications.enabled", defaultValue = "false")
+                    boolean enabled,
+            @ConfigProperty(
+                            name = "aussie.storage.change-notifications.channel",
+                            defaultValue = "aussie:registry:changes")
+                    String channel) {
+        this.enabled = enabled;
+        this.channel = channel;
+    }
+
+    /**
+     * Produces the change publisher.
+     *
+     * @return Redis publisher if notifications are enabled, otherwise a no-op publisher
+     */
+    @Produces
+    @ApplicationScoped
+    public RegistryChangePublisher registryChangePublisher() {
+        if (!enabled) {
+            LOG.info("Service registry change notifications disabled");
+            return NoOpRegistryChangePublisher.INSTANCE;
+        }
+
+        final var publisher = new RedisRegistryChangePublisher(
+                CDI.current().select(RedisDataSource.class).get(), channel);
+        publisher.start();
+        return publisher;
+    }
+
+    void close(@Disposes RegistryChangePublisher publisher) {
+        if (publisher instanceof RedisRegistryChangePublisher redis) {
+            redis.close();
+        }
+    }
+}
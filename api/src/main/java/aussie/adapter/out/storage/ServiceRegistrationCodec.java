@@ -0,0 +1,96 @@
+package aussie.adapter.out.storage;
+
+import java.io.IOException;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileGenerator;
+import com.fasterxml.jackson.datatype.jdk8.Jdk8Module;
+
+import aussie.core.model.service.ServiceRegistration;
+
+/**
+ * Binary, schema-versioned encoding of {@link ServiceRegistration} for storage.
+ *
+ * <p>The first byte is the schema version; the rest is the registration in
+ * <a href="https://github.com/FasterXML/smile-format-specification">Smile</a>,
+ * Jackson's binary JSON. Smile uses the same field mapping as the JSON previously
+ * stored, so schema evolution follows the same rules: unknown fields are ignored
+ * and missing fields take their defaults. Property names and short repeated values
+ * (visibility, HTTP methods) are written once and back-referenced, which keeps
+ * registrations with hundreds of endpoints compact and avoids text parsing on read.
+ *
+ * <p>Bump {@link #SCHEMA_VERSION} only for changes the field mapping cannot absorb,
+ * and keep decoding the previous version.
+ *
+ * <p>Thread-safe.
+ */
+public final class ServiceRegistrationCodec {
+
+    /**
+     * Schema version written by {@link #encode}.
+     */
+    public static final byte SCHEMA_VERSION = 1;
+
+    private static final byte JSON_OBJECT_START = '{';
+
+    private final ObjectMapper smileMapper;
+    private final ObjectMapper jsonMapper;
+
+    public ServiceRegistrationCodec() {
+        final var smileFactory = SmileFactory.builder()
+                .enable(SmileGenerator.Feature.CHECK_SHARED_STRING_VALUES)
+                .build();
+        this.smileMapper = configure(new ObjectMapper(smileFactory));
+        this.jsonMapper = configure(new ObjectMapper());
+    }
+
+    private static ObjectMapper configure(ObjectMapper mapper) {
+        return mapper.registerModule(new Jdk8Module())
+                .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+    }
+
+    /**
+     * Encode a registration.
+     *
+     * @param registration the registration
+     * @return schema version byte followed by the Smile payload
+     */
+    public byte[] encode(ServiceRegistration registration) {
+        try {
+            final var payload = smileMapper.writeValueAsBytes(registration);
+            final var encoded = new byte[payload.length + 1];
+            encoded[0] = SCHEMA_VERSION;
+            System.arraycopy(payload, 0, encoded, 1, payload.length);
+            return encoded;
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to encode ServiceRegistration", e);
+        }
+    }
+
+    /**
+     * Decode a registration.
+     *
+     * <p>Also accepts the plain JSON written before this codec existed.
+     *
+     * @param data encoded registration
+     * @return the registration
+     * @throws IllegalArgumentException if the data is empty or has an unknown schema version
+     */
+    public ServiceRegistration decode(byte[] data) {
+        if (data == null || data.length == 0) {
+            throw new IllegalArgumentException("Encoded ServiceRegistration is empty");
+        }
+        try {
+            return switch (data[0]) {
+                case SCHEMA_VERSION -> smileMapper.readValue(data, 1, data.length - 1, ServiceRegistration.class);
+                case JSON_OBJECT_START -> jsonMapper.readValue(data, ServiceRegistration.class);
+                default -> throw new IllegalArgumentException(
+                        "Unsupported ServiceRegistration schema version: " + data[0]);
+            };
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to decode ServiceRegistration", e);
+        }
+    }
+}
@@ -1,6 +1,5 @@
 package aussie.adapter.out.storage.cassandra;
 
-import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 import java.util.concurrent.Executor;
@@ -9,6 +8,7 @@ import com.datastax.oss.driver.api.core.CqlSession;
 import com.datastax.oss.driver.api.core.cql.BoundStatement;
 import com.datastax.oss.driver.api.core.cql.PreparedStatement;
 import com.datastax.oss.driver.api.core.cql.Row;
+import io.smallrye.mutiny.Multi;
 import io.smallrye.mutiny.Uni;
 import io.smallrye.mutiny.infrastructure.Infrastructure;
 import io.vertx.core.Context;
@@ -41,6 +41,7 @@ public class CassandraApiKeyRepository implements ApiKeyRepository {
 
     private final CqlSession session;
     private final ApiKeyEncryptionService encryptionService;
+    private final int pageSize;
     private final PreparedStatement insertStmt;
     private final PreparedStatement selectByIdStmt;
     private final PreparedStatement selectByHashStmt;
@@ -49,8 +50,13 @@ public class CassandraApiKeyRepository implements ApiKeyRepository {
     private final PreparedStatement existsStmt;
 
     public CassandraApiKeyRepository(CqlSession session, ApiKeyEncryptionService encryptionService) {
+        this(session, encryptionService, CassandraPaging.DEFAULT_PAGE_SIZE);
+    }
+
+    public CassandraApiKeyRepository(CqlSession session, ApiKeyEncryptionService encryptionService, int pageSize) {
         this.session = session;
         this.encryptionService = encryptionService;
+        this.pageSize = pageSize;
         this.insertStmt = prepareInsert();
         this.selectByIdStmt = prepareSelectById();
         this.selectByHashStmt = prepareSelectByHash();
@@ -149,16 +155,15 @@ public class CassandraApiKeyRepository implements ApiKeyRepository {
 
     @Override
     public Uni<List<ApiKey>> findAll() {
-        Executor executor = getContextExecutor();
-        return Uni.createFrom()
-                .completionStage(
-                        () -> session.executeAsync(selectAllStmt.bind()).toCompletableFuture())
-                .emitOn(executor)
-                .map(rs -> {
-                    List<ApiKey> keys = new ArrayList<>();
-                    rs.currentPage().forEach(row -> keys.add(fromRow(row)));
-                    return keys;
-                });
+        return streamAll().collect().asList();
+    }
+
+    @Override
+    public Multi<ApiKey> streamAll() {
+        return Multi.createFrom()
+                .deferred(() -> CassandraPaging.rows(
+                        session, selectAllStmt.bind().setPageSize(pageSize), getContextExecutor()))
+                .map(this::fromRow);
     }
 
     @Override
@@ -29,6 +29,7 @@ import aussie.spi.StorageProviderException;
  *   <li>aussie.auth.storage.cassandra.keyspace - Keyspace name (default: aussie)</li>
  *   <li>aussie.auth.storage.cassandra.username - Username for authentication (optional)</li>
  *   <li>aussie.auth.storage.cassandra.password - Password for authentication (optional)</li>
+ *   <li>aussie.auth.storage.cassandra.page-size - Rows fetched per page when listing (default: 500)</li>
  * </ul>
  *
  * <p>This provider shares the same Cassandra cluster as the main storage provider
@@ -69,7 +70,9 @@ public class CassandraAuthKeyStorageProvider implements AuthKeyStorageProvider {
     public ApiKeyRepository createRepository(StorageAdapterConfig config) {
         this.session = buildSession(config);
         this.encryptionService = createEncryptionService(config);
-        return new CassandraApiKeyRepository(session, encryptionService);
+        int pageSize = CassandraPaging.pageSize(
+                config, "aussie.auth.storage.cassandra.page-size", "aussie.storage.cassandra.page-size");
+        return new CassandraApiKeyRepository(session, encryptionService, pageSize);
     }
 
     @Override
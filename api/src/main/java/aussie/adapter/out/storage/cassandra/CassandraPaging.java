@@ -0,0 +1,70 @@
+package aussie.adapter.out.storage.cassandra;
+
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicReference;
+
+import com.datastax.oss.driver.api.core.CqlSession;
+import com.datastax.oss.driver.api.core.cql.AsyncResultSet;
+import com.datastax.oss.driver.api.core.cql.BoundStatement;
+import com.datastax.oss.driver.api.core.cql.Row;
+import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.Uni;
+
+import aussie.spi.StorageAdapterConfig;
+
+/**
+ * Streams the rows of a Cassandra query one page at a time.
+ *
+ * <p>The async driver only holds the current page of a result set. The next page
+ * is fetched when the subscriber has consumed the previous one, so a full table
+ * scan never holds more than one page of rows in memory.
+ */
+final class CassandraPaging {
+
+    /**
+     * Rows fetched per page when {@code aussie.storage.cassandra.page-size} is not set.
+     */
+    static final int DEFAULT_PAGE_SIZE = 500;
+
+    private CassandraPaging() {}
+
+    /**
+     * Read the configured page size.
+     *
+     * @param config     storage configuration
+     * @param properties properties that may hold the page size, most specific first
+     * @return the first page size set, or {@link #DEFAULT_PAGE_SIZE} if none is set or it is not positive
+     */
+    static int pageSize(StorageAdapterConfig config, String... properties) {
+        for (final var property : properties) {
+            final var pageSize = config.getInt(property);
+            if (pageSize.isPresent()) {
+                return pageSize.get() > 0 ? pageSize.get() : DEFAULT_PAGE_SIZE;
+            }
+        }
+        return DEFAULT_PAGE_SIZE;
+    }
+
+    /**
+     * Stream every row returned by a statement.
+     *
+     * @param session   the session to execute on
+     * @param statement the query, with its page size already set
+     * @param executor  executor each page is emitted on
+     * @return Multi emitting rows in result order
+     */
+    static Multi<Row> rows(CqlSession session, BoundStatement statement, Executor executor) {
+        return Multi.createBy()
+                .repeating()
+                .uni(AtomicReference<AsyncResultSet>::new, last -> {
+                    final var previous = last.get();
+                    final CompletionStage<AsyncResultSet> page =
+                            previous == null ? session.executeAsync(statement) : previous.fetchNextPage();
+                    return Uni.createFrom().completionStage(page).emitOn(executor).invoke(last::set);
+                })
+                .whilst(AsyncResultSet::hasMorePages)
+                .onItem()
+                .transformToIterable(AsyncResultSet::currentPage);
+    }
+}
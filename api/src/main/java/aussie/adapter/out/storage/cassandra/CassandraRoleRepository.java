@@ -1,17 +1,14 @@
 package aussie.adapter.out.storage.cassandra;
 
-import java.util.ArrayList;
 import java.util.List;
-import java.util.Map;
 import java.util.Optional;
-import java.util.Set;
 import java.util.concurrent.Executor;
-import java.util.stream.Collectors;
 
 import com.datastax.oss.driver.api.core.CqlSession;
 import com.datastax.oss.driver.api.core.cql.BoundStatement;
 import com.datastax.oss.driver.api.core.cql.PreparedStatement;
 import com.datastax.oss.driver.api.core.cql.Row;
+import io.smallrye.mutiny.Multi;
 import io.smallrye.mutiny.Uni;
 import io.smallrye.mutiny.infrastructure.Infrastructure;
 import io.vertx.core.Context;
@@ -43,6 +40,7 @@ public class CassandraRoleRepository implements RoleRepository {
 
     private final CqlSession session;
     private final RoleEncryptionService encryptionService;
+    private final int pageSize;
     private final PreparedStatement insertStmt;
     private final PreparedStatement selectByIdStmt;
     private final PreparedStatement deleteStmt;
@@ -50,8 +48,13 @@ public class CassandraRoleRepository implements RoleRepository {
     private final PreparedStatement existsStmt;
 
     public CassandraRoleRepository(CqlSession session, RoleEncryptionService encryptionService) {
+        this(session, encryptionService, CassandraPaging.DEFAULT_PAGE_SIZE);
+    }
+
+    public CassandraRoleRepository(CqlSession session, RoleEncryptionService encryptionService, int pageSize) {
         this.session = session;
         this.encryptionService = encryptionService;
+        this.pageSize = pageSize;
         this.insertStmt = prepareInsert();
         this.selectByIdStmt = prepareSelectById();
         this.deleteStmt = prepareDelete();
@@ -130,16 +133,15 @@ public class CassandraRoleRepository implements RoleRepository {
 
     @Override
     public Uni<List<Role>> findAll() {
-        final Executor executor = getContextExecutor();
-        return Uni.createFrom()
-                .completionStage(
-                        () -> session.executeAsync(selectAllStmt.bind()).toCompletableFuture())
-                .emitOn(executor)
-                .map(rs -> {
-                    final List<Role> roles = new ArrayList<>();
-                    rs.currentPage().forEach(row -> roles.add(fromRow(row)));
-                    return roles;
-                });
+        return streamAll().collect().asList();
+    }
+
+    @Override
+    public Multi<Role> streamAll() {
+        return Multi.createFrom()
+                .deferred(() -> CassandraPaging.rows(
+                        session, selectAllStmt.bind().setPageSize(pageSize), getContextExecutor()))
+                .map(this::fromRow);
     }
 
     @Override
@@ -156,11 +158,7 @@ public class CassandraRoleRepository implements RoleRepository {
 
     @Override
     public Uni<RoleMapping> getRoleMapping() {
-        return findAll().map(roles -> {
-            final Map<String, Set<String>> mapping =
-                    roles.stream().collect(Collectors.toMap(Role::id, Role::permissions));
-            return new RoleMapping(mapping);
-        });
+        return streamAll().collect().asMap(Role::id, Role::permissions).map(RoleMapping::new);
     }
 
     private Role fromRow(Row row) {
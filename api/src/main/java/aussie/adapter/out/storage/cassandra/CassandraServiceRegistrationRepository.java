@@ -1,10 +1,16 @@
 package aussie.adapter.out.storage.cassandra;
 
 import java.net.URI;
+import java.nio.ByteBuffer;
+import java.time.Duration;
 import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.concurrent.Executor;
+import java.util.function.Supplier;
 
 import com.datastax.oss.driver.api.core.CqlSession;
 import com.datastax.oss.driver.api.core.cql.BoundStatement;
@@ -13,11 +19,14 @@ import com.datastax.oss.driver.api.core.cql.Row;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.smallrye.mutiny.Multi;
 import io.smallrye.mutiny.Uni;
 import io.smallrye.mutiny.infrastructure.Infrastructure;
 import io.vertx.core.Context;
 import io.vertx.core.Vertx;
+import org.jboss.logging.Logger;
 
+import aussie.adapter.out.storage.ServiceRegistrationCodec;
 import aussie.core.model.auth.ServiceAccessConfig;
 import aussie.core.model.auth.ServicePermissionPolicy;
 import aussie.core.model.auth.VisibilityRule;
@@ -26,6 +35,7 @@ import aussie.core.model.ratelimit.ServiceRateLimitConfig;
 import aussie.core.model.routing.EndpointConfig;
 import aussie.core.model.routing.EndpointVisibility;
 import aussie.core.model.sampling.ServiceSamplingConfig;
+import aussie.core.model.service.RegistryChanges;
 import aussie.core.model.service.ServiceRegistration;
 import aussie.core.port.out.ServiceRegistrationRepository;
 
@@ -34,28 +44,88 @@ import aussie.core.port.out.ServiceRegistrationRepository;
  *
  * <p>
  * Provides durable, distributed storage for service registrations.
- * Complex nested structures are stored as JSON in text columns.
+ * The whole registration is stored in {@code registration_data} with
+ * {@link ServiceRegistrationCodec}, which reads it without parsing text. Complex
+ * nested structures are also still written as JSON text columns, so instances
+ * that predate the codec can read new rows. The blob is stored with the
+ * registration version it encodes, and is read only while that matches the row's
+ * version: rows written before the codec column existed, or updated since by an
+ * instance that predates it, are read from the JSON columns.
+ *
+ * <p>
+ * Each save or delete claims the next registry version with a lightweight
+ * transaction on {@code service_registry_metadata} and appends it to
+ * {@code service_registration_changes}. Versions are claimed after the
+ * registration is written, so a reader that sees a version also sees the change.
+ * {@link #findChangedSince(long)} reads the log from the caller's version and
+ * falls back to a full snapshot when the log has a gap at that point (expired
+ * entries, or a writer that failed between claiming and logging).
+ *
+ * <p>
+ * Lost claims are retried with jittered backoff so contending writers spread
+ * out. Logging a change never fails the save or delete it follows, since the row
+ * is already written: if the claim still fails, it is retried in the background,
+ * and other instances pick the change up on their next sync once it is logged.
  */
 public class CassandraServiceRegistrationRepository implements ServiceRegistrationRepository {
 
+    private static final Logger LOG = Logger.getLogger(CassandraServiceRegistrationRepository.class);
+
+    private static final String REGISTRY_VERSION_KEY = "registry_version";
+    private static final int CHANGE_LOG_PARTITION = 0;
+    private static final int MAX_CAS_RETRIES = 5;
+    private static final Duration CAS_BACKOFF = Duration.ofMillis(10);
+    private static final Duration MAX_CAS_BACKOFF = Duration.ofMillis(200);
+    private static final int MAX_BACKGROUND_RETRIES = 10;
+    private static final Duration BACKGROUND_BACKOFF = Duration.ofSeconds(1);
+    private static final Duration MAX_BACKGROUND_BACKOFF = Duration.ofSeconds(30);
+
     private final ObjectMapper objectMapper;
+    private final ServiceRegistrationCodec codec = new ServiceRegistrationCodec();
     private final CqlSession session;
+    private final int pageSize;
     private final PreparedStatement insertStmt;
     private final PreparedStatement selectByIdStmt;
     private final PreparedStatement deleteStmt;
     private final PreparedStatement selectAllStmt;
     private final PreparedStatement countStmt;
     private final PreparedStatement existsStmt;
+    private final PreparedStatement selectRegistryVersionStmt;
+    private final PreparedStatement insertRegistryVersionStmt;
+    private final PreparedStatement casRegistryVersionStmt;
+    private final PreparedStatement insertChangeStmt;
+    private final PreparedStatement selectChangesSinceStmt;
 
     public CassandraServiceRegistrationRepository(ObjectMapper objectMapper, CqlSession session) {
+        this(objectMapper, session, CassandraPaging.DEFAULT_PAGE_SIZE);
+    }
+
+    public CassandraServiceRegistrationRepository(ObjectMapper objectMapper, CqlSession session, int pageSize) {
         this.objectMapper = objectMapper;
         this.session = session;
+        this.pageSize = pageSize;
         this.insertStmt = prepareInsert();
         this.selectByIdStmt = prepareSelectById();
         this.deleteStmt = prepareDelete();
         this.selectAllStmt = prepareSelectAll();
         this.countStmt = prepareCount();
         this.existsStmt = prepareExists();
+        this.selectRegistryVersionStmt =
+                session.prepare("SELECT version FROM service_registry_metadata WHERE key = ?");
+        this.insertRegistryVersionStmt =
+                session.prepare("INSERT INTO service_registry_metadata (key, version) VALUES (?, ?) IF NOT EXISTS");
+        this.casRegistryVersionStmt =
+                session.prepare("UPDATE service_registry_metadata SET version = ? WHERE key = ? IF version = ?");
+        this.insertChangeStmt = session.prepare(
+                """
+                        INSERT INTO service_registration_changes (log_partition, version, service_id, deleted)
+                        VALUES (?, ?, ?, ?)
+                        """);
+        this.selectChangesSinceStmt = session.prepare(
+                """
+                        SELECT version, service_id FROM service_registration_changes
+                        WHERE log_partition = ? AND version > ?
+                        """);
     }
 
     private PreparedStatement prepareInsert() {
@@ -64,8 +134,9 @@ public class CassandraServiceRegistrationRepository implements ServiceRegistrati
                         INSERT INTO service_registrations
                         (service_id, display_name, base_url, route_prefix,
                          default_visibility, default_auth_required, visibility_rules, endpoints, access_config,
-                         cors_config, permission_policy, rate_limit_config, sampling_config, version, created_at, updated_at)
-                        VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, toTimestamp(now()), toTimestamp(now()))
+                         cors_config, permission_policy, rate_limit_config, sampling_config, version, registration_data,
+                         registration_data_version, created_at, updated_at)
+                        VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, toTimestamp(now()), toTimestamp(now()))
                         """);
     }
 
@@ -108,10 +179,13 @@ public class CassandraServiceRegistrationRepository implements ServiceRegistrati
                             registration.permissionPolicy().map(this::toJson).orElse(null),
                             registration.rateLimitConfig().map(this::toJson).orElse(null),
                             registration.samplingConfig().map(this::toJson).orElse(null),
+                            registration.version(),
+                            ByteBuffer.wrap(codec.encode(registration)),
                             registration.version());
                     return session.executeAsync(bound).toCompletableFuture();
                 })
                 .emitOn(executor)
+                .call(() -> recordChangeOrDefer(registration.serviceId(), false))
                 .replaceWithVoid();
     }
 
@@ -143,21 +217,190 @@ public class CassandraServiceRegistrationRepository implements ServiceRegistrati
                         return session.executeAsync(bound).toCompletableFuture();
                     })
                     .emitOn(executor)
+                    .call(() -> recordChangeOrDefer(serviceId, true))
                     .map(rs -> true);
         });
     }
 
     @Override
     public Uni<List<ServiceRegistration>> findAll() {
+        return streamAll().collect().asList();
+    }
+
+    @Override
+    public Multi<ServiceRegistration> streamAll() {
+        return Multi.createFrom()
+                .deferred(() -> CassandraPaging.rows(
+                        session, selectAllStmt.bind().setPageSize(pageSize), getContextExecutor()))
+                .map(this::fromRow);
+    }
+
+    @Override
+    public Uni<RegistryChanges> findChangedSince(long since) {
+        return getRegistryVersion().flatMap(current -> {
+            final long latest = current.orElse(0L);
+            if (since == RegistryChanges.UNVERSIONED || since > latest) {
+                return snapshot(latest);
+            }
+            if (since == latest) {
+                return Uni.createFrom().item(RegistryChanges.none(since));
+            }
+            return readChangeLog(since).flatMap(log -> {
+                if (log.serviceIds().isEmpty()) {
+                    return snapshot(latest);
+                }
+                return resolveChanges(log);
+            });
+        });
+    }
+
+    private Uni<RegistryChanges> snapshot(long version) {
+        // The version is read first, so the snapshot includes at least every change up to it
+        return findAll().map(all -> RegistryChanges.snapshot(version, all));
+    }
+
+    /**
+     * Read the contiguous run of change log entries after {@code since}.
+     *
+     * <p>
+     * Stops at the first missing version, and returns no changes if the entry
+     * directly after {@code since} is missing.
+     */
+    private Uni<ChangeLog> readChangeLog(long since) {
+        Executor executor = getContextExecutor();
+        return Uni.createFrom()
+                .completionStage(() -> session.executeAsync(selectChangesSinceStmt.bind(CHANGE_LOG_PARTITION, since))
+                        .toCompletableFuture())
+                .emitOn(executor)
+                .map(rs -> {
+                    final var serviceIds = new LinkedHashSet<String>();
+                    long version = since;
+                    for (Row row : rs.currentPage()) {
+                        if (row.getLong("version") != version + 1) {
+                            break;
+                        }
+                        version++;
+                        serviceIds.add(row.getString("service_id"));
+                    }
+                    return new ChangeLog(version, serviceIds);
+                });
+    }
+
+    /**
+     * Read the current row of every service the log names.
+     *
+     * <p>
+     * Versions are claimed after the row is written, so concurrent writers can
+     * log their changes in a different order than they wrote the rows. The
+     * logged {@code deleted} flag may therefore be stale, and the row decides
+     * whether a service was updated or deleted.
+     */
+    private Uni<RegistryChanges> resolveChanges(ChangeLog log) {
+        final var serviceIds = List.copyOf(log.serviceIds());
+        final var lookups = new ArrayList<Uni<Optional<ServiceRegistration>>>();
+        serviceIds.forEach(serviceId -> lookups.add(findById(serviceId)));
+        return Uni.join().all(lookups).andFailFast().map(found -> {
+            final var updated = new ArrayList<ServiceRegistration>();
+            final var deleted = new HashSet<String>();
+            for (int i = 0; i < serviceIds.size(); i++) {
+                final var serviceId = serviceIds.get(i);
+                found.get(i).ifPresentOrElse(updated::add, () -> deleted.add(serviceId));
+            }
+            return RegistryChanges.delta(log.version(), updated, deleted);
+        });
+    }
+
+    /**
+     * Log a change whose row is already written, without failing the caller.
+     *
+     * <p>
+     * If the change cannot be logged now, keep retrying in the background with a
+     * longer backoff; until it is logged, other instances syncing incrementally do
+     * not see it.
+     */
+    private Uni<Void> recordChangeOrDefer(String serviceId, boolean deleted) {
+        return recordChange(serviceId, deleted).onFailure().recoverWithItem(e -> {
+            LOG.warnf(e, "Failed to log registry change for service %s, retrying in the background", serviceId);
+            recordChange(serviceId, deleted)
+                    .onFailure()
+                    .retry()
+                    .withBackOff(BACKGROUND_BACKOFF, MAX_BACKGROUND_BACKOFF)
+                    .withJitter(0.5)
+                    .atMost(MAX_BACKGROUND_RETRIES)
+                    .subscribe()
+                    .with(
+                            ignored -> LOG.infof("Logged registry change for service %s after retrying", serviceId),
+                            failure -> LOG.errorf(
+                                    failure,
+                                    "Giving up logging registry change for service %s; "
+                                            + "other instances will not see it until they next snapshot",
+                                    serviceId));
+            return null;
+        });
+    }
+
+    private Uni<Void> recordChange(String serviceId, boolean deleted) {
+        Executor executor = getContextExecutor();
+        return claimNextVersion()
+                .flatMap(version -> Uni.createFrom()
+                        .completionStage(() -> session.executeAsync(
+                                        insertChangeStmt.bind(CHANGE_LOG_PARTITION, version, serviceId, deleted))
+                                .toCompletableFuture())
+                        .emitOn(executor))
+                .replaceWithVoid();
+    }
+
+    /**
+     * Atomically claim the next registry version using a lightweight transaction.
+     *
+     * <p>
+     * A lost claim is retried after a jittered, exponentially growing delay, so
+     * writers that collided do not collide again on the next attempt.
+     */
+    private Uni<Long> claimNextVersion() {
+        return Uni.createFrom()
+                .deferred(this::tryClaimNextVersion)
+                .onFailure(VersionClaimConflict.class)
+                .retry()
+                .withBackOff(CAS_BACKOFF, MAX_CAS_BACKOFF)
+                .withJitter(0.5)
+                .atMost(MAX_CAS_RETRIES - 1)
+                .onFailure(VersionClaimConflict.class)
+                .transform(e -> new RuntimeException(
+                        "Failed to claim next registry version after " + MAX_CAS_RETRIES + " attempts"));
+    }
+
+    private Uni<Long> tryClaimNextVersion() {
+        Executor executor = getContextExecutor();
+        return getRegistryVersion().flatMap(current -> {
+            final long nextVersion = current.orElse(0L) + 1;
+            final Supplier<BoundStatement> boundSupplier = current.isEmpty()
+                    ? () -> insertRegistryVersionStmt.bind(REGISTRY_VERSION_KEY, nextVersion)
+                    : () -> casRegistryVersionStmt.bind(nextVersion, REGISTRY_VERSION_KEY, current.get());
+
+            return Uni.createFrom()
+                    .completionStage(
+                            () -> session.executeAsync(boundSupplier.get()).toCompletableFuture())
+                    .emitOn(executor)
+                    .flatMap(rs -> {
+                        if (rs.wasApplied()) {
+                            return Uni.createFrom().item(nextVersion);
+                        }
+                        // Another writer claimed this version first
+                        return Uni.createFrom().failure(new VersionClaimConflict());
+                    });
+        });
+    }
+
+    private Uni<Optional<Long>> getRegistryVersion() {
         Executor executor = getContextExecutor();
         return Uni.createFrom()
-                .completionStage(
-                        () -> session.executeAsync(selectAllStmt.bind()).toCompletableFuture())
+                .completionStage(() -> session.executeAsync(selectRegistryVersionStmt.bind(REGISTRY_VERSION_KEY))
+                        .toCompletableFuture())
                 .emitOn(executor)
                 .map(rs -> {
-                    List<ServiceRegistration> registrations = new ArrayList<>();
-                    rs.currentPage().forEach(row -> registrations.add(fromRow(row)));
-                    return registrations;
+                    Row row = rs.one();
+                    return row == null || row.isNull("version") ? Optional.<Long>empty() : Optional.of(row.getLong(0));
                 });
     }
 
@@ -186,6 +429,35 @@ public class CassandraServiceRegistrationRepository implements ServiceRegistrati
     }
 
     private ServiceRegistration fromRow(Row row) {
+        final var data = isRegistrationDataCurrent(row) ? row.getByteBuffer("registration_data") : null;
+        if (data != null) {
+            final var bytes = new byte[data.remaining()];
+            data.duplicate().get(bytes);
+            return codec.decode(bytes);
+        }
+        return fromJsonColumns(row);
+    }
+
+    /**
+     * Check whether {@code registration_data} encodes the row's current version.
+     *
+     * <p>
+     * Instances that predate the codec rewrite the JSON columns and version
+     * without touching the blob, leaving it behind the rest of the row.
+     */
+    private static boolean isRegistrationDataCurrent(Row row) {
+        final var columns = row.getColumnDefinitions();
+        if (!columns.contains("registration_data") || !columns.contains("registration_data_version")) {
+            return false;
+        }
+        if (row.isNull("registration_data_version")) {
+            return false;
+        }
+        final long version = row.isNull("version") ? 1L : row.getLong("version");
+        return row.getLong("registration_data_version") == version;
+    }
+
+    private ServiceRegistration fromJsonColumns(Row row) {
         // Default to true for existing rows where column is null
         boolean defaultAuthRequired = row.isNull("default_auth_required") ? true : row.getBool("default_auth_required");
 
@@ -240,6 +512,18 @@ public class CassandraServiceRegistrationRepository implements ServiceRegistrati
         }
     }
 
+    /**
+     * Another writer claimed the registry version this one tried to claim.
+     */
+    private static final class VersionClaimConflict extends RuntimeException {
+
+        VersionClaimConflict() {
+            super("Registry version claimed by another writer", null, false, false);
+        }
+    }
+
+    private record ChangeLog(long version, Set<String> serviceIds) {}
+
     /**
      * Get an executor that will run on the Vert.x context if available,
      * otherwise falls back to the default worker pool.
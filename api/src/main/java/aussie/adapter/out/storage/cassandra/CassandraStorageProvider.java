@@ -35,6 +35,7 @@ import aussie.spi.StorageRepositoryProvider;
  *   <li>aussie.storage.cassandra.keyspace - Keyspace name (default: aussie)</li>
  *   <li>aussie.storage.cassandra.username - Username for authentication (optional)</li>
  *   <li>aussie.storage.cassandra.password - Password for authentication (optional)</li>
+ *   <li>aussie.storage.cassandra.page-size - Rows fetched per page when listing (default: 500)</li>
  * </ul>
  */
 public class CassandraStorageProvider implements StorageRepositoryProvider {
@@ -82,7 +83,8 @@ public class CassandraStorageProvider implements StorageRepositoryProvider {
         ObjectMapper objectMapper = new ObjectMapper()
                 .registerModule(new Jdk8Module())
                 .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
-        return new CassandraServiceRegistrationRepository(objectMapper, session);
+        int pageSize = CassandraPaging.pageSize(config, "aussie.storage.cassandra.page-size");
+        return new CassandraServiceRegistrationRepository(objectMapper, session, pageSize);
     }
 
     private void runMigrations(StorageAdapterConfig config, String keyspace) {
@@ -1,12 +1,16 @@
 package aussie.adapter.out.storage.memory;
 
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
 
 import io.smallrye.mutiny.Uni;
 
+import aussie.core.model.service.RegistryChanges;
 import aussie.core.model.service.ServiceRegistration;
 import aussie.core.port.out.ServiceRegistrationRepository;
 
@@ -19,15 +23,25 @@ import aussie.core.port.out.ServiceRegistrationRepository;
  *   <li>Single-instance deployments where persistence is handled externally</li>
  *   <li>Fallback when no persistent storage provider is available</li>
  * </ul>
+ *
+ * <p>Changes are versioned for {@link #findChangedSince(long)}: each service
+ * remembers the registry version of its last save or delete.
  */
 public class InMemoryServiceRegistrationRepository implements ServiceRegistrationRepository {
 
     private final ConcurrentHashMap<String, ServiceRegistration> storage = new ConcurrentHashMap<>();
 
+    // Guarded by this; deleted services stay here so deltas can report them
+    private final Map<String, Long> changedAt = new HashMap<>();
+    private long version;
+
     @Override
     public Uni<Void> save(ServiceRegistration registration) {
         return Uni.createFrom().item(() -> {
-            storage.put(registration.serviceId(), registration);
+            synchronized (this) {
+                storage.put(registration.serviceId(), registration);
+                changedAt.put(registration.serviceId(), ++version);
+            }
             return null;
         });
     }
@@ -39,7 +53,15 @@ public class InMemoryServiceRegistrationRepository implements ServiceRegistratio
 
     @Override
     public Uni<Boolean> delete(String serviceId) {
-        return Uni.createFrom().item(() -> storage.remove(serviceId) != null);
+        return Uni.createFrom().item(() -> {
+            synchronized (this) {
+                if (storage.remove(serviceId) == null) {
+                    return false;
+                }
+                changedAt.put(serviceId, ++version);
+                return true;
+            }
+        });
     }
 
     @Override
@@ -47,6 +69,30 @@ public class InMemoryServiceRegistrationRepository implements ServiceRegistratio
         return Uni.createFrom().item(() -> new ArrayList<>(storage.values()));
     }
 
+    @Override
+    public Uni<RegistryChanges> findChangedSince(long since) {
+        return Uni.createFrom().item(() -> {
+            synchronized (this) {
+                if (since == RegistryChanges.UNVERSIONED) {
+                    return RegistryChanges.snapshot(version, new ArrayList<>(storage.values()));
+                }
+                final var updated = new ArrayList<ServiceRegistration>();
+                final var deleted = new HashSet<String>();
+                changedAt.forEach((serviceId, changed) -> {
+                    if (changed > since) {
+                        final var registration = storage.get(serviceId);
+                        if (registration != null) {
+                            updated.add(registration);
+                        } else {
+                            deleted.add(serviceId);
+                        }
+                    }
+                });
+                return RegistryChanges.delta(version, updated, deleted);
+            }
+        });
+    }
+
     @Override
     public Uni<Boolean> exists(String serviceId) {
         return Uni.createFrom().item(() -> storage.containsKey(serviceId));
@@ -87,6 +87,15 @@ public class InMemorySessionRepository implements SessionRepository {
         });
     }
 
+    @Override
+    public Uni<Void> touch(String sessionId, Instant lastAccessedAt, Instant expiresAt) {
+        return Uni.createFrom().item(() -> {
+            sessions.computeIfPresent(
+                    sessionId, (id, session) -> session.withLastAccessedAt(lastAccessedAt).withExpiresAt(expiresAt));
+            return null;
+        });
+    }
+
     @Override
     public Uni<Void> delete(String sessionId) {
         return Uni.createFrom().item(() -> {
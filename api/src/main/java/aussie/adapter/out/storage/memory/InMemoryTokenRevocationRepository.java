@@ -13,6 +13,7 @@ import io.smallrye.mutiny.Multi;
 import io.smallrye.mutiny.Uni;
 import org.jboss.logging.Logger;
 
+import aussie.core.model.auth.RevocationRecord;
 import aussie.spi.TokenRevocationRepository;
 
 /**
@@ -106,6 +107,20 @@ public class InMemoryTokenRevocationRepository implements TokenRevocationReposit
         return Multi.createFrom().iterable(revokedUsers.keySet());
     }
 
+    @Override
+    public Multi<RevocationRecord> streamAllRevokedJtiRecords() {
+        return Multi.createFrom()
+                .iterable(revokedJtis.entrySet())
+                .map(entry -> new RevocationRecord(entry.getKey(), entry.getValue().expiresAt()));
+    }
+
+    @Override
+    public Multi<RevocationRecord> streamAllRevokedUserRecords() {
+        return Multi.createFrom()
+                .iterable(revokedUsers.entrySet())
+                .map(entry -> new RevocationRecord(entry.getKey(), entry.getValue().expiresAt()));
+    }
+
     private void cleanupExpired() {
         final var now = Instant.now();
         final var jtisBefore = revokedJtis.size();
@@ -3,15 +3,12 @@ package aussie.adapter.out.storage.redis;
 import java.time.Duration;
 import java.util.Optional;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.DeserializationFeature;
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.datatype.jdk8.Jdk8Module;
 import io.quarkus.redis.datasource.ReactiveRedisDataSource;
 import io.quarkus.redis.datasource.keys.ReactiveKeyCommands;
 import io.quarkus.redis.datasource.value.ReactiveValueCommands;
 import io.smallrye.mutiny.Uni;
 
+import aussie.adapter.out.storage.ServiceRegistrationCodec;
 import aussie.core.model.service.ServiceRegistration;
 import aussie.core.port.out.ConfigurationCache;
 
@@ -19,21 +16,24 @@ import aussie.core.port.out.ConfigurationCache;
  * Redis implementation of ConfigurationCache.
  *
  * <p>Provides distributed caching for service registrations with TTL support.
+ * Registrations are stored in the binary {@link ServiceRegistrationCodec} format
+ * under a versioned key prefix, so instances that cache JSON under the earlier
+ * unversioned keys never read each other's values. Invalidation also removes the
+ * unversioned key, so those instances do not keep serving a stale registration.
  */
 public class RedisConfigurationCache implements ConfigurationCache {
 
     private static final String KEY_PREFIX = "aussie:config:";
-    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper()
-            .registerModule(new Jdk8Module())
-            .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+    private static final String CODEC_KEY_PREFIX = KEY_PREFIX + "v2:";
+    private static final ServiceRegistrationCodec CODEC = new ServiceRegistrationCodec();
 
-    private final ReactiveValueCommands<String, String> valueCommands;
+    private final ReactiveValueCommands<String, byte[]> valueCommands;
     private final ReactiveKeyCommands<String> keyCommands;
     private final Duration defaultTtl;
     private final RedisTimeoutHelper timeoutHelper;
 
     public RedisConfigurationCache(ReactiveRedisDataSource ds, Duration defaultTtl, RedisTimeoutHelper timeoutHelper) {
-        this.valueCommands = ds.value(String.class, String.class);
+        this.valueCommands = ds.value(String.class, byte[].class);
         this.keyCommands = ds.key(String.class);
         this.defaultTtl = defaultTtl;
         this.timeoutHelper = timeoutHelper;
@@ -41,11 +41,11 @@ public class RedisConfigurationCache implements ConfigurationCache {
 
     @Override
     public Uni<Optional<ServiceRegistration>> get(String serviceId) {
-        var operation = valueCommands.get(keyFor(serviceId)).map(json -> {
-            if (json == null) {
+        var operation = valueCommands.get(keyFor(serviceId)).map(data -> {
+            if (data == null) {
                 return null;
             }
-            return deserialize(json);
+            return CODEC.decode(data);
         });
         return timeoutHelper.withTimeoutGraceful(operation, "get");
     }
@@ -58,20 +58,20 @@ public class RedisConfigurationCache implements ConfigurationCache {
     @Override
     public Uni<Void> put(ServiceRegistration registration, Duration ttl) {
         String key = keyFor(registration.serviceId());
-        String json = serialize(registration);
-        var operation = valueCommands.setex(key, ttl.toSeconds(), json).replaceWithVoid();
+        byte[] data = CODEC.encode(registration);
+        var operation = valueCommands.setex(key, ttl.toSeconds(), data).replaceWithVoid();
         return timeoutHelper.withTimeoutSilent(operation, "put");
     }
 
     @Override
     public Uni<Void> invalidate(String serviceId) {
-        var operation = keyCommands.del(keyFor(serviceId)).replaceWithVoid();
+        var operation = keyCommands.del(keyFor(serviceId), KEY_PREFIX + serviceId).replaceWithVoid();
         return timeoutHelper.withTimeoutSilent(operation, "invalidate");
     }
 
     @Override
     public Uni<Void> invalidateAll() {
-        // Use SCAN to find and delete all keys with our prefix
+        // Use SCAN to find and delete all keys with our prefix, versioned or not
         // For safety, we use KEYS pattern match - in production with large datasets,
         // consider using SCAN in batches
         var operation = keyCommands.keys(KEY_PREFIX + "*").flatMap(keys -> {
@@ -84,22 +84,6 @@ public class RedisConfigurationCache implements ConfigurationCache {
     }
 
     private String keyFor(String serviceId) {
-        return KEY_PREFIX + serviceId;
-    }
-
-    private String serialize(ServiceRegistration registration) {
-        try {
-            return OBJECT_MAPPER.writeValueAsString(registration);
-        } catch (JsonProcessingException e) {
-            throw new RuntimeException("Failed to serialize ServiceRegistration", e);
-        }
-    }
-
-    private ServiceRegistration deserialize(String json) {
-        try {
-            return OBJECT_MAPPER.readValue(json, ServiceRegistration.class);
-        } catch (JsonProcessingException e) {
-            throw new RuntimeException("Failed to deserialize ServiceRegistration", e);
-        }
+        return CODEC_KEY_PREFIX + serviceId;
     }
 }
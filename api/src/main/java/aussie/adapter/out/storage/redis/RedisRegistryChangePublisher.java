@@ -0,0 +1,88 @@
+package aussie.adapter.out.storage.redis;
+
+import java.util.UUID;
+import java.util.function.Consumer;
+
+import io.quarkus.redis.datasource.RedisDataSource;
+import io.quarkus.redis.datasource.pubsub.PubSubCommands;
+import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.Uni;
+import io.smallrye.mutiny.infrastructure.Infrastructure;
+import io.smallrye.mutiny.operators.multi.processors.BroadcastProcessor;
+import org.jboss.logging.Logger;
+
+import aussie.core.port.out.RegistryChangePublisher;
+
+/**
+ * Redis pub/sub implementation of RegistryChangePublisher.
+ *
+ * <p>Message format: {@code {instanceId}|{serviceId}}. The instance ID lets each
+ * instance ignore its own messages, since it has already applied the change locally.
+ */
+public class RedisRegistryChangePublisher implements RegistryChangePublisher, AutoCloseable {
+
+    private static final Logger LOG = Logger.getLogger(RedisRegistryChangePublisher.class);
+    private static final String MESSAGE_SEPARATOR = "|";
+
+    private final PubSubCommands<String> pubsub;
+    private final String channel;
+    private final String instanceId = UUID.randomUUID().toString();
+    private final BroadcastProcessor<String> processor = BroadcastProcessor.create();
+
+    private volatile PubSubCommands.RedisSubscriber subscriber;
+
+    public RedisRegistryChangePublisher(RedisDataSource redisDataSource, String channel) {
+        this.pubsub = redisDataSource.pubsub(String.class);
+        this.channel = channel;
+    }
+
+    /**
+     * Start listening for changes published by other instances.
+     */
+    public void start() {
+        this.subscriber = pubsub.subscribe(channel, (Consumer<String>) this::onMessage);
+        LOG.infof("Subscribed to service registry changes on channel: %s", channel);
+    }
+
+    @Override
+    public void close() {
+        if (subscriber != null) {
+            try {
+                subscriber.unsubscribe();
+                LOG.info("Unsubscribed from service registry changes");
+            } catch (Exception e) {
+                LOG.warnf(e, "Error unsubscribing from service registry changes");
+            }
+        }
+    }
+
+    @Override
+    public Uni<Void> publish(String serviceId) {
+        final var message = instanceId + MESSAGE_SEPARATOR + serviceId;
+        return Uni.createFrom()
+                .item(() -> {
+                    pubsub.publish(channel, message);
+                    LOG.debugf("Published service registry change: %s", serviceId);
+                    return null;
+                })
+                .runSubscriptionOn(Infrastructure.getDefaultWorkerPool())
+                .replaceWithVoid();
+    }
+
+    @Override
+    public Multi<String> subscribe() {
+        return processor;
+    }
+
+    private void onMessage(String message) {
+        // Limit the split so the service ID itself may contain the separator
+        final var parts = message.split("\\|", 2);
+        if (parts.length < 2) {
+            LOG.warnf("Invalid service registry change format: %s", message);
+            return;
+        }
+        if (!instanceId.equals(parts[0])) {
+            processor.onNext(parts[1]);
+        }
+    }
+}
@@ -0,0 +1,147 @@
+package aussie.adapter.out.storage.redis;
+
+import java.util.UUID;
+import java.util.function.Consumer;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jakarta.enterprise.context.ApplicationScoped;
+
+import io.quarkus.arc.DefaultBean;
+import io.quarkus.redis.datasource.RedisDataSource;
+import io.quarkus.redis.datasource.pubsub.PubSubCommands;
+import io.quarkus.runtime.Startup;
+import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.Uni;
+import io.smallrye.mutiny.infrastructure.Infrastructure;
+import io.smallrye.mutiny.operators.multi.processors.BroadcastProcessor;
+import org.jboss.logging.Logger;
+
+import aussie.core.config.SessionConfig;
+import aussie.core.model.session.SessionInvalidatedEvent;
+import aussie.core.port.out.SessionInvalidationPublisher;
+
+/**
+ * Redis pub/sub implementation of SessionInvalidationPublisher.
+ *
+ * <p>Message format: {@code {instanceId}|session|{sessionId}} or
+ * {@code {instanceId}|user|{userId}}. The instance ID lets each instance ignore
+ * its own messages, since it has already applied the invalidation locally.
+ */
+@ApplicationScoped
+@DefaultBean
+@Startup // Ensure eager initialization to avoid blocking on event loop during lazy creation
+public class RedisSessionInvalidationPublisher implements SessionInvalidationPublisher {
+
+    private static final Logger LOG = Logger.getLogger(RedisSessionInvalidationPublisher.class);
+    private static final String MESSAGE_SEPARATOR = "|";
+
+    private final SessionConfig config;
+    private final PubSubCommands<String> pubsub;
+    private final String channel;
+    private final String instanceId = UUID.randomUUID().toString();
+    private final BroadcastProcessor<SessionInvalidatedEvent> processor = BroadcastProcessor.create();
+
+    private volatile PubSubCommands.RedisSubscriber subscriber;
+
+    public RedisSessionInvalidationPublisher(RedisDataSource redisDataSource, SessionConfig config) {
+        this.config = config;
+        this.pubsub = redisDataSource.pubsub(String.class);
+        this.channel = config.cache().invalidationChannel();
+    }
+
+    @PostConstruct
+    void init() {
+        if (!isEnabled()) {
+            LOG.info("Session invalidation pub/sub disabled");
+            return;
+        }
+
+        this.subscriber = pubsub.subscribe(channel, (Consumer<String>) this::onMessage);
+        LOG.infof("Subscribed to session invalidations on channel: %s", channel);
+    }
+
+    @PreDestroy
+    void cleanup() {
+        if (subscriber != null) {
+            try {
+                subscriber.unsubscribe();
+                LOG.info("Unsubscribed from session invalidations");
+            } catch (Exception e) {
+                LOG.warnf(e, "Error unsubscribing from session invalidations");
+            }
+        }
+    }
+
+    @Override
+    public Uni<Void> publish(SessionInvalidatedEvent event) {
+        if (!isEnabled()) {
+            return Uni.createFrom().voidItem();
+        }
+
+        var message = encode(event);
+        if (message == null) {
+            return Uni.createFrom().voidItem();
+        }
+
+        return Uni.createFrom()
+                .item(() -> {
+                    pubsub.publish(channel, message);
+                    LOG.debugf("Published session invalidation: %s", event);
+                    return null;
+                })
+                .runSubscriptionOn(Infrastructure.getDefaultWorkerPool())
+                .replaceWithVoid();
+    }
+
+    @Override
+    public Multi<SessionInvalidatedEvent> subscribe() {
+        return processor;
+    }
+
+    private boolean isEnabled() {
+        return config.enabled() && config.cache().enabled();
+    }
+
+    private void onMessage(String message) {
+        try {
+            var event = decode(message);
+            if (event != null) {
+                processor.onNext(event);
+            }
+        } catch (Exception e) {
+            LOG.warnf(e, "Failed to parse session invalidation: %s", message);
+        }
+    }
+
+    private String encode(SessionInvalidatedEvent event) {
+        if (event.sessionId().isPresent()) {
+            return instanceId + MESSAGE_SEPARATOR + "session" + MESSAGE_SEPARATOR + event.sessionId().get();
+        }
+        if (event.userId().isPresent()) {
+            return instanceId + MESSAGE_SEPARATOR + "user" + MESSAGE_SEPARATOR + event.userId().get();
+        }
+        return null;
+    }
+
+    private SessionInvalidatedEvent decode(String message) {
+        // Limit the split so the identifier itself may contain the separator
+        var parts = message.split("\\|", 3);
+        if (parts.length < 3) {
+            LOG.warnf("Invalid session invalidation format: %s", message);
+            return null;
+        }
+        if (instanceId.equals(parts[0])) {
+            return null;
+        }
+
+        return switch (parts[1]) {
+            case "session" -> SessionInvalidatedEvent.forSession(parts[2]);
+            case "user" -> SessionInvalidatedEvent.forUser(parts[2]);
+            default -> {
+                LOG.warnf("Unknown session invalidation type: %s", parts[1]);
+                yield null;
+            }
+        };
+    }
+}
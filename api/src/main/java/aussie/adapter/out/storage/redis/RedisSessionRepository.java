@@ -24,17 +24,27 @@ import aussie.core.port.out.SessionRepository;
  *
  * <p>Sessions are stored as serialized JSON with Redis TTL for automatic expiration.
  * Uses SETNX semantics for atomic insert-if-absent to prevent ID collisions.
+ *
+ * <p>Activity touches never rewrite the payload. They extend the key's TTL and store
+ * {@code lastAccessedAt}/{@code expiresAt} in a companion {@code :touch} key, which
+ * {@link #findById(String)} overlays onto the payload. Touches are pipelined per
+ * event loop turn by {@link RedisSessionTouchBatcher}.
+ *
+ * <p>The touch key wraps the session key in a hash tag ({@code {<key>}:touch}), so
+ * both hash to the same Redis Cluster slot and can be read and deleted together.
  */
 public class RedisSessionRepository implements SessionRepository {
 
     private static final Logger LOG = Logger.getLogger(RedisSessionRepository.class);
     private static final String USER_INDEX_PREFIX = "aussie:session:user:";
+    private static final String TOUCH_SUFFIX = ":touch";
 
     private final ReactiveValueCommands<String, String> valueCommands;
     private final ReactiveKeyCommands<String> keyCommands;
     private final String keyPrefix;
     private final Duration sessionTtl;
     private final RedisTimeoutHelper timeoutHelper;
+    private final RedisSessionTouchBatcher touchBatcher;
 
     public RedisSessionRepository(
             ReactiveRedisDataSource redisDataSource, SessionConfig config, RedisTimeoutHelper timeoutHelper) {
@@ -43,6 +53,7 @@ public class RedisSessionRepository implements SessionRepository {
         this.keyPrefix = config.storage().redis().keyPrefix();
         this.sessionTtl = config.ttl();
         this.timeoutHelper = timeoutHelper;
+        this.touchBatcher = new RedisSessionTouchBatcher(redisDataSource.getRedis());
     }
 
     @Override
@@ -81,12 +92,14 @@ public class RedisSessionRepository implements SessionRepository {
     @Override
     public Uni<Optional<Session>> findById(String sessionId) {
         String key = keyPrefix + sessionId;
+        String touchKey = touchKey(key);
 
-        var operation = valueCommands.get(key).map(value -> {
+        var operation = valueCommands.mget(key, touchKey).map(values -> {
+            String value = values.get(key);
             if (value == null) {
                 return Optional.<Session>empty();
             }
-            return Optional.of(deserialize(value));
+            return Optional.of(applyTouch(deserialize(value), values.get(touchKey)));
         });
         return timeoutHelper.withTimeout(operation, "findById");
     }
@@ -107,6 +120,21 @@ public class RedisSessionRepository implements SessionRepository {
         return timeoutHelper.withTimeout(operation, "update");
     }
 
+    @Override
+    public Uni<Void> touch(String sessionId, Instant lastAccessedAt, Instant expiresAt) {
+        String key = keyPrefix + sessionId;
+        long ttlMillis =
+                expiresAt != null ? Duration.between(Instant.now(), expiresAt).toMillis() : sessionTtl.toMillis();
+        if (ttlMillis <= 0) {
+            // Already expired; let the existing TTL remove it
+            return Uni.createFrom().voidItem();
+        }
+
+        String touchValue = lastAccessedAt.toEpochMilli() + "|" + (expiresAt != null ? expiresAt.toEpochMilli() : "");
+        var operation = touchBatcher.touch(key, touchKey(key), touchValue, ttlMillis);
+        return timeoutHelper.withTimeout(operation, "touch");
+    }
+
     @Override
     public Uni<Void> delete(String sessionId) {
         String key = keyPrefix + sessionId;
@@ -116,7 +144,7 @@ public class RedisSessionRepository implements SessionRepository {
                     if (sessionOpt.isPresent()) {
                         removeFromUserIndex(sessionOpt.get().userId(), sessionId);
                     }
-                    return keyCommands.del(key);
+                    return keyCommands.del(key, touchKey(key));
                 })
                 .replaceWithVoid();
         return timeoutHelper.withTimeout(operation, "delete");
@@ -136,7 +164,8 @@ public class RedisSessionRepository implements SessionRepository {
 
             for (String sessionId : ids) {
                 if (!sessionId.isBlank()) {
-                    deletions.add(keyCommands.del(keyPrefix + sessionId.trim()));
+                    String key = keyPrefix + sessionId.trim();
+                    deletions.add(keyCommands.del(key, touchKey(key)));
                 }
             }
 
@@ -157,6 +186,14 @@ public class RedisSessionRepository implements SessionRepository {
         return timeoutHelper.withTimeout(operation, "exists");
     }
 
+    /**
+     * Companion touch key, hash-tagged so it lands in the same cluster slot as the
+     * session key (which has no hash tag, so its slot is computed from the whole key).
+     */
+    static String touchKey(String key) {
+        return "{" + key + "}" + TOUCH_SUFFIX;
+    }
+
     private void updateUserIndex(String userId, String sessionId) {
         String userIndexKey = USER_INDEX_PREFIX + userId;
 
@@ -216,6 +253,31 @@ public class RedisSessionRepository implements SessionRepository {
                         error -> LOG.warnf("Failed to update user index: %s", error.getMessage()));
     }
 
+    /**
+     * Overlay touched fields onto a stored session, keeping whichever is newer.
+     *
+     * <p>A full {@link #update(Session)} may land after a touch, so neither source
+     * is assumed to be authoritative.
+     */
+    private Session applyTouch(Session session, String touchValue) {
+        if (touchValue == null || touchValue.isEmpty()) {
+            return session;
+        }
+        String[] parts = touchValue.split("\\|", -1);
+        Session touched = session;
+        Instant lastAccessedAt = Instant.ofEpochMilli(Long.parseLong(parts[0]));
+        if (touched.lastAccessedAt() == null || lastAccessedAt.isAfter(touched.lastAccessedAt())) {
+            touched = touched.withLastAccessedAt(lastAccessedAt);
+        }
+        if (parts.length > 1 && !parts[1].isEmpty()) {
+            Instant expiresAt = Instant.ofEpochMilli(Long.parseLong(parts[1]));
+            if (touched.expiresAt() != null && expiresAt.isAfter(touched.expiresAt())) {
+                touched = touched.withExpiresAt(expiresAt);
+            }
+        }
+        return touched;
+    }
+
     private String serialize(Session session) {
         // Simple pipe-separated format for efficiency
         StringBuilder sb = new StringBuilder();
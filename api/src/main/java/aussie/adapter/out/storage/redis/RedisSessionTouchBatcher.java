@@ -0,0 +1,107 @@
+package aussie.adapter.out.storage.redis;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+
+import io.smallrye.mutiny.Uni;
+import io.smallrye.mutiny.subscription.UniEmitter;
+import io.vertx.core.Context;
+import io.vertx.core.Vertx;
+import io.vertx.mutiny.redis.client.Command;
+import io.vertx.mutiny.redis.client.Redis;
+import io.vertx.mutiny.redis.client.Request;
+import org.jboss.logging.Logger;
+
+/**
+ * Coalesces session touches into one pipelined Redis round trip per event loop turn.
+ *
+ * <p>Touches submitted on an event loop thread are queued until the current task
+ * finishes, then flushed together with a single {@code batch} call. Repeated touches
+ * for the same session within a turn collapse into the latest one. Touches submitted
+ * off the event loop are flushed immediately.
+ *
+ * <p>Each touch is two commands: {@code PEXPIRE} on the session key, so the payload is
+ * never rewritten, and {@code SET ... PX} on a small companion key holding the new
+ * {@code lastAccessedAt} and {@code expiresAt}.
+ */
+final class RedisSessionTouchBatcher {
+
+    private static final Logger LOG = Logger.getLogger(RedisSessionTouchBatcher.class);
+
+    private final Redis redis;
+    private final ThreadLocal<List<PendingTouch>> pending = new ThreadLocal<>();
+
+    RedisSessionTouchBatcher(Redis redis) {
+        this.redis = redis;
+    }
+
+    /**
+     * Queue a touch for the next flush.
+     *
+     * @param sessionKey session payload key
+     * @param touchKey   companion key holding the touched fields
+     * @param touchValue encoded touched fields
+     * @param ttlMillis  new time-to-live for both keys
+     * @return Uni completing once the batch containing this touch is acknowledged
+     */
+    Uni<Void> touch(String sessionKey, String touchKey, String touchValue, long ttlMillis) {
+        return Uni.createFrom()
+                .emitter(emitter -> enqueue(new PendingTouch(sessionKey, touchKey, touchValue, ttlMillis, emitter)));
+    }
+
+    private void enqueue(PendingTouch touch) {
+        Context context = Vertx.currentContext();
+        if (context == null || !Context.isOnEventLoopThread()) {
+            flush(List.of(touch));
+            return;
+        }
+
+        var batch = pending.get();
+        if (batch == null) {
+            batch = new ArrayList<>();
+            pending.set(batch);
+            // Runs after the current task on this event loop, so every touch queued meanwhile joins the batch
+            context.runOnContext(v -> flush(drain()));
+        }
+        batch.add(touch);
+    }
+
+    private List<PendingTouch> drain() {
+        var batch = pending.get();
+        pending.remove();
+        return batch != null ? batch : List.of();
+    }
+
+    private void flush(List<PendingTouch> batch) {
+        if (batch.isEmpty()) {
+            return;
+        }
+
+        // Last touch per session wins; earlier ones are superseded within the same batch
+        var latest = new LinkedHashMap<String, PendingTouch>();
+        for (var touch : batch) {
+            latest.put(touch.sessionKey(), touch);
+        }
+
+        var requests = new ArrayList<Request>(latest.size() * 2);
+        for (var touch : latest.values()) {
+            requests.add(Request.cmd(Command.PEXPIRE).arg(touch.sessionKey()).arg(touch.ttlMillis()));
+            requests.add(Request.cmd(Command.SET)
+                    .arg(touch.touchKey())
+                    .arg(touch.touchValue())
+                    .arg("PX")
+                    .arg(touch.ttlMillis()));
+        }
+
+        LOG.debugf("Flushing %d session touches (%d submitted)", latest.size(), batch.size());
+        redis.batch(requests)
+                .subscribe()
+                .with(
+                        responses -> batch.forEach(touch -> touch.emitter().complete(null)),
+                        error -> batch.forEach(touch -> touch.emitter().fail(error)));
+    }
+
+    private record PendingTouch(
+            String sessionKey, String touchKey, String touchValue, long ttlMillis, UniEmitter<? super Void> emitter) {}
+}
@@ -2,6 +2,7 @@ package aussie.adapter.out.storage.redis;
 
 import java.time.Duration;
 import java.time.Instant;
+import java.util.Optional;
 
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
@@ -10,12 +11,14 @@ import io.quarkus.arc.DefaultBean;
 import io.quarkus.redis.datasource.ReactiveRedisDataSource;
 import io.quarkus.redis.datasource.keys.KeyScanArgs;
 import io.quarkus.redis.datasource.keys.ReactiveKeyCommands;
+import io.quarkus.redis.datasource.keys.RedisKeyNotFoundException;
 import io.quarkus.redis.datasource.value.ReactiveValueCommands;
 import io.smallrye.mutiny.Multi;
 import io.smallrye.mutiny.Uni;
 import org.jboss.logging.Logger;
 
 import aussie.core.config.ResiliencyConfig;
+import aussie.core.model.auth.RevocationRecord;
 import aussie.core.port.out.Metrics;
 import aussie.spi.TokenRevocationRepository;
 
@@ -50,6 +53,7 @@ public class RedisTokenRevocationRepository implements TokenRevocationRepository
     private static final String JTI_PREFIX = "aussie:revoked:jti:";
     private static final String USER_PREFIX = "aussie:revoked:user:";
     private static final String REVOKED_VALUE = "1";
+    private static final int TTL_LOOKUP_CONCURRENCY = 64;
 
     private final ReactiveValueCommands<String, String> valueCommands;
     private final ReactiveKeyCommands<String> keyCommands;
@@ -151,6 +155,46 @@ public class RedisTokenRevocationRepository implements TokenRevocationRepository
         return keyCommands.scan(args).toMulti().map(key -> key.substring(USER_PREFIX.length()));
     }
 
+    @Override
+    public Multi<RevocationRecord> streamAllRevokedJtiRecords() {
+        return streamRecords(JTI_PREFIX);
+    }
+
+    @Override
+    public Multi<RevocationRecord> streamAllRevokedUserRecords() {
+        return streamRecords(USER_PREFIX);
+    }
+
+    /**
+     * Scan keys under a prefix and resolve each key's remaining TTL.
+     *
+     * <p>TTL lookups are issued concurrently so they share the connection as a
+     * pipeline. Keys that expired between SCAN and PTTL are skipped; keys whose
+     * TTL cannot be read are reported with an unknown expiry (fail-closed).
+     */
+    private Multi<RevocationRecord> streamRecords(String prefix) {
+        var args = new KeyScanArgs().match(prefix + "*").count(1000);
+        return keyCommands
+                .scan(args)
+                .toMulti()
+                .onItem()
+                .transformToUni(key -> {
+                    var id = key.substring(prefix.length());
+                    return keyCommands
+                            .pttl(key)
+                            .map(ttl -> Optional.of(
+                                    new RevocationRecord(id, ttl >= 0 ? Instant.now().plusMillis(ttl) : null)))
+                            .onFailure(RedisKeyNotFoundException.class)
+                            .recoverWithItem(Optional.empty())
+                            .onFailure()
+                            .recoverWithItem(Optional.of(new RevocationRecord(id, null)));
+                })
+                .merge(TTL_LOOKUP_CONCURRENCY)
+                .select()
+                .where(Optional::isPresent)
+                .map(Optional::get);
+    }
+
     private long calculateTtl(Instant expiresAt) {
         var ttl = Duration.between(Instant.now(), expiresAt);
         return Math.max(0, ttl.toSeconds());
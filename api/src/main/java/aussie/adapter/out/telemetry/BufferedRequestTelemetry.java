@@ -0,0 +1,213 @@
+package aussie.adapter.out.telemetry;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.jboss.logging.Logger;
+
+import aussie.core.model.gateway.GatewayRequest;
+import aussie.core.model.gateway.GatewayResult;
+import aussie.core.model.service.ServiceRegistration;
+import aussie.core.port.out.RequestTelemetry;
+
+/**
+ * Records completed requests off the request path.
+ *
+ * <p>The request thread only copies a handful of primitives and strings into a
+ * preallocated slot of a {@link RequestMetricsRingBuffer}. A single background
+ * thread drains the ring every flush interval and applies each sample to the
+ * cached meters in {@link GatewayMetrics} and {@link TrafficAttributionService},
+ * including the attribution tag resolution and compute-unit calculation.
+ *
+ * <p>When the ring is full the sample is dropped and counted in
+ * {@code aussie.telemetry.dropped}, so a slow consumer never adds latency to
+ * requests. Meters therefore trail requests by up to one flush interval.
+ */
+@ApplicationScoped
+public class BufferedRequestTelemetry implements RequestTelemetry {
+
+    private static final Logger LOG = Logger.getLogger(BufferedRequestTelemetry.class);
+
+    private final GatewayMetrics metrics;
+    private final TrafficAttributionService attribution;
+    private final TelemetryConfig config;
+    private final boolean metricsEnabled;
+    private final boolean attributionEnabled;
+    private final String environment;
+    private final RequestMetricsRingBuffer buffer;
+    private final Counter droppedCounter;
+    private ScheduledExecutorService flushExecutor;
+
+    @Inject
+    public BufferedRequestTelemetry(
+            GatewayMetrics metrics,
+            TrafficAttributionService attribution,
+            MeterRegistry registry,
+            TelemetryConfig config) {
+        this.metrics = metrics;
+        this.attribution = attribution;
+        this.config = config;
+        this.metricsEnabled = metrics.isEnabled();
+        this.attributionEnabled = attribution.isEnabled();
+        this.environment = System.getenv("AUSSIE_ENV");
+
+        if (metricsEnabled || attributionEnabled) {
+            this.buffer = new RequestMetricsRingBuffer(config.metrics().bufferSize());
+            this.droppedCounter = Counter.builder("aussie.telemetry.dropped")
+                    .description("Request samples dropped because the telemetry buffer was full")
+                    .register(registry);
+        } else {
+            this.buffer = null;
+            this.droppedCounter = null;
+        }
+    }
+
+    @PostConstruct
+    void init() {
+        if (buffer == null) {
+            return;
+        }
+
+        final long intervalMillis = Math.max(1, config.metrics().flushInterval().toMillis());
+        flushExecutor = Executors.newSingleThreadScheduledExecutor(r -> {
+            var t = new Thread(r, "telemetry-flush");
+            t.setDaemon(true);
+            return t;
+        });
+        flushExecutor.scheduleWithFixedDelay(this::flushSafely, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Stop the flush thread and record whatever is still buffered.
+     */
+    @PreDestroy
+    void shutdown() {
+        if (flushExecutor == null) {
+            return;
+        }
+
+        flushExecutor.shutdown();
+        try {
+            if (!flushExecutor.awaitTermination(5, TimeUnit.SECONDS)) {
+                flushExecutor.shutdownNow();
+                return;
+            }
+        } catch (InterruptedException e) {
+            flushExecutor.shutdownNow();
+            Thread.currentThread().interrupt();
+            return;
+        }
+        flush();
+    }
+
+    @Override
+    public void recordCompletion(
+            GatewayRequest request, ServiceRegistration service, GatewayResult result, long durationMs) {
+        if (buffer == null) {
+            return;
+        }
+
+        int statusCode = 0;
+        long requestBytes = 0;
+        long responseBytes = 0;
+        if (result instanceof GatewayResult.Success success) {
+            statusCode = success.statusCode();
+            requestBytes = request.body() != null ? request.body().length : 0;
+            responseBytes = success.body() != null ? success.body().length : 0;
+        }
+
+        // Attribution headers must be read now; the request is not retained
+        String teamId = null;
+        String tenantId = null;
+        String clientApp = null;
+        if (attributionEnabled && statusCode != 0) {
+            var attributionConfig = config.attribution();
+            teamId = TrafficAttribution.getHeader(request, attributionConfig.teamHeader());
+            tenantId = TrafficAttribution.getHeader(request, attributionConfig.tenantHeader());
+            clientApp = TrafficAttribution.getHeader(request, attributionConfig.clientAppHeader());
+        }
+
+        final boolean accepted = buffer.offer(
+                service.serviceId(),
+                request.method(),
+                statusCode,
+                GatewayMetrics.resultTypeIndex(result),
+                durationMs,
+                requestBytes,
+                responseBytes,
+                teamId,
+                tenantId,
+                clientApp);
+        if (!accepted) {
+            droppedCounter.increment();
+        }
+    }
+
+    /**
+     * Get the number of samples waiting to be recorded.
+     *
+     * @return pending sample count, or 0 when telemetry is disabled
+     */
+    public int pendingCount() {
+        return buffer != null ? buffer.size() : 0;
+    }
+
+    /**
+     * Drain the buffer and record every pending sample. Package-private for testing.
+     *
+     * @return number of samples recorded
+     */
+    int flush() {
+        if (buffer == null) {
+            return 0;
+        }
+
+        int total = 0;
+        int drained;
+        do {
+            drained = buffer.drain(this::apply, buffer.capacity());
+            total += drained;
+        } while (drained > 0);
+        return total;
+    }
+
+    private void flushSafely() {
+        try {
+            flush();
+        } catch (RuntimeException e) {
+            // An exception would cancel the scheduled task and stop all further recording
+            LOG.warnv(e, "Failed to flush request telemetry");
+        }
+    }
+
+    private void apply(RequestMetricsRingBuffer.Sample sample) {
+        if (metricsEnabled) {
+            metrics.recordGatewayResult(sample.serviceId, sample.resultType);
+        }
+
+        // Status codes are only captured for successful proxy responses
+        if (sample.statusCode != 0) {
+            if (metricsEnabled) {
+                metrics.recordRequest(sample.serviceId, sample.method, sample.statusCode);
+                metrics.recordProxyLatency(sample.serviceId, sample.method, sample.statusCode, sample.durationMs);
+            }
+            if (attributionEnabled) {
+                attribution.recordAttributedRequest(
+                        new TrafficAttribution(
+                                sample.serviceId, sample.teamId, sample.tenantId, sample.clientApp, environment),
+                        new TrafficAttributionService.RequestMetrics(
+                                sample.requestBytes, sample.responseBytes, sample.durationMs));
+            }
+        } else if (metricsEnabled && sample.resultType == GatewayMetrics.ERROR_RESULT_TYPE) {
+            metrics.recordError(sample.serviceId, "upstream_error");
+        }
+    }
+}
@@ -1,7 +1,11 @@
 package aussie.adapter.out.telemetry;
 
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.ToDoubleFunction;
 
 import jakarta.annotation.PostConstruct;
 import jakarta.enterprise.context.ApplicationScoped;
@@ -10,7 +14,6 @@ import jakarta.inject.Inject;
 import io.micrometer.core.instrument.Counter;
 import io.micrometer.core.instrument.Gauge;
 import io.micrometer.core.instrument.MeterRegistry;
-import io.micrometer.core.instrument.Tags;
 import io.micrometer.core.instrument.Timer;
 
 import aussie.core.model.gateway.GatewayResult;
@@ -33,15 +36,37 @@ import aussie.core.port.out.Metrics;
  *   <li>{@code aussie.access.denied.total} - Access denied count</li>
  *   <li>{@code aussie.connections.active} - Active HTTP connections gauge</li>
  *   <li>{@code aussie.websockets.active} - Active WebSocket connections gauge</li>
+ *   <li>{@code aussie.websockets.buffered.bytes} - Bytes pending write across WebSocket sessions</li>
+ *   <li>{@code aussie.websockets.buffered.bytes.max} - Bytes pending write in the most backed-up session</li>
  * </ul>
+ *
+ * <p>Per-request meters are registered once and their handles cached per service,
+ * indexed by small integers for method, status and result type. Recording is then
+ * a lookup plus an increment, with no builder, {@code Tags} or registry lookup.
+ * The cache holds exactly the tag combinations the registry already retains.
  */
 @ApplicationScoped
 public class GatewayMetrics implements Metrics {
 
+    private static final String[] METHODS = {"GET", "HEAD", "POST", "PUT", "DELETE", "OPTIONS", "PATCH", "TRACE", "CONNECT"};
+    private static final String[] STATUS_CLASSES = {"1xx", "2xx", "3xx", "4xx", "5xx", "unknown"};
+    private static final String[] RESULT_TYPES = {
+        "success", "route_not_found", "service_not_found", "reserved_path", "error", "unauthorized", "forbidden",
+        "bad_request"
+    };
+    static final int ERROR_RESULT_TYPE = 4;
+    private static final int MIN_STATUS = 100;
+    private static final int MAX_STATUS = 599;
+
     private final MeterRegistry registry;
     private final TelemetryConfig config;
     private final boolean enabled;
 
+    // Cached meter handles
+    private final ConcurrentMap<String, ServiceMeters> serviceMeters = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, Counter> authSuccessCounters = new ConcurrentHashMap<>();
+    private volatile Counter webSocketLimitReachedCounter;
+
     // Connection gauges
     private final AtomicLong activeConnections = new AtomicLong(0);
     private final AtomicLong activeWebSockets = new AtomicLong(0);
@@ -96,14 +121,13 @@ public class GatewayMetrics implements Metrics {
             return;
         }
 
-        Counter.builder("aussie.requests.total")
-                .description("Total number of requests processed")
-                .tag("service_id", nullSafe(serviceId))
-                .tag("method", method)
-                .tag("status", String.valueOf(statusCode))
-                .tag("status_class", statusClass(statusCode))
-                .register(registry)
-                .increment();
+        final int methodIndex = methodIndex(method);
+        if (methodIndex < 0 || statusCode < MIN_STATUS || statusCode > MAX_STATUS) {
+            // Non-standard method or status: register on demand rather than reserving slots
+            requestCounter(nullSafe(serviceId), method, statusCode).increment();
+            return;
+        }
+        meters(serviceId).request(methodIndex, statusCode).increment();
     }
 
     /**
@@ -120,14 +144,13 @@ public class GatewayMetrics implements Metrics {
             return;
         }
 
-        Timer.builder("aussie.proxy.latency")
-                .description("Time to receive response from upstream service")
-                .tag("service_id", nullSafe(serviceId))
-                .tag("method", method)
-                .tag("status_class", statusClass(statusCode))
-                .publishPercentiles(0.5, 0.9, 0.95, 0.99)
-                .register(registry)
-                .record(latencyMs, TimeUnit.MILLISECONDS);
+        final int methodIndex = methodIndex(method);
+        if (methodIndex < 0) {
+            latencyTimer(nullSafe(serviceId), method, statusClassIndex(statusCode))
+                    .record(latencyMs, TimeUnit.MILLISECONDS);
+            return;
+        }
+        meters(serviceId).latency(methodIndex, statusClassIndex(statusCode)).record(latencyMs, TimeUnit.MILLISECONDS);
     }
 
     /**
@@ -142,14 +165,15 @@ public class GatewayMetrics implements Metrics {
             return;
         }
 
-        var resultType = getResultType(result);
+        recordGatewayResult(serviceId, resultTypeIndex(result));
+    }
 
-        Counter.builder("aussie.gateway.results")
-                .description("Gateway result types")
-                .tag("service_id", nullSafe(serviceId))
-                .tag("result_type", resultType)
-                .register(registry)
-                .increment();
+    void recordGatewayResult(String serviceId, int resultTypeIndex) {
+        if (!enabled) {
+            return;
+        }
+
+        meters(serviceId).result(resultTypeIndex).increment();
     }
 
     // -------------------------------------------------------------------------
@@ -170,23 +194,9 @@ public class GatewayMetrics implements Metrics {
             return;
         }
 
-        var tags = Tags.of(
-                "service_id", nullSafe(serviceId),
-                "team_id", nullSafe(teamId));
-
-        Counter.builder("aussie.traffic.bytes")
-                .description("Traffic volume in bytes")
-                .tags(tags)
-                .tag("direction", "inbound")
-                .register(registry)
-                .increment(requestBytes);
-
-        Counter.builder("aussie.traffic.bytes")
-                .description("Traffic volume in bytes")
-                .tags(tags)
-                .tag("direction", "outbound")
-                .register(registry)
-                .increment(responseBytes);
+        final var traffic = meters(serviceId).traffic(nullSafe(teamId));
+        traffic[0].increment(requestBytes);
+        traffic[1].increment(responseBytes);
     }
 
     // -------------------------------------------------------------------------
@@ -205,12 +215,7 @@ public class GatewayMetrics implements Metrics {
             return;
         }
 
-        Counter.builder("aussie.errors.total")
-                .description("Total number of errors")
-                .tag("service_id", nullSafe(serviceId))
-                .tag("error_type", errorType)
-                .register(registry)
-                .increment();
+        meters(serviceId).error(errorType).increment();
     }
 
     // -------------------------------------------------------------------------
@@ -248,11 +253,14 @@ public class GatewayMetrics implements Metrics {
             return;
         }
 
-        Counter.builder("aussie.auth.success.total")
-                .description("Successful authentications")
-                .tag("method", method)
-                .register(registry)
-                .increment();
+        var counter = authSuccessCounters.get(method);
+        if (counter == null) {
+            counter = authSuccessCounters.computeIfAbsent(method, m -> Counter.builder("aussie.auth.success.total")
+                    .description("Successful authentications")
+                    .tag("method", m)
+                    .register(registry));
+        }
+        counter.increment();
     }
 
     /**
@@ -267,12 +275,7 @@ public class GatewayMetrics implements Metrics {
             return;
         }
 
-        Counter.builder("aussie.access.denied.total")
-                .description("Access denied events")
-                .tag("service_id", nullSafe(serviceId))
-                .tag("reason", reason)
-                .register(registry)
-                .increment();
+        meters(serviceId).accessDenied(reason).increment();
     }
 
     // -------------------------------------------------------------------------
@@ -347,11 +350,7 @@ public class GatewayMetrics implements Metrics {
             return;
         }
 
-        Counter.builder("aussie.websocket.connections.total")
-                .description("Total WebSocket connections established")
-                .tag("service_id", nullSafe(serviceId))
-                .register(registry)
-                .increment();
+        meters(serviceId).webSocketConnect().increment();
     }
 
     /**
@@ -366,12 +365,35 @@ public class GatewayMetrics implements Metrics {
             return;
         }
 
-        Timer.builder("aussie.websocket.duration")
-                .description("WebSocket connection duration")
-                .tag("service_id", nullSafe(serviceId))
-                .publishPercentiles(0.5, 0.9, 0.99)
-                .register(registry)
-                .record(durationMs, TimeUnit.MILLISECONDS);
+        meters(serviceId).webSocketDuration().record(durationMs, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Register gauges for bytes buffered by WebSocket relays.
+     *
+     * <p>Values are computed on scrape, so callers pass the object that owns the
+     * sessions rather than pushing per-session values.
+     *
+     * @param source object owning the active WebSocket sessions
+     * @param totalBytes bytes pending write across all sessions
+     * @param maxSessionBytes bytes pending write in the most backed-up session
+     * @param <T> the source type
+     */
+    public <T> void registerWebSocketBufferGauges(
+            T source, ToDoubleFunction<T> totalBytes, ToDoubleFunction<T> maxSessionBytes) {
+        if (!enabled) {
+            return;
+        }
+
+        Gauge.builder("aussie.websockets.buffered.bytes", source, totalBytes)
+                .description("Bytes written to WebSocket connections but not yet flushed")
+                .baseUnit("bytes")
+                .register(registry);
+
+        Gauge.builder("aussie.websockets.buffered.bytes.max", source, maxSessionBytes)
+                .description("Bytes pending write in the most backed-up WebSocket session")
+                .baseUnit("bytes")
+                .register(registry);
     }
 
     /**
@@ -383,10 +405,14 @@ public class GatewayMetrics implements Metrics {
             return;
         }
 
-        Counter.builder("aussie.websocket.limit.reached")
-                .description("WebSocket connection limit reached events")
-                .register(registry)
-                .increment();
+        var counter = webSocketLimitReachedCounter;
+        if (counter == null) {
+            counter = Counter.builder("aussie.websocket.limit.reached")
+                    .description("WebSocket connection limit reached events")
+                    .register(registry);
+            webSocketLimitReachedCounter = counter;
+        }
+        counter.increment();
     }
 
     // -------------------------------------------------------------------------
@@ -406,12 +432,7 @@ public class GatewayMetrics implements Metrics {
             return;
         }
 
-        Counter.builder("aussie.ratelimit.checks.total")
-                .description("Total rate limit checks")
-                .tag("service_id", nullSafe(serviceId))
-                .tag("allowed", String.valueOf(allowed))
-                .register(registry)
-                .increment();
+        meters(serviceId).rateLimitCheck(allowed).increment();
     }
 
     /**
@@ -426,42 +447,72 @@ public class GatewayMetrics implements Metrics {
             return;
         }
 
-        Counter.builder("aussie.ratelimit.exceeded.total")
-                .description("Rate limit exceeded events")
-                .tag("service_id", nullSafe(serviceId))
-                .tag("limit_type", limitType)
-                .register(registry)
-                .increment();
+        meters(serviceId).rateLimitExceeded(limitType).increment();
     }
 
     // -------------------------------------------------------------------------
     // Helper Methods
     // -------------------------------------------------------------------------
 
-    private String getResultType(GatewayResult result) {
-        return switch (result) {
-            case GatewayResult.Success s -> "success";
-            case GatewayResult.RouteNotFound r -> "route_not_found";
-            case GatewayResult.ServiceNotFound s -> "service_not_found";
-            case GatewayResult.ReservedPath r -> "reserved_path";
-            case GatewayResult.Error e -> "error";
-            case GatewayResult.Unauthorized u -> "unauthorized";
-            case GatewayResult.Forbidden f -> "forbidden";
-            case GatewayResult.BadRequest b -> "bad_request";
+    private ServiceMeters meters(String serviceId) {
+        final var key = nullSafe(serviceId);
+        final var meters = serviceMeters.get(key);
+        return meters != null ? meters : serviceMeters.computeIfAbsent(key, ServiceMeters::new);
+    }
+
+    private static int methodIndex(String method) {
+        return switch (method) {
+            case "GET" -> 0;
+            case "HEAD" -> 1;
+            case "POST" -> 2;
+            case "PUT" -> 3;
+            case "DELETE" -> 4;
+            case "OPTIONS" -> 5;
+            case "PATCH" -> 6;
+            case "TRACE" -> 7;
+            case "CONNECT" -> 8;
+            default -> -1;
         };
     }
 
-    private String statusClass(int statusCode) {
-        return switch (statusCode / 100) {
-            case 1 -> "1xx";
-            case 2 -> "2xx";
-            case 3 -> "3xx";
-            case 4 -> "4xx";
-            case 5 -> "5xx";
-            default -> "unknown";
+    private static int statusClassIndex(int statusCode) {
+        final int statusClass = statusCode / 100;
+        return statusClass >= 1 && statusClass <= 5 ? statusClass - 1 : STATUS_CLASSES.length - 1;
+    }
+
+    static int resultTypeIndex(GatewayResult result) {
+        return switch (result) {
+            case GatewayResult.Success s -> 0;
+            case GatewayResult.RouteNotFound r -> 1;
+            case GatewayResult.ServiceNotFound s -> 2;
+            case GatewayResult.ReservedPath r -> 3;
+            case GatewayResult.Error e -> ERROR_RESULT_TYPE;
+            case GatewayResult.Unauthorized u -> 5;
+            case GatewayResult.Forbidden f -> 6;
+            case GatewayResult.BadRequest b -> 7;
         };
     }
 
+    private Counter requestCounter(String serviceId, String method, int statusCode) {
+        return Counter.builder("aussie.requests.total")
+                .description("Total number of requests processed")
+                .tag("service_id", serviceId)
+                .tag("method", method)
+                .tag("status", String.valueOf(statusCode))
+                .tag("status_class", STATUS_CLASSES[statusClassIndex(statusCode)])
+                .register(registry);
+    }
+
+    private Timer latencyTimer(String serviceId, String method, int statusClassIndex) {
+        return Timer.builder("aussie.proxy.latency")
+                .description("Time to receive response from upstream service")
+                .tag("service_id", serviceId)
+                .tag("method", method)
+                .tag("status_class", STATUS_CLASSES[statusClassIndex])
+                .publishPercentiles(0.5, 0.9, 0.95, 0.99)
+                .register(registry);
+    }
+
     private String nullSafe(String value) {
         return value != null ? value : "unknown";
     }
@@ -491,12 +542,7 @@ public class GatewayMetrics implements Metrics {
             return;
         }
 
-        Counter.builder("aussie.proxy.timeouts.total")
-                .description("HTTP proxy timeout events")
-                .tag("service_id", nullSafe(serviceId))
-                .tag("timeout_type", timeoutType)
-                .register(registry)
-                .increment();
+        meters(serviceId).proxyTimeout(timeoutType).increment();
     }
 
     /**
@@ -511,12 +557,7 @@ public class GatewayMetrics implements Metrics {
             return;
         }
 
-        Counter.builder("aussie.proxy.connection.failures.total")
-                .description("HTTP proxy connection failure events (non-timeout)")
-                .tag("service_id", nullSafe(serviceId))
-                .tag("error_type", errorType)
-                .register(registry)
-                .increment();
+        meters(serviceId).proxyConnectionFailure(errorType).increment();
     }
 
     /**
@@ -596,4 +637,176 @@ public class GatewayMetrics implements Metrics {
                 .register(registry)
                 .increment();
     }
+
+    /**
+     * Meter handles for one service, registered on first use.
+     *
+     * <p>Registration is idempotent, so two threads racing to fill a slot register
+     * the same meter and either handle may be kept.
+     */
+    private final class ServiceMeters {
+
+        private final String serviceId;
+        private final AtomicReferenceArray<AtomicReferenceArray<Counter>> requests =
+                new AtomicReferenceArray<>(METHODS.length);
+        private final AtomicReferenceArray<Timer> latency =
+                new AtomicReferenceArray<>(METHODS.length * STATUS_CLASSES.length);
+        private final AtomicReferenceArray<Counter> results = new AtomicReferenceArray<>(RESULT_TYPES.length);
+        private final AtomicReferenceArray<Counter> rateLimitChecks = new AtomicReferenceArray<>(2);
+        private final ConcurrentMap<String, Counter[]> traffic = new ConcurrentHashMap<>();
+        private final ConcurrentMap<String, Counter> errors = new ConcurrentHashMap<>();
+        private final ConcurrentMap<String, Counter> accessDenied = new ConcurrentHashMap<>();
+        private final ConcurrentMap<String, Counter> rateLimitExceeded = new ConcurrentHashMap<>();
+        private final ConcurrentMap<String, Counter> proxyTimeouts = new ConcurrentHashMap<>();
+        private final ConcurrentMap<String, Counter> proxyConnectionFailures = new ConcurrentHashMap<>();
+        private volatile Counter webSocketConnects;
+        private volatile Timer webSocketDuration;
+
+        private ServiceMeters(String serviceId) {
+            this.serviceId = serviceId;
+        }
+
+        Counter request(int methodIndex, int statusCode) {
+            var byStatus = requests.get(methodIndex);
+            if (byStatus == null) {
+                requests.compareAndSet(methodIndex, null, new AtomicReferenceArray<>(MAX_STATUS - MIN_STATUS + 1));
+                byStatus = requests.get(methodIndex);
+            }
+            var counter = byStatus.get(statusCode - MIN_STATUS);
+            if (counter == null) {
+                counter = requestCounter(serviceId, METHODS[methodIndex], statusCode);
+                byStatus.set(statusCode - MIN_STATUS, counter);
+            }
+            return counter;
+        }
+
+        Timer latency(int methodIndex, int statusClassIndex) {
+            final int slot = methodIndex * STATUS_CLASSES.length + statusClassIndex;
+            var timer = latency.get(slot);
+            if (timer == null) {
+                timer = latencyTimer(serviceId, METHODS[methodIndex], statusClassIndex);
+                latency.set(slot, timer);
+            }
+            return timer;
+        }
+
+        Counter result(int resultTypeIndex) {
+            var counter = results.get(resultTypeIndex);
+            if (counter == null) {
+                counter = Counter.builder("aussie.gateway.results")
+                        .description("Gateway result types")
+                        .tag("service_id", serviceId)
+                        .tag("result_type", RESULT_TYPES[resultTypeIndex])
+                        .register(registry);
+                results.set(resultTypeIndex, counter);
+            }
+            return counter;
+        }
+
+        Counter rateLimitCheck(boolean allowed) {
+            final int slot = allowed ? 1 : 0;
+            var counter = rateLimitChecks.get(slot);
+            if (counter == null) {
+                counter = Counter.builder("aussie.ratelimit.checks.total")
+                        .description("Total rate limit checks")
+                        .tag("service_id", serviceId)
+                        .tag("allowed", String.valueOf(allowed))
+                        .register(registry);
+                rateLimitChecks.set(slot, counter);
+            }
+            return counter;
+        }
+
+        Counter[] traffic(String teamId) {
+            final var counters = traffic.get(teamId);
+            if (counters != null) {
+                return counters;
+            }
+            return traffic.computeIfAbsent(teamId, team -> new Counter[] {
+                trafficCounter(team, "inbound"), trafficCounter(team, "outbound")
+            });
+        }
+
+        private Counter trafficCounter(String teamId, String direction) {
+            return Counter.builder("aussie.traffic.bytes")
+                    .description("Traffic volume in bytes")
+                    .tag("service_id", serviceId)
+                    .tag("team_id", teamId)
+                    .tag("direction", direction)
+                    .register(registry);
+        }
+
+        Counter error(String errorType) {
+            return tagged(errors, errorType, "aussie.errors.total", "Total number of errors", "error_type");
+        }
+
+        Counter accessDenied(String reason) {
+            return tagged(accessDenied, reason, "aussie.access.denied.total", "Access denied events", "reason");
+        }
+
+        Counter rateLimitExceeded(String limitType) {
+            return tagged(
+                    rateLimitExceeded,
+                    limitType,
+                    "aussie.ratelimit.exceeded.total",
+                    "Rate limit exceeded events",
+                    "limit_type");
+        }
+
+        Counter proxyTimeout(String timeoutType) {
+            return tagged(
+                    proxyTimeouts,
+                    timeoutType,
+                    "aussie.proxy.timeouts.total",
+                    "HTTP proxy timeout events",
+                    "timeout_type");
+        }
+
+        Counter proxyConnectionFailure(String errorType) {
+            return tagged(
+                    proxyConnectionFailures,
+                    errorType,
+                    "aussie.proxy.connection.failures.total",
+                    "HTTP proxy connection failure events (non-timeout)",
+                    "error_type");
+        }
+
+        Counter webSocketConnect() {
+            var counter = webSocketConnects;
+            if (counter == null) {
+                counter = Counter.builder("aussie.websocket.connections.total")
+                        .description("Total WebSocket connections established")
+                        .tag("service_id", serviceId)
+                        .register(registry);
+                webSocketConnects = counter;
+            }
+            return counter;
+        }
+
+        Timer webSocketDuration() {
+            var timer = webSocketDuration;
+            if (timer == null) {
+                timer = Timer.builder("aussie.websocket.duration")
+                        .description("WebSocket connection duration")
+                        .tag("service_id", serviceId)
+                        .publishPercentiles(0.5, 0.9, 0.99)
+                        .register(registry);
+                webSocketDuration = timer;
+            }
+            return timer;
+        }
+
+        private Counter tagged(
+                ConcurrentMap<String, Counter> counters, String value, String name, String description, String tag) {
+            final var counter = counters.get(value);
+            if (counter != null) {
+                return counter;
+            }
+            return counters.computeIfAbsent(value, v -> Counter.builder(name)
+                    .description(description)
+                    .tag("service_id", serviceId)
+                    .tag(tag, v)
+                    .register(registry));
+        }
+    }
 }
@@ -0,0 +1,130 @@
+package aussie.adapter.out.telemetry;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Fixed-size table of the keys with the highest counts in the current window.
+ *
+ * <p>Fed with the estimates from a {@link WindowedCountMinSketch}. Once the table
+ * is full, a key only gets in by beating the smallest count held. That minimum
+ * is published, so most updates return without taking the lock.
+ */
+final class HeavyHitters {
+
+    private final int[] keys;
+    private final long[] counts;
+    private int size;
+    private volatile long window = Long.MIN_VALUE;
+    private volatile long floor;
+
+    /**
+     * Create a heavy-hitters table.
+     *
+     * @param capacity number of keys to keep
+     */
+    HeavyHitters(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Capacity must be positive");
+        }
+        this.keys = new int[capacity];
+        this.counts = new long[capacity];
+    }
+
+    /**
+     * Offer a key's latest count.
+     *
+     * @param key         the key's hash
+     * @param count       the key's estimated count in the window
+     * @param countWindow the window the count belongs to
+     */
+    void offer(int key, long count, long countWindow) {
+        if (count <= floor && countWindow == window) {
+            return;
+        }
+        synchronized (this) {
+            if (countWindow != window) {
+                if (countWindow < window) {
+                    return;
+                }
+                window = countWindow;
+                size = 0;
+            }
+
+            int min = -1;
+            for (int i = 0; i < size; i++) {
+                if (keys[i] == key) {
+                    counts[i] = Math.max(counts[i], count);
+                    updateFloor();
+                    return;
+                }
+                if (min < 0 || counts[i] < counts[min]) {
+                    min = i;
+                }
+            }
+
+            if (size < keys.length) {
+                keys[size] = key;
+                counts[size] = count;
+                size++;
+            } else if (count > counts[min]) {
+                keys[min] = key;
+                counts[min] = count;
+            }
+            updateFloor();
+        }
+    }
+
+    /**
+     * Remove a key from the table.
+     *
+     * @param key the key's hash
+     */
+    synchronized void remove(int key) {
+        for (int i = 0; i < size; i++) {
+            if (keys[i] == key) {
+                size--;
+                keys[i] = keys[size];
+                counts[i] = counts[size];
+                updateFloor();
+                return;
+            }
+        }
+    }
+
+    /**
+     * Get the tracked keys for a window, highest count first.
+     *
+     * @param currentWindow the window to report
+     * @return key hash to estimated count, empty if the table holds an older window
+     */
+    synchronized Map<Integer, Long> snapshot(long currentWindow) {
+        var result = new LinkedHashMap<Integer, Long>();
+        if (currentWindow != window) {
+            return result;
+        }
+        var order = new Integer[size];
+        for (int i = 0; i < size; i++) {
+            order[i] = i;
+        }
+        Arrays.sort(order, (a, b) -> Long.compare(counts[b], counts[a]));
+        for (var i : order) {
+            result.put(keys[i], counts[i]);
+        }
+        return result;
+    }
+
+    private void updateFloor() {
+        // Everything gets in until the table is full
+        if (size < keys.length) {
+            floor = 0;
+            return;
+        }
+        long min = Long.MAX_VALUE;
+        for (int i = 0; i < size; i++) {
+            min = Math.min(min, counts[i]);
+        }
+        floor = min;
+    }
+}
@@ -37,7 +37,15 @@ public class LoggingSecurityEventHandler implements SecurityEventHandler {
 
     @Override
     public void handle(SecurityEvent event) {
-        var message = formatEvent(event);
+        log(event, formatEvent(event));
+    }
+
+    @Override
+    public void handleRepeated(SecurityEvent event, int occurrences) {
+        log(event, formatEvent(event) + " (x" + occurrences + ")");
+    }
+
+    private void log(SecurityEvent event, String message) {
         var severity = event.severity();
 
         switch (severity) {
@@ -65,51 +65,60 @@ public class MetricsSecurityEventHandler implements SecurityEventHandler {
 
     @Override
     public void handle(SecurityEvent event) {
+        record(event, 1);
+    }
+
+    @Override
+    public void handleRepeated(SecurityEvent event, int occurrences) {
+        record(event, occurrences);
+    }
+
+    private void record(SecurityEvent event, double amount) {
         if (registry == null) {
             return;
         }
 
         // Record generic event counter
-        recordEventCounter(event);
+        recordEventCounter(event, amount);
 
         // Record type-specific metrics
         switch (event) {
-            case SecurityEvent.AuthenticationFailure e -> recordAuthFailure(e);
-            case SecurityEvent.AuthenticationLockout e -> recordAuthLockout(e);
-            case SecurityEvent.AccessDenied e -> recordAccessDenied(e);
-            case SecurityEvent.RateLimitExceeded e -> recordRateLimitExceeded(e);
-            case SecurityEvent.SuspiciousPattern e -> recordSuspiciousPattern(e);
-            case SecurityEvent.DosAttackDetected e -> recordDosAttack(e);
-            case SecurityEvent.SessionInvalidated e -> recordSessionInvalidated(e);
+            case SecurityEvent.AuthenticationFailure e -> recordAuthFailure(e, amount);
+            case SecurityEvent.AuthenticationLockout e -> recordAuthLockout(e, amount);
+            case SecurityEvent.AccessDenied e -> recordAccessDenied(e, amount);
+            case SecurityEvent.RateLimitExceeded e -> recordRateLimitExceeded(e, amount);
+            case SecurityEvent.SuspiciousPattern e -> recordSuspiciousPattern(e, amount);
+            case SecurityEvent.DosAttackDetected e -> recordDosAttack(e, amount);
+            case SecurityEvent.SessionInvalidated e -> recordSessionInvalidated(e, amount);
         }
     }
 
-    private void recordEventCounter(SecurityEvent event) {
+    private void recordEventCounter(SecurityEvent event, double amount) {
         Counter.builder("aussie.security.events.total")
                 .description("Total security events")
                 .tag("event_type", event.getClass().getSimpleName())
                 .tag("severity", event.severity().name().toLowerCase())
                 .register(registry)
-                .increment();
+                .increment(amount);
     }
 
-    private void recordAuthFailure(SecurityEvent.AuthenticationFailure event) {
+    private void recordAuthFailure(SecurityEvent.AuthenticationFailure event, double amount) {
         Counter.builder("aussie.security.auth.failures")
                 .description("Authentication failures")
                 .tag("reason", event.reason())
                 .tag("method", event.attemptedMethod())
                 .tag("client_ip_hash", event.clientIdentifier())
                 .register(registry)
-                .increment();
+                .increment(amount);
     }
 
-    private void recordAuthLockout(SecurityEvent.AuthenticationLockout event) {
+    private void recordAuthLockout(SecurityEvent.AuthenticationLockout event, double amount) {
         Counter.builder("aussie.security.auth.lockouts")
                 .description("Authentication lockouts (brute force protection)")
                 .tag("key_type", extractKeyType(event.lockedKey()))
                 .tag("client_ip_hash", event.clientIdentifier())
                 .register(registry)
-                .increment();
+                .increment(amount);
     }
 
     private String extractKeyType(String lockedKey) {
@@ -120,48 +129,48 @@ public class MetricsSecurityEventHandler implements SecurityEventHandler {
         return colonIndex > 0 ? lockedKey.substring(0, colonIndex) : "unknown";
     }
 
-    private void recordAccessDenied(SecurityEvent.AccessDenied event) {
+    private void recordAccessDenied(SecurityEvent.AccessDenied event, double amount) {
         Counter.builder("aussie.security.access.denied")
                 .description("Access denied events")
                 .tag("service_id", nullSafe(event.serviceId()))
                 .tag("reason", event.reason())
                 .register(registry)
-                .increment();
+                .increment(amount);
     }
 
-    private void recordRateLimitExceeded(SecurityEvent.RateLimitExceeded event) {
+    private void recordRateLimitExceeded(SecurityEvent.RateLimitExceeded event, double amount) {
         Counter.builder("aussie.security.rate_limit.exceeded")
                 .description("Rate limit violations")
                 .tag("service_id", nullSafe(event.serviceId()))
                 .tag("client_ip_hash", event.clientIdentifier())
                 .register(registry)
-                .increment();
+                .increment(amount);
     }
 
-    private void recordSuspiciousPattern(SecurityEvent.SuspiciousPattern event) {
+    private void recordSuspiciousPattern(SecurityEvent.SuspiciousPattern event, double amount) {
         Counter.builder("aussie.security.suspicious.patterns")
                 .description("Suspicious traffic patterns detected")
                 .tag("pattern_type", event.patternType())
                 .tag("client_ip_hash", event.clientIdentifier())
                 .register(registry)
-                .increment();
+                .increment(amount);
     }
 
-    private void recordDosAttack(SecurityEvent.DosAttackDetected event) {
+    private void recordDosAttack(SecurityEvent.DosAttackDetected event, double amount) {
         Counter.builder("aussie.security.dos.detected")
                 .description("DoS attacks detected")
                 .tag("attack_type", event.attackType())
                 .tag("client_ip_hash", event.clientIdentifier())
                 .register(registry)
-                .increment();
+                .increment(amount);
     }
 
-    private void recordSessionInvalidated(SecurityEvent.SessionInvalidated event) {
+    private void recordSessionInvalidated(SecurityEvent.SessionInvalidated event, double amount) {
         Counter.builder("aussie.security.session.invalidated")
                 .description("Session invalidations")
                 .tag("reason", event.reason())
                 .register(registry)
-                .increment();
+                .increment(amount);
     }
 
     private String nullSafe(String value) {
@@ -0,0 +1,173 @@
+package aussie.adapter.out.telemetry;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.Consumer;
+
+/**
+ * Bounded lock-free ring of completed-request samples.
+ *
+ * <p>Many producers, one consumer. Slots are preallocated and reused, so offering
+ * a sample allocates nothing. Each slot carries a sequence number: a producer
+ * claims the next position with a single CAS, fills the slot and then publishes it
+ * by advancing the slot's sequence; the consumer only reads slots whose sequence
+ * says they are published. When the ring is full the sample is rejected rather
+ * than waiting for the consumer.
+ *
+ * <p>{@link #drain} must only be called from one thread at a time.
+ */
+final class RequestMetricsRingBuffer {
+
+    private final Sample[] samples;
+    private final AtomicLongArray sequences;
+    private final int mask;
+    private final AtomicLong tail = new AtomicLong();
+    private volatile long head;
+
+    /**
+     * Create a ring buffer.
+     *
+     * @param capacity number of slots, rounded up to a power of two
+     */
+    RequestMetricsRingBuffer(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Capacity must be positive");
+        }
+        var size = Integer.highestOneBit(capacity);
+        if (size < capacity) {
+            size <<= 1;
+        }
+        this.mask = size - 1;
+        this.samples = new Sample[size];
+        this.sequences = new AtomicLongArray(size);
+        for (int i = 0; i < size; i++) {
+            samples[i] = new Sample();
+            sequences.set(i, i);
+        }
+    }
+
+    /**
+     * Get the number of slots.
+     *
+     * @return ring capacity
+     */
+    int capacity() {
+        return samples.length;
+    }
+
+    /**
+     * Get the number of samples waiting for the consumer.
+     *
+     * @return approximate pending sample count
+     */
+    int size() {
+        return (int) Math.max(0, tail.get() - head);
+    }
+
+    /**
+     * Offer a sample.
+     *
+     * @return false if the ring was full and the sample was dropped
+     */
+    boolean offer(
+            String serviceId,
+            String method,
+            int statusCode,
+            int resultType,
+            long durationMs,
+            long requestBytes,
+            long responseBytes,
+            String teamId,
+            String tenantId,
+            String clientApp) {
+        long position;
+        int index;
+        while (true) {
+            position = tail.get();
+            index = (int) (position & mask);
+            final long delta = sequences.get(index) - position;
+            if (delta == 0) {
+                if (tail.compareAndSet(position, position + 1)) {
+                    break;
+                }
+            } else if (delta < 0) {
+                // The consumer has not released this slot from the previous lap
+                return false;
+            }
+            // Otherwise another producer claimed this position first; retry with the new tail
+        }
+
+        final var sample = samples[index];
+        sample.serviceId = serviceId;
+        sample.method = method;
+        sample.statusCode = statusCode;
+        sample.resultType = resultType;
+        sample.durationMs = durationMs;
+        sample.requestBytes = requestBytes;
+        sample.responseBytes = responseBytes;
+        sample.teamId = teamId;
+        sample.tenantId = tenantId;
+        sample.clientApp = clientApp;
+        sequences.set(index, position + 1);
+        return true;
+    }
+
+    /**
+     * Hand published samples to the consumer in order.
+     *
+     * <p>The sample is only valid for the duration of the callback; its slot is
+     * released for reuse as soon as the callback returns.
+     *
+     * @param consumer receives each sample
+     * @param max      maximum number of samples to drain
+     * @return number of samples drained
+     */
+    int drain(Consumer<Sample> consumer, int max) {
+        long position = head;
+        int drained = 0;
+        try {
+            while (drained < max) {
+                final int index = (int) (position & mask);
+                if (sequences.get(index) != position + 1) {
+                    break;
+                }
+                final var sample = samples[index];
+                try {
+                    consumer.accept(sample);
+                } finally {
+                    sample.clear();
+                    sequences.set(index, position + samples.length);
+                    position++;
+                    drained++;
+                }
+            }
+        } finally {
+            head = position;
+        }
+        return drained;
+    }
+
+    /**
+     * A reusable slot holding one completed request.
+     */
+    static final class Sample {
+        String serviceId;
+        String method;
+        int statusCode;
+        int resultType;
+        long durationMs;
+        long requestBytes;
+        long responseBytes;
+        String teamId;
+        String tenantId;
+        String clientApp;
+
+        private void clear() {
+            serviceId = null;
+            method = null;
+            teamId = null;
+            tenantId = null;
+            clientApp = null;
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package aussie.adapter.out.telemetry;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.jboss.logging.Logger;
+
+import aussie.core.service.auth.RevocationBloomFilter;
+
+/**
+ * Exposes revocation bloom filter health as gauges.
+ *
+ * <p>Metrics exposed (tagged {@code filter=jti|user}):
+ * <ul>
+ *   <li>{@code aussie.revocation.bloom.fill.ratio} - Fraction of bits set in the fullest live generation</li>
+ *   <li>{@code aussie.revocation.bloom.fpp} - Estimated false positive probability across live generations</li>
+ * </ul>
+ *
+ * <p>Every false positive costs a remote revocation lookup, so a rising FPP is an
+ * early signal that {@code expected-insertions} is undersized.
+ */
+@ApplicationScoped
+public class RevocationFilterMetrics implements MeterBinder {
+
+    private static final Logger LOG = Logger.getLogger(RevocationFilterMetrics.class);
+
+    private final TelemetryConfig telemetryConfig;
+    private final RevocationBloomFilter bloomFilter;
+    private final AtomicBoolean registered = new AtomicBoolean(false);
+
+    @Inject
+    public RevocationFilterMetrics(TelemetryConfig telemetryConfig, RevocationBloomFilter bloomFilter) {
+        this.telemetryConfig = telemetryConfig;
+        this.bloomFilter = bloomFilter;
+    }
+
+    /**
+     * Returns whether revocation filter metrics are enabled.
+     *
+     * @return true if telemetry and metrics are both enabled
+     */
+    public boolean isEnabled() {
+        return telemetryConfig.enabled() && telemetryConfig.metrics().enabled();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        if (!isEnabled()) {
+            LOG.debug("Revocation filter metrics disabled (telemetry not enabled)");
+            return;
+        }
+
+        if (!registered.compareAndSet(false, true)) {
+            LOG.debug("Revocation filter metrics already registered, skipping");
+            return;
+        }
+
+        Gauge.builder("aussie.revocation.bloom.fill.ratio", bloomFilter, RevocationBloomFilter::jtiFillRatio)
+                .description("Fraction of bits set in the fullest live revocation filter generation")
+                .tag("filter", "jti")
+                .register(registry);
+
+        Gauge.builder("aussie.revocation.bloom.fill.ratio", bloomFilter, RevocationBloomFilter::userFillRatio)
+                .description("Fraction of bits set in the fullest live revocation filter generation")
+                .tag("filter", "user")
+                .register(registry);
+
+        Gauge.builder("aussie.revocation.bloom.fpp", bloomFilter, RevocationBloomFilter::jtiExpectedFpp)
+                .description("Estimated false positive probability of the revocation filter")
+                .tag("filter", "jti")
+                .register(registry);
+
+        Gauge.builder("aussie.revocation.bloom.fpp", bloomFilter, RevocationBloomFilter::userExpectedFpp)
+                .description("Estimated false positive probability of the revocation filter")
+                .tag("filter", "user")
+                .register(registry);
+
+        LOG.info("Registered revocation bloom filter metrics");
+    }
+}
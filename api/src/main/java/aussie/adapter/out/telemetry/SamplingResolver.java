@@ -147,45 +147,18 @@ public class SamplingResolver {
      * Resolve sampling rate using service ID (blocking).
      *
      * <p>
-     * Uses a TTL-based cache for performance. Cache entries automatically
-     * expire after the configured TTL, ensuring eventual consistency when
-     * sampling configs are updated on other instances.
-     *
-     * <p>
-     * <b>Note:</b> This method blocks to await the storage lookup on cache miss.
-     * Prefer {@link #resolveByServiceIdNonBlocking} for OTel Sampler calls.
+     * Waits for {@link #resolveByServiceIdAsync} on a cache miss. The wait is
+     * bounded by the lookup timeout.
      *
      * @param serviceId the service ID
      * @return the effective sampling rate, clamped to platform bounds
+     * @deprecated Blocks the calling thread on a cache miss. Use
+     *             {@link #resolveByServiceIdAsync} or, in the OTel sampler,
+     *             {@link #resolveByServiceIdNonBlocking}.
      */
+    @Deprecated
     public EffectiveSamplingRate resolveByServiceId(String serviceId) {
-        if (serviceId == null || "unknown".equals(serviceId)) {
-            return getCachedPlatformDefault();
-        }
-
-        // Check local in-memory cache first
-        final var cachedConfig = localCache.get(serviceId);
-        if (cachedConfig.isPresent()) {
-            return resolveRate(Optional.empty(), cachedConfig.get());
-        }
-
-        // Cache miss - look up via repository (blocking)
-        try {
-            final var serviceConfigOpt = repository
-                    .findByServiceId(serviceId)
-                    .await()
-                    .atMost(config.lookup().timeout());
-
-            // Cache the result (including empty for unknown services)
-            localCache.put(serviceId, serviceConfigOpt);
-
-            return resolveRate(Optional.empty(), serviceConfigOpt);
-        } catch (Exception e) {
-            LOG.warnf(e, "Failed to resolve sampling config for service '%s', using platform default", serviceId);
-            cachePopulateFailures.increment();
-            platformDefaultFallbacks.increment();
-            return getCachedPlatformDefault();
-        }
+        return resolveByServiceIdAsync(serviceId).await().indefinitely();
     }
 
     /**
@@ -211,6 +184,9 @@ public class SamplingResolver {
         // Cache miss - look up asynchronously
         return repository
                 .findByServiceId(serviceId)
+                .ifNoItem()
+                .after(config.lookup().timeout())
+                .fail()
                 .map(serviceConfigOpt -> {
                     // Cache the result
                     localCache.put(serviceId, serviceConfigOpt);
@@ -1,28 +1,47 @@
 package aussie.adapter.out.telemetry;
 
+import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.List;
 import java.util.ServiceLoader;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import jakarta.annotation.PostConstruct;
 import jakarta.annotation.PreDestroy;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
 
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
 import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import org.jboss.logging.Logger;
 
 import aussie.spi.SecurityEvent;
+import aussie.spi.SecurityEventBatchException;
 import aussie.spi.SecurityEventHandler;
 
 /**
  * Dispatches security events to registered handlers.
  *
- * <p>Handlers are discovered via {@link ServiceLoader} and invoked in priority order
- * (highest priority first). Events are dispatched asynchronously to avoid blocking
- * request processing.
+ * <p>Handlers are discovered via {@link ServiceLoader}. Each handler has its own
+ * bounded {@link SecurityEventQueue} and delivery thread, so dispatching never
+ * blocks request processing, memory stays bounded during an event flood, and a
+ * slow handler only delays itself. Queued events are delivered in batches of up to
+ * {@code batch-size}; when a queue is full the configured overflow policy decides
+ * which events are lost.
+ *
+ * <p>Metrics recorded per handler:
+ * <ul>
+ *   <li>{@code aussie.security.dispatch.queue.depth} - Events waiting for delivery</li>
+ *   <li>{@code aussie.security.dispatch.dropped} - Events lost to the overflow policy
+ *       ({@code reason=overflow}) or to a failing handler ({@code reason=handler_error})</li>
+ *   <li>{@code aussie.security.dispatch.coalesced} - Events folded into a queued repeat</li>
+ *   <li>{@code aussie.security.dispatch.latency} - Time spent in the handler per delivery</li>
+ * </ul>
  *
  * <p>When security monitoring is disabled, events are silently dropped.
  */
@@ -36,7 +55,7 @@ public class SecurityEventDispatcher {
     private final boolean enabled;
 
     private List<SecurityEventHandler> handlers;
-    private ExecutorService executor;
+    private List<HandlerChannel> channels = List.of();
 
     @Inject
     public SecurityEventDispatcher(TelemetryConfig config, MeterRegistry meterRegistry) {
@@ -81,18 +100,16 @@ public class SecurityEventDispatcher {
                             .toList());
         }
 
-        // Create executor for async dispatch
-        executor = Executors.newSingleThreadExecutor(r -> {
-            var thread = new Thread(r, "security-event-dispatcher");
-            thread.setDaemon(true);
-            return thread;
-        });
+        var dispatchConfig = config.security().dispatch();
+        channels = handlers.stream()
+                .map(handler -> new HandlerChannel(handler, dispatchConfig))
+                .toList();
     }
 
     @PreDestroy
     void shutdown() {
-        if (executor != null) {
-            executor.shutdown();
+        for (var channel : channels) {
+            channel.shutdown();
         }
         if (handlers != null) {
             handlers.forEach(handler -> {
@@ -117,25 +134,19 @@ public class SecurityEventDispatcher {
     /**
      * Dispatch a security event to all registered handlers.
      *
-     * <p>Events are dispatched asynchronously. If security monitoring is disabled,
-     * this method is a no-op.
+     * <p>Events are queued for each handler and delivered asynchronously. If security
+     * monitoring is disabled, this method is a no-op.
      *
      * @param event the event to dispatch
      */
     public void dispatch(SecurityEvent event) {
-        if (!enabled || handlers == null || handlers.isEmpty()) {
+        if (!enabled) {
             return;
         }
 
-        executor.submit(() -> {
-            for (var handler : handlers) {
-                try {
-                    handler.handle(event);
-                } catch (Exception e) {
-                    LOG.warnf("Handler %s failed to process event: %s", handler.name(), e.getMessage());
-                }
-            }
-        });
+        for (var channel : channels) {
+            channel.offer(event);
+        }
     }
 
     /**
@@ -146,4 +157,140 @@ public class SecurityEventDispatcher {
     public List<SecurityEventHandler> getHandlers() {
         return handlers != null ? handlers : List.of();
     }
+
+    /**
+     * One handler's queue, delivery thread and metrics.
+     */
+    private final class HandlerChannel {
+
+        private final SecurityEventHandler handler;
+        private final SecurityEventQueue queue;
+        private final int batchSize;
+        private final ExecutorService executor;
+        private final AtomicBoolean draining = new AtomicBoolean();
+        private final Counter dropped;
+        private final Counter failed;
+        private final Counter coalesced;
+        private final Timer latency;
+
+        HandlerChannel(SecurityEventHandler handler, TelemetryConfig.SecurityConfig.DispatchConfig config) {
+            this.handler = handler;
+            this.queue = new SecurityEventQueue(
+                    config.queueCapacity(), config.overflowPolicy(), config.sampleInterval());
+            this.batchSize = Math.max(1, config.batchSize());
+            this.executor = Executors.newSingleThreadExecutor(r -> {
+                var thread = new Thread(r, "security-event-" + handler.name());
+                thread.setDaemon(true);
+                return thread;
+            });
+
+            Gauge.builder("aussie.security.dispatch.queue.depth", queue, SecurityEventQueue::size)
+                    .description("Security events waiting for delivery to a handler")
+                    .tag("handler", handler.name())
+                    .register(meterRegistry);
+            this.dropped = droppedCounter(config, "overflow");
+            this.failed = droppedCounter(config, "handler_error");
+            this.coalesced = Counter.builder("aussie.security.dispatch.coalesced")
+                    .description("Security events folded into an already queued repeat")
+                    .tag("handler", handler.name())
+                    .register(meterRegistry);
+            this.latency = Timer.builder("aussie.security.dispatch.latency")
+                    .description("Time a handler spends processing one delivery")
+                    .tag("handler", handler.name())
+                    .register(meterRegistry);
+        }
+
+        private Counter droppedCounter(TelemetryConfig.SecurityConfig.DispatchConfig config, String reason) {
+            return Counter.builder("aussie.security.dispatch.dropped")
+                    .description("Security events dropped because a handler queue was full or the handler failed")
+                    .tag("handler", handler.name())
+                    .tag("policy", config.overflowPolicy().name().toLowerCase())
+                    .tag("reason", reason)
+                    .register(meterRegistry);
+        }
+
+        void offer(SecurityEvent event) {
+            switch (queue.offer(event)) {
+                case QUEUED -> {}
+                case QUEUED_DROPPED_OLDEST, DROPPED -> dropped.increment();
+                case COALESCED -> coalesced.increment();
+            }
+            scheduleDrain();
+        }
+
+        private void scheduleDrain() {
+            // At most one drain task is ever pending, so the executor's own queue stays bounded
+            if (draining.compareAndSet(false, true)) {
+                try {
+                    executor.execute(this::drain);
+                } catch (RuntimeException e) {
+                    // Rejected during shutdown; the queued events are abandoned with the handler
+                    draining.set(false);
+                }
+            }
+        }
+
+        private void drain() {
+            var batch = new ArrayList<SecurityEventQueue.Entry>(batchSize);
+            try {
+                while (queue.drainTo(batch, batchSize) > 0) {
+                    deliver(batch);
+                    batch.clear();
+                }
+            } finally {
+                draining.set(false);
+            }
+            // An event offered after the last drainTo but before the flag cleared would otherwise wait
+            if (queue.size() > 0) {
+                scheduleDrain();
+            }
+        }
+
+        private void deliver(List<SecurityEventQueue.Entry> batch) {
+            var run = new ArrayList<SecurityEvent>(batch.size());
+            for (var entry : batch) {
+                if (entry.occurrences() == 1) {
+                    run.add(entry.event());
+                    continue;
+                }
+                deliverRun(run);
+                run.clear();
+                invoke(() -> handler.handleRepeated(entry.event(), entry.occurrences()), entry.occurrences());
+            }
+            deliverRun(run);
+        }
+
+        private void deliverRun(List<SecurityEvent> run) {
+            if (!run.isEmpty()) {
+                invoke(() -> handler.handleBatch(run), run.size());
+            }
+        }
+
+        private void invoke(Runnable delivery, int events) {
+            final long start = System.nanoTime();
+            try {
+                delivery.run();
+            } catch (SecurityEventBatchException e) {
+                failed.increment(e.failedCount());
+                LOG.warnf("Handler %s failed to process events: %s", handler.name(), e.getMessage());
+            } catch (Exception e) {
+                failed.increment(events);
+                LOG.warnf("Handler %s failed to process events: %s", handler.name(), e.getMessage());
+            } finally {
+                latency.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            }
+        }
+
+        void shutdown() {
+            executor.shutdown();
+            try {
+                if (!executor.awaitTermination(5, TimeUnit.SECONDS)) {
+                    executor.shutdownNow();
+                }
+            } catch (InterruptedException e) {
+                executor.shutdownNow();
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
 }
@@ -0,0 +1,162 @@
+package aussie.adapter.out.telemetry;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import aussie.adapter.out.telemetry.TelemetryConfig.SecurityConfig.DispatchConfig.OverflowPolicy;
+import aussie.spi.SecurityEvent;
+
+/**
+ * Bounded ring of security events waiting for one handler.
+ *
+ * <p>Offering never waits for the handler: the lock is only held to move a few
+ * references, and when the ring is full the overflow policy decides what is lost.
+ * <ul>
+ *   <li>{@code DROP_OLDEST} - the oldest queued event makes room for the new one</li>
+ *   <li>{@code SAMPLE} - one in {@code sampleInterval} new events replaces the
+ *       oldest; the others are dropped</li>
+ *   <li>{@code COALESCE} - an event of the same type from the same client as one
+ *       still queued is folded into it as an extra occurrence; anything else
+ *       replaces the oldest</li>
+ * </ul>
+ */
+final class SecurityEventQueue {
+
+    /**
+     * What happened to an offered event.
+     */
+    enum Outcome {
+        /** Queued without losing anything. */
+        QUEUED,
+        /** Queued, but the oldest event was dropped to make room. */
+        QUEUED_DROPPED_OLDEST,
+        /** Folded into an already queued event. */
+        COALESCED,
+        /** Not queued. */
+        DROPPED
+    }
+
+    private final Entry[] ring;
+    private final OverflowPolicy policy;
+    private final int sampleInterval;
+    private final Map<CoalesceKey, Entry> pendingByKey = new HashMap<>();
+    private int head;
+    private int size;
+    private long overflowCount;
+
+    SecurityEventQueue(int capacity, OverflowPolicy policy, int sampleInterval) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Capacity must be positive");
+        }
+        this.ring = new Entry[capacity];
+        this.policy = policy;
+        this.sampleInterval = Math.max(1, sampleInterval);
+    }
+
+    /**
+     * Get the number of queued events.
+     *
+     * @return queue depth
+     */
+    synchronized int size() {
+        return size;
+    }
+
+    /**
+     * Add an event, applying the overflow policy if the queue is full.
+     *
+     * @param event the event
+     * @return what happened to the event
+     */
+    synchronized Outcome offer(SecurityEvent event) {
+        if (size < ring.length) {
+            append(event);
+            return Outcome.QUEUED;
+        }
+
+        switch (policy) {
+            case COALESCE -> {
+                var pending = pendingByKey.get(CoalesceKey.of(event));
+                if (pending != null) {
+                    // Keep the latest details, which carry the most recent counts
+                    pending.event = event;
+                    pending.occurrences++;
+                    return Outcome.COALESCED;
+                }
+            }
+            case SAMPLE -> {
+                if (overflowCount++ % sampleInterval != 0) {
+                    return Outcome.DROPPED;
+                }
+            }
+            case DROP_OLDEST -> {}
+        }
+
+        removeOldest();
+        append(event);
+        return Outcome.QUEUED_DROPPED_OLDEST;
+    }
+
+    /**
+     * Move up to {@code max} events, oldest first, into {@code batch}.
+     *
+     * @param batch receives the drained entries
+     * @param max   maximum number of entries to drain
+     * @return number of entries drained
+     */
+    synchronized int drainTo(List<Entry> batch, int max) {
+        int drained = 0;
+        while (size > 0 && drained < max) {
+            batch.add(removeOldest());
+            drained++;
+        }
+        return drained;
+    }
+
+    private void append(SecurityEvent event) {
+        final var entry = new Entry(event);
+        ring[(head + size) % ring.length] = entry;
+        size++;
+        if (policy == OverflowPolicy.COALESCE) {
+            pendingByKey.putIfAbsent(CoalesceKey.of(event), entry);
+        }
+    }
+
+    private Entry removeOldest() {
+        final var entry = ring[head];
+        ring[head] = null;
+        head = (head + 1) % ring.length;
+        size--;
+        if (policy == OverflowPolicy.COALESCE) {
+            pendingByKey.remove(CoalesceKey.of(entry.event), entry);
+        }
+        return entry;
+    }
+
+    /**
+     * A queued event and the number of identical events it stands for.
+     */
+    static final class Entry {
+        private SecurityEvent event;
+        private int occurrences = 1;
+
+        private Entry(SecurityEvent event) {
+            this.event = event;
+        }
+
+        SecurityEvent event() {
+            return event;
+        }
+
+        int occurrences() {
+            return occurrences;
+        }
+    }
+
+    private record CoalesceKey(Class<?> type, String clientIdentifier) {
+        static CoalesceKey of(SecurityEvent event) {
+            return new CoalesceKey(event.getClass(), event.clientIdentifier());
+        }
+    }
+}
@@ -1,11 +1,9 @@
 package aussie.adapter.out.telemetry;
 
-import java.time.Duration;
 import java.time.Instant;
+import java.util.LinkedHashMap;
 import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.atomic.AtomicInteger;
-import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
 
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
@@ -22,6 +20,12 @@ import aussie.spi.SecurityEvent;
  * per client. When thresholds are exceeded, security events are generated and
  * dispatched to registered handlers.
  *
+ * <p>Per-client counts are kept in sliding-window Count-Min Sketches keyed by the
+ * IP's hash, so memory stays fixed no matter how many distinct clients are seen and
+ * counts fade out over a window instead of accumulating. Estimates can overcount
+ * slightly when clients collide, never undercount. The heaviest clients of the
+ * current window are available from {@link #topClients()}.
+ *
  * <p>Detection capabilities:
  * <ul>
  *   <li>Rate limit violations</li>
@@ -34,21 +38,42 @@ import aussie.spi.SecurityEvent;
 public class SecurityMonitor implements SecurityMonitoring {
 
     private static final Logger LOG = Logger.getLogger(SecurityMonitor.class);
+    private static final int SKETCH_DEPTH = 4;
+    private static final int SKETCH_WIDTH = 16384;
+    private static final int HEAVY_HITTER_COUNT = 16;
 
     private final TelemetryConfig config;
     private final SecurityEventDispatcher dispatcher;
     private final boolean enabled;
 
-    // Per-client request tracking
-    private final ConcurrentHashMap<String, SlidingWindowCounter> clientRequestCounts = new ConcurrentHashMap<>();
-    private final ConcurrentHashMap<String, SlidingWindowCounter> clientErrorCounts = new ConcurrentHashMap<>();
-    private final ConcurrentHashMap<String, AtomicInteger> authFailureCounts = new ConcurrentHashMap<>();
+    // Per-client counts over a sliding window, in fixed memory keyed by IP hash
+    private final WindowedCountMinSketch requestCounts;
+    private final WindowedCountMinSketch errorCounts;
+    private final WindowedCountMinSketch authFailureCounts;
+    private final HeavyHitters topClients;
 
     @Inject
     public SecurityMonitor(TelemetryConfig config, SecurityEventDispatcher dispatcher) {
+        this(config, dispatcher, System::currentTimeMillis);
+    }
+
+    SecurityMonitor(TelemetryConfig config, SecurityEventDispatcher dispatcher, LongSupplier clock) {
         this.config = config;
         this.dispatcher = dispatcher;
         this.enabled = config != null && config.enabled() && config.security().enabled();
+
+        if (enabled) {
+            var window = config.security().rateLimitWindow();
+            this.requestCounts = new WindowedCountMinSketch(SKETCH_DEPTH, SKETCH_WIDTH, window, clock);
+            this.errorCounts = new WindowedCountMinSketch(SKETCH_DEPTH, SKETCH_WIDTH, window, clock);
+            this.authFailureCounts = new WindowedCountMinSketch(SKETCH_DEPTH, SKETCH_WIDTH, window, clock);
+            this.topClients = new HeavyHitters(HEAVY_HITTER_COUNT);
+        } else {
+            this.requestCounts = null;
+            this.errorCounts = null;
+            this.authFailureCounts = null;
+            this.topClients = null;
+        }
     }
 
     /**
@@ -72,23 +97,23 @@ public class SecurityMonitor implements SecurityMonitoring {
             return;
         }
 
-        var window = config.security().rateLimitWindow();
-
-        var counter = clientRequestCounts.computeIfAbsent(hashIp(clientIp), k -> new SlidingWindowCounter(window));
-        counter.increment();
+        final int key = clientKey(clientIp);
+        final long requestCount = requestCounts.add(key);
+        topClients.offer(key, requestCount, requestCounts.currentWindow());
 
         if (isError) {
-            var errorCounter =
-                    clientErrorCounts.computeIfAbsent(hashIp(clientIp), k -> new SlidingWindowCounter(window));
-            errorCounter.increment();
+            errorCounts.add(key);
         }
 
-        checkForAnomalies(clientIp, serviceId, counter.getCount());
+        checkForAnomalies(clientIp, key, serviceId, requestCount);
     }
 
     /**
      * Record an authentication failure.
      *
+     * <p>Failures are counted over a sliding rate limit window, so a client's count
+     * fades out once a window passes without further attempts.
+     *
      * @param clientIp the client IP address
      * @param reason the failure reason
      * @param method the authentication method attempted
@@ -99,9 +124,7 @@ public class SecurityMonitor implements SecurityMonitoring {
         }
 
         var hashedIp = hashIp(clientIp);
-        var count = authFailureCounts
-                .computeIfAbsent(hashedIp, k -> new AtomicInteger(0))
-                .incrementAndGet();
+        var count = (int) Math.min(Integer.MAX_VALUE, authFailureCounts.add(clientKey(clientIp)));
 
         var event = new SecurityEvent.AuthenticationFailure(Instant.now(), hashedIp, reason, method, count);
         dispatcher.dispatch(event);
@@ -161,37 +184,59 @@ public class SecurityMonitor implements SecurityMonitoring {
      * @param clientIp the client IP address
      */
     public void resetClient(String clientIp) {
-        var hashedIp = hashIp(clientIp);
-        clientRequestCounts.remove(hashedIp);
-        clientErrorCounts.remove(hashedIp);
-        authFailureCounts.remove(hashedIp);
+        if (!enabled) {
+            return;
+        }
+
+        final int key = clientKey(clientIp);
+        requestCounts.remove(key);
+        errorCounts.remove(key);
+        authFailureCounts.remove(key);
+        topClients.remove(key);
+    }
+
+    /**
+     * Get the clients with the most requests in the current window.
+     *
+     * @return hashed client IP to estimated request count, highest first
+     */
+    public Map<String, Long> topClients() {
+        if (!enabled) {
+            return Map.of();
+        }
+
+        var result = new LinkedHashMap<String, Long>();
+        topClients
+                .snapshot(requestCounts.currentWindow())
+                .forEach((key, count) -> result.put(hashKey(key), count));
+        return result;
     }
 
-    private void checkForAnomalies(String clientIp, String serviceId, long requestCount) {
+    private void checkForAnomalies(String clientIp, int key, String serviceId, long requestCount) {
         var securityConfig = config.security();
         var threshold = securityConfig.rateLimitThreshold();
-        var hashedIp = hashIp(clientIp);
 
         // Rate limit check
         if (requestCount > threshold) {
             var event = new SecurityEvent.RateLimitExceeded(
-                    Instant.now(), hashedIp, serviceId, (int) requestCount, threshold, (int)
+                    Instant.now(), hashIp(clientIp), serviceId, (int) requestCount, threshold, (int)
                             securityConfig.rateLimitWindow().toSeconds());
             dispatcher.dispatch(event);
         }
 
         // DoS detection
         if (securityConfig.dosDetection().enabled()) {
-            detectDosPatterns(hashedIp, serviceId, requestCount, threshold);
+            detectDosPatterns(clientIp, key, serviceId, requestCount, threshold);
         }
     }
 
-    private void detectDosPatterns(String hashedIp, String serviceId, long requestCount, int threshold) {
+    private void detectDosPatterns(String clientIp, int key, String serviceId, long requestCount, int threshold) {
         var dosConfig = config.security().dosDetection();
         var spikeThreshold = dosConfig.spikeThreshold();
 
         // Sudden spike detection
         if (requestCount > threshold * spikeThreshold) {
+            var hashedIp = hashIp(clientIp);
             var event = new SecurityEvent.DosAttackDetected(
                     Instant.now(),
                     hashedIp,
@@ -213,29 +258,36 @@ public class SecurityMonitor implements SecurityMonitoring {
         }
 
         // High error rate detection
-        var errorCounter = clientErrorCounts.get(hashedIp);
-        if (errorCounter != null && requestCount > 0) {
-            double errorRate = errorCounter.getCount() / (double) requestCount;
+        var errorCount = errorCounts.estimate(key);
+        if (errorCount > 0 && requestCount > 0) {
+            double errorRate = errorCount / (double) requestCount;
             if (errorRate > dosConfig.errorRateThreshold()) {
                 var event = new SecurityEvent.SuspiciousPattern(
                         Instant.now(),
-                        hashedIp,
+                        hashIp(clientIp),
                         "high_error_rate",
                         String.format(
                                 "Error rate: %.2f (%d errors / %d requests)",
-                                errorRate, errorCounter.getCount(), requestCount),
+                                errorRate, errorCount, requestCount),
                         errorRate);
                 dispatcher.dispatch(event);
             }
         }
     }
 
+    private static int clientKey(String ip) {
+        return ip != null ? ip.hashCode() : 0;
+    }
+
+    private static String hashKey(int key) {
+        return Integer.toHexString(key);
+    }
+
     private String hashIp(String ip) {
         if (ip == null) {
             return "unknown";
         }
-        var hash = Integer.toHexString(ip.hashCode());
-        return hash.substring(0, Math.min(8, hash.length()));
+        return hashKey(ip.hashCode());
     }
 
     private String hashSessionId(String sessionId) {
@@ -245,44 +297,4 @@ public class SecurityMonitor implements SecurityMonitoring {
         var hash = Integer.toHexString(sessionId.hashCode());
         return hash.substring(0, Math.min(8, hash.length()));
     }
-
-    /**
-     * Simple sliding window counter for rate tracking.
-     */
-    static class SlidingWindowCounter {
-        private final long windowMs;
-        private final AtomicLong count = new AtomicLong(0);
-        private final AtomicLong windowStart = new AtomicLong(System.currentTimeMillis());
-
-        SlidingWindowCounter(Duration window) {
-            this.windowMs = window.toMillis();
-        }
-
-        void increment() {
-            long now = System.currentTimeMillis();
-            long start = windowStart.get();
-
-            // Reset counter if window has passed
-            if (now - start > windowMs) {
-                if (windowStart.compareAndSet(start, now)) {
-                    count.set(1);
-                } else {
-                    count.incrementAndGet();
-                }
-            } else {
-                count.incrementAndGet();
-            }
-        }
-
-        long getCount() {
-            long now = System.currentTimeMillis();
-            long start = windowStart.get();
-
-            // Return 0 if window has passed (stale data)
-            if (now - start > windowMs) {
-                return 0;
-            }
-            return count.get();
-        }
-    }
 }
@@ -85,6 +85,21 @@ public interface TelemetryConfig {
          */
         @WithDefault("false")
         boolean enabled();
+
+        /**
+         * Number of completed-request samples buffered for the background recorder.
+         * Samples arriving while the buffer is full are dropped and counted.
+         */
+        @WithName("buffer-size")
+        @WithDefault("8192")
+        int bufferSize();
+
+        /**
+         * How often buffered request samples are recorded into meters.
+         */
+        @WithName("flush-interval")
+        @WithDefault("PT0.1S")
+        Duration flushInterval();
     }
 
     /**
@@ -117,6 +132,11 @@ public interface TelemetryConfig {
          */
         DosDetectionConfig dosDetection();
 
+        /**
+         * Event dispatch configuration.
+         */
+        DispatchConfig dispatch();
+
         /**
          * DoS detection configuration.
          */
@@ -143,6 +163,54 @@ public interface TelemetryConfig {
             @WithDefault("0.5")
             double errorRateThreshold();
         }
+
+        /**
+         * Security event dispatch configuration.
+         *
+         * <p>Each handler gets its own bounded queue and delivery thread, so a slow
+         * handler can neither exhaust memory nor delay the others.
+         */
+        interface DispatchConfig {
+            /**
+             * Maximum number of events queued per handler.
+             */
+            @WithName("queue-capacity")
+            @WithDefault("1024")
+            int queueCapacity();
+
+            /**
+             * What to do with new events when a handler's queue is full.
+             */
+            @WithName("overflow-policy")
+            @WithDefault("COALESCE")
+            OverflowPolicy overflowPolicy();
+
+            /**
+             * With the SAMPLE policy, one in this many events arriving at a full queue is kept.
+             */
+            @WithName("sample-interval")
+            @WithDefault("10")
+            int sampleInterval();
+
+            /**
+             * Maximum number of events delivered to a handler in one batch.
+             */
+            @WithName("batch-size")
+            @WithDefault("64")
+            int batchSize();
+
+            /**
+             * Overflow policies for full handler queues.
+             */
+            enum OverflowPolicy {
+                /** Drop the oldest queued event to make room. */
+                DROP_OLDEST,
+                /** Keep a sample of new events, each replacing the oldest queued event. */
+                SAMPLE,
+                /** Fold repeats of a queued event into an occurrence count. */
+                COALESCE
+            }
+        }
     }
 
     /**
@@ -156,6 +156,20 @@ public class TokenTranslationMetrics implements TranslationMetrics {
                 .record(durationMs, TimeUnit.MILLISECONDS);
     }
 
+    /**
+     * Record a translation that joined an identical in-flight remote call.
+     */
+    public void recordRemoteCoalesced() {
+        if (!enabled) {
+            return;
+        }
+
+        Counter.builder("aussie.token.translation.remote.coalesced")
+                .description("Translations served by an identical in-flight remote call")
+                .register(registry)
+                .increment();
+    }
+
     /**
      * Record a config reload.
      *
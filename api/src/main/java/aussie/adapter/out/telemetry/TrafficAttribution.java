@@ -37,7 +37,7 @@ public record TrafficAttribution(
                 System.getenv("AUSSIE_ENV"));
     }
 
-    private static String getHeader(GatewayRequest request, String headerName) {
+    static String getHeader(GatewayRequest request, String headerName) {
         if (request.headers() == null) {
             return null;
         }
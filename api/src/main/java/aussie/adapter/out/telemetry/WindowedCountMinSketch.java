@@ -0,0 +1,226 @@
+package aussie.adapter.out.telemetry;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.LongSupplier;
+
+/**
+ * Fixed-size Count-Min Sketch over a sliding window.
+ *
+ * <p>Counts are kept in {@code depth} rows of {@code width} cells, with each key
+ * mapped to one cell per row. The estimate for a key is the smallest of its
+ * cells: it never undercounts, and overcounts only when other keys collide with
+ * it in every row. Memory is two tables of {@code depth * width} longs regardless
+ * of how many distinct keys are seen.
+ *
+ * <p>Updates are conservative: only the cells holding the key's current minimum
+ * are raised, and every other cell is lifted to at most the new minimum. This
+ * keeps the same never-undercount guarantee while cutting collision overcounts,
+ * since a heavy key no longer inflates cells it shares with light ones.
+ *
+ * <p>Windows are aligned to the clock and counted in two tables: the current
+ * window and the one before it. Estimates add the previous window's count
+ * weighted by how much of it still overlaps a window ending now, so a burst that
+ * straddles a boundary is not split in half, and counts fade out over one window
+ * instead of dropping to zero. The tables are rotated by the first update of a
+ * new window. Updates racing with the rotation may be attributed to either
+ * window, which is within the sketch's approximation anyway.
+ */
+final class WindowedCountMinSketch {
+
+    private final int width;
+    private final int depth;
+    private final int mask;
+    private final long windowMillis;
+    private final LongSupplier clock;
+    private volatile AtomicLongArray counts;
+    private volatile AtomicLongArray previousCounts;
+    private volatile long window;
+
+    /**
+     * Create a sketch.
+     *
+     * @param depth  number of rows (independent hash functions)
+     * @param width  cells per row, rounded up to a power of two
+     * @param window length of each counting window
+     * @param clock  source of the current time in epoch milliseconds
+     */
+    WindowedCountMinSketch(int depth, int width, Duration window, LongSupplier clock) {
+        if (depth <= 0 || width <= 0) {
+            throw new IllegalArgumentException("Depth and width must be positive");
+        }
+        var size = Integer.highestOneBit(width);
+        if (size < width) {
+            size <<= 1;
+        }
+        this.width = size;
+        this.depth = depth;
+        this.mask = size - 1;
+        this.counts = new AtomicLongArray(depth * size);
+        this.previousCounts = new AtomicLongArray(depth * size);
+        this.windowMillis = Math.max(1, window.toMillis());
+        this.clock = clock;
+        this.window = clock.getAsLong() / windowMillis;
+    }
+
+    /**
+     * Get the index of the current window.
+     *
+     * @return window index, increasing by one per window
+     */
+    long currentWindow() {
+        return clock.getAsLong() / windowMillis;
+    }
+
+    /**
+     * Count one occurrence of a key.
+     *
+     * @param key the key's hash
+     * @return estimated count for the key over the sliding window, including this one
+     */
+    long add(int key) {
+        final long now = roll();
+        final long hash = mix(key);
+        final int h1 = (int) hash;
+        final int h2 = (int) (hash >>> 32);
+        final var table = counts;
+
+        while (true) {
+            long min = Long.MAX_VALUE;
+            int minCell = -1;
+            for (int row = 0; row < depth; row++) {
+                final int cell = cell(row, h1, h2);
+                final long value = table.get(cell);
+                if (value < min) {
+                    min = value;
+                    minCell = cell;
+                }
+            }
+
+            // Lift the other cells first, then claim the increment on the minimum cell.
+            // A racing update either sees the lifted cells or loses the CAS and retries,
+            // so concurrent increments of one key are never merged into one.
+            final long target = min + 1;
+            for (int row = 0; row < depth; row++) {
+                final int cell = cell(row, h1, h2);
+                if (cell != minCell) {
+                    table.getAndAccumulate(cell, target, Math::max);
+                }
+            }
+            if (table.compareAndSet(minCell, min, target)) {
+                return target + weightedPrevious(h1, h2, now);
+            }
+        }
+    }
+
+    /**
+     * Estimate a key's count over the sliding window.
+     *
+     * @param key the key's hash
+     * @return estimated count, or 0 if nothing has been counted in the last two windows
+     */
+    long estimate(int key) {
+        final long now = roll();
+        final long hash = mix(key);
+        final int h1 = (int) hash;
+        final int h2 = (int) (hash >>> 32);
+        return min(counts, h1, h2) + weightedPrevious(h1, h2, now);
+    }
+
+    /**
+     * Remove a key's estimated count.
+     *
+     * <p>Keys sharing a cell with this one lose up to the same amount, so use this
+     * for explicit resets only.
+     *
+     * @param key the key's hash
+     */
+    void remove(int key) {
+        roll();
+        final long hash = mix(key);
+        final int h1 = (int) hash;
+        final int h2 = (int) (hash >>> 32);
+        subtract(counts, h1, h2);
+        subtract(previousCounts, h1, h2);
+    }
+
+    private void subtract(AtomicLongArray table, int h1, int h2) {
+        final long estimate = min(table, h1, h2);
+        if (estimate == 0) {
+            return;
+        }
+        for (int row = 0; row < depth; row++) {
+            table.getAndUpdate(cell(row, h1, h2), v -> Math.max(0, v - estimate));
+        }
+    }
+
+    private long weightedPrevious(int h1, int h2, long now) {
+        final long previous = min(previousCounts, h1, h2);
+        if (previous == 0) {
+            return 0;
+        }
+        // Share of the previous window that still overlaps a window ending now
+        final long remaining = windowMillis - Math.floorMod(now, windowMillis);
+        return previous * remaining / windowMillis;
+    }
+
+    private long min(AtomicLongArray table, int h1, int h2) {
+        long min = Long.MAX_VALUE;
+        for (int row = 0; row < depth; row++) {
+            min = Math.min(min, table.get(cell(row, h1, h2)));
+        }
+        return min;
+    }
+
+    private int cell(int row, int h1, int h2) {
+        // Kirsch-Mitzenmacher: derive each row's hash from two halves of one 64-bit hash
+        return row * width + ((h1 + row * h2) & mask);
+    }
+
+    /**
+     * Rotate the tables if the clock has moved into a later window.
+     *
+     * @return the current time
+     */
+    private long roll() {
+        final long now = clock.getAsLong();
+        final long current = now / windowMillis;
+        if (current == window) {
+            return now;
+        }
+        synchronized (this) {
+            if (current > window) {
+                // Reuse the table two windows old as the new current window
+                final var recycled = previousCounts;
+                clear(recycled);
+                if (current == window + 1) {
+                    previousCounts = counts;
+                } else {
+                    // Idle for a whole window or more: nothing left to weight
+                    clear(counts);
+                    previousCounts = counts;
+                }
+                counts = recycled;
+                window = current;
+            }
+        }
+        return now;
+    }
+
+    private static void clear(AtomicLongArray table) {
+        for (int i = 0; i < table.length(); i++) {
+            table.set(i, 0);
+        }
+    }
+
+    private static long mix(int key) {
+        // MurmurHash3 fmix64, so nearby String hash codes spread across the table
+        long h = key * 0x9E3779B97F4A7C15L;
+        h ^= h >>> 33;
+        h *= 0xFF51AFD7ED558CCDL;
+        h ^= h >>> 33;
+        h *= 0xC4CEB9FE1A85EC53L;
+        h ^= h >>> 33;
+        return h;
+    }
+}
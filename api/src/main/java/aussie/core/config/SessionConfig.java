@@ -58,6 +58,24 @@ public interface SessionConfig {
     @WithDefault("true")
     boolean slidingExpiration();
 
+    /**
+     * Minimum change in {@code lastAccessedAt} before a refresh is written back.
+     *
+     * <p>Requests that arrive within this window of the last recorded access reuse
+     * the stored session without a storage write. Keep this well below
+     * {@link #idleTimeout()}, since it is the most the recorded activity can lag.
+     * Set to zero to write on every request.
+     *
+     * @return Touch granularity (default: 30 seconds)
+     */
+    @WithDefault("PT30S")
+    Duration touchGranularity();
+
+    /**
+     * Local session cache configuration.
+     */
+    CacheConfig cache();
+
     /**
      * ID generation configuration.
      */
@@ -128,6 +146,49 @@ public interface SessionConfig {
         String sameSite();
     }
 
+    /**
+     * Local (per-instance) session cache configuration.
+     *
+     * <p>Caches recently read sessions to skip storage lookups on repeated requests.
+     * Entries are evicted on logout and, across instances, via pub/sub.
+     */
+    interface CacheConfig {
+
+        /**
+         * Enable the local session cache.
+         *
+         * @return true if enabled (default: true)
+         */
+        @WithDefault("true")
+        boolean enabled();
+
+        /**
+         * How long a session may be served from the local cache.
+         *
+         * <p>Bounds staleness if an invalidation message is lost.
+         *
+         * @return Cache TTL (default: 5 seconds)
+         */
+        @WithDefault("PT5S")
+        Duration ttl();
+
+        /**
+         * Maximum number of cached sessions.
+         *
+         * @return Max entries (default: 10000)
+         */
+        @WithDefault("10000")
+        long maxSize();
+
+        /**
+         * Pub/sub channel used to propagate session invalidations between instances.
+         *
+         * @return Channel name (default: aussie:session:invalidations)
+         */
+        @WithDefault("aussie:session:invalidations")
+        String invalidationChannel();
+    }
+
     /**
      * Session ID generation configuration.
      */
@@ -121,6 +121,33 @@ public interface TokenRevocationConfig {
          */
         @WithDefault("PT1H")
         Duration rebuildInterval();
+
+        /**
+         * Expiry window covered by each filter generation.
+         *
+         * <p>Revoked entries are bucketed by the expiry of the token (or user
+         * revocation) they represent. A generation is dropped once all of its
+         * entries have expired, which keeps the false positive rate flat instead
+         * of letting it climb until the next rebuild. Smaller widths free memory
+         * sooner but add one bit-array probe per live generation to each lookup.
+         *
+         * @return generation width (default: 1 hour)
+         */
+        @WithDefault("PT1H")
+        Duration generationWidth();
+
+        /**
+         * Maximum number of live generations.
+         *
+         * <p>Together with {@link #generationWidth()} this defines the retention
+         * horizon. Entries expiring beyond the horizon share the last generation,
+         * and entries with unknown expiry are retained for the full horizon. The
+         * false positive budget is split across generations.
+         *
+         * @return maximum generations (default: 24)
+         */
+        @WithDefault("24")
+        int maxGenerations();
     }
 
     /**
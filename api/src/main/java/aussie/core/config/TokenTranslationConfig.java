@@ -156,6 +156,58 @@ public interface TokenTranslationConfig {
         @WithDefault("deny")
         FailMode failMode();
 
+        /**
+         * Maximum number of pooled connections to the translation service.
+         *
+         * @return pool size (default: 20)
+         */
+        @WithDefault("20")
+        int maxPoolSize();
+
+        /**
+         * Timeout for establishing a connection to the translation service.
+         *
+         * @return connect timeout (default: 1s)
+         */
+        @WithDefault("PT1S")
+        Duration connectTimeout();
+
+        /**
+         * How long an idle pooled connection is kept open.
+         *
+         * @return keep-alive timeout (default: 60s)
+         */
+        @WithDefault("PT60S")
+        Duration keepAliveTimeout();
+
+        /**
+         * URL of the translation service's batch endpoint.
+         *
+         * <p>When set, translations are collected for up to {@link #batchWindow()} and
+         * sent together as {@code {"requests": [...]}}; the service must answer with
+         * {@code {"results": [...]}} in the same order, where an entry may carry an
+         * {@code error} field instead of roles and permissions.
+         *
+         * @return batch endpoint URL, empty to send one request per translation
+         */
+        Optional<String> batchUrl();
+
+        /**
+         * Maximum number of translations sent in one batch request.
+         *
+         * @return batch size (default: 50)
+         */
+        @WithDefault("50")
+        int batchMaxSize();
+
+        /**
+         * How long the first translation of a batch waits for others to join.
+         *
+         * @return batch window (default: 5ms)
+         */
+        @WithDefault("PT0.005S")
+        Duration batchWindow();
+
         /**
          * How to handle remote translation failures.
          */
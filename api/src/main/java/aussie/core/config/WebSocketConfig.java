@@ -40,6 +40,17 @@ public interface WebSocketConfig {
      */
     PingConfig ping();
 
+    /**
+     * Resolution of idle, lifetime and ping deadlines.
+     *
+     * <p>All sessions share one timer that fires at this interval, so a deadline may
+     * be enforced up to one tick late.
+     *
+     * @return Deadline check interval (default: 1 second)
+     */
+    @WithDefault("PT1S")
+    Duration timerTick();
+
     /**
      * Maximum concurrent WebSocket connections per instance.
      *
@@ -50,6 +61,11 @@ public interface WebSocketConfig {
     @WithDefault("10000")
     int maxConnections();
 
+    /**
+     * Backpressure configuration for frame relaying.
+     */
+    BackpressureConfig backpressure();
+
     /**
      * Ping/pong heartbeat configuration.
      */
@@ -79,4 +95,29 @@ public interface WebSocketConfig {
         @WithDefault("PT10S")
         Duration timeout();
     }
+
+    /**
+     * Backpressure watermarks, applied independently to each relay direction.
+     *
+     * <p>When bytes written to one side but not yet flushed exceed the high watermark,
+     * reading from the other side is paused until they fall to the low watermark.
+     */
+    interface BackpressureConfig {
+
+        /**
+         * Pending bytes at which the producing side is paused.
+         *
+         * @return High watermark in bytes (default: 1 MiB)
+         */
+        @WithDefault("1048576")
+        int highWatermark();
+
+        /**
+         * Pending bytes at or below which the producing side is resumed.
+         *
+         * @return Low watermark in bytes (default: 256 KiB)
+         */
+        @WithDefault("262144")
+        int lowWatermark();
+    }
 }
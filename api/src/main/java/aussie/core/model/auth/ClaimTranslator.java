@@ -16,6 +16,10 @@ import aussie.core.model.auth.TranslationConfigSchema.Operation;
  *
  * <p>Provides the core logic for extracting, transforming, and mapping claims
  * from external IdP tokens to Aussie's authorization model.
+ *
+ * <p>The methods here interpret the schema on every call. Translation itself goes
+ * through a {@link CompiledTranslationPlan}; callers that translate repeatedly with
+ * the same schema should compile it once and keep the plan.
  */
 public final class ClaimTranslator {
 
@@ -23,11 +27,11 @@ public final class ClaimTranslator {
 
     /**
      * Translates claims using the provided schema.
+     *
+     * <p>Compiles the schema for this call only.
      */
     public static TranslatedClaims translate(TranslationConfigSchema schema, Map<String, Object> claims) {
-        final var extracted = extractFromSources(schema, claims);
-        final var transformed = applyTransforms(schema, extracted);
-        return applyMappings(schema, transformed);
+        return CompiledTranslationPlan.compile(schema).translate(claims);
     }
 
     /**
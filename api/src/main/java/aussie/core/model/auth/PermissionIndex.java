@@ -0,0 +1,116 @@
+package aussie.core.model.auth;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Dense numbering of a fixed set of permission strings.
+ *
+ * <p>Every built-in {@link Permission} value and every permission passed to
+ * {@link #of} is assigned a small integer ID, so that a set of permissions can be
+ * stored as a bitset ({@link PermissionSet}) and combined with word-wide OR and AND
+ * instead of hashing strings. An index is immutable; build a new one when the set
+ * of known permissions changes.
+ */
+public final class PermissionIndex {
+
+    private final Map<String, Integer> ids;
+    private final String[] names;
+
+    private PermissionIndex(Map<String, Integer> ids, String[] names) {
+        this.ids = ids;
+        this.names = names;
+    }
+
+    /**
+     * Build an index of the built-in permissions and the given permissions.
+     *
+     * @param permissions additional permissions to number
+     * @return the index
+     */
+    public static PermissionIndex of(Collection<String> permissions) {
+        final var ids = new HashMap<String, Integer>();
+        final List<String> names = new ArrayList<>();
+        for (final var permission : Permission.values()) {
+            assign(permission.value(), ids, names);
+        }
+        for (final var permission : permissions) {
+            assign(permission, ids, names);
+        }
+        return new PermissionIndex(Map.copyOf(ids), names.toArray(String[]::new));
+    }
+
+    private static void assign(String permission, Map<String, Integer> ids, List<String> names) {
+        if (permission != null && !ids.containsKey(permission)) {
+            ids.put(permission, names.size());
+            names.add(permission);
+        }
+    }
+
+    /**
+     * Get the ID of a permission.
+     *
+     * @param permission the permission
+     * @return its ID, or -1 if it is not in this index
+     */
+    public int idOf(Object permission) {
+        if (permission == null) {
+            return -1;
+        }
+        final var id = ids.get(permission);
+        return id != null ? id : -1;
+    }
+
+    /**
+     * Get the permission with an ID.
+     *
+     * @param id the permission ID
+     * @return the permission
+     */
+    public String nameOf(int id) {
+        return names[id];
+    }
+
+    /**
+     * Get the number of permissions in this index.
+     *
+     * @return the number of IDs assigned
+     */
+    public int size() {
+        return names.length;
+    }
+
+    /**
+     * Convert permissions to a bitset over this index.
+     *
+     * @param permissions the permissions
+     * @return the bitset, or null if any permission is not in this index
+     */
+    public PermissionSet toSet(Collection<String> permissions) {
+        final var words = new long[wordCount()];
+        for (final var permission : permissions) {
+            final int id = idOf(permission);
+            if (id < 0) {
+                return null;
+            }
+            words[id >>> 6] |= 1L << id;
+        }
+        return new PermissionSet(this, words);
+    }
+
+    /**
+     * Get the empty bitset over this index.
+     *
+     * @return a set containing no permissions
+     */
+    public PermissionSet emptySet() {
+        return new PermissionSet(this, new long[wordCount()]);
+    }
+
+    int wordCount() {
+        return (names.length + 63) >>> 6;
+    }
+}
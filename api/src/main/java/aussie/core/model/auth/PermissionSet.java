@@ -0,0 +1,122 @@
+package aussie.core.model.auth;
+
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * Immutable set of permissions stored as a bitset over a {@link PermissionIndex}.
+ *
+ * <p>Membership is one hash lookup for the permission ID and a bit test. Sets over
+ * the same index are combined word by word: {@link #union} ORs and
+ * {@link #intersects} ANDs. It is a regular {@code Set<String>}, so it can be
+ * passed anywhere permissions are expected and compares equal to any set with the
+ * same permissions.
+ */
+public final class PermissionSet extends AbstractSet<String> {
+
+    private final PermissionIndex index;
+    private final long[] words;
+    private final int size;
+
+    PermissionSet(PermissionIndex index, long[] words) {
+        this.index = index;
+        this.words = words;
+        int count = 0;
+        for (final long word : words) {
+            count += Long.bitCount(word);
+        }
+        this.size = count;
+    }
+
+    /**
+     * Get the index this set's bits refer to.
+     *
+     * @return the permission index
+     */
+    public PermissionIndex index() {
+        return index;
+    }
+
+    @Override
+    public boolean contains(Object permission) {
+        final int id = index.idOf(permission);
+        return id >= 0 && (words[id >>> 6] & (1L << id)) != 0;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Combine with another set over the same index.
+     *
+     * @param other the other set
+     * @return a set with the permissions of both
+     * @throws IllegalArgumentException if the sets use different indexes
+     */
+    public PermissionSet union(PermissionSet other) {
+        requireSameIndex(other);
+        if (other.size == 0) {
+            return this;
+        }
+        if (size == 0) {
+            return other;
+        }
+        final var result = words.clone();
+        for (int i = 0; i < result.length; i++) {
+            result[i] |= other.words[i];
+        }
+        return new PermissionSet(index, result);
+    }
+
+    /**
+     * Check whether this set shares a permission with another set over the same index.
+     *
+     * @param other the other set
+     * @return true if at least one permission is in both sets
+     * @throws IllegalArgumentException if the sets use different indexes
+     */
+    public boolean intersects(PermissionSet other) {
+        requireSameIndex(other);
+        for (int i = 0; i < words.length; i++) {
+            if ((words[i] & other.words[i]) != 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void requireSameIndex(PermissionSet other) {
+        if (other.index != index) {
+            throw new IllegalArgumentException("Permission sets use different indexes");
+        }
+    }
+
+    @Override
+    public Iterator<String> iterator() {
+        return new Iterator<>() {
+            private int word;
+            private long remaining = words.length > 0 ? words[0] : 0L;
+
+            @Override
+            public boolean hasNext() {
+                while (remaining == 0 && word + 1 < words.length) {
+                    remaining = words[++word];
+                }
+                return remaining != 0;
+            }
+
+            @Override
+            public String next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                final int bit = Long.numberOfTrailingZeros(remaining);
+                remaining &= remaining - 1;
+                return index.nameOf((word << 6) + bit);
+            }
+        };
+    }
+}
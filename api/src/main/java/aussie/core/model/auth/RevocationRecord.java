@@ -0,0 +1,21 @@
+package aussie.core.model.auth;
+
+import java.time.Instant;
+
+/**
+ * A revoked identifier (JTI or user ID) paired with the time its revocation lapses.
+ *
+ * <p>Used when streaming the revocation store so that bloom filters can age
+ * entries out once the underlying token can no longer be presented.
+ *
+ * @param id        the revoked JTI or user ID
+ * @param expiresAt when the revocation entry expires, or null if the store cannot tell
+ */
+public record RevocationRecord(String id, Instant expiresAt) {
+
+    public RevocationRecord {
+        if (id == null) {
+            throw new IllegalArgumentException("Revoked ID cannot be null");
+        }
+    }
+}
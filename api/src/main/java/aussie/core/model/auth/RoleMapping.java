@@ -1,7 +1,9 @@
 package aussie.core.model.auth;
 
+import java.util.HashMap;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -12,16 +14,31 @@ import java.util.stream.Stream;
  * effective permissions. The mapping is typically cached and refreshed
  * when roles are modified.
  *
- * @param roleToPermissions map from role ID to set of permissions
+ * <p>On construction every permission is numbered in a {@link PermissionIndex}
+ * and each role's grant is precomputed as a {@link PermissionSet}, so expanding
+ * roles ORs bitsets instead of building string sets. Expansions are memoized per
+ * role combination, since tokens tend to repeat the same few combinations.
  */
-public record RoleMapping(Map<String, Set<String>> roleToPermissions) {
+public final class RoleMapping {
 
-    public RoleMapping {
-        if (roleToPermissions == null) {
-            roleToPermissions = Map.of();
-        } else {
-            roleToPermissions = Map.copyOf(roleToPermissions);
-        }
+    private static final int MAX_MEMOIZED_EXPANSIONS = 1024;
+
+    private final Map<String, Set<String>> roleToPermissions;
+    private final PermissionIndex index;
+    private final Map<String, PermissionSet> roleGrants;
+    private final Map<Set<String>, PermissionSet> expansions = new ConcurrentHashMap<>();
+
+    /**
+     * @param roleToPermissions map from role ID to set of permissions
+     */
+    public RoleMapping(Map<String, Set<String>> roleToPermissions) {
+        this.roleToPermissions = roleToPermissions == null ? Map.of() : Map.copyOf(roleToPermissions);
+        this.index = PermissionIndex.of(this.roleToPermissions.values().stream()
+                .flatMap(Set::stream)
+                .toList());
+        final var grants = new HashMap<String, PermissionSet>();
+        this.roleToPermissions.forEach((role, permissions) -> grants.put(role, index.toSet(permissions)));
+        this.roleGrants = Map.copyOf(grants);
     }
 
     /**
@@ -33,6 +50,24 @@ public record RoleMapping(Map<String, Set<String>> roleToPermissions) {
         return new RoleMapping(Map.of());
     }
 
+    /**
+     * Get the map from role ID to set of permissions.
+     *
+     * @return an immutable copy of the mapping
+     */
+    public Map<String, Set<String>> roleToPermissions() {
+        return roleToPermissions;
+    }
+
+    /**
+     * Get the index the permission bitsets of this mapping are numbered in.
+     *
+     * @return the permission index
+     */
+    public PermissionIndex permissionIndex() {
+        return index;
+    }
+
     /**
      * Expand a set of roles to their associated permissions.
      *
@@ -45,10 +80,27 @@ public record RoleMapping(Map<String, Set<String>> roleToPermissions) {
         if (roles == null || roles.isEmpty()) {
             return Set.of();
         }
+        if (roles.size() == 1) {
+            final var grant = roleGrants.get(roles.iterator().next());
+            return grant != null ? grant : Set.of();
+        }
 
-        return roles.stream()
-                .flatMap(role -> roleToPermissions.getOrDefault(role, Set.of()).stream())
-                .collect(Collectors.toUnmodifiableSet());
+        final var memoized = expansions.get(roles);
+        if (memoized != null) {
+            return memoized;
+        }
+        var expanded = index.emptySet();
+        for (final var role : roles) {
+            final var grant = roleGrants.get(role);
+            if (grant != null) {
+                expanded = expanded.union(grant);
+            }
+        }
+        // Tokens can carry arbitrary role names, so stop memoizing rather than grow without bound
+        if (expansions.size() < MAX_MEMOIZED_EXPANSIONS) {
+            expansions.putIfAbsent(Set.copyOf(roles), expanded);
+        }
+        return expanded;
     }
 
     /**
@@ -60,9 +112,18 @@ public record RoleMapping(Map<String, Set<String>> roleToPermissions) {
      */
     public Set<String> getEffectivePermissions(Set<String> roles, Set<String> directPermissions) {
         final var expandedPermissions = expandRoles(roles);
-        final var direct = directPermissions != null ? directPermissions : Set.<String>of();
+        if (directPermissions == null || directPermissions.isEmpty()) {
+            return expandedPermissions;
+        }
 
-        return Stream.concat(expandedPermissions.stream(), direct.stream()).collect(Collectors.toUnmodifiableSet());
+        if (expandedPermissions instanceof PermissionSet expanded) {
+            final var direct = index.toSet(directPermissions);
+            if (direct != null) {
+                return expanded.union(direct);
+            }
+        }
+        return Stream.concat(expandedPermissions.stream(), directPermissions.stream())
+                .collect(Collectors.toUnmodifiableSet());
     }
 
     /**
@@ -83,4 +144,19 @@ public record RoleMapping(Map<String, Set<String>> roleToPermissions) {
     public int size() {
         return roleToPermissions.size();
     }
+
+    @Override
+    public boolean equals(Object o) {
+        return o instanceof RoleMapping other && roleToPermissions.equals(other.roleToPermissions);
+    }
+
+    @Override
+    public int hashCode() {
+        return roleToPermissions.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return "RoleMapping[roleToPermissions=" + roleToPermissions + "]";
+    }
 }
@@ -0,0 +1,172 @@
+package aussie.core.model.common;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * A {@link CorsConfig} compiled for per-request matching.
+ *
+ * <p>Exact origins are held in a hash set and wildcard subdomain patterns
+ * ({@code *.example.com}) in a suffix trie walked from the end of the origin, so
+ * matching an origin is independent of the number of configured patterns and
+ * allocates nothing. The comma-separated response header values are joined once
+ * at compile time.
+ *
+ * <p>Matching follows the corresponding {@link CorsConfig} methods, except that
+ * methods compare ignoring case without upper-casing the request method.
+ * Immutable and thread-safe; compile once per configuration.
+ */
+public final class CorsPolicy {
+
+    private final boolean allowAnyOrigin;
+    private final Set<String> exactOrigins;
+    private final SuffixTrie wildcardDomains;
+    private final boolean allowAnyMethod;
+    private final Set<String> allowedMethods;
+    private final boolean allowCredentials;
+    private final String allowedMethodsHeader;
+    private final String allowedHeadersHeader;
+    private final String exposedHeadersHeader;
+    private final String maxAgeHeader;
+
+    private CorsPolicy(CorsConfig config) {
+        this.allowAnyOrigin = config.allowedOrigins().contains("*");
+        this.exactOrigins = Set.copyOf(config.allowedOrigins());
+        this.wildcardDomains = new SuffixTrie();
+        for (var pattern : config.allowedOrigins()) {
+            if (pattern.startsWith("*.")) {
+                wildcardDomains.add(pattern.substring(2));
+            }
+        }
+
+        this.allowAnyMethod = config.allowedMethods().contains("*");
+        var methods = new TreeSet<String>(String.CASE_INSENSITIVE_ORDER);
+        methods.addAll(config.allowedMethods());
+        this.allowedMethods = Collections.unmodifiableSet(methods);
+
+        this.allowCredentials = config.allowCredentials();
+        this.allowedMethodsHeader = config.getAllowedMethodsString();
+        this.allowedHeadersHeader = config.getAllowedHeadersString();
+        this.exposedHeadersHeader = config.getExposedHeadersString();
+        this.maxAgeHeader = config.maxAge().map(String::valueOf).orElse(null);
+    }
+
+    /**
+     * Compile a CORS configuration.
+     *
+     * @param config the configuration
+     * @return the compiled policy
+     */
+    public static CorsPolicy compile(CorsConfig config) {
+        return new CorsPolicy(config);
+    }
+
+    /**
+     * Check if the given origin is allowed.
+     *
+     * @param origin The Origin header value
+     * @return true if the origin is allowed
+     * @see CorsConfig#isOriginAllowed(String)
+     */
+    public boolean isOriginAllowed(String origin) {
+        if (origin == null || origin.isBlank()) {
+            return false;
+        }
+        return allowAnyOrigin || exactOrigins.contains(origin) || wildcardDomains.matchesSubdomain(origin);
+    }
+
+    /**
+     * Check if the given method is allowed.
+     *
+     * @param method The HTTP method
+     * @return true if the method is allowed
+     * @see CorsConfig#isMethodAllowed(String)
+     */
+    public boolean isMethodAllowed(String method) {
+        if (method == null || method.isBlank()) {
+            return false;
+        }
+        return allowAnyMethod || allowedMethods.contains(method);
+    }
+
+    /**
+     * Whether allowed origins are answered with {@code Access-Control-Allow-Origin: *}
+     * rather than by echoing the origin (which also requires {@code Vary: Origin}).
+     *
+     * @return true for the wildcard response
+     */
+    public boolean respondsWithWildcardOrigin() {
+        return allowAnyOrigin && !allowCredentials;
+    }
+
+    public boolean allowCredentials() {
+        return allowCredentials;
+    }
+
+    /**
+     * @return the {@code Access-Control-Allow-Methods} value
+     */
+    public String allowedMethodsHeader() {
+        return allowedMethodsHeader;
+    }
+
+    /**
+     * @return the {@code Access-Control-Allow-Headers} value
+     */
+    public String allowedHeadersHeader() {
+        return allowedHeadersHeader;
+    }
+
+    /**
+     * @return the {@code Access-Control-Expose-Headers} value, or null if none are exposed
+     */
+    public String exposedHeadersHeader() {
+        return exposedHeadersHeader;
+    }
+
+    /**
+     * @return the {@code Access-Control-Max-Age} value, or null if not configured
+     */
+    public String maxAgeHeader() {
+        return maxAgeHeader;
+    }
+
+    /**
+     * Trie of domains keyed by their characters in reverse, matching origins that
+     * end with {@code "." + domain}.
+     */
+    private static final class SuffixTrie {
+
+        private final Node root = new Node();
+
+        void add(String domain) {
+            var node = root;
+            for (int i = domain.length() - 1; i >= 0; i--) {
+                node = node.children.computeIfAbsent(domain.charAt(i), c -> new Node());
+            }
+            node.terminal = true;
+        }
+
+        boolean matchesSubdomain(String origin) {
+            var node = root;
+            for (int i = origin.length() - 1; i > 0; i--) {
+                node = node.children.get(origin.charAt(i));
+                if (node == null) {
+                    return false;
+                }
+                if (node.terminal && origin.charAt(i - 1) == '.') {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        private static final class Node {
+            private final Map<Character, Node> children = new HashMap<>();
+            private boolean terminal;
+        }
+    }
+}
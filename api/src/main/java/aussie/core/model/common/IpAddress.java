@@ -0,0 +1,125 @@
+package aussie.core.model.common;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+
+/**
+ * An IPv4 or IPv6 address in primitive form, for prefix matching.
+ *
+ * <p>The address bits are left-aligned across {@code high} and {@code low}: an IPv4
+ * address occupies the top 32 bits of {@code high}, an IPv6 address all 128 bits.
+ * IPv4-mapped IPv6 addresses are treated as IPv4, as {@link InetAddress} does.
+ *
+ * @param high    the first 64 address bits
+ * @param low     the last 64 address bits (0 for IPv4)
+ * @param version 4 or 6
+ */
+public record IpAddress(long high, long low, int version) {
+
+    /**
+     * Get the number of bits in this address.
+     *
+     * @return 32 for IPv4, 128 for IPv6
+     */
+    public int bitLength() {
+        return version == 4 ? 32 : 128;
+    }
+
+    /**
+     * Get one bit of this address.
+     *
+     * @param index the bit index, 0 being the most significant
+     * @return 0 or 1
+     */
+    int bit(int index) {
+        return (int) (index < 64 ? high >>> (63 - index) : low >>> (127 - index)) & 1;
+    }
+
+    /**
+     * Parse an IP address literal without DNS resolution.
+     *
+     * <p>Dotted-quad IPv4 is parsed directly; other literals go through
+     * {@link InetAddress}, which does not resolve them.
+     *
+     * @param ip the address
+     * @return the address, or null if {@code ip} is not an IP address literal
+     */
+    public static IpAddress parse(String ip) {
+        if (ip == null || ip.isEmpty()) {
+            return null;
+        }
+        final long ipv4 = parseDottedQuad(ip);
+        if (ipv4 >= 0) {
+            return new IpAddress(ipv4 << 32, 0L, 4);
+        }
+        if (!isIpAddressLiteral(ip)) {
+            return null;
+        }
+        try {
+            return fromBytes(InetAddress.getByName(ip).getAddress());
+        } catch (UnknownHostException e) {
+            return null;
+        }
+    }
+
+    private static IpAddress fromBytes(byte[] bytes) {
+        if (bytes.length == 4) {
+            return new IpAddress(toLong(bytes, 0, 4) << 32, 0L, 4);
+        }
+        return new IpAddress(toLong(bytes, 0, 8), toLong(bytes, 8, 8), 6);
+    }
+
+    private static long toLong(byte[] bytes, int offset, int length) {
+        long value = 0;
+        for (int i = offset; i < offset + length; i++) {
+            value = (value << 8) | (bytes[i] & 0xFF);
+        }
+        return value;
+    }
+
+    /**
+     * @return the address as an unsigned 32-bit value, or -1 if not a dotted quad
+     */
+    private static long parseDottedQuad(String ip) {
+        long address = 0;
+        int octets = 0;
+        int value = -1;
+        for (int i = 0; i < ip.length(); i++) {
+            final char c = ip.charAt(i);
+            if (c >= '0' && c <= '9') {
+                value = (value < 0 ? 0 : value * 10) + (c - '0');
+                if (value > 255) {
+                    return -1;
+                }
+            } else if (c == '.' && value >= 0 && octets < 3) {
+                address = (address << 8) | value;
+                octets++;
+                value = -1;
+            } else {
+                return -1;
+            }
+        }
+        if (value < 0 || octets != 3) {
+            return -1;
+        }
+        return (address << 8) | value;
+    }
+
+    private static boolean isIpAddressLiteral(String input) {
+        // IPv6 addresses contain colons
+        if (input.contains(":")) {
+            return true;
+        }
+        // IPv4: must start with a digit and contain only digits and dots
+        if (!Character.isDigit(input.charAt(0))) {
+            return false;
+        }
+        for (var i = 0; i < input.length(); i++) {
+            final var c = input.charAt(i);
+            if (c != '.' && !Character.isDigit(c)) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
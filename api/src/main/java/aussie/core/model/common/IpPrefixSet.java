@@ -0,0 +1,192 @@
+package aussie.core.model.common;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * A compiled list of IP addresses and CIDR ranges.
+ *
+ * <p>Patterns are inserted into one binary prefix trie per address family, so a
+ * lookup walks at most 32 (IPv4) or 128 (IPv6) bits regardless of how many
+ * patterns are configured. An exact address is a full-length prefix. Memory is
+ * proportional to the patterns, never to the addresses looked up.
+ *
+ * <p>Patterns that are neither a valid CIDR nor an IP address are reported by
+ * {@link #invalidPatterns()}; those without a {@code /} still match by string
+ * equality, as exact patterns always have.
+ *
+ * <p>Immutable and thread-safe.
+ */
+public final class IpPrefixSet {
+
+    private static final IpPrefixSet EMPTY = compile(List.of());
+
+    private final BinaryTrie ipv4;
+    private final BinaryTrie ipv6;
+    private final Set<String> literals;
+    private final List<String> invalidPatterns;
+
+    private IpPrefixSet(BinaryTrie ipv4, BinaryTrie ipv6, Set<String> literals, List<String> invalidPatterns) {
+        this.ipv4 = ipv4;
+        this.ipv6 = ipv6;
+        this.literals = literals;
+        this.invalidPatterns = invalidPatterns;
+    }
+
+    /**
+     * Get the set matching nothing.
+     *
+     * @return the empty set
+     */
+    public static IpPrefixSet empty() {
+        return EMPTY;
+    }
+
+    /**
+     * Compile IP addresses and CIDR ranges ({@code 10.0.0.0/8}, {@code fd00::/8}).
+     *
+     * @param patterns the patterns
+     * @return the compiled set
+     */
+    public static IpPrefixSet compile(Collection<String> patterns) {
+        final var ipv4 = new BinaryTrie();
+        final var ipv6 = new BinaryTrie();
+        final var literals = new HashSet<String>();
+        final var invalid = new ArrayList<String>();
+
+        for (final var pattern : patterns) {
+            final int slash = pattern.indexOf('/');
+            final var address = IpAddress.parse(slash < 0 ? pattern : pattern.substring(0, slash));
+            int prefixLength = address != null ? address.bitLength() : -1;
+            if (slash >= 0 && address != null) {
+                try {
+                    prefixLength = Integer.parseInt(pattern.substring(slash + 1));
+                } catch (NumberFormatException e) {
+                    prefixLength = -1;
+                }
+            }
+
+            if (address == null || prefixLength < 0 || prefixLength > address.bitLength()) {
+                invalid.add(pattern);
+                if (slash < 0) {
+                    literals.add(pattern);
+                }
+            } else {
+                (address.version() == 4 ? ipv4 : ipv6).insert(address, prefixLength);
+            }
+        }
+        return new IpPrefixSet(ipv4.trim(), ipv6.trim(), Set.copyOf(literals), List.copyOf(invalid));
+    }
+
+    /**
+     * Check whether an address is in this set.
+     *
+     * @param address the parsed address, or null
+     * @return true if the address matches an exact address or falls in a range
+     */
+    public boolean contains(IpAddress address) {
+        if (address == null) {
+            return false;
+        }
+        return (address.version() == 4 ? ipv4 : ipv6).matches(address);
+    }
+
+    /**
+     * Check whether an address is in this set.
+     *
+     * <p>Parses {@code ip} on every call; prefer {@link #contains(IpAddress)} when
+     * checking an address against several sets.
+     *
+     * @param ip the address string
+     * @return true if the address matches
+     */
+    public boolean contains(String ip) {
+        return contains(ip, IpAddress.parse(ip));
+    }
+
+    /**
+     * Check whether an address is in this set, using the already-parsed form
+     * when available.
+     *
+     * @param ip      the address string
+     * @param address {@code ip} parsed, or null if it is not an IP address
+     * @return true if the address matches
+     */
+    public boolean contains(String ip, IpAddress address) {
+        return contains(address) || (ip != null && !literals.isEmpty() && literals.contains(ip));
+    }
+
+    /**
+     * Get the patterns that are neither a valid CIDR range nor an IP address.
+     *
+     * @return the invalid patterns
+     */
+    public List<String> invalidPatterns() {
+        return invalidPatterns;
+    }
+
+    /**
+     * Binary trie over address bits, most significant first, stored in parallel
+     * arrays. Node 0 is the root; a child index of 0 means no child.
+     */
+    private static final class BinaryTrie {
+
+        private int[] zero = new int[8];
+        private int[] one = new int[8];
+        private boolean[] terminal = new boolean[8];
+        private int size = 1;
+
+        void insert(IpAddress address, int prefixLength) {
+            int node = 0;
+            for (int i = 0; i < prefixLength && !terminal[node]; i++) {
+                final int bit = address.bit(i);
+                int child = bit == 0 ? zero[node] : one[node];
+                if (child == 0) {
+                    child = newNode();
+                    if (bit == 0) {
+                        zero[node] = child;
+                    } else {
+                        one[node] = child;
+                    }
+                }
+                node = child;
+            }
+            terminal[node] = true;
+        }
+
+        boolean matches(IpAddress address) {
+            final int bits = address.bitLength();
+            int node = 0;
+            for (int i = 0; i < bits; i++) {
+                if (terminal[node]) {
+                    return true;
+                }
+                node = address.bit(i) == 0 ? zero[node] : one[node];
+                if (node == 0) {
+                    return false;
+                }
+            }
+            return terminal[node];
+        }
+
+        private int newNode() {
+            if (size == zero.length) {
+                zero = Arrays.copyOf(zero, size * 2);
+                one = Arrays.copyOf(one, size * 2);
+                terminal = Arrays.copyOf(terminal, size * 2);
+            }
+            return size++;
+        }
+
+        BinaryTrie trim() {
+            zero = Arrays.copyOf(zero, size);
+            one = Arrays.copyOf(one, size);
+            terminal = Arrays.copyOf(terminal, size);
+            return this;
+        }
+    }
+}
@@ -0,0 +1,172 @@
+package aussie.core.model.gateway;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+/**
+ * Read-only, case-insensitive view of HTTP headers that filters and overrides a
+ * source map without copying it.
+ *
+ * <p>Headers named in the excluded set are hidden, headers named in the overrides
+ * replace the source values, and everything else is read through to the source on
+ * each access. The proxy path uses it so that request and response headers are
+ * copied once, when they are written to the outgoing message.
+ *
+ * <p>Lookups ignore case. Iteration yields the source headers in source order
+ * (with their original names), followed by the overrides.
+ */
+public final class HeaderView extends AbstractMap<String, List<String>> {
+
+    private final Map<String, List<String>> source;
+    private final Set<String> excluded;
+    private final Map<String, List<String>> overrides;
+    private Set<Map.Entry<String, List<String>>> entrySet;
+
+    /**
+     * @param source    the headers to read through to
+     * @param excluded  header names to hide; see {@link #names}
+     * @param overrides headers replacing or adding to the source
+     */
+    public HeaderView(
+            Map<String, List<String>> source, Set<String> excluded, Map<String, List<String>> overrides) {
+        this.source = source != null ? source : Map.of();
+        this.excluded = excluded != null ? excluded : Set.of();
+        var caseInsensitiveOverrides = new TreeMap<String, List<String>>(String.CASE_INSENSITIVE_ORDER);
+        if (overrides != null) {
+            caseInsensitiveOverrides.putAll(overrides);
+        }
+        this.overrides = Collections.unmodifiableMap(caseInsensitiveOverrides);
+    }
+
+    /**
+     * Create a view hiding the given headers.
+     *
+     * @param source   the headers to read through to
+     * @param excluded header names to hide; see {@link #names}
+     * @return the filtered view
+     */
+    public static HeaderView filtered(Map<String, List<String>> source, Set<String> excluded) {
+        return new HeaderView(source, excluded, Map.of());
+    }
+
+    /**
+     * Build an immutable, case-insensitive set of header names for exclusion.
+     *
+     * <p>Membership tests compare ignoring case without allocating, so build
+     * these once and reuse them.
+     *
+     * @param names the header names
+     * @return the set
+     */
+    public static Set<String> names(Collection<String> names) {
+        var set = new TreeSet<String>(String.CASE_INSENSITIVE_ORDER);
+        set.addAll(names);
+        return Collections.unmodifiableSet(set);
+    }
+
+    @Override
+    public List<String> get(Object key) {
+        if (!(key instanceof String name)) {
+            return null;
+        }
+        var override = overrides.get(name);
+        if (override != null) {
+            return override;
+        }
+        if (excluded.contains(name)) {
+            return null;
+        }
+        return lookup(name);
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return get(key) != null;
+    }
+
+    private List<String> lookup(String name) {
+        var values = source.get(name);
+        if (values != null) {
+            return values;
+        }
+        for (var entry : source.entrySet()) {
+            if (name.equalsIgnoreCase(entry.getKey())) {
+                return entry.getValue();
+            }
+        }
+        return null;
+    }
+
+    private boolean passesThrough(String name) {
+        return !excluded.contains(name) && !overrides.containsKey(name);
+    }
+
+    @Override
+    public Set<Map.Entry<String, List<String>>> entrySet() {
+        if (entrySet == null) {
+            entrySet = new EntrySet();
+        }
+        return entrySet;
+    }
+
+    private final class EntrySet extends AbstractSet<Map.Entry<String, List<String>>> {
+
+        @Override
+        public Iterator<Map.Entry<String, List<String>>> iterator() {
+            return new EntryIterator();
+        }
+
+        @Override
+        public int size() {
+            int size = overrides.size();
+            for (var name : source.keySet()) {
+                if (passesThrough(name)) {
+                    size++;
+                }
+            }
+            return size;
+        }
+    }
+
+    private final class EntryIterator implements Iterator<Map.Entry<String, List<String>>> {
+
+        private final Iterator<Map.Entry<String, List<String>>> sourceEntries =
+                source.entrySet().iterator();
+        private final Iterator<Map.Entry<String, List<String>>> overrideEntries =
+                overrides.entrySet().iterator();
+        private Map.Entry<String, List<String>> next;
+
+        @Override
+        public boolean hasNext() {
+            while (next == null && sourceEntries.hasNext()) {
+                var entry = sourceEntries.next();
+                if (passesThrough(entry.getKey())) {
+                    next = entry;
+                }
+            }
+            if (next == null && overrideEntries.hasNext()) {
+                next = overrideEntries.next();
+            }
+            return next != null;
+        }
+
+        @Override
+        public Map.Entry<String, List<String>> next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            var entry = next;
+            next = null;
+            return entry;
+        }
+    }
+}
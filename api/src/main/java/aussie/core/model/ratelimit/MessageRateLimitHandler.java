@@ -7,10 +7,25 @@ import io.smallrye.mutiny.Uni;
  *
  * <p>Called before forwarding each WebSocket message to check if the message
  * should be allowed. If rate limited, the handler triggers connection closure.
+ *
+ * <p>Callers should try {@link #tryAdmit()} first and only fall back to
+ * {@link #checkAndProceed(Runnable)} when the decision is {@link Admission#DEFERRED}.
  */
 @FunctionalInterface
 public interface MessageRateLimitHandler {
 
+    /**
+     * Outcome of a synchronous admission attempt.
+     */
+    enum Admission {
+        /** The message is allowed and a token was consumed. */
+        ALLOWED,
+        /** The message exceeds the limit. */
+        REJECTED,
+        /** The decision needs remote state; use {@link #checkAndProceed(Runnable)}. */
+        DEFERRED
+    }
+
     /**
      * Check if a message is allowed and execute the appropriate action.
      *
@@ -22,13 +37,33 @@ public interface MessageRateLimitHandler {
      */
     Uni<Void> checkAndProceed(Runnable onAllowed);
 
+    /**
+     * Decide on the calling thread, without allocating a reactive pipeline.
+     *
+     * <p>A decision other than {@link Admission#DEFERRED} consumes from the limit
+     * exactly as {@link #checkAndProceed(Runnable)} would.
+     *
+     * @return the admission decision
+     */
+    default Admission tryAdmit() {
+        return Admission.DEFERRED;
+    }
+
     /**
      * No-op handler that always allows messages.
      */
     static MessageRateLimitHandler noOp() {
-        return onAllowed -> {
-            onAllowed.run();
-            return Uni.createFrom().voidItem();
+        return new MessageRateLimitHandler() {
+            @Override
+            public Uni<Void> checkAndProceed(Runnable onAllowed) {
+                onAllowed.run();
+                return Uni.createFrom().voidItem();
+            }
+
+            @Override
+            public Admission tryAdmit() {
+                return Admission.ALLOWED;
+            }
         };
     }
 }
@@ -0,0 +1,73 @@
+package aussie.core.model.service;
+
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Service registrations that changed after a given registry version.
+ *
+ * <p>Every save or delete advances a registry-wide version. A delta lists the
+ * services touched since the caller's version; a full snapshot replaces the
+ * caller's view entirely and is returned when the repository cannot produce a
+ * delta (no prior version, or the requested version is no longer retained).
+ *
+ * @param version      registry version this result brings the caller up to
+ * @param updated      current registrations of created or updated services
+ * @param deleted      IDs of services removed since the requested version
+ * @param fullSnapshot true if {@code updated} holds every registration
+ */
+public record RegistryChanges(
+        long version, List<ServiceRegistration> updated, Set<String> deleted, boolean fullSnapshot) {
+
+    /**
+     * Version for repositories that do not track changes; always answered with a full snapshot.
+     */
+    public static final long UNVERSIONED = -1L;
+
+    public RegistryChanges {
+        updated = updated == null ? List.of() : List.copyOf(updated);
+        deleted = deleted == null ? Set.of() : Set.copyOf(deleted);
+    }
+
+    /**
+     * Create a full snapshot of the registry.
+     *
+     * @param version       registry version the snapshot reflects
+     * @param registrations all registrations
+     * @return snapshot result
+     */
+    public static RegistryChanges snapshot(long version, List<ServiceRegistration> registrations) {
+        return new RegistryChanges(version, registrations, Set.of(), true);
+    }
+
+    /**
+     * Create a delta.
+     *
+     * @param version registry version after applying the delta
+     * @param updated current registrations of changed services
+     * @param deleted IDs of deleted services
+     * @return delta result
+     */
+    public static RegistryChanges delta(long version, List<ServiceRegistration> updated, Set<String> deleted) {
+        return new RegistryChanges(version, updated, deleted, false);
+    }
+
+    /**
+     * Create an empty delta.
+     *
+     * @param version the caller's current version
+     * @return delta with no changes
+     */
+    public static RegistryChanges none(long version) {
+        return delta(version, List.of(), Set.of());
+    }
+
+    /**
+     * Check whether applying this result changes anything.
+     *
+     * @return true if this is a snapshot or lists at least one change
+     */
+    public boolean hasChanges() {
+        return fullSnapshot || !updated.isEmpty() || !deleted.isEmpty();
+    }
+}
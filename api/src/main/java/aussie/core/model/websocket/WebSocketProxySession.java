@@ -3,9 +3,13 @@ package aussie.core.model.websocket;
 import java.time.Duration;
 import java.time.Instant;
 import java.util.Optional;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
 
+import io.vertx.core.Context;
 import io.vertx.core.Vertx;
 import io.vertx.core.buffer.Buffer;
 import io.vertx.core.http.ServerWebSocket;
@@ -28,41 +32,65 @@ import aussie.core.model.session.SessionInvalidatedEvent;
  * <p>When either connection closes (gracefully or due to error/timeout),
  * the other connection is also closed with a reason message.
  *
+ * <p>Frames are relayed with backpressure: if one side cannot keep up, reading from
+ * the other side is paused until the pending bytes drain (see
+ * {@link WebSocketConfig.BackpressureConfig}).
+ *
+ * <p>Client frames are admitted by the message rate limiter in arrival order. Local
+ * decisions are made inline; frames needing a remote decision wait in a per-session
+ * queue that is checked one frame at a time, and later frames queue behind them.
+ *
+ * <p>Idle, lifetime and ping deadlines are kept as timestamps and enforced by a
+ * {@link WebSocketTimerWheel} shared across sessions, so activity never reschedules
+ * a timer.
+ *
  * <p>All operations are non-blocking and run on the Vert.x event loop.
  */
 public class WebSocketProxySession {
 
     private static final Logger LOG = Logger.getLogger(WebSocketProxySession.class);
 
+    /**
+     * Frames awaiting a remote rate limit decision before the client is paused.
+     */
+    static final int MAX_PENDING_MESSAGES = 256;
+
     private final String sessionId;
     private final ServerWebSocket clientSocket;
     private final WebSocket backendSocket;
-    private final Vertx vertx;
+    private final WebSocketTimerWheel timers;
     private final WebSocketConfig config;
     private final Optional<String> authSessionId;
     private final Optional<String> userId;
     private final MessageRateLimitHandler messageRateLimitHandler;
+    private final WebSocketRelay clientToBackend;
+    private final WebSocketRelay backendToClient;
 
     private final AtomicBoolean closing = new AtomicBoolean();
     private final AtomicLong rateLimitedMessages = new AtomicLong(0);
-    private long idleTimerId = -1;
-    private long maxLifetimeTimerId = -1;
-    private long pingTimerId = -1;
-    private long pongTimeoutTimerId = -1;
+    private final Queue<Buffer> pendingMessages = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger pendingCount = new AtomicInteger();
+    private final AtomicBoolean admitting = new AtomicBoolean();
+    private final AtomicBoolean pendingPaused = new AtomicBoolean();
     private final Instant connectedAt;
-    private volatile Instant lastActivity;
+    private final long idleTimeoutMillis;
+    private final long lifetimeDeadline;
+    private volatile long lastActivityMillis;
+    private volatile long nextPingAt = Long.MAX_VALUE;
+    private volatile long pongDeadline = Long.MAX_VALUE;
+    private volatile Context context;
 
     public WebSocketProxySession(
             String sessionId,
             ServerWebSocket clientSocket,
             WebSocket backendSocket,
-            Vertx vertx,
+            WebSocketTimerWheel timers,
             WebSocketConfig config) {
         this(
                 sessionId,
                 clientSocket,
                 backendSocket,
-                vertx,
+                timers,
                 config,
                 Optional.empty(),
                 Optional.empty(),
@@ -73,7 +101,7 @@ public class WebSocketProxySession {
             String sessionId,
             ServerWebSocket clientSocket,
             WebSocket backendSocket,
-            Vertx vertx,
+            WebSocketTimerWheel timers,
             WebSocketConfig config,
             Optional<String> authSessionId,
             Optional<String> userId) {
@@ -81,7 +109,7 @@ public class WebSocketProxySession {
                 sessionId,
                 clientSocket,
                 backendSocket,
-                vertx,
+                timers,
                 config,
                 authSessionId,
                 userId,
@@ -92,7 +120,7 @@ public class WebSocketProxySession {
             String sessionId,
             ServerWebSocket clientSocket,
             WebSocket backendSocket,
-            Vertx vertx,
+            WebSocketTimerWheel timers,
             WebSocketConfig config,
             Optional<String> authSessionId,
             Optional<String> userId,
@@ -100,45 +128,44 @@ public class WebSocketProxySession {
         this.sessionId = sessionId;
         this.clientSocket = clientSocket;
         this.backendSocket = backendSocket;
-        this.vertx = vertx;
+        this.timers = timers;
         this.config = config;
         this.authSessionId = authSessionId;
         this.userId = userId;
         this.messageRateLimitHandler = messageRateLimitHandler;
-        this.connectedAt = Instant.now();
-        this.lastActivity = Instant.now();
+        var backpressure = config.backpressure();
+        this.clientToBackend = new WebSocketRelay(
+                clientSocket, backendSocket, backpressure.highWatermark(), backpressure.lowWatermark());
+        this.backendToClient = new WebSocketRelay(
+                backendSocket, clientSocket, backpressure.highWatermark(), backpressure.lowWatermark());
+        final long now = timers.now();
+        this.connectedAt = Instant.ofEpochMilli(now);
+        this.idleTimeoutMillis = config.idleTimeout().toMillis();
+        this.lifetimeDeadline = now + config.maxLifetime().toMillis();
+        this.lastActivityMillis = now;
     }
 
     /**
      * Start the proxy session.
      *
-     * <p>Enables bidirectional message forwarding and starts lifecycle timers.
+     * <p>Enables bidirectional message forwarding and schedules lifecycle deadlines.
      */
     public void start() {
+        // The event loop that owns the client socket
+        context = Vertx.currentContext();
+
         // Set up bidirectional message forwarding with rate limiting (non-blocking)
-        clientSocket.handler(buffer -> {
-            messageRateLimitHandler
-                    .checkAndProceed(() -> {
-                        resetIdleTimer();
-                        backendSocket.write(buffer); // Returns Future, non-blocking
-                    })
-                    .subscribe()
-                    .with(
-                            v -> {
-                                /* success, message forwarded */
-                            },
-                            err -> {
-                                rateLimitedMessages.incrementAndGet();
-                                // 4429 mirrors HTTP 429 (Too Many Requests)
-                                closeWithReason((short) 4429, "Message rate limit exceeded");
-                            });
-        });
+        clientSocket.handler(this::onClientMessage);
 
         backendSocket.handler(buffer -> {
-            resetIdleTimer();
-            clientSocket.write(buffer); // Returns Future, non-blocking
+            recordActivity();
+            backendToClient.forward(buffer);
         });
 
+        // Resume a paused side once the opposite write queue drains
+        clientToBackend.start();
+        backendToClient.start();
+
         // Handle close from either side
         clientSocket.closeHandler(v -> closeWithReason((short) 1000, "Client disconnected"));
         backendSocket.closeHandler(v -> closeWithReason((short) 1000, "Backend disconnected"));
@@ -149,58 +176,158 @@ public class WebSocketProxySession {
 
         // Handle pong responses from client
         clientSocket.pongHandler(buffer -> {
-            cancelPongTimeout();
-            resetIdleTimer();
+            pongDeadline = Long.MAX_VALUE;
+            recordActivity();
         });
 
-        // Start timers (all timer callbacks run on event loop, non-blocking)
-        startIdleTimer();
-        startMaxLifetimeTimer();
         if (config.ping().enabled()) {
-            startPingTimer();
+            nextPingAt = lastActivityMillis + config.ping().interval().toMillis();
         }
+        timers.schedule(this, nextDeadline());
     }
 
-    private void startIdleTimer() {
-        var timeoutMs = config.idleTimeout().toMillis();
-        idleTimerId = vertx.setTimer(timeoutMs, id -> closeWithReason((short) 1000, "Idle timeout exceeded"));
+    private void onClientMessage(Buffer buffer) {
+        if (closing.get()) {
+            return;
+        }
+
+        // Deciding inline while frames are queued would let this one overtake them
+        if (pendingCount.get() == 0) {
+            switch (messageRateLimitHandler.tryAdmit()) {
+                case ALLOWED -> {
+                    relayClientMessage(buffer);
+                    return;
+                }
+                case REJECTED -> {
+                    rejectMessage();
+                    return;
+                }
+                case DEFERRED -> {
+                    // Fall through to the ordered queue
+                }
+            }
+        }
+
+        pendingMessages.add(buffer);
+        if (pendingCount.incrementAndGet() >= MAX_PENDING_MESSAGES) {
+            pendingPaused.set(true);
+            clientSocket.pause();
+        }
+        admitPending();
     }
 
-    private void resetIdleTimer() {
-        lastActivity = Instant.now();
-        if (idleTimerId != -1) {
-            vertx.cancelTimer(idleTimerId);
+    /**
+     * Admit queued frames one at a time, so each is forwarded only after its predecessor.
+     *
+     * <p>Remote decisions may complete on another thread; the {@code admitting} flag
+     * ensures a single check is in flight.
+     */
+    private void admitPending() {
+        while (!closing.get() && admitting.compareAndSet(false, true)) {
+            final var next = pendingMessages.peek();
+            if (next == null) {
+                admitting.set(false);
+                if (pendingMessages.isEmpty()) {
+                    return;
+                }
+                continue; // A frame was queued after the peek
+            }
+
+            // The limit may have become locally decidable while this frame waited
+            switch (messageRateLimitHandler.tryAdmit()) {
+                case ALLOWED -> {
+                    relayClientMessage(next);
+                    dequeue();
+                    admitting.set(false);
+                    continue;
+                }
+                case REJECTED -> {
+                    rejectMessage();
+                    return;
+                }
+                case DEFERRED -> {
+                    // Ask the remote limiter below
+                }
+            }
+
+            messageRateLimitHandler
+                    .checkAndProceed(() -> relayClientMessage(next))
+                    .subscribe()
+                    .with(
+                            v -> {
+                                dequeue();
+                                admitting.set(false);
+                                admitPending();
+                            },
+                            err -> rejectMessage());
+            return;
         }
-        startIdleTimer();
     }
 
-    private void startMaxLifetimeTimer() {
-        var lifetimeMs = config.maxLifetime().toMillis();
-        maxLifetimeTimerId =
-                vertx.setTimer(lifetimeMs, id -> closeWithReason((short) 1000, "Maximum connection lifetime exceeded"));
+    private void dequeue() {
+        if (pendingMessages.poll() == null) {
+            return; // Cleared by close
+        }
+        if (pendingCount.decrementAndGet() <= MAX_PENDING_MESSAGES / 2
+                && pendingPaused.compareAndSet(true, false)
+                && !clientToBackend.isPaused()) {
+            clientSocket.resume();
+        }
     }
 
-    private void startPingTimer() {
-        var intervalMs = config.ping().interval().toMillis();
-        pingTimerId = vertx.setPeriodic(intervalMs, id -> {
-            if (!closing.get()) {
-                clientSocket.writePing(Buffer.buffer("ping"));
-                startPongTimeout();
-            }
-        });
+    private void relayClientMessage(Buffer buffer) {
+        if (closing.get()) {
+            return;
+        }
+        recordActivity();
+        clientToBackend.forward(buffer);
     }
 
-    private void startPongTimeout() {
-        var timeoutMs = config.ping().timeout().toMillis();
-        pongTimeoutTimerId =
-                vertx.setTimer(timeoutMs, id -> closeWithReason((short) 1002, "Ping timeout - no pong received"));
+    private void rejectMessage() {
+        rateLimitedMessages.incrementAndGet();
+        // 4429 mirrors HTTP 429 (Too Many Requests)
+        closeWithReason((short) 4429, "Message rate limit exceeded");
     }
 
-    private void cancelPongTimeout() {
-        if (pongTimeoutTimerId != -1) {
-            vertx.cancelTimer(pongTimeoutTimerId);
-            pongTimeoutTimerId = -1;
+    private void recordActivity() {
+        lastActivityMillis = timers.now();
+    }
+
+    /**
+     * Enforce whichever deadlines have passed; called by the timer wheel.
+     *
+     * @param now the current time in epoch milliseconds
+     * @return the next deadline to be called back at, or -1 once the session is closed
+     */
+    long onDeadline(long now) {
+        if (closing.get()) {
+            return -1;
+        }
+        if (now >= lifetimeDeadline) {
+            closeWithReason((short) 1000, "Maximum connection lifetime exceeded");
+            return -1;
+        }
+        if (now >= lastActivityMillis + idleTimeoutMillis) {
+            closeWithReason((short) 1000, "Idle timeout exceeded");
+            return -1;
+        }
+        if (now >= pongDeadline) {
+            closeWithReason((short) 1002, "Ping timeout - no pong received");
+            return -1;
+        }
+        if (now >= nextPingAt) {
+            clientSocket.writePing(Buffer.buffer("ping"));
+            if (pongDeadline == Long.MAX_VALUE) {
+                pongDeadline = now + config.ping().timeout().toMillis();
+            }
+            nextPingAt = now + config.ping().interval().toMillis();
         }
+        return nextDeadline();
+    }
+
+    private long nextDeadline() {
+        var next = Math.min(lifetimeDeadline, lastActivityMillis + idleTimeoutMillis);
+        return Math.min(next, Math.min(nextPingAt, pongDeadline));
     }
 
     /**
@@ -216,19 +343,11 @@ public class WebSocketProxySession {
             return; // Already closing
         }
 
-        // Cancel all timers
-        if (idleTimerId != -1) {
-            vertx.cancelTimer(idleTimerId);
-        }
-        if (maxLifetimeTimerId != -1) {
-            vertx.cancelTimer(maxLifetimeTimerId);
-        }
-        if (pingTimerId != -1) {
-            vertx.cancelTimer(pingTimerId);
-        }
-        if (pongTimeoutTimerId != -1) {
-            vertx.cancelTimer(pongTimeoutTimerId);
-        }
+        // No timers to cancel: the wheel drops closed sessions at their next deadline
+
+        // Frames still awaiting admission are dropped with the connection
+        pendingMessages.clear();
+        pendingCount.set(0);
 
         // Close both connections with the reason (non-blocking)
         clientSocket.close(code, reason);
@@ -248,13 +367,22 @@ public class WebSocketProxySession {
     }
 
     public Instant lastActivity() {
-        return lastActivity;
+        return Instant.ofEpochMilli(lastActivityMillis);
     }
 
     public boolean isClosing() {
         return closing.get();
     }
 
+    /**
+     * Get the Vert.x context the session was started on.
+     *
+     * @return the owning context, or null if started outside Vert.x
+     */
+    public Context context() {
+        return context;
+    }
+
     public Optional<String> authSessionId() {
         return authSessionId;
     }
@@ -277,6 +405,24 @@ public class WebSocketProxySession {
         return event.appliesTo(authSessionId.get(), userId.orElse(null));
     }
 
+    /**
+     * Get the bytes written to either socket but not yet flushed.
+     *
+     * @return buffered byte count across both directions
+     */
+    public long bufferedBytes() {
+        return clientToBackend.bufferedBytes() + backendToClient.bufferedBytes();
+    }
+
+    /**
+     * Get how many times either side was paused because the other fell behind.
+     *
+     * @return backpressure pause count
+     */
+    public long backpressurePauseCount() {
+        return clientToBackend.pauseCount() + backendToClient.pauseCount();
+    }
+
     /**
      * Get the count of rate-limited messages for this session.
      *
@@ -285,4 +431,13 @@ public class WebSocketProxySession {
     public long rateLimitedMessageCount() {
         return rateLimitedMessages.get();
     }
+
+    /**
+     * Get the count of client frames awaiting a rate limit decision.
+     *
+     * @return pending message count
+     */
+    public int pendingMessageCount() {
+        return pendingCount.get();
+    }
 }
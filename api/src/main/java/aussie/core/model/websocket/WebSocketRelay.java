@@ -0,0 +1,91 @@
+package aussie.core.model.websocket;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.http.WebSocketBase;
+
+/**
+ * One direction of a proxied WebSocket connection with backpressure.
+ *
+ * <p>Forwards frames from a source socket to a destination socket and tracks the
+ * bytes written but not yet flushed. When that exceeds the high watermark (or the
+ * destination reports a full write queue) the source is paused, so a slow consumer
+ * stops the producer instead of growing the outbound buffer. Reading resumes once
+ * pending bytes fall to the low watermark and the destination has drained.
+ *
+ * <p>Write completions may arrive on a different event loop than reads, so all
+ * state is atomic.
+ */
+final class WebSocketRelay {
+
+    private final WebSocketBase source;
+    private final WebSocketBase destination;
+    private final long highWatermark;
+    private final long lowWatermark;
+
+    private final AtomicLong bufferedBytes = new AtomicLong();
+    private final AtomicBoolean paused = new AtomicBoolean();
+    private final AtomicLong pauseCount = new AtomicLong();
+
+    WebSocketRelay(WebSocketBase source, WebSocketBase destination, long highWatermark, long lowWatermark) {
+        if (lowWatermark > highWatermark) {
+            throw new IllegalArgumentException("Low watermark must not exceed high watermark");
+        }
+        this.source = source;
+        this.destination = destination;
+        this.highWatermark = highWatermark;
+        this.lowWatermark = lowWatermark;
+    }
+
+    /**
+     * Resume the source whenever the destination's write queue drains.
+     */
+    void start() {
+        destination.drainHandler(v -> maybeResume());
+    }
+
+    /**
+     * Write a frame to the destination, pausing the source if too much is pending.
+     *
+     * @param buffer the frame payload
+     */
+    void forward(Buffer buffer) {
+        final long size = buffer.length();
+        bufferedBytes.addAndGet(size);
+        destination.write(buffer).onComplete(ar -> {
+            bufferedBytes.addAndGet(-size);
+            maybeResume();
+        });
+
+        // Re-read after the write: it may already have completed
+        if ((bufferedBytes.get() > highWatermark || destination.writeQueueFull()) && paused.compareAndSet(false, true)) {
+            pauseCount.incrementAndGet();
+            source.pause();
+            // A completion may have raced with the pause; don't wait for the next one
+            maybeResume();
+        }
+    }
+
+    private void maybeResume() {
+        if (paused.get()
+                && bufferedBytes.get() <= lowWatermark
+                && !destination.writeQueueFull()
+                && paused.compareAndSet(true, false)) {
+            source.resume();
+        }
+    }
+
+    long bufferedBytes() {
+        return bufferedBytes.get();
+    }
+
+    boolean isPaused() {
+        return paused.get();
+    }
+
+    long pauseCount() {
+        return pauseCount.get();
+    }
+}
@@ -0,0 +1,157 @@
+package aussie.core.model.websocket;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.LongSupplier;
+
+import org.jboss.logging.Logger;
+
+/**
+ * Hashed timer wheel shared by all WebSocket sessions on an instance.
+ *
+ * <p>Each session is scheduled once, at its earliest deadline (idle, lifetime, ping
+ * or pong). Activity only updates a timestamp on the session; when the deadline
+ * comes up the session re-checks its real deadlines and is rescheduled if nothing
+ * is due yet. Forwarding a frame therefore never touches a timer.
+ *
+ * <p>A single periodic {@link #tick()} advances the wheel and fires everything due
+ * in the elapsed slots as one batch. Deadlines are rounded up to the tick, so work
+ * fires at most one tick late and never early. Deadlines further out than one
+ * revolution stay in their slot until the round that reaches them.
+ *
+ * <p>{@link #tick()} must be called from one thread at a time; sessions may be
+ * scheduled from any thread.
+ */
+public final class WebSocketTimerWheel {
+
+    private static final Logger LOG = Logger.getLogger(WebSocketTimerWheel.class);
+
+    private final long tickMillis;
+    private final int mask;
+    private final Queue<Entry>[] slots;
+    private final LongSupplier clock;
+    private final AtomicInteger scheduled = new AtomicInteger();
+    private volatile long currentTick;
+
+    /**
+     * Create a timer wheel.
+     *
+     * @param tickMillis resolution of deadlines in milliseconds
+     * @param slotCount  number of slots, rounded up to a power of two
+     * @param clock      source of the current time in epoch milliseconds
+     */
+    @SuppressWarnings("unchecked")
+    public WebSocketTimerWheel(long tickMillis, int slotCount, LongSupplier clock) {
+        if (tickMillis <= 0) {
+            throw new IllegalArgumentException("Tick must be positive");
+        }
+        if (slotCount <= 0) {
+            throw new IllegalArgumentException("Slot count must be positive");
+        }
+        var size = Integer.highestOneBit(slotCount);
+        if (size < slotCount) {
+            size <<= 1;
+        }
+        this.tickMillis = tickMillis;
+        this.mask = size - 1;
+        this.slots = new Queue[size];
+        for (int i = 0; i < size; i++) {
+            slots[i] = new ConcurrentLinkedQueue<>();
+        }
+        this.clock = clock;
+        this.currentTick = clock.getAsLong() / tickMillis;
+    }
+
+    /**
+     * Get the current time from the wheel's clock.
+     *
+     * @return epoch milliseconds
+     */
+    public long now() {
+        return clock.getAsLong();
+    }
+
+    /**
+     * Get the wheel's resolution.
+     *
+     * @return tick length in milliseconds
+     */
+    public long tickMillis() {
+        return tickMillis;
+    }
+
+    /**
+     * Get the number of sessions waiting for a deadline.
+     *
+     * @return scheduled session count
+     */
+    public int scheduledCount() {
+        return scheduled.get();
+    }
+
+    /**
+     * Advance the wheel to the current time and fire everything due.
+     */
+    public void tick() {
+        tick(clock.getAsLong());
+    }
+
+    /**
+     * Advance the wheel to the given time and fire everything due.
+     *
+     * <p>After a long pause at most one revolution of slots is scanned; every entry
+     * whose deadline has passed fires regardless of how many rounds were missed.
+     *
+     * @param nowMillis the current time in epoch milliseconds
+     */
+    public void tick(long nowMillis) {
+        final long target = nowMillis / tickMillis;
+        final long from = Math.max(currentTick + 1, target - mask);
+        for (long t = from; t <= target; t++) {
+            // Publish progress first so deadlines scheduled while firing land in a later slot
+            currentTick = t;
+            fire(slots[(int) (t & mask)], target, nowMillis);
+        }
+    }
+
+    void schedule(WebSocketProxySession session, long deadlineMillis) {
+        // Round up so nothing fires early, and never into a slot already passed
+        final long deadlineTick = Math.max(Math.ceilDiv(deadlineMillis, tickMillis), currentTick + 1);
+        scheduled.incrementAndGet();
+        slots[(int) (deadlineTick & mask)].add(new Entry(session, deadlineTick));
+    }
+
+    private void fire(Queue<Entry> slot, long target, long nowMillis) {
+        List<Entry> laterRounds = null;
+        Entry entry;
+        while ((entry = slot.poll()) != null) {
+            if (entry.deadlineTick() > target) {
+                if (laterRounds == null) {
+                    laterRounds = new ArrayList<>();
+                }
+                laterRounds.add(entry);
+                continue;
+            }
+
+            scheduled.decrementAndGet();
+            try {
+                final long next = entry.session().onDeadline(nowMillis);
+                if (next >= 0) {
+                    schedule(entry.session(), next);
+                }
+            } catch (RuntimeException e) {
+                // One failing session must not stall the rest of the batch
+                LOG.warnv(e, "Deadline handling failed for WebSocket session {0}", entry.session().sessionId());
+                entry.session().closeWithReason((short) 1011, "Internal error");
+            }
+        }
+        if (laterRounds != null) {
+            slot.addAll(laterRounds);
+        }
+    }
+
+    private record Entry(WebSocketProxySession session, long deadlineTick) {}
+}
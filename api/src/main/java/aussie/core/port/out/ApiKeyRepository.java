@@ -3,6 +3,7 @@ package aussie.core.port.out;
 import java.util.List;
 import java.util.Optional;
 
+import io.smallrye.mutiny.Multi;
 import io.smallrye.mutiny.Uni;
 
 import aussie.core.model.auth.ApiKey;
@@ -56,6 +57,19 @@ public interface ApiKeyRepository {
      */
     Uni<List<ApiKey>> findAll();
 
+    /**
+     * Stream all API keys.
+     *
+     * <p>Implementations backed by a paged store should fetch pages on demand so
+     * that callers consuming the stream incrementally hold at most one page in
+     * memory. The default implementation streams the result of {@link #findAll()}.
+     *
+     * @return Multi emitting every API key
+     */
+    default Multi<ApiKey> streamAll() {
+        return findAll().onItem().transformToMulti(all -> Multi.createFrom().iterable(all));
+    }
+
     /**
      * Check if a key exists.
      *
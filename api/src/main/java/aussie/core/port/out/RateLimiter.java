@@ -1,5 +1,7 @@
 package aussie.core.port.out;
 
+import java.util.Optional;
+
 import io.smallrye.mutiny.Uni;
 
 import aussie.core.model.ratelimit.EffectiveRateLimit;
@@ -33,6 +35,21 @@ public interface RateLimiter {
      */
     Uni<RateLimitDecision> checkAndConsume(RateLimitKey key, EffectiveRateLimit limit);
 
+    /**
+     * Check and consume without suspending, when the decision can be made locally.
+     *
+     * <p>Limiters whose state lives in-process can answer on the calling thread,
+     * avoiding a reactive pipeline per check. Limiters backed by remote storage
+     * return empty and callers fall back to {@link #checkAndConsume}.
+     *
+     * @param key the rate limit key identifying the bucket
+     * @param limit the effective rate limit to apply
+     * @return the decision, or empty if it cannot be made synchronously
+     */
+    default Optional<RateLimitDecision> tryCheckAndConsume(RateLimitKey key, EffectiveRateLimit limit) {
+        return Optional.empty();
+    }
+
     /**
      * Get the current rate limit status without consuming a token.
      *
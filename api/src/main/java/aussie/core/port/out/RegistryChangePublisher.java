@@ -0,0 +1,39 @@
+package aussie.core.port.out;
+
+import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.Uni;
+
+/**
+ * Outbound port for announcing service registry changes to other Aussie instances.
+ *
+ * <p>Each instance keeps compiled routes in memory and pulls changes with
+ * {@link ServiceRegistrationRepository#findChangedSince(long)}. A notification
+ * tells other instances to pull now instead of waiting for the route cache TTL.
+ * Notifications carry no registration data, so a lost message only delays sync.
+ *
+ * <h2>Implementation Requirements</h2>
+ * <ul>
+ *   <li>Delivery should be best-effort (the route cache TTL bounds staleness)</li>
+ *   <li>{@link #subscribe()} should not re-emit changes published by this instance</li>
+ *   <li>All operations MUST be non-blocking (return Uni/Multi)</li>
+ * </ul>
+ *
+ * @see aussie.adapter.out.storage.redis.RedisRegistryChangePublisher
+ */
+public interface RegistryChangePublisher {
+
+    /**
+     * Announce that a service registration was saved or deleted.
+     *
+     * @param serviceId the changed service
+     * @return Uni completing when the notification is published
+     */
+    Uni<Void> publish(String serviceId);
+
+    /**
+     * Subscribe to changes announced by other instances.
+     *
+     * @return Multi streaming the IDs of services changed on other instances
+     */
+    Multi<String> subscribe();
+}
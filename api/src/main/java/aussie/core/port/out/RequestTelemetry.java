@@ -0,0 +1,26 @@
+package aussie.core.port.out;
+
+import aussie.core.model.gateway.GatewayRequest;
+import aussie.core.model.gateway.GatewayResult;
+import aussie.core.model.service.ServiceRegistration;
+
+/**
+ * Port interface for recording the outcome of a proxied request.
+ *
+ * <p>Covers the gateway result, request and latency metrics, and traffic
+ * attribution in one call. Implementations may defer the work off the request
+ * path, so callers must not expect meters to be updated when this returns.
+ */
+@FunctionalInterface
+public interface RequestTelemetry {
+
+    /**
+     * Record a completed request.
+     *
+     * @param request the gateway request
+     * @param service the target service
+     * @param result the gateway result
+     * @param durationMs request duration in milliseconds
+     */
+    void recordCompletion(GatewayRequest request, ServiceRegistration service, GatewayResult result, long durationMs);
+}
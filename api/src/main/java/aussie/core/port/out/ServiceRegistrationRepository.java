@@ -3,8 +3,10 @@ package aussie.core.port.out;
 import java.util.List;
 import java.util.Optional;
 
+import io.smallrye.mutiny.Multi;
 import io.smallrye.mutiny.Uni;
 
+import aussie.core.model.service.RegistryChanges;
 import aussie.core.model.service.ServiceRegistration;
 
 /**
@@ -49,6 +51,37 @@ public interface ServiceRegistrationRepository {
      */
     Uni<List<ServiceRegistration>> findAll();
 
+    /**
+     * Stream all service registrations.
+     *
+     * <p>Implementations backed by a paged store should fetch pages on demand so
+     * that callers consuming the stream incrementally hold at most one page in
+     * memory. The default implementation streams the result of {@link #findAll()}.
+     *
+     * @return Multi emitting every service registration
+     */
+    default Multi<ServiceRegistration> streamAll() {
+        return findAll().onItem().transformToMulti(all -> Multi.createFrom().iterable(all));
+    }
+
+    /**
+     * Retrieve the services changed after a registry version.
+     *
+     * <p>Every save and delete advances a registry-wide, monotonically increasing
+     * version. Implementations that track it return a delta of the services
+     * touched since {@code version}, or a full snapshot when {@code version} is
+     * {@link RegistryChanges#UNVERSIONED} or older than the retained history.
+     *
+     * <p>The default implementation does not track versions and always returns
+     * a full snapshot from {@link #findAll()}.
+     *
+     * @param version the last registry version the caller has applied
+     * @return Uni with the changes since that version
+     */
+    default Uni<RegistryChanges> findChangedSince(long version) {
+        return findAll().map(all -> RegistryChanges.snapshot(RegistryChanges.UNVERSIONED, all));
+    }
+
     /**
      * Check if a service exists.
      *
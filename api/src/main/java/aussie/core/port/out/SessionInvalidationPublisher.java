@@ -0,0 +1,40 @@
+package aussie.core.port.out;
+
+import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.Uni;
+
+import aussie.core.model.session.SessionInvalidatedEvent;
+
+/**
+ * Outbound port for propagating session invalidations to other Aussie instances.
+ *
+ * <p>Each instance keeps a short-lived local session cache and open WebSocket
+ * connections tied to sessions. Invalidations published here let other instances
+ * evict cached sessions and close connections without waiting for the cache TTL.
+ *
+ * <h2>Implementation Requirements</h2>
+ * <ul>
+ *   <li>Delivery should be best-effort (the local cache TTL bounds staleness)</li>
+ *   <li>{@link #subscribe()} should not re-emit events published by this instance</li>
+ *   <li>All operations MUST be non-blocking (return Uni/Multi)</li>
+ * </ul>
+ *
+ * @see aussie.adapter.out.storage.redis.RedisSessionInvalidationPublisher
+ */
+public interface SessionInvalidationPublisher {
+
+    /**
+     * Publish a session invalidation to other instances.
+     *
+     * @param event the invalidation
+     * @return Uni completing when the event is published
+     */
+    Uni<Void> publish(SessionInvalidatedEvent event);
+
+    /**
+     * Subscribe to session invalidations from other instances.
+     *
+     * @return Multi streaming invalidations received from other instances
+     */
+    Multi<SessionInvalidatedEvent> subscribe();
+}
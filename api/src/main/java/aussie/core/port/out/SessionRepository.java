@@ -1,5 +1,6 @@
 package aussie.core.port.out;
 
+import java.time.Instant;
 import java.util.Optional;
 
 import io.smallrye.mutiny.Uni;
@@ -59,6 +60,30 @@ public interface SessionRepository {
      */
     Uni<Session> update(Session session);
 
+    /**
+     * Record activity on a session without rewriting its payload.
+     *
+     * <p>Only {@code lastAccessedAt} and {@code expiresAt} change, so implementations
+     * should update those fields and the storage TTL in place. Touching a session
+     * that no longer exists is a no-op.
+     *
+     * <p>The default implementation reads and rewrites the whole session.
+     *
+     * @param sessionId Session identifier
+     * @param lastAccessedAt New last activity timestamp
+     * @param expiresAt New expiration timestamp
+     * @return Uni completing when the touch is stored
+     */
+    default Uni<Void> touch(String sessionId, Instant lastAccessedAt, Instant expiresAt) {
+        return findById(sessionId).flatMap(sessionOpt -> {
+            if (sessionOpt.isEmpty()) {
+                return Uni.createFrom().voidItem();
+            }
+            var touched = sessionOpt.get().withLastAccessedAt(lastAccessedAt).withExpiresAt(expiresAt);
+            return update(touched).replaceWithVoid();
+        });
+    }
+
     /**
      * Deletes/invalidates a session.
      *
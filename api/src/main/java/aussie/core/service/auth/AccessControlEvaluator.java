@@ -1,17 +1,18 @@
 package aussie.core.service.auth;
 
-import java.net.InetAddress;
-import java.net.UnknownHostException;
 import java.util.List;
-import java.util.Map;
 import java.util.Optional;
-import java.util.concurrent.ConcurrentHashMap;
 
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
 import aussie.core.model.auth.AccessControlConfig;
 import aussie.core.model.auth.ServiceAccessConfig;
+import aussie.core.model.common.IpAddress;
+import aussie.core.model.common.IpPrefixSet;
 import aussie.core.model.common.SourceIdentifier;
 import aussie.core.model.routing.EndpointVisibility;
 import aussie.core.model.routing.RouteLookupResult;
@@ -27,30 +28,25 @@ import aussie.core.model.routing.RouteLookupResult;
  *   <li>Service-specific access overrides</li>
  * </ul>
  *
- * <p>Caches parsed CIDR networks and IP addresses for efficient repeated lookups.
+ * <p>IP allow lists are compiled into prefix tries ({@link IpPrefixSet}) once per
+ * configured list, and the source IP is parsed once per request.
  */
 @ApplicationScoped
 public class AccessControlEvaluator {
 
-    private final AccessControlConfig config;
+    private static final int MAX_COMPILED_IP_LISTS = 1024;
 
-    // Cache for parsed CIDR network addresses - computed once per unique CIDR
-    // pattern
-    private final Map<String, ParsedCidr> cidrCache = new ConcurrentHashMap<>();
+    private final AccessControlConfig config;
 
-    // Cache for parsed source IP addresses - computed once per unique IP string
-    private final Map<String, byte[]> ipAddressCache = new ConcurrentHashMap<>();
+    // Compiled allow lists, keyed by the configured pattern list (global or per service)
+    private final Cache<List<String>, IpPrefixSet> compiledIps;
 
     @Inject
     public AccessControlEvaluator(AccessControlConfig config) {
         this.config = config;
+        this.compiledIps = Caffeine.newBuilder().maximumSize(MAX_COMPILED_IP_LISTS).build();
     }
 
-    /**
-     * Pre-parsed CIDR network for fast matching.
-     */
-    private record ParsedCidr(byte[] networkBytes, int prefixLength) {}
-
     public boolean isAllowed(
             SourceIdentifier source, RouteLookupResult route, Optional<ServiceAccessConfig> serviceConfig) {
 
@@ -64,19 +60,22 @@ public class AccessControlEvaluator {
     }
 
     private boolean isSourceAllowed(SourceIdentifier source, Optional<ServiceAccessConfig> serviceConfig) {
+        final var sourceAddress = IpAddress.parse(source.ipAddress());
+
         // If service has specific restrictions, use those (subset of global)
         if (serviceConfig.isPresent() && serviceConfig.get().hasRestrictions()) {
-            return isSourceInAllowedList(source, serviceConfig.get());
+            return isSourceInAllowedList(source, sourceAddress, serviceConfig.get());
         }
 
         // Otherwise, use global access control configuration
-        return isSourceInGlobalAllowedList(source);
+        return isSourceInGlobalAllowedList(source, sourceAddress);
     }
 
-    private boolean isSourceInAllowedList(SourceIdentifier source, ServiceAccessConfig accessConfig) {
+    private boolean isSourceInAllowedList(
+            SourceIdentifier source, IpAddress sourceAddress, ServiceAccessConfig accessConfig) {
         // Check IPs
         if (accessConfig.allowedIps().isPresent()) {
-            if (matchesIp(source.ipAddress(), accessConfig.allowedIps().get())) {
+            if (matchesIp(source.ipAddress(), sourceAddress, accessConfig.allowedIps().get())) {
                 return true;
             }
         }
@@ -102,10 +101,10 @@ public class AccessControlEvaluator {
         return false;
     }
 
-    private boolean isSourceInGlobalAllowedList(SourceIdentifier source) {
+    private boolean isSourceInGlobalAllowedList(SourceIdentifier source, IpAddress sourceAddress) {
         // Check IPs
         if (config.allowedIps().isPresent()) {
-            if (matchesIp(source.ipAddress(), config.allowedIps().get())) {
+            if (matchesIp(source.ipAddress(), sourceAddress, config.allowedIps().get())) {
                 return true;
             }
         }
@@ -131,95 +130,24 @@ public class AccessControlEvaluator {
     }
 
     boolean matchesIp(String sourceIp, List<String> allowedPatterns) {
-        for (var pattern : allowedPatterns) {
-            if (pattern.contains("/")) {
-                // CIDR notation
-                if (matchesCidr(sourceIp, pattern)) {
-                    return true;
-                }
-            } else {
-                // Exact match
-                if (pattern.equals(sourceIp)) {
-                    return true;
-                }
-            }
-        }
-        return false;
-    }
-
-    private boolean matchesCidr(String sourceIp, String cidr) {
-        try {
-            // Get cached parsed CIDR or parse and cache it
-            final var parsedCidr = cidrCache.computeIfAbsent(cidr, this::parseCidr);
-            if (parsedCidr == null) {
-                return false;
-            }
-
-            // Get cached parsed source IP or parse and cache it
-            final var sourceBytes = ipAddressCache.computeIfAbsent(sourceIp, this::parseIpAddress);
-            if (sourceBytes == null) {
-                return false;
-            }
-
-            final var networkBytes = parsedCidr.networkBytes();
-            final var prefixLength = parsedCidr.prefixLength();
-
-            if (networkBytes.length != sourceBytes.length) {
-                return false;
-            }
-
-            final var fullBytes = prefixLength / 8;
-            final var remainingBits = prefixLength % 8;
-
-            // Compare full bytes
-            for (var i = 0; i < fullBytes; i++) {
-                if (networkBytes[i] != sourceBytes[i]) {
-                    return false;
-                }
-            }
-
-            // Compare remaining bits
-            if (remainingBits > 0 && fullBytes < networkBytes.length) {
-                final var mask = (byte) (0xFF << (8 - remainingBits));
-                if ((networkBytes[fullBytes] & mask) != (sourceBytes[fullBytes] & mask)) {
-                    return false;
-                }
-            }
-
-            return true;
-        } catch (Exception e) {
-            return false;
-        }
+        return matchesIp(sourceIp, IpAddress.parse(sourceIp), allowedPatterns);
     }
 
-    /**
-     * Parse a CIDR pattern into network bytes and prefix length.
-     * Return null if the pattern is invalid.
-     */
-    private ParsedCidr parseCidr(String cidr) {
-        try {
-            final var parts = cidr.split("/");
-            if (parts.length != 2) {
-                return null;
-            }
-            final var networkAddress = InetAddress.getByName(parts[0]);
-            final var prefixLength = Integer.parseInt(parts[1]);
-            return new ParsedCidr(networkAddress.getAddress(), prefixLength);
-        } catch (UnknownHostException | NumberFormatException e) {
-            return null;
-        }
+    private boolean matchesIp(String sourceIp, IpAddress sourceAddress, List<String> allowedPatterns) {
+        return compiled(allowedPatterns).contains(sourceIp, sourceAddress);
     }
 
     /**
-     * Parse an IP address string into bytes.
-     * Return null if the address is invalid.
+     * Get the compiled form of an IP pattern list. Keys are configured lists, so the
+     * cache is sized by configuration, never by client addresses; lists that are no
+     * longer configured are evicted as services change.
      */
-    private byte[] parseIpAddress(String ip) {
-        try {
-            return InetAddress.getByName(ip).getAddress();
-        } catch (UnknownHostException e) {
-            return null;
+    private IpPrefixSet compiled(List<String> patterns) {
+        final var cached = compiledIps.getIfPresent(patterns);
+        if (cached != null) {
+            return cached;
         }
+        return compiledIps.get(List.copyOf(patterns), IpPrefixSet::compile);
     }
 
     boolean matchesDomain(String sourceHost, List<String> allowedDomains) {
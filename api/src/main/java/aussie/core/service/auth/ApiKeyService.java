@@ -84,9 +84,7 @@ public class ApiKeyService implements ApiKeyManagement {
 
     @Override
     public Uni<List<ApiKey>> list() {
-        return repository
-                .findAll()
-                .map(keys -> keys.stream().map(ApiKey::redacted).toList());
+        return repository.streamAll().map(ApiKey::redacted).collect().asList();
     }
 
     @Override
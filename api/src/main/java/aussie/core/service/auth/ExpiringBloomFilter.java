@@ -0,0 +1,339 @@
+package aussie.core.service.auth;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import com.google.common.hash.HashFunction;
+import com.google.common.hash.Hashing;
+
+/**
+ * Bloom filter whose entries age out once the revocation they represent expires.
+ *
+ * <p>Entries are placed in a generation chosen by their expiry time. Each generation
+ * covers one {@code generationWidth} window and is dropped as soon as every entry in
+ * it has expired, so the false positive rate follows the live revocation set instead
+ * of climbing until the next full rebuild.
+ *
+ * <p>Each generation is a scalable bloom filter: a chain of slices where every slice
+ * holds twice the entries of the one before it at half the false positive rate. New
+ * entries go to the newest slice, and a new slice is appended once it reaches its
+ * capacity, so the combined false positive rate of a generation stays below the
+ * configured {@code fpp} however many entries land in it. This matters for the last
+ * generation, which collects every entry expiring beyond the horizon, and for rebuilds
+ * that stream an unknown number of entries.
+ *
+ * <p>All generations share the same slice geometry, so a lookup hashes the value once
+ * and probes each live slice with the same double-hashing sequence. Writes are lock-free
+ * except for appending a slice.
+ *
+ * <p>Entries whose expiry lies beyond {@code maxGenerations} windows are placed in the
+ * last generation, which then stays alive until its latest entry expires. Entries with
+ * unknown expiry are retained for the full horizon.
+ */
+final class ExpiringBloomFilter {
+
+    private static final HashFunction HASH = Hashing.murmur3_128();
+    private static final double LN2 = Math.log(2);
+    private static final int MAX_SLICES = 16;
+    private static final long MAX_SLICE_WORDS = 1L << 24;
+
+    private final long generationWidthMillis;
+    private final int maxGenerations;
+    private final long sliceCapacity;
+    private final long[] sliceBits;
+    private final int[] sliceHashes;
+    private final Clock clock;
+    private final ConcurrentSkipListMap<Long, Generation> generations = new ConcurrentSkipListMap<>();
+
+    private ExpiringBloomFilter(
+            long generationWidthMillis, int maxGenerations, long sliceCapacity, double fpp, Clock clock) {
+        this.generationWidthMillis = generationWidthMillis;
+        this.maxGenerations = maxGenerations;
+        this.sliceCapacity = sliceCapacity;
+        this.clock = clock;
+
+        // Slice i holds capacity * 2^i entries at fpp / 2^(i+1), so the rates sum to at most fpp
+        var bits = new long[MAX_SLICES];
+        var hashes = new int[MAX_SLICES];
+        var levels = 0;
+        while (levels < MAX_SLICES) {
+            var capacity = sliceCapacity << levels;
+            var sliceFpp = fpp / (2L << levels);
+            var size = Math.max(Long.SIZE, (long) (-capacity * Math.log(sliceFpp) / (LN2 * LN2)));
+            if (levels > 0 && (size / Long.SIZE > MAX_SLICE_WORDS || capacity <= 0)) {
+                break;
+            }
+            bits[levels] = size;
+            hashes[levels] = Math.max(1, (int) Math.round((double) size / capacity * LN2));
+            levels++;
+        }
+        this.sliceBits = Arrays.copyOf(bits, levels);
+        this.sliceHashes = Arrays.copyOf(hashes, levels);
+    }
+
+    /**
+     * Create an empty filter.
+     *
+     * @param generationWidth    expiry window covered by each generation
+     * @param maxGenerations     number of windows kept ahead of the current time
+     * @param expectedInsertions expected entries per generation; generations grow beyond this
+     * @param fpp                upper bound on the false positive probability per generation
+     * @param clock              time source for expiry decisions
+     * @return a new filter
+     */
+    static ExpiringBloomFilter create(
+            Duration generationWidth, int maxGenerations, int expectedInsertions, double fpp, Clock clock) {
+        if (generationWidth.isNegative() || generationWidth.isZero()) {
+            throw new IllegalArgumentException("Generation width must be positive");
+        }
+        if (maxGenerations < 1) {
+            throw new IllegalArgumentException("At least one generation is required");
+        }
+        if (fpp <= 0.0 || fpp >= 1.0) {
+            throw new IllegalArgumentException("False positive probability must be in (0, 1)");
+        }
+        return new ExpiringBloomFilter(
+                generationWidth.toMillis(), maxGenerations, Math.max(1, expectedInsertions), fpp, clock);
+    }
+
+    /**
+     * Record a value until the given expiry.
+     *
+     * @param value     the value to add
+     * @param expiresAt when the entry may be forgotten, or null if unknown
+     */
+    void put(String value, Instant expiresAt) {
+        var now = clock.millis();
+        var expiry = expiresAt != null ? expiresAt.toEpochMilli() : now + horizonMillis();
+        if (expiry <= now) {
+            return;
+        }
+
+        var lastIndex = Math.floorDiv(now, generationWidthMillis) + maxGenerations - 1;
+        var index = Math.min(Math.floorDiv(expiry, generationWidthMillis), lastIndex);
+        var generation = generations.computeIfAbsent(index, i -> new Generation((i + 1) * generationWidthMillis));
+        generation.retainUntil(expiry);
+
+        var hash = HASH.hashString(value, StandardCharsets.UTF_8).asBytes();
+        generation.set(lowerHalf(hash), upperHalf(hash));
+    }
+
+    /**
+     * Check whether a value may have been added and not yet expired.
+     *
+     * @param value the value to check
+     * @return false if the value is definitely absent
+     */
+    boolean mightContain(String value) {
+        if (generations.isEmpty()) {
+            return false;
+        }
+        var now = clock.millis();
+        var hash = HASH.hashString(value, StandardCharsets.UTF_8).asBytes();
+        var h1 = lowerHalf(hash);
+        var h2 = upperHalf(hash);
+        for (var generation : generations.values()) {
+            if (generation.retainUntilMillis.get() > now && generation.mightContain(h1, h2)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Drop generations whose entries have all expired.
+     *
+     * @return number of generations removed
+     */
+    int expireGenerations() {
+        var now = clock.millis();
+        var before = generations.size();
+        generations.values().removeIf(generation -> generation.retainUntilMillis.get() <= now);
+        return before - generations.size();
+    }
+
+    /**
+     * Fraction of bits set in the fullest slice of any live generation.
+     *
+     * @return fill ratio between 0 and 1
+     */
+    double fillRatio() {
+        var max = 0.0;
+        for (var generation : generations.values()) {
+            for (var slice : generation.slices) {
+                max = Math.max(max, slice.fillRatio());
+            }
+        }
+        return max;
+    }
+
+    /**
+     * Estimated probability that a lookup for an absent value returns true.
+     *
+     * @return combined false positive probability across live generations
+     */
+    double expectedFpp() {
+        // 1 - prod(1 - p_i) over every live slice, in log space so tiny rates survive
+        var logAllMiss = 0.0;
+        for (var generation : generations.values()) {
+            for (var slice : generation.slices) {
+                logAllMiss += Math.log1p(-Math.pow(slice.fillRatio(), slice.numHashFunctions));
+            }
+        }
+        return logAllMiss == 0.0 ? 0.0 : -Math.expm1(logAllMiss);
+    }
+
+    int generationCount() {
+        return generations.size();
+    }
+
+    int sliceCount() {
+        var count = 0;
+        for (var generation : generations.values()) {
+            count += generation.slices.length;
+        }
+        return count;
+    }
+
+    private long horizonMillis() {
+        return generationWidthMillis * maxGenerations;
+    }
+
+    private static long lowerHalf(byte[] hash) {
+        return toLong(hash, 0);
+    }
+
+    private static long upperHalf(byte[] hash) {
+        return toLong(hash, 8);
+    }
+
+    private static long toLong(byte[] bytes, int offset) {
+        long value = 0;
+        for (int i = offset + 7; i >= offset; i--) {
+            value = (value << 8) | (bytes[i] & 0xFFL);
+        }
+        return value;
+    }
+
+    /**
+     * One expiry window: a growing chain of slices plus the time after which it can be dropped.
+     */
+    private final class Generation {
+
+        private volatile Slice[] slices;
+        private final AtomicLong retainUntilMillis;
+
+        Generation(long retainUntilMillis) {
+            this.retainUntilMillis = new AtomicLong(retainUntilMillis);
+            this.slices = new Slice[] {new Slice(0)};
+        }
+
+        void retainUntil(long millis) {
+            retainUntilMillis.accumulateAndGet(millis, Math::max);
+        }
+
+        void set(long h1, long h2) {
+            var current = slices;
+            var slice = current[current.length - 1];
+            if (slice.isFull() && current.length < sliceBits.length) {
+                var grown = grow(current.length + 1);
+                slice = grown[grown.length - 1];
+            }
+            slice.set(h1, h2);
+        }
+
+        boolean mightContain(long h1, long h2) {
+            for (var slice : slices) {
+                if (slice.mightContain(h1, h2)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        private synchronized Slice[] grow(int count) {
+            var current = slices;
+            if (current.length >= count) {
+                return current;
+            }
+            var next = Arrays.copyOf(current, count);
+            for (int level = current.length; level < count; level++) {
+                next[level] = new Slice(level);
+            }
+            slices = next;
+            return next;
+        }
+    }
+
+    /**
+     * One fixed-size bit array within a generation.
+     */
+    private final class Slice {
+
+        private final long numBits;
+        private final int numHashFunctions;
+        private final long capacity;
+        private final AtomicLongArray words;
+        private final AtomicLong bitCount = new AtomicLong();
+        private final AtomicLong insertions = new AtomicLong();
+
+        Slice(int level) {
+            this.numBits = sliceBits[level];
+            this.numHashFunctions = sliceHashes[level];
+            this.capacity = sliceCapacity << level;
+            this.words = new AtomicLongArray((int) ((numBits + Long.SIZE - 1) / Long.SIZE));
+        }
+
+        boolean isFull() {
+            return insertions.get() >= capacity;
+        }
+
+        void set(long h1, long h2) {
+            insertions.incrementAndGet();
+            var combined = h1;
+            for (int i = 0; i < numHashFunctions; i++) {
+                var bit = (combined & Long.MAX_VALUE) % numBits;
+                if (setBit(bit)) {
+                    bitCount.incrementAndGet();
+                }
+                combined += h2;
+            }
+        }
+
+        boolean mightContain(long h1, long h2) {
+            var combined = h1;
+            for (int i = 0; i < numHashFunctions; i++) {
+                var bit = (combined & Long.MAX_VALUE) % numBits;
+                if ((words.get((int) (bit >>> 6)) & (1L << bit)) == 0) {
+                    return false;
+                }
+                combined += h2;
+            }
+            return true;
+        }
+
+        double fillRatio() {
+            return (double) bitCount.get() / numBits;
+        }
+
+        private boolean setBit(long bit) {
+            var index = (int) (bit >>> 6);
+            var mask = 1L << bit;
+            while (true) {
+                var current = words.get(index);
+                if ((current & mask) != 0) {
+                    return false;
+                }
+                if (words.compareAndSet(index, current, current | mask)) {
+                    return true;
+                }
+            }
+        }
+    }
+}
@@ -1,28 +1,37 @@
 package aussie.core.service.auth;
 
-import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
 
 import jakarta.annotation.PostConstruct;
 import jakarta.enterprise.context.ApplicationScoped;
 
-import com.google.common.hash.BloomFilter;
-import com.google.common.hash.Funnels;
+import io.smallrye.mutiny.Multi;
 import io.smallrye.mutiny.Uni;
 import io.vertx.mutiny.core.Vertx;
 import org.jboss.logging.Logger;
 
 import aussie.core.config.TokenRevocationConfig;
 import aussie.core.model.auth.RevocationEvent;
+import aussie.core.model.auth.RevocationRecord;
 import aussie.core.port.out.RevocationEventPublisher;
 import aussie.spi.TokenRevocationRepository;
 
 /**
  * Thread-safe bloom filter for O(1) "definitely not revoked" checks.
  *
- * <p>Uses Guava's BloomFilter with configurable expected insertions and
- * false positive probability. The filter is rebuilt periodically from
+ * <p>Entries are kept in an {@link ExpiringBloomFilter}, bucketed by the
+ * expiry of the revocation they represent. Buckets are dropped once every
+ * entry in them has expired, so the false positive rate (and with it the
+ * number of remote lookups) stays flat between rebuilds instead of growing
+ * with every revocation ever seen. The filter is rebuilt periodically from
  * the remote store to handle instance restarts and ensure consistency.
  *
+ * <p>Negative answers are only trusted once a rebuild has completed. Until
+ * then {@link #isEnabled()} reports false and callers go to the remote store.
+ *
  * <p>Performance characteristics:
  * <ul>
  *   <li>{@link #definitelyNotRevoked} - ~100ns, no network I/O</li>
@@ -34,15 +43,19 @@ import aussie.spi.TokenRevocationRepository;
 public class RevocationBloomFilter {
 
     private static final Logger LOG = Logger.getLogger(RevocationBloomFilter.class);
+    private static final Clock CLOCK = Clock.systemUTC();
 
     private final TokenRevocationConfig config;
     private final TokenRevocationRepository repository;
     private final RevocationEventPublisher eventPublisher;
     private final Vertx vertx;
 
-    private volatile BloomFilter<CharSequence> jtiFilter;
-    private volatile BloomFilter<CharSequence> userFilter;
+    private volatile ExpiringBloomFilter jtiFilter;
+    private volatile ExpiringBloomFilter userFilter;
+    private volatile ExpiringBloomFilter pendingJtiFilter;
+    private volatile ExpiringBloomFilter pendingUserFilter;
     private volatile boolean initialized = false;
+    private final AtomicBoolean rebuilding = new AtomicBoolean(false);
     private final Object writeLock = new Object();
 
     public RevocationBloomFilter(
@@ -66,32 +79,57 @@ public class RevocationBloomFilter {
         // Initialize empty filters immediately for fast startup
         initializeEmptyFilters();
 
+        // Subscribe first so revocations made while the rebuild runs are not missed
+        subscribeToRevocationEvents();
+
         // Rebuild from remote store in background
         rebuildFilters()
                 .subscribe()
                 .with(
                         v -> LOG.info("Initial bloom filter rebuild completed"),
-                        e -> LOG.warnf(e, "Initial bloom filter rebuild failed, using empty filters"));
+                        e -> LOG.warnf(e, "Initial bloom filter rebuild failed, checking the remote store"));
 
         // Schedule periodic rebuilds
         schedulePeriodicRebuild();
 
-        // Subscribe to revocation events from other instances
-        subscribeToRevocationEvents();
+        // Drop generations whose revocations have expired
+        scheduleGenerationExpiry();
     }
 
     private void initializeEmptyFilters() {
         var bloomConfig = config.bloomFilter();
         this.jtiFilter = createFilter(bloomConfig.expectedInsertions(), bloomConfig.falsePositiveProbability());
         this.userFilter = createFilter(bloomConfig.expectedInsertions() / 10, bloomConfig.falsePositiveProbability());
-        this.initialized = true;
         LOG.infof(
                 "Initialized empty bloom filters (expected: %d, fpp: %.4f)",
                 bloomConfig.expectedInsertions(), bloomConfig.falsePositiveProbability());
     }
 
-    private BloomFilter<CharSequence> createFilter(int expectedInsertions, double fpp) {
-        return BloomFilter.create(Funnels.stringFunnel(StandardCharsets.UTF_8), expectedInsertions, fpp);
+    private ExpiringBloomFilter createFilter(int expectedInsertions, double fpp) {
+        var bloomConfig = config.bloomFilter();
+        var generations = bloomConfig.maxGenerations();
+        // Each generation holds a share of the live set; start with 2x headroom for uneven expiry
+        // (generations grow past it) and split the false positive budget across generations
+        var perGeneration = (int) Math.min(Integer.MAX_VALUE, 2L * expectedInsertions / generations + 1);
+        return ExpiringBloomFilter.create(
+                bloomConfig.generationWidth(), generations, perGeneration, fpp / generations, CLOCK);
+    }
+
+    private void scheduleGenerationExpiry() {
+        var interval = config.bloomFilter().generationWidth();
+        vertx.setPeriodic(interval.toMillis(), id -> expireGenerations());
+    }
+
+    /**
+     * Drop filter generations whose revocations have all expired.
+     */
+    void expireGenerations() {
+        var jtis = jtiFilter;
+        var users = userFilter;
+        var removed = (jtis != null ? jtis.expireGenerations() : 0) + (users != null ? users.expireGenerations() : 0);
+        if (removed > 0) {
+            LOG.debugf("Expired %d bloom filter generations", removed);
+        }
     }
 
     private void schedulePeriodicRebuild() {
@@ -120,11 +158,11 @@ public class RevocationBloomFilter {
     private void handleRevocationEvent(RevocationEvent event) {
         switch (event) {
             case RevocationEvent.JtiRevoked jtiRevoked -> {
-                addRevokedJti(jtiRevoked.jti());
+                addRevokedJti(jtiRevoked.jti(), jtiRevoked.expiresAt());
                 LOG.debugf("Added JTI to bloom filter from event: %s", jtiRevoked.jti());
             }
             case RevocationEvent.UserRevoked userRevoked -> {
-                addRevokedUser(userRevoked.userId());
+                addRevokedUser(userRevoked.userId(), userRevoked.expiresAt());
                 LOG.debugf("Added user to bloom filter from event: %s", userRevoked.userId());
             }
         }
@@ -160,29 +198,60 @@ public class RevocationBloomFilter {
     }
 
     /**
-     * Add a JTI to the bloom filter (called on revocation).
+     * Add a JTI with unknown expiry to the bloom filter.
+     *
+     * <p>The entry is retained for the filter's full horizon. Prefer
+     * {@link #addRevokedJti(String, Instant)} when the token expiry is known.
      *
      * @param jti the JWT ID to add
      */
     public void addRevokedJti(String jti) {
+        addRevokedJti(jti, null);
+    }
+
+    /**
+     * Add a JTI to the bloom filter (called on revocation).
+     *
+     * @param jti       the JWT ID to add
+     * @param expiresAt when the revoked token expires, or null if unknown
+     */
+    public void addRevokedJti(String jti, Instant expiresAt) {
         synchronized (writeLock) {
             var filter = jtiFilter;
             if (filter != null) {
-                filter.put(jti);
+                filter.put(jti, expiresAt);
+            }
+            var pending = pendingJtiFilter;
+            if (pending != null) {
+                pending.put(jti, expiresAt);
             }
         }
     }
 
     /**
-     * Add a user to the bloom filter (called on user revocation).
+     * Add a user with unknown revocation expiry to the bloom filter.
      *
      * @param userId the user ID to add
      */
     public void addRevokedUser(String userId) {
+        addRevokedUser(userId, null);
+    }
+
+    /**
+     * Add a user to the bloom filter (called on user revocation).
+     *
+     * @param userId    the user ID to add
+     * @param expiresAt when the user revocation expires, or null if unknown
+     */
+    public void addRevokedUser(String userId, Instant expiresAt) {
         synchronized (writeLock) {
             var filter = userFilter;
             if (filter != null) {
-                filter.put(userId);
+                filter.put(userId, expiresAt);
+            }
+            var pending = pendingUserFilter;
+            if (pending != null) {
+                pending.put(userId, expiresAt);
             }
         }
     }
@@ -193,39 +262,112 @@ public class RevocationBloomFilter {
      * <p>This is called on startup and periodically to ensure
      * the bloom filter stays in sync with the authoritative store.
      *
+     * <p>Entries are streamed straight into the new filters, so memory stays at
+     * roughly one extra filter regardless of revocation volume. Revocations that
+     * arrive while the rebuild is in progress are written to both the active and
+     * the in-progress filters so they survive the swap. If a rebuild is already
+     * running, this call completes immediately and the running rebuild wins.
+     * Nothing happens until the returned Uni is subscribed.
+     *
      * @return Uni completing when rebuild is done
      */
     public Uni<Void> rebuildFilters() {
+        return Uni.createFrom().deferred(this::startRebuild);
+    }
+
+    private Uni<Void> startRebuild() {
         if (!config.enabled() || !config.bloomFilter().enabled()) {
             return Uni.createFrom().voidItem();
         }
+        if (!rebuilding.compareAndSet(false, true)) {
+            LOG.debug("Bloom filter rebuild already in progress, skipping");
+            return Uni.createFrom().voidItem();
+        }
 
         var bloomConfig = config.bloomFilter();
+        var newJtiFilter = createFilter(bloomConfig.expectedInsertions(), bloomConfig.falsePositiveProbability());
+        var newUserFilter =
+                createFilter(bloomConfig.expectedInsertions() / 10, bloomConfig.falsePositiveProbability());
 
-        return repository.streamAllRevokedJtis().collect().asList().flatMap(jtis -> repository
-                .streamAllRevokedUsers()
-                .collect()
-                .asList()
-                .map(users -> {
-                    var newJtiFilter = createFilter(
-                            Math.max(bloomConfig.expectedInsertions(), jtis.size()),
-                            bloomConfig.falsePositiveProbability());
-                    var newUserFilter = createFilter(
-                            Math.max(bloomConfig.expectedInsertions() / 10, users.size()),
-                            bloomConfig.falsePositiveProbability());
-
-                    jtis.forEach(newJtiFilter::put);
-                    users.forEach(newUserFilter::put);
+        synchronized (writeLock) {
+            this.pendingJtiFilter = newJtiFilter;
+            this.pendingUserFilter = newUserFilter;
+        }
+
+        return streamInto(repository.streamAllRevokedJtiRecords(), newJtiFilter)
+                .flatMap(jtiCount -> streamInto(repository.streamAllRevokedUserRecords(), newUserFilter)
+                        .map(userCount -> {
+                            synchronized (writeLock) {
+                                this.jtiFilter = newJtiFilter;
+                                this.userFilter = newUserFilter;
+                                this.initialized = true;
+                            }
 
+                            if (jtiCount > bloomConfig.expectedInsertions()) {
+                                LOG.warnf(
+                                        "Revoked JTI count %d exceeds expected insertions %d; "
+                                                + "bloom filter generations will grow past their initial size",
+                                        jtiCount,
+                                        bloomConfig.expectedInsertions());
+                            }
+                            LOG.infof("Rebuilt bloom filters: %d JTIs, %d users", jtiCount, userCount);
+                            return null;
+                        }))
+                .replaceWithVoid()
+                .eventually(() -> {
                     synchronized (writeLock) {
-                        this.jtiFilter = newJtiFilter;
-                        this.userFilter = newUserFilter;
-                        this.initialized = true;
+                        this.pendingJtiFilter = null;
+                        this.pendingUserFilter = null;
                     }
+                    rebuilding.set(false);
+                });
+    }
+
+    private Uni<Long> streamInto(Multi<RevocationRecord> source, ExpiringBloomFilter filter) {
+        return source.onItem()
+                .invoke(record -> filter.put(record.id(), record.expiresAt()))
+                .collect()
+                .with(Collectors.counting());
+    }
+
+    /**
+     * Fraction of bits set in the fullest live JTI filter generation.
+     *
+     * @return fill ratio between 0 and 1, or 0 when the filter is not built
+     */
+    public double jtiFillRatio() {
+        var filter = jtiFilter;
+        return filter != null ? filter.fillRatio() : 0.0;
+    }
+
+    /**
+     * Estimated false positive probability of the JTI filter.
+     *
+     * @return estimated FPP across live generations
+     */
+    public double jtiExpectedFpp() {
+        var filter = jtiFilter;
+        return filter != null ? filter.expectedFpp() : 0.0;
+    }
 
-                    LOG.infof("Rebuilt bloom filters: %d JTIs, %d users", jtis.size(), users.size());
-                    return null;
-                }));
+    /**
+     * Fraction of bits set in the fullest live user filter generation.
+     *
+     * @return fill ratio between 0 and 1, or 0 when the filter is not built
+     */
+    public double userFillRatio() {
+        var filter = userFilter;
+        return filter != null ? filter.fillRatio() : 0.0;
+    }
+
+    /**
+     * Estimated false positive probability of the user filter.
+     *
+     * @return estimated FPP across live generations
+     */
+    public double userExpectedFpp() {
+        var filter = userFilter;
+        return filter != null ? filter.expectedFpp() : 0.0;
     }
 
     /**
@@ -170,7 +170,7 @@ public class TokenRevocationService {
         return repository
                 .revoke(jti, effectiveExpiresAt)
                 .invoke(() -> {
-                    bloomFilter.addRevokedJti(jti);
+                    bloomFilter.addRevokedJti(jti, effectiveExpiresAt);
                     cache.cacheJtiRevocation(jti, effectiveExpiresAt);
                 })
                 .flatMap(v -> {
@@ -222,7 +222,7 @@ public class TokenRevocationService {
                 .revokeAllForUser(userId, issuedBefore, expiresAt)
                 .invoke(() -> {
                     // Update local bloom filter
-                    bloomFilter.addRevokedUser(userId);
+                    bloomFilter.addRevokedUser(userId, expiresAt);
                     // Update local cache
                     cache.cacheUserRevocation(userId, issuedBefore, expiresAt);
                 })
@@ -5,6 +5,8 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
 
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
@@ -12,6 +14,7 @@ import jakarta.inject.Inject;
 import io.smallrye.mutiny.Uni;
 import org.jboss.logging.Logger;
 
+import aussie.core.model.auth.CompiledTranslationPlan;
 import aussie.core.model.auth.TranslatedClaims;
 import aussie.core.model.auth.TranslationConfigSchema;
 import aussie.core.model.auth.TranslationConfigVersion;
@@ -22,6 +25,10 @@ import aussie.core.port.out.TranslationConfigRepository;
  *
  * <p>Handles CRUD operations for translation configs with version history,
  * validation, and testing capabilities.
+ *
+ * <p>A version is compiled into a {@link CompiledTranslationPlan} before it is made
+ * active, so a version that cannot be compiled is rejected and never becomes the
+ * stored active config.
  */
 @ApplicationScoped
 public class TranslationConfigService {
@@ -55,6 +62,13 @@ public class TranslationConfigService {
                 return Uni.createFrom()
                         .failure(new ConfigValidationException("Configuration validation failed", errors));
             }
+            if (activate) {
+                final var compileErrors = compileErrors(config);
+                if (!compileErrors.isEmpty()) {
+                    return Uni.createFrom()
+                            .failure(new ConfigValidationException("Configuration compilation failed", compileErrors));
+                }
+            }
 
             return repository.getNextVersionNumber().flatMap(nextVersion -> {
                 final var id = UUID.randomUUID().toString();
@@ -128,18 +142,25 @@ public class TranslationConfigService {
      * Activate a specific version, making it the current config.
      *
      * @param versionId the version ID to activate
-     * @return Uni with true if version was found and activated
+     * @return Uni with true if version was found and activated, failing with
+     *         {@link ConfigValidationException} if the version does not compile
      */
     public Uni<Boolean> activate(String versionId) {
         LOG.infof("Activating translation config version: %s", versionId);
-        return repository.setActive(versionId);
+        return repository.findById(versionId).flatMap(version -> {
+            if (version.isEmpty()) {
+                return Uni.createFrom().item(false);
+            }
+            return ensureCompiles(version.get()).chain(() -> repository.setActive(versionId));
+        });
     }
 
     /**
      * Rollback to a previous version by version number.
      *
      * @param versionNumber the version number to rollback to
-     * @return Uni with Optional containing the activated version
+     * @return Uni with Optional containing the activated version, failing with
+     *         {@link ConfigValidationException} if the version does not compile
      */
     public Uni<Optional<TranslationConfigVersion>> rollback(int versionNumber) {
         LOG.infof("Rolling back translation config to version: %d", versionNumber);
@@ -149,12 +170,11 @@ public class TranslationConfigService {
                 return Uni.createFrom().item(Optional.empty());
             }
 
-            return repository.setActive(version.get().id()).map(activated -> {
-                if (activated) {
-                    return Optional.of(version.get().activate());
-                }
-                return Optional.empty();
-            });
+            return ensureCompiles(version.get())
+                    .chain(() -> repository.setActive(version.get().id()))
+                    .map(activated -> activated
+                            ? Optional.of(version.get().activate())
+                            : Optional.<TranslationConfigVersion>empty());
         });
     }
 
@@ -250,6 +270,28 @@ public class TranslationConfigService {
         return translationService.translate(issuer, subject, claims);
     }
 
+    private Uni<Void> ensureCompiles(TranslationConfigVersion version) {
+        final var errors = compileErrors(version.config());
+        if (!errors.isEmpty()) {
+            LOG.warnf("Refusing to activate translation config version %s: %s", version.id(), errors);
+            return Uni.createFrom()
+                    .failure(new ConfigValidationException("Configuration compilation failed", errors));
+        }
+        LOG.debugf("Compiled translation config version: id=%s, version=%d", version.id(), version.version());
+        return Uni.createFrom().voidItem();
+    }
+
+    private List<String> compileErrors(TranslationConfigSchema config) {
+        try {
+            CompiledTranslationPlan.compile(config);
+            return List.of();
+        } catch (PatternSyntaxException e) {
+            return List.of("Invalid pattern: " + e.getDescription());
+        } catch (RuntimeException e) {
+            return List.of(String.valueOf(e.getMessage()));
+        }
+    }
+
     private void validateSources(List<TranslationConfigSchema.ClaimSource> sources, List<String> errors) {
         for (int i = 0; i < sources.size(); i++) {
             final var source = sources.get(i);
@@ -285,6 +327,26 @@ public class TranslationConfigService {
             }
             if (transform.operations() == null || transform.operations().isEmpty()) {
                 errors.add("Transform[" + i + "] must have at least one operation");
+            } else {
+                validateOperations(i, transform.operations(), errors);
+            }
+        }
+    }
+
+    private void validateOperations(
+            int transformIndex, List<TranslationConfigSchema.Operation> operations, List<String> errors) {
+        for (int j = 0; j < operations.size(); j++) {
+            if (operations.get(j) instanceof TranslationConfigSchema.Operation.Regex regex) {
+                if (regex.pattern() == null) {
+                    errors.add("Transform[" + transformIndex + "] operation[" + j + "] pattern cannot be null");
+                    continue;
+                }
+                try {
+                    Pattern.compile(regex.pattern());
+                } catch (PatternSyntaxException e) {
+                    errors.add("Transform[" + transformIndex + "] operation[" + j + "] has invalid pattern: "
+                            + e.getDescription());
+                }
             }
         }
     }
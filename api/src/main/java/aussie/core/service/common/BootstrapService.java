@@ -97,9 +97,13 @@ public class BootstrapService implements BootstrapManagement {
 
     @Override
     public Uni<Boolean> hasAdminKeys() {
+        // Stops reading pages at the first admin key
         return repository
-                .findAll()
-                .map(keys -> keys.stream().filter(ApiKey::isValid).anyMatch(this::isAdminKey));
+                .streamAll()
+                .select()
+                .first(key -> key.isValid() && isAdminKey(key))
+                .toUni()
+                .map(key -> key != null);
     }
 
     @Override
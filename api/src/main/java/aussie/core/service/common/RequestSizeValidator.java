@@ -1,6 +1,5 @@
 package aussie.core.service.common;
 
-import java.nio.charset.StandardCharsets;
 import java.util.List;
 import java.util.Map;
 
@@ -22,10 +21,17 @@ import aussie.core.model.common.ValidationResult;
  *
  * <p>Returns appropriate validation results that can be mapped to
  * HTTP 413 (Payload Too Large) or 431 (Request Header Fields Too Large) responses.
+ *
+ * <p>Header sizes are the UTF-8 length of {@code "Name: Value"} (plus CRLF for the
+ * total), computed from the characters without encoding or concatenating strings,
+ * and the total stops accumulating as soon as the limit is exceeded.
  */
 @ApplicationScoped
 public class RequestSizeValidator {
 
+    private static final int SEPARATOR_LENGTH = 2; // ": "
+    private static final int CRLF_LENGTH = 2;
+
     private final LimitsConfig config;
 
     @Inject
@@ -61,7 +67,7 @@ public class RequestSizeValidator {
         }
 
         var maxSize = config.maxHeaderSize();
-        var headerSize = (headerName + ": " + headerValue).getBytes(StandardCharsets.UTF_8).length;
+        var headerSize = headerLineLength(headerName, headerValue);
 
         if (headerSize > maxSize) {
             return ValidationResult.headerTooLarge(String.format(
@@ -78,19 +84,17 @@ public class RequestSizeValidator {
      */
     public ValidationResult validateTotalHeadersSize(Map<String, List<String>> headers) {
         var maxSize = config.maxTotalHeadersSize();
-        var totalSize = 0;
+        var totalSize = 0L;
 
         for (var entry : headers.entrySet()) {
             var headerName = entry.getKey();
             for (var value : entry.getValue()) {
-                totalSize += (headerName + ": " + value + "\r\n").getBytes(StandardCharsets.UTF_8).length;
+                totalSize += headerLineLength(headerName, value) + CRLF_LENGTH;
+                if (totalSize > maxSize) {
+                    return totalHeadersTooLarge(maxSize);
+                }
             }
         }
-
-        if (totalSize > maxSize) {
-            return ValidationResult.headerTooLarge(
-                    String.format("Total headers size %d exceeds maximum allowed size %d", totalSize, maxSize));
-        }
         return ValidationResult.valid();
     }
 
@@ -118,4 +122,81 @@ public class RequestSizeValidator {
 
         return validateTotalHeadersSize(headers);
     }
+
+    /**
+     * Validate complete request from flat header entries, such as a Vert.x {@code MultiMap}.
+     *
+     * <p>Individual and total header sizes are checked in a single pass that stops at
+     * the first header exceeding either limit.
+     *
+     * @param contentLength the Content-Length header value
+     * @param headers       header entries, one per value
+     * @return first validation failure, or valid if all checks pass
+     */
+    public ValidationResult validateRequest(long contentLength, Iterable<Map.Entry<String, String>> headers) {
+        var bodyResult = validateBodySize(contentLength);
+        if (bodyResult.isInvalid()) {
+            return bodyResult;
+        }
+
+        var maxHeaderSize = config.maxHeaderSize();
+        var maxTotalSize = config.maxTotalHeadersSize();
+        var totalSize = 0L;
+
+        for (var header : headers) {
+            var headerSize = headerLineLength(header.getKey(), header.getValue());
+            if (headerSize > maxHeaderSize) {
+                return ValidationResult.headerTooLarge(String.format(
+                        "Header '%s' size %d exceeds maximum allowed size %d",
+                        header.getKey(), headerSize, maxHeaderSize));
+            }
+            totalSize += headerSize + CRLF_LENGTH;
+            if (totalSize > maxTotalSize) {
+                return totalHeadersTooLarge(maxTotalSize);
+            }
+        }
+        return ValidationResult.valid();
+    }
+
+    private static ValidationResult totalHeadersTooLarge(int maxSize) {
+        return ValidationResult.headerTooLarge(
+                String.format("Total headers size exceeds maximum allowed size %d", maxSize));
+    }
+
+    private static long headerLineLength(String headerName, String headerValue) {
+        return utf8Length(headerName) + SEPARATOR_LENGTH + utf8Length(headerValue);
+    }
+
+    /**
+     * Compute the UTF-8 encoded length of a string without encoding it.
+     *
+     * <p>Matches {@code s.getBytes(UTF_8).length}, including the single replacement
+     * byte written for an unpaired surrogate.
+     *
+     * @param s the string, or null
+     * @return the encoded length in bytes (0 for null)
+     */
+    static long utf8Length(CharSequence s) {
+        if (s == null) {
+            return 0;
+        }
+        var length = 0L;
+        var count = s.length();
+        for (var i = 0; i < count; i++) {
+            var c = s.charAt(i);
+            if (c < 0x80) {
+                length++;
+            } else if (c < 0x800) {
+                length += 2;
+            } else if (!Character.isSurrogate(c)) {
+                length += 3;
+            } else if (Character.isHighSurrogate(c) && i + 1 < count && Character.isLowSurrogate(s.charAt(i + 1))) {
+                length += 4;
+                i++;
+            } else {
+                length++;
+            }
+        }
+        return length;
+    }
 }
@@ -1,6 +1,8 @@
 package aussie.core.service.common;
 
 import java.util.Optional;
+import java.util.function.Function;
+import java.util.function.Supplier;
 
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
@@ -42,15 +44,31 @@ public class SourceIdentifierExtractor {
      * @return source identifier containing IP address, host, and forwarded chain
      */
     public SourceIdentifier extract(ContainerRequestContext request, String socketIp) {
+        return extract(request::getHeaderString, socketIp, () -> extractFallbackIp(request));
+    }
+
+    /**
+     * Extract source identification from request headers looked up by name,
+     * for callers that do not have a JAX-RS request context.
+     *
+     * @param header   header lookup by case-insensitive name, returning null when absent
+     * @param socketIp the direct connection's remote IP address
+     * @return source identifier containing IP address, host, and forwarded chain
+     */
+    public SourceIdentifier extract(Function<String, String> header, String socketIp) {
+        return extract(header, socketIp, () -> "unknown");
+    }
+
+    private SourceIdentifier extract(Function<String, String> header, String socketIp, Supplier<String> fallbackIp) {
         final var trustHeaders = trustedProxyValidator.shouldTrustForwardingHeaders(socketIp);
 
-        var ipAddress = trustHeaders ? extractIpFromHeaders(request) : null;
+        var ipAddress = trustHeaders ? extractIpFromHeaders(header) : null;
         if (ipAddress == null || ipAddress.isEmpty()) {
-            ipAddress = socketIp != null ? socketIp : extractFallbackIp(request);
+            ipAddress = socketIp != null ? socketIp : fallbackIp.get();
         }
 
-        var host = trustHeaders ? extractHost(request) : Optional.<String>empty();
-        var forwardedFor = trustHeaders ? extractForwardedFor(request) : Optional.<String>empty();
+        var host = trustHeaders ? extractHost(header) : Optional.<String>empty();
+        var forwardedFor = trustHeaders ? extractForwardedFor(header) : Optional.<String>empty();
 
         return new SourceIdentifier(ipAddress, host, forwardedFor);
     }
@@ -67,15 +85,15 @@ public class SourceIdentifierExtractor {
         return extract(request, null);
     }
 
-    private String extractIpFromHeaders(ContainerRequestContext request) {
+    private String extractIpFromHeaders(Function<String, String> header) {
         // Check X-Forwarded-For first (first IP in chain is original client)
-        var xForwardedFor = request.getHeaderString("X-Forwarded-For");
+        var xForwardedFor = header.apply("X-Forwarded-For");
         if (xForwardedFor != null && !xForwardedFor.isEmpty()) {
             return xForwardedFor.split(",")[0].trim();
         }
 
         // Check RFC 7239 Forwarded header
-        var forwarded = request.getHeaderString("Forwarded");
+        var forwarded = header.apply("Forwarded");
         if (forwarded != null && !forwarded.isEmpty()) {
             var forParam = extractForwardedParam(forwarded, "for");
             if (forParam != null) {
@@ -84,7 +102,7 @@ public class SourceIdentifierExtractor {
         }
 
         // Fall back to X-Real-IP
-        var xRealIp = request.getHeaderString("X-Real-IP");
+        var xRealIp = header.apply("X-Real-IP");
         if (xRealIp != null && !xRealIp.isEmpty()) {
             return xRealIp.trim();
         }
@@ -103,15 +121,15 @@ public class SourceIdentifierExtractor {
         return "unknown";
     }
 
-    private Optional<String> extractHost(ContainerRequestContext request) {
+    private Optional<String> extractHost(Function<String, String> header) {
         // Check X-Forwarded-Host first
-        var xForwardedHost = request.getHeaderString("X-Forwarded-Host");
+        var xForwardedHost = header.apply("X-Forwarded-Host");
         if (xForwardedHost != null && !xForwardedHost.isEmpty()) {
             return Optional.of(xForwardedHost.split(",")[0].trim());
         }
 
         // Check RFC 7239 Forwarded header
-        var forwarded = request.getHeaderString("Forwarded");
+        var forwarded = header.apply("Forwarded");
         if (forwarded != null && !forwarded.isEmpty()) {
             var hostParam = extractForwardedParam(forwarded, "host");
             if (hostParam != null) {
@@ -120,7 +138,7 @@ public class SourceIdentifierExtractor {
         }
 
         // Fall back to Host header
-        var host = request.getHeaderString("Host");
+        var host = header.apply("Host");
         if (host != null && !host.isEmpty()) {
             // Remove port if present
             var colonIdx = host.lastIndexOf(':');
@@ -133,8 +151,8 @@ public class SourceIdentifierExtractor {
         return Optional.empty();
     }
 
-    private Optional<String> extractForwardedFor(ContainerRequestContext request) {
-        var xForwardedFor = request.getHeaderString("X-Forwarded-For");
+    private Optional<String> extractForwardedFor(Function<String, String> header) {
+        var xForwardedFor = header.apply("X-Forwarded-For");
         if (xForwardedFor != null && !xForwardedFor.isEmpty()) {
             return Optional.of(xForwardedFor);
         }
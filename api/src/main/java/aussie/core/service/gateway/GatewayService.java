@@ -15,8 +15,8 @@ import aussie.core.model.routing.RouteMatch;
 import aussie.core.port.in.GatewayUseCase;
 import aussie.core.port.out.Metrics;
 import aussie.core.port.out.ProxyClient;
+import aussie.core.port.out.RequestTelemetry;
 import aussie.core.port.out.SecurityMonitoring;
-import aussie.core.port.out.TrafficAttributing;
 import aussie.core.service.routing.ServiceRegistry;
 
 /**
@@ -44,7 +44,7 @@ public class GatewayService implements GatewayUseCase {
     private final RouteAuthenticationService routeAuthService;
     private final Metrics metrics;
     private final SecurityMonitoring securityMonitor;
-    private final TrafficAttributing attributionService;
+    private final RequestTelemetry requestTelemetry;
 
     @Inject
     public GatewayService(
@@ -54,14 +54,14 @@ public class GatewayService implements GatewayUseCase {
             RouteAuthenticationService routeAuthService,
             Metrics metrics,
             SecurityMonitoring securityMonitor,
-            TrafficAttributing attributionService) {
+            RequestTelemetry requestTelemetry) {
         this.serviceRegistry = serviceRegistry;
         this.requestPreparer = requestPreparer;
         this.proxyClient = proxyClient;
         this.routeAuthService = routeAuthService;
         this.metrics = metrics;
         this.securityMonitor = securityMonitor;
-        this.attributionService = attributionService;
+        this.requestTelemetry = requestTelemetry;
     }
 
     @Override
@@ -98,29 +98,8 @@ public class GatewayService implements GatewayUseCase {
             aussie.core.model.service.ServiceRegistration service,
             GatewayResult result,
             long startTime) {
-        var serviceId = service.serviceId();
         long durationMs = (System.nanoTime() - startTime) / 1_000_000;
-
-        // Record gateway result
-        metrics.recordGatewayResult(serviceId, result);
-
-        // Record request and latency for successful requests
-        if (result instanceof GatewayResult.Success success) {
-            metrics.recordRequest(serviceId, request.method(), success.statusCode());
-            metrics.recordProxyLatency(serviceId, request.method(), success.statusCode(), durationMs);
-
-            // Record traffic attribution
-            if (attributionService.isEnabled()) {
-                long requestBytes = request.body() != null ? request.body().length : 0;
-                long responseBytes = success.body() != null ? success.body().length : 0;
-                attributionService.record(request, service, requestBytes, responseBytes, durationMs);
-            }
-        }
-
-        // Record errors
-        if (result instanceof GatewayResult.Error error) {
-            metrics.recordError(serviceId, "upstream_error");
-        }
+        requestTelemetry.recordCompletion(request, service, result, durationMs);
     }
 
     private Uni<GatewayResult> handleAuthResult(
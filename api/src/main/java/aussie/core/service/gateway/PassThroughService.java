@@ -19,8 +19,8 @@ import aussie.core.model.service.ServiceRegistration;
 import aussie.core.port.in.PassThroughUseCase;
 import aussie.core.port.out.Metrics;
 import aussie.core.port.out.ProxyClient;
+import aussie.core.port.out.RequestTelemetry;
 import aussie.core.port.out.SecurityMonitoring;
-import aussie.core.port.out.TrafficAttributing;
 import aussie.core.service.routing.EndpointMatcher;
 import aussie.core.service.routing.ServiceRegistry;
 import aussie.core.service.routing.VisibilityResolver;
@@ -57,7 +57,7 @@ public class PassThroughService implements PassThroughUseCase {
     private final RouteAuthenticationService routeAuthService;
     private final Metrics metrics;
     private final SecurityMonitoring securityMonitor;
-    private final TrafficAttributing attributionService;
+    private final RequestTelemetry requestTelemetry;
 
     @Inject
     public PassThroughService(
@@ -69,7 +69,7 @@ public class PassThroughService implements PassThroughUseCase {
             RouteAuthenticationService routeAuthService,
             Metrics metrics,
             SecurityMonitoring securityMonitor,
-            TrafficAttributing attributionService) {
+            RequestTelemetry requestTelemetry) {
         this.serviceRegistry = serviceRegistry;
         this.requestPreparer = requestPreparer;
         this.proxyClient = proxyClient;
@@ -78,7 +78,7 @@ public class PassThroughService implements PassThroughUseCase {
         this.routeAuthService = routeAuthService;
         this.metrics = metrics;
         this.securityMonitor = securityMonitor;
-        this.attributionService = attributionService;
+        this.requestTelemetry = requestTelemetry;
     }
 
     @Override
@@ -160,28 +160,7 @@ public class PassThroughService implements PassThroughUseCase {
 
     private void recordMetrics(
             GatewayRequest request, ServiceRegistration service, GatewayResult result, long startTime) {
-        var serviceId = service.serviceId();
         long durationMs = (System.nanoTime() - startTime) / 1_000_000;
-
-        // Record gateway result
-        metrics.recordGatewayResult(serviceId, result);
-
-        // Record request and latency for successful requests
-        if (result instanceof GatewayResult.Success success) {
-            metrics.recordRequest(serviceId, request.method(), success.statusCode());
-            metrics.recordProxyLatency(serviceId, request.method(), success.statusCode(), durationMs);
-
-            // Record traffic attribution
-            if (attributionService.isEnabled()) {
-                long requestBytes = request.body() != null ? request.body().length : 0;
-                long responseBytes = success.body() != null ? success.body().length : 0;
-                attributionService.record(request, service, requestBytes, responseBytes, durationMs);
-            }
-        }
-
-        // Record errors
-        if (result instanceof GatewayResult.Error) {
-            metrics.recordError(serviceId, "upstream_error");
-        }
+        requestTelemetry.recordCompletion(request, service, result, durationMs);
     }
 }
@@ -6,12 +6,14 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.stream.Stream;
 
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
 
 import aussie.core.model.auth.AussieToken;
 import aussie.core.model.gateway.GatewayRequest;
+import aussie.core.model.gateway.HeaderView;
 import aussie.core.model.gateway.PreparedProxyRequest;
 import aussie.core.model.routing.RouteMatch;
 import aussie.core.port.out.ForwardedHeaderBuilderProvider;
@@ -30,7 +32,7 @@ public class ProxyRequestPreparer {
      * HTTP hop-by-hop headers that must not be forwarded to the upstream server.
      * These are connection-specific headers per RFC 2616 Section 13.5.1.
      */
-    private static final Set<String> HOP_BY_HOP_HEADERS = Set.of(
+    private static final List<String> HOP_BY_HOP_HEADER_NAMES = List.of(
             "connection",
             "keep-alive",
             "proxy-authenticate",
@@ -40,6 +42,15 @@ public class ProxyRequestPreparer {
             "transfer-encoding",
             "upgrade");
 
+    private static final Set<String> HOP_BY_HOP_HEADERS = HeaderView.names(HOP_BY_HOP_HEADER_NAMES);
+
+    /**
+     * Request headers not passed through: hop-by-hop headers, Host (set for the
+     * target) and Content-Length (set by the HTTP client).
+     */
+    private static final Set<String> EXCLUDED_REQUEST_HEADERS = HeaderView.names(
+            Stream.concat(HOP_BY_HOP_HEADER_NAMES.stream(), Stream.of("host", "content-length")).toList());
+
     private final ForwardedHeaderBuilderProvider headerBuilderProvider;
 
     @Inject
@@ -63,7 +74,11 @@ public class ProxyRequestPreparer {
         // Preserve query string from original request
         var query = request.requestUri() != null ? request.requestUri().getRawQuery() : null;
         var targetUri = route.targetUri(query);
-        var headers = buildHeaders(request, targetUri);
+
+        var headers = new HashMap<String, List<String>>();
+        setHostHeader(headers, targetUri);
+        addForwardingHeaders(request, targetUri, headers);
+        addViaHeader(request, headers);
 
         // Set Authorization header with Aussie token if present
         token.ifPresent(t -> headers.put("Authorization", List.of("Bearer " + t.jws())));
@@ -74,48 +89,9 @@ public class ProxyRequestPreparer {
             headers.put("X-Forwarded-Prefix", List.of(routePrefix));
         }
 
-        return new PreparedProxyRequest(request.method(), targetUri, headers, request.body());
-    }
-
-    private Map<String, List<String>> buildHeaders(GatewayRequest request, URI targetUri) {
-        Map<String, List<String>> headers = new HashMap<>();
-
-        copyFilteredHeaders(request, headers);
-        setHostHeader(headers, targetUri);
-        addForwardingHeaders(request, targetUri, headers);
-        addViaHeader(request, headers);
-
-        return headers;
-    }
-
-    private void copyFilteredHeaders(GatewayRequest request, Map<String, List<String>> headers) {
-        for (var entry : request.headers().entrySet()) {
-            final var headerName = entry.getKey();
-            final var lowerName = headerName.toLowerCase();
-
-            if (shouldSkipHeader(lowerName)) {
-                continue;
-            }
-
-            // Use List.copyOf for efficient immutable copy - lists are only read, not modified
-            headers.put(headerName, List.copyOf(entry.getValue()));
-        }
-    }
-
-    private boolean shouldSkipHeader(String lowerName) {
-        // Skip hop-by-hop headers
-        if (HOP_BY_HOP_HEADERS.contains(lowerName)) {
-            return true;
-        }
-        // Skip Host header (will be set for target)
-        if ("host".equals(lowerName)) {
-            return true;
-        }
-        // Skip Content-Length as it will be set by the HTTP client
-        if ("content-length".equals(lowerName)) {
-            return true;
-        }
-        return false;
+        // Client headers are read through, not copied; the client adapter copies the view once
+        var proxyHeaders = new HeaderView(request.headers(), EXCLUDED_REQUEST_HEADERS, headers);
+        return new PreparedProxyRequest(request.method(), targetUri, proxyHeaders, request.body());
     }
 
     private void setHostHeader(Map<String, List<String>> headers, URI targetUri) {
@@ -142,9 +118,9 @@ public class ProxyRequestPreparer {
         var viaValue = "1.1 " + (requestHost != null ? requestHost : "aussie") + " (Aussie)";
 
         // Check for existing Via header and append
-        var existingVia = headers.get("Via");
-        if (existingVia != null && !existingVia.isEmpty()) {
-            viaValue = existingVia.get(0) + ", " + viaValue;
+        var existingVia = request.getHeaderString("Via");
+        if (existingVia != null) {
+            viaValue = existingVia + ", " + viaValue;
         }
 
         headers.put("Via", List.of(viaValue));
@@ -153,15 +129,10 @@ public class ProxyRequestPreparer {
     /**
      * Filters hop-by-hop headers from a response.
      * Call this when processing upstream responses before returning to the client.
+     *
+     * <p>Returns a view over {@code responseHeaders}; nothing is copied.
      */
     public Map<String, List<String>> filterResponseHeaders(Map<String, List<String>> responseHeaders) {
-        Map<String, List<String>> filtered = new HashMap<>();
-        for (var entry : responseHeaders.entrySet()) {
-            var lowerName = entry.getKey().toLowerCase();
-            if (!HOP_BY_HOP_HEADERS.contains(lowerName)) {
-                filtered.put(entry.getKey(), entry.getValue());
-            }
-        }
-        return filtered;
+        return HeaderView.filtered(responseHeaders, HOP_BY_HOP_HEADERS);
     }
 }
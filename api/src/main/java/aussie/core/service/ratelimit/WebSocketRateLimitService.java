@@ -6,6 +6,8 @@ import jakarta.inject.Inject;
 import io.smallrye.mutiny.Uni;
 
 import aussie.core.config.RateLimitingConfig;
+import aussie.core.model.ratelimit.EffectiveRateLimit;
+import aussie.core.model.ratelimit.MessageRateLimitHandler;
 import aussie.core.model.ratelimit.RateLimitDecision;
 import aussie.core.model.ratelimit.RateLimitKey;
 import aussie.core.port.out.RateLimiter;
@@ -72,6 +74,29 @@ public class WebSocketRateLimitService {
         });
     }
 
+    /**
+     * Create the message rate limit handler for one connection.
+     *
+     * <p>The handler builds its key once and resolves the service's limit on the
+     * first asynchronous check, then reuses both for the life of the connection.
+     * Once the limit is known, {@link MessageRateLimitHandler#tryAdmit()} decides
+     * synchronously whenever the rate limiter's state is local.
+     *
+     * @param serviceId    the target service ID
+     * @param clientId     the client identifier
+     * @param connectionId the unique connection/session ID
+     * @param onRejected   callback invoked for each rejected message
+     * @return the handler, or a no-op handler if message rate limiting is disabled
+     */
+    public MessageRateLimitHandler createMessageHandler(
+            String serviceId, String clientId, String connectionId, Runnable onRejected) {
+        if (!isMessageRateLimitEnabled()) {
+            return MessageRateLimitHandler.noOp();
+        }
+        return new ConnectionMessageHandler(
+                serviceId, RateLimitKey.wsMessage(clientId, serviceId, connectionId), onRejected);
+    }
+
     /**
      * Clean up rate limit state for a closed connection.
      *
@@ -111,4 +136,63 @@ public class WebSocketRateLimitService {
     public boolean isMessageRateLimitEnabled() {
         return isEnabled() && config.websocket().message().enabled();
     }
+
+    private final class ConnectionMessageHandler implements MessageRateLimitHandler {
+
+        private final String serviceId;
+        private final RateLimitKey key;
+        private final Runnable onRejected;
+        private volatile EffectiveRateLimit limit;
+
+        private ConnectionMessageHandler(String serviceId, RateLimitKey key, Runnable onRejected) {
+            this.serviceId = serviceId;
+            this.key = key;
+            this.onRejected = onRejected;
+        }
+
+        @Override
+        public Admission tryAdmit() {
+            final var resolved = limit;
+            if (resolved == null) {
+                return Admission.DEFERRED;
+            }
+
+            final var decision = rateLimiter.tryCheckAndConsume(key, resolved);
+            if (decision.isEmpty()) {
+                return Admission.DEFERRED;
+            }
+            if (decision.get().allowed()) {
+                return Admission.ALLOWED;
+            }
+            onRejected.run();
+            return Admission.REJECTED;
+        }
+
+        @Override
+        public Uni<Void> checkAndProceed(Runnable onAllowed) {
+            return resolveLimit()
+                    .flatMap(resolved -> rateLimiter.checkAndConsume(key, resolved))
+                    .map(decision -> {
+                        if (!decision.allowed()) {
+                            onRejected.run();
+                            throw new RuntimeException("Message rate limit exceeded");
+                        }
+                        onAllowed.run();
+                        return null;
+                    })
+                    .replaceWithVoid();
+        }
+
+        private Uni<EffectiveRateLimit> resolveLimit() {
+            final var resolved = limit;
+            if (resolved != null) {
+                return Uni.createFrom().item(resolved);
+            }
+            return serviceRegistry.getServiceForRateLimiting(serviceId).map(service -> {
+                final var effective = rateLimitResolver.resolveWebSocketMessageLimit(service);
+                limit = effective;
+                return effective;
+            });
+        }
+    }
 }
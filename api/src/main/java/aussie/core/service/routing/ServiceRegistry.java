@@ -8,12 +8,15 @@ import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReference;
 
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
 
 import io.smallrye.mutiny.Uni;
+import org.jboss.logging.Logger;
 
 import aussie.core.cache.LocalCacheConfig;
 import aussie.core.model.auth.Permission;
@@ -23,9 +26,11 @@ import aussie.core.model.routing.EndpointConfig;
 import aussie.core.model.routing.RouteLookupResult;
 import aussie.core.model.routing.ServiceOnlyMatch;
 import aussie.core.model.service.RegistrationResult;
+import aussie.core.model.service.RegistryChanges;
 import aussie.core.model.service.ServicePath;
 import aussie.core.model.service.ServiceRegistration;
 import aussie.core.port.out.ConfigurationCache;
+import aussie.core.port.out.RegistryChangePublisher;
 import aussie.core.port.out.ServiceRegistrationRepository;
 import aussie.core.service.auth.ServiceAuthorizationService;
 
@@ -45,17 +50,24 @@ import aussie.core.service.auth.ServiceAuthorizationService;
  * </ul>
  *
  * <p>
- * <b>Multi-instance safety:</b> The compiled route cache uses TTL-based refresh
- * to ensure eventual consistency across instances. When the cache TTL expires,
- * routes are reloaded from persistent storage.
+ * <b>Multi-instance safety:</b> The compiled route cache tracks the registry
+ * version it has applied and syncs incrementally with
+ * {@link ServiceRegistrationRepository#findChangedSince(long)}: only the services
+ * changed since that version are recompiled. Local changes are announced through
+ * the {@link RegistryChangePublisher}, and announcements from other instances
+ * trigger an immediate sync. The cache TTL bounds staleness when notifications
+ * are disabled or lost.
  */
 @ApplicationScoped
 public class ServiceRegistry {
 
+    private static final Logger LOG = Logger.getLogger(ServiceRegistry.class);
+
     private final ServiceRegistrationRepository repository;
     private final ConfigurationCache cache;
     private final ServiceRegistrationValidator validator;
     private final ServiceAuthorizationService authService;
+    private final RegistryChangePublisher changePublisher;
     private final Duration routeCacheTtl;
 
     // Local cache for compiled route patterns (always in-memory for fast matching)
@@ -64,6 +76,11 @@ public class ServiceRegistry {
     // TTL tracking for multi-instance cache refresh
     private final AtomicReference<Instant> lastRefreshed = new AtomicReference<>(Instant.MIN);
 
+    // Registry version the compiled routes reflect
+    private final AtomicLong appliedVersion = new AtomicLong(RegistryChanges.UNVERSIONED);
+
+    private final AtomicBoolean subscribed = new AtomicBoolean();
+
     // Coalesces concurrent refresh requests to prevent thundering herd
     private final AtomicReference<Uni<Void>> inFlightRefresh = new AtomicReference<>();
 
@@ -73,45 +90,86 @@ public class ServiceRegistry {
             ConfigurationCache cache,
             ServiceRegistrationValidator validator,
             ServiceAuthorizationService authService,
+            RegistryChangePublisher changePublisher,
             LocalCacheConfig cacheConfig) {
         this.repository = repository;
         this.cache = cache;
         this.validator = validator;
         this.authService = authService;
+        this.changePublisher = changePublisher;
         this.routeCacheTtl = cacheConfig.serviceRoutesTtl();
     }
 
     /**
      * Initialize route cache from persistent storage on startup.
      *
+     * <p>
+     * Also starts listening for changes announced by other instances.
+     *
      * @return Uni completing when initialization is done
      */
     public Uni<Void> initialize() {
+        if (subscribed.compareAndSet(false, true)) {
+            changePublisher
+                    .subscribe()
+                    .subscribe()
+                    .with(this::onRemoteChange, e -> LOG.warnf(e, "Service registry change subscription failed"));
+        }
         return refreshRouteCache();
     }
 
     /**
-     * Refresh all routes from persistent storage.
+     * Sync routes with persistent storage.
      *
      * <p>
-     * Clears the local cache and reloads all service registrations from storage.
+     * Applies the changes made since the last applied registry version, or
+     * rebuilds the local cache when the repository returns a full snapshot.
      * Update the last-refreshed timestamp for TTL tracking.
      *
      * @return Uni completing when refresh is done
      */
     private Uni<Void> refreshRouteCache() {
         return repository
-                .findAll()
-                .invoke(registrations -> {
-                    compiledRoutes.clear();
-                    for (ServiceRegistration registration : registrations) {
-                        compileAndCacheRoutes(registration);
-                    }
+                .findChangedSince(appliedVersion.get())
+                .invoke(changes -> {
+                    applyChanges(changes);
                     lastRefreshed.set(Instant.now());
                 })
                 .replaceWithVoid();
     }
 
+    private void applyChanges(RegistryChanges changes) {
+        if (changes.fullSnapshot()) {
+            compiledRoutes.clear();
+        } else {
+            changes.deleted().forEach(this::removeCompiledRoutes);
+            // Drop the old routes first; an update may have removed endpoints
+            changes.updated().forEach(service -> removeCompiledRoutes(service.serviceId()));
+        }
+        for (ServiceRegistration registration : changes.updated()) {
+            compileAndCacheRoutes(registration);
+        }
+        appliedVersion.set(changes.version());
+    }
+
+    private void onRemoteChange(String serviceId) {
+        LOG.debugf("Service registry change announced: %s", serviceId);
+        lastRefreshed.set(Instant.MIN);
+        ensureCacheFresh()
+                .subscribe()
+                .with(ignored -> {}, e -> LOG.warnf(e, "Failed to sync service registry after change: %s", serviceId));
+    }
+
+    private Uni<Void> publishChange(String serviceId) {
+        // Best-effort: other instances still catch up when their cache TTL expires
+        return changePublisher
+                .publish(serviceId)
+                .onFailure()
+                .invoke(e -> LOG.warnf(e, "Failed to announce service registry change: %s", serviceId))
+                .onFailure()
+                .recoverWithNull();
+    }
+
     /**
      * Check if the route cache is stale and needs refresh.
      *
@@ -270,6 +328,7 @@ public class ServiceRegistry {
                     .save(service)
                     .invoke(() -> compileAndCacheRoutes(service))
                     .call(() -> cache.put(service))
+                    .call(() -> publishChange(service.serviceId()))
                     .map(v -> RegistrationResult.success(service));
         });
     }
@@ -312,7 +371,9 @@ public class ServiceRegistry {
     public Uni<Boolean> unregister(String serviceId) {
         return repository.findById(serviceId).flatMap(opt -> {
             opt.ifPresent(this::removeCompiledRoutes);
-            return cache.invalidate(serviceId).chain(() -> repository.delete(serviceId));
+            return cache.invalidate(serviceId)
+                    .chain(() -> repository.delete(serviceId))
+                    .call(deleted -> deleted ? publishChange(serviceId) : Uni.createFrom().voidItem());
         });
     }
 
@@ -341,6 +402,7 @@ public class ServiceRegistry {
             removeCompiledRoutes(existing);
             return cache.invalidate(serviceId)
                     .chain(() -> repository.delete(serviceId))
+                    .call(() -> publishChange(serviceId))
                     .map(deleted -> RegistrationResult.success(existing));
         });
     }
@@ -415,7 +477,8 @@ public class ServiceRegistry {
         return repository
                 .save(service)
                 .invoke(() -> compileAndCacheRoutes(service))
-                .call(() -> cache.put(service));
+                .call(() -> cache.put(service))
+                .call(() -> publishChange(service.serviceId()));
     }
 
     /**
@@ -552,6 +615,10 @@ public class ServiceRegistry {
         }
     }
 
+    private void removeCompiledRoutes(String serviceId) {
+        compiledRoutes.values().removeIf(route -> route.service().serviceId().equals(serviceId));
+    }
+
     private String buildRouteKey(String serviceId, String path) {
         return serviceId + ":" + path;
     }
@@ -1,20 +1,28 @@
 package aussie.core.service.session;
 
 import java.time.Instant;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
 
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.enterprise.event.Event;
+import jakarta.enterprise.event.Observes;
 
+import io.quarkus.runtime.StartupEvent;
 import io.smallrye.mutiny.Uni;
 import org.jboss.logging.Logger;
 
+import aussie.core.cache.CaffeineLocalCache;
+import aussie.core.cache.LocalCache;
 import aussie.core.config.SessionConfig;
 import aussie.core.model.session.Session;
 import aussie.core.model.session.SessionInvalidatedEvent;
 import aussie.core.port.in.SessionManagement;
+import aussie.core.port.out.SessionInvalidationPublisher;
 import aussie.core.port.out.SessionRepository;
 import aussie.core.service.auth.TokenRevocationService;
 
@@ -26,29 +34,71 @@ import aussie.core.service.auth.TokenRevocationService;
  *
  * <p>On logout-everywhere, tokens are also revoked via {@link TokenRevocationService}
  * to ensure immediate invalidation even if downstream services cache tokens.
+ *
+ * <p>Valid sessions are kept in a short-lived local cache so repeated requests in a
+ * browsing session skip storage and deserialization. Invalidations evict locally and
+ * are published via {@link SessionInvalidationPublisher}; invalidations received from
+ * other instances are evicted and re-fired as {@link SessionInvalidatedEvent}.
+ *
+ * <p>A storage read or touch can complete after an invalidation has evicted the
+ * session. To keep it from re-populating the cache, every eviction bumps an
+ * invalidation generation (striped by session ID, plus one for user-wide
+ * invalidations), and a session is only cached if its generation is unchanged
+ * since the read began.
  */
 @ApplicationScoped
 public class SessionService implements SessionManagement {
 
     private static final Logger LOG = Logger.getLogger(SessionService.class);
+    private static final int GENERATION_STRIPES = 64;
 
     private final SessionStorageProviderRegistry storageRegistry;
     private final SessionIdGenerator idGenerator;
     private final SessionConfig config;
     private final Event<SessionInvalidatedEvent> sessionInvalidatedEvent;
     private final TokenRevocationService tokenRevocationService;
+    private final SessionInvalidationPublisher invalidationPublisher;
+    private final LocalCache<String, Session> sessionCache;
+    private final AtomicLongArray sessionGenerations = new AtomicLongArray(GENERATION_STRIPES);
+    private final AtomicLong userGeneration = new AtomicLong();
 
     public SessionService(
             SessionStorageProviderRegistry storageRegistry,
             SessionIdGenerator idGenerator,
             SessionConfig config,
             Event<SessionInvalidatedEvent> sessionInvalidatedEvent,
-            TokenRevocationService tokenRevocationService) {
+            TokenRevocationService tokenRevocationService,
+            SessionInvalidationPublisher invalidationPublisher) {
         this.storageRegistry = storageRegistry;
         this.idGenerator = idGenerator;
         this.config = config;
         this.sessionInvalidatedEvent = sessionInvalidatedEvent;
         this.tokenRevocationService = tokenRevocationService;
+        this.invalidationPublisher = invalidationPublisher;
+        this.sessionCache = config.cache().enabled()
+                ? new CaffeineLocalCache<>(config.cache().ttl(), config.cache().maxSize())
+                : null;
+    }
+
+    /**
+     * Subscribe to invalidations from other instances.
+     */
+    void onStart(@Observes StartupEvent event) {
+        subscribeToInvalidations();
+    }
+
+    void subscribeToInvalidations() {
+        invalidationPublisher
+                .subscribe()
+                .subscribe()
+                .with(
+                        event -> {
+                            LOG.debugf("Received remote session invalidation: %s", event);
+                            evict(event);
+                            // Let local observers (e.g. WebSocket gateway) close affected connections
+                            sessionInvalidatedEvent.fireAsync(event);
+                        },
+                        error -> LOG.warnf("Session invalidation subscription failed: %s", error.getMessage()));
     }
 
     @Override
@@ -113,6 +163,14 @@ public class SessionService implements SessionManagement {
 
     @Override
     public Uni<Optional<Session>> getSession(String sessionId) {
+        if (sessionCache != null) {
+            var cached = sessionCache.get(sessionId);
+            if (cached.isPresent() && cached.get().isValid(config.idleTimeout())) {
+                return Uni.createFrom().item(cached);
+            }
+        }
+
+        long generation = generation(sessionId);
         return getRepository().findById(sessionId).map(sessionOpt -> {
             if (sessionOpt.isEmpty()) {
                 return Optional.empty();
@@ -123,6 +181,7 @@ public class SessionService implements SessionManagement {
             // Check if session is valid
             if (!session.isValid(config.idleTimeout())) {
                 LOG.debugf("Session %s is invalid (expired or idle)", sessionId);
+                evict(SessionInvalidatedEvent.forSession(sessionId));
                 // Async delete of invalid session
                 getRepository()
                         .delete(sessionId)
@@ -133,12 +192,14 @@ public class SessionService implements SessionManagement {
                 return Optional.empty();
             }
 
+            cache(session, generation);
             return Optional.of(session);
         });
     }
 
     @Override
     public Uni<Optional<Session>> refreshSession(String sessionId) {
+        long generation = generation(sessionId);
         return getSession(sessionId).flatMap(sessionOpt -> {
             if (sessionOpt.isEmpty()) {
                 return Uni.createFrom().item(Optional.empty());
@@ -147,6 +208,11 @@ public class SessionService implements SessionManagement {
             Session session = sessionOpt.get();
             Instant now = Instant.now();
 
+            // Recent enough activity is already recorded; skip the write
+            if (!needsTouch(session, now)) {
+                return Uni.createFrom().item(sessionOpt);
+            }
+
             // Update lastAccessedAt
             Session updatedSession = session.withLastAccessedAt(now);
 
@@ -155,16 +221,31 @@ public class SessionService implements SessionManagement {
                 updatedSession = updatedSession.withExpiresAt(now.plus(config.ttl()));
             }
 
-            return getRepository().update(updatedSession).map(Optional::of);
+            Session touched = updatedSession;
+            return getRepository()
+                    .touch(sessionId, touched.lastAccessedAt(), touched.expiresAt())
+                    .invoke(() -> cache(touched, generation))
+                    .replaceWith(Optional.of(touched));
         });
     }
 
+    private boolean needsTouch(Session session, Instant now) {
+        Instant lastAccessedAt = session.lastAccessedAt();
+        if (lastAccessedAt == null) {
+            return true;
+        }
+        return !now.isBefore(lastAccessedAt.plus(config.touchGranularity()));
+    }
+
     @Override
     public Uni<Void> invalidateSession(String sessionId) {
         LOG.infof("Invalidating session: %s", sessionId);
+        var event = SessionInvalidatedEvent.forSession(sessionId);
         return getRepository().delete(sessionId).invoke(() -> {
+            evict(event);
             // Fire event to notify WebSocket connections to close
-            sessionInvalidatedEvent.fireAsync(SessionInvalidatedEvent.forSession(sessionId));
+            sessionInvalidatedEvent.fireAsync(event);
+            publish(event);
         });
     }
 
@@ -182,11 +263,64 @@ public class SessionService implements SessionManagement {
                     return Uni.createFrom().voidItem();
                 })
                 .invoke(() -> {
+                    var event = SessionInvalidatedEvent.forUser(userId);
+                    evict(event);
                     // Fire event to notify WebSocket connections to close
-                    sessionInvalidatedEvent.fireAsync(SessionInvalidatedEvent.forUser(userId));
+                    sessionInvalidatedEvent.fireAsync(event);
+                    publish(event);
                 });
     }
 
+    /**
+     * Cache a session read under the given generation, unless it has been invalidated since.
+     *
+     * <p>Checked again after the put: an eviction bumps the generation before it removes
+     * entries, so either this check sees the bump or the eviction removes the new entry.
+     */
+    private void cache(Session session, long generation) {
+        if (sessionCache == null || generation(session.id()) != generation) {
+            return;
+        }
+        sessionCache.put(session.id(), session);
+        if (generation(session.id()) != generation) {
+            sessionCache.invalidate(session.id());
+        }
+    }
+
+    private long generation(String sessionId) {
+        // Both counters only grow, so the sum changes whenever either one does
+        return userGeneration.get() + sessionGenerations.get(stripe(sessionId));
+    }
+
+    private static int stripe(String sessionId) {
+        return Math.floorMod(sessionId.hashCode(), GENERATION_STRIPES);
+    }
+
+    private void evict(SessionInvalidatedEvent event) {
+        event.sessionId().ifPresent(sessionId -> sessionGenerations.incrementAndGet(stripe(sessionId)));
+        event.userId().ifPresent(userId -> userGeneration.incrementAndGet());
+        if (sessionCache == null) {
+            return;
+        }
+        event.sessionId().ifPresent(sessionCache::invalidate);
+        event.userId().ifPresent(userId -> {
+            for (Session session : List.copyOf(sessionCache.values())) {
+                if (userId.equals(session.userId())) {
+                    sessionCache.invalidate(session.id());
+                }
+            }
+        });
+    }
+
+    private void publish(SessionInvalidatedEvent event) {
+        invalidationPublisher
+                .publish(event)
+                .subscribe()
+                .with(
+                        v -> LOG.debugf("Published session invalidation: %s", event),
+                        e -> LOG.warnf("Failed to publish session invalidation: %s", e.getMessage()));
+    }
+
     private SessionRepository getRepository() {
         return storageRegistry.getRepository();
     }
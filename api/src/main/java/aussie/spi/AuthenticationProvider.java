@@ -2,6 +2,8 @@ package aussie.spi;
 
 import jakarta.ws.rs.core.MultivaluedMap;
 
+import io.smallrye.mutiny.Uni;
+
 import aussie.core.model.auth.AuthenticationResult;
 
 /**
@@ -11,8 +13,17 @@ import aussie.core.model.auth.AuthenticationResult;
  * mechanisms (SAML, OAuth2, custom token validation, etc.). Built-in providers
  * include API key validation, JWT/OIDC, and a dangerous-noop mode for development.
  *
- * <p>Implementations are discovered via CDI and sorted by priority. The first
- * provider that returns a non-Skip result handles the request.
+ * <p>Implementations are discovered via CDI and sorted by priority once, at
+ * startup. The first provider that returns a non-Skip result handles the request.
+ *
+ * <p>Every provider implements the synchronous {@link #authenticate}. The gateway
+ * calls {@link #authenticateAsync}, which runs on the event loop and must not
+ * block; by default it calls {@link #authenticate} on the calling thread, which
+ * suits providers that do no I/O. Providers that need I/O (a database, a remote
+ * token endpoint) should also override {@link #authenticateAsync} with
+ * non-blocking clients, or shift blocking work off the event loop, for example
+ * with
+ * {@code Uni.createFrom().item(...).runSubscriptionOn(Infrastructure.getDefaultWorkerPool())}.
  *
  * <h2>Built-in Providers</h2>
  * <ul>
@@ -25,7 +36,8 @@ import aussie.core.model.auth.AuthenticationResult;
  * <ol>
  *   <li>Implement this interface as a CDI bean (@ApplicationScoped)</li>
  *   <li>Return a unique name from {@link #name()}</li>
- *   <li>Implement {@link #authenticate} to validate credentials</li>
+ *   <li>Implement {@link #authenticate} to validate credentials, and override
+ *       {@link #authenticateAsync} if validation does I/O</li>
  *   <li>Return appropriate {@link AuthenticationResult}</li>
  * </ol>
  *
@@ -41,12 +53,17 @@ import aussie.core.model.auth.AuthenticationResult;
  *
  *     @Override
  *     public AuthenticationResult authenticate(MultivaluedMap<String, String> headers, String path) {
+ *         return authenticateAsync(headers, path).await().indefinitely();
+ *     }
+ *
+ *     @Override
+ *     public Uni<AuthenticationResult> authenticateAsync(MultivaluedMap<String, String> headers, String path) {
  *         String samlAssertion = headers.getFirst("X-SAML-Assertion");
  *         if (samlAssertion == null) {
- *             return AuthenticationResult.Skip.instance();
+ *             return Uni.createFrom().item(AuthenticationResult.Skip.instance());
  *         }
- *         // Validate SAML assertion...
- *         return new AuthenticationResult.Success(context);
+ *         // Validate SAML assertion without blocking...
+ *         return samlValidator.validate(samlAssertion).map(AuthenticationResult.Success::new);
  *     }
  * }
  * }</pre>
@@ -106,9 +123,29 @@ public interface AuthenticationProvider {
      * this provider recognizes but couldn't validate. Return Skip if no relevant
      * credentials were present (e.g., no Authorization header for Bearer token auth).
      *
+     * <p>Providers that override {@link #authenticateAsync} may implement this by
+     * blocking on it; it is then only safe to call off the event loop.
+     *
      * @param headers HTTP headers from the request
      * @param path    request path (for path-based auth decisions)
      * @return authentication result
      */
     AuthenticationResult authenticate(MultivaluedMap<String, String> headers, String path);
+
+    /**
+     * Attempt to authenticate a request without blocking.
+     *
+     * <p>Returns the same results as {@link #authenticate}. The returned Uni is
+     * subscribed on the event loop, so it must not block.
+     *
+     * <p>The default implementation calls {@link #authenticate} on the calling
+     * thread, which is correct for synchronous providers that do no I/O.
+     *
+     * @param headers HTTP headers from the request
+     * @param path    request path (for path-based auth decisions)
+     * @return Uni with the authentication result
+     */
+    default Uni<AuthenticationResult> authenticateAsync(MultivaluedMap<String, String> headers, String path) {
+        return Uni.createFrom().item(() -> authenticate(headers, path));
+    }
 }
@@ -0,0 +1,24 @@
+package aussie.spi;
+
+/**
+ * Exception thrown when some events in a batch could not be handled.
+ *
+ * <p>The remaining events in the batch were handled. The dispatcher counts
+ * {@link #failedCount()} events as dropped instead of the whole batch.
+ */
+public class SecurityEventBatchException extends RuntimeException {
+
+    private final int failedCount;
+
+    public SecurityEventBatchException(String message, int failedCount, Throwable cause) {
+        super(message, cause);
+        this.failedCount = failedCount;
+    }
+
+    /**
+     * @return number of events in the batch that were not handled
+     */
+    public int failedCount() {
+        return failedCount;
+    }
+}
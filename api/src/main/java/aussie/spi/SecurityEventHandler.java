@@ -1,5 +1,7 @@
 package aussie.spi;
 
+import java.util.List;
+
 /**
  * SPI for handling security events detected by the gateway.
  *
@@ -64,6 +66,9 @@ public interface SecurityEventHandler {
      * <p>Custom handlers should use priorities above 50 if they need
      * to process events before built-in handlers.
      *
+     * <p>Each handler receives events from its own queue, so priority orders
+     * registration rather than guaranteeing one handler sees an event before another.
+     *
      * @return priority value (higher = invoked first)
      */
     default int priority() {
@@ -98,6 +103,51 @@ public interface SecurityEventHandler {
      */
     void handle(SecurityEvent event);
 
+    /**
+     * Handle a batch of security events, oldest first.
+     *
+     * <p>The dispatcher delivers queued events in batches. The default
+     * implementation calls {@link #handle(SecurityEvent)} for each event, so an
+     * event that fails does not stop the rest; override it to write or send a
+     * batch in one operation.
+     *
+     * <p>Throw {@link SecurityEventBatchException} when only some events failed.
+     * Any other exception counts the whole batch as dropped.
+     *
+     * @param events the events to handle
+     * @throws SecurityEventBatchException if some events could not be handled
+     */
+    default void handleBatch(List<SecurityEvent> events) {
+        RuntimeException failure = null;
+        var failed = 0;
+        for (var event : events) {
+            try {
+                handle(event);
+            } catch (RuntimeException e) {
+                failure = failure != null ? failure : e;
+                failed++;
+            }
+        }
+        if (failure != null) {
+            throw new SecurityEventBatchException(
+                    failed + " of " + events.size() + " events failed: " + failure.getMessage(), failed, failure);
+        }
+    }
+
+    /**
+     * Handle a security event that stands for several identical events.
+     *
+     * <p>When a handler falls behind, repeats of a queued event (same type, same
+     * client) may be coalesced into the latest one. The default implementation
+     * handles the event once; override it to account for every occurrence.
+     *
+     * @param event the most recent of the coalesced events
+     * @param occurrences how many events were coalesced, at least 2
+     */
+    default void handleRepeated(SecurityEvent event, int occurrences) {
+        handle(event);
+    }
+
     /**
      * Called during shutdown to release any resources.
      *
@@ -5,6 +5,8 @@ import java.time.Instant;
 import io.smallrye.mutiny.Multi;
 import io.smallrye.mutiny.Uni;
 
+import aussie.core.model.auth.RevocationRecord;
+
 /**
  * SPI for token revocation storage.
  *
@@ -93,4 +95,28 @@ public interface TokenRevocationRepository {
      * @return Multi streaming user IDs with active revocations
      */
     Multi<String> streamAllRevokedUsers();
+
+    /**
+     * Stream all currently revoked JTIs together with their expiry.
+     *
+     * <p>The bloom filter uses the expiry to drop entries once the token can no
+     * longer be presented. The default implementation reports an unknown expiry,
+     * which keeps entries for the filter's full retention horizon. Implementations
+     * that can read expiry cheaply SHOULD override this.
+     *
+     * @return Multi streaming revoked JTIs with their expiry
+     */
+    default Multi<RevocationRecord> streamAllRevokedJtiRecords() {
+        return streamAllRevokedJtis().map(jti -> new RevocationRecord(jti, null));
+    }
+
+    /**
+     * Stream all users with blanket revocations together with their expiry.
+     *
+     * @return Multi streaming revoked user IDs with their expiry
+     * @see #streamAllRevokedJtiRecords()
+     */
+    default Multi<RevocationRecord> streamAllRevokedUserRecords() {
+        return streamAllRevokedUsers().map(userId -> new RevocationRecord(userId, null));
+    }
 }
@@ -1,8 +1,10 @@
 package aussie.system.filter;
 
 import java.util.Set;
+import java.util.function.Supplier;
 
 import jakarta.inject.Inject;
+import jakarta.inject.Singleton;
 import jakarta.ws.rs.container.ContainerRequestContext;
 import jakarta.ws.rs.core.Response;
 
@@ -11,6 +13,7 @@ import io.vertx.core.http.HttpServerRequest;
 import org.jboss.resteasy.reactive.server.ServerRequestFilter;
 
 import aussie.adapter.in.problem.GatewayProblem;
+import aussie.core.model.common.SourceIdentifier;
 import aussie.core.model.routing.RouteLookupResult;
 import aussie.core.model.routing.ServiceOnlyMatch;
 import aussie.core.model.service.ServicePath;
@@ -24,9 +27,12 @@ import aussie.core.service.routing.ServiceRegistry;
  * <p>Uses @ServerRequestFilter with Uni return type to avoid blocking
  * the Vert.x event loop when performing async service lookups.
  */
+@Singleton
 public class AccessControlFilter {
 
     private static final Set<String> RESERVED_PATHS = Set.of("admin", "gateway", "q");
+    private static final Uni<Boolean> ALLOWED = Uni.createFrom().item(true);
+    private static final Uni<Boolean> DENIED = Uni.createFrom().item(false);
 
     private final ServiceRegistry serviceRegistry;
     private final SourceIdentifierExtractor sourceExtractor;
@@ -44,13 +50,36 @@ public class AccessControlFilter {
 
     @ServerRequestFilter
     public Uni<Response> filter(ContainerRequestContext requestContext, HttpServerRequest vertxRequest) {
-        var path = requestContext.getUriInfo().getPath();
-        var method = requestContext.getMethod();
-
         final var socketIp = vertxRequest.remoteAddress() != null
                 ? vertxRequest.remoteAddress().host()
                 : null;
 
+        return isAllowed(
+                        requestContext.getUriInfo().getPath(),
+                        requestContext.getMethod(),
+                        () -> sourceExtractor.extract(requestContext, socketIp))
+                .map(allowed -> {
+                    if (!allowed) {
+                        // Return 404 to hide resource existence from unauthorized users
+                        throw GatewayProblem.notFound("Not found");
+                    }
+                    // Return null to continue processing (no abort)
+                    return null;
+                });
+    }
+
+    /**
+     * Evaluate access control for a gateway or pass-through request.
+     *
+     * <p>Shared by the JAX-RS filter and the proxy fast path. The source is only
+     * extracted when the request matches a registered service.
+     *
+     * @param path   the request path, with or without a leading slash
+     * @param method the HTTP method
+     * @param source supplies the client source identification
+     * @return true if the request may proceed (including when no service matches)
+     */
+    public Uni<Boolean> isAllowed(String path, String method, Supplier<SourceIdentifier> source) {
         // Normalize path - remove leading slash if present
         if (path.startsWith("/")) {
             path = path.substring(1);
@@ -58,37 +87,35 @@ public class AccessControlFilter {
 
         // Handle gateway requests
         if (path.startsWith("gateway/")) {
-            return handleGatewayRequest(requestContext, socketIp, path, method);
+            return handleGatewayRequest(source, path, method);
         }
 
         // Handle pass-through requests (/{serviceId}/{path})
-        return handlePassThroughRequest(requestContext, socketIp, path, method);
+        return handlePassThroughRequest(source, path, method);
     }
 
-    private Uni<Response> handleGatewayRequest(
-            ContainerRequestContext requestContext, String socketIp, String path, String method) {
+    private Uni<Boolean> handleGatewayRequest(Supplier<SourceIdentifier> source, String path, String method) {
         var gatewayPath = "/" + path.substring("gateway/".length());
 
         var routeResult = serviceRegistry.findRoute(gatewayPath, method);
         if (routeResult.isEmpty()) {
-            return Uni.createFrom().nullItem();
+            return ALLOWED;
         }
 
-        return checkAccessControl(requestContext, socketIp, routeResult.get());
+        return checkAccessControl(source, routeResult.get());
     }
 
-    private Uni<Response> handlePassThroughRequest(
-            ContainerRequestContext requestContext, String socketIp, String path, String method) {
+    private Uni<Boolean> handlePassThroughRequest(Supplier<SourceIdentifier> source, String path, String method) {
         final var servicePath = ServicePath.parse(path);
 
         if (RESERVED_PATHS.contains(servicePath.serviceId().toLowerCase())) {
-            return Uni.createFrom().nullItem();
+            return ALLOWED;
         }
 
         // Use reactive chain - no blocking!
         return serviceRegistry.getService(servicePath.serviceId()).flatMap(serviceOpt -> {
             if (serviceOpt.isEmpty()) {
-                return Uni.createFrom().nullItem();
+                return ALLOWED;
             }
 
             var service = serviceOpt.get();
@@ -97,26 +124,17 @@ public class AccessControlFilter {
             var routeResult = serviceRegistry.findRoute(servicePath.path(), method);
             if (routeResult.isPresent()
                     && routeResult.get().service().serviceId().equals(servicePath.serviceId())) {
-                return checkAccessControl(requestContext, socketIp, routeResult.get());
+                return checkAccessControl(source, routeResult.get());
             }
 
             // For pass-through without a specific route, use ServiceOnlyMatch
             // which uses service defaults for visibility/authRequired/rateLimitConfig
-            return checkAccessControl(requestContext, socketIp, new ServiceOnlyMatch(service));
+            return checkAccessControl(source, new ServiceOnlyMatch(service));
         });
     }
 
-    private Uni<Response> checkAccessControl(
-            ContainerRequestContext requestContext, String socketIp, RouteLookupResult route) {
-        var source = sourceExtractor.extract(requestContext, socketIp);
-        var isAllowed = accessEvaluator.isAllowed(source, route, route.service().accessConfig());
-
-        if (!isAllowed) {
-            // Return 404 to hide resource existence from unauthorized users
-            throw GatewayProblem.notFound("Not found");
-        }
-
-        // Return null to continue processing (no abort)
-        return Uni.createFrom().nullItem();
+    private Uni<Boolean> checkAccessControl(Supplier<SourceIdentifier> source, RouteLookupResult route) {
+        var isAllowed = accessEvaluator.isAllowed(source.get(), route, route.service().accessConfig());
+        return isAllowed ? ALLOWED : DENIED;
     }
 }
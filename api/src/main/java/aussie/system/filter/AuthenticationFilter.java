@@ -1,21 +1,20 @@
 package aussie.system.filter;
 
-import java.io.IOException;
 import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
 
-import jakarta.annotation.Priority;
 import jakarta.enterprise.inject.Instance;
 import jakarta.inject.Inject;
 import jakarta.ws.rs.Priorities;
 import jakarta.ws.rs.container.ContainerRequestContext;
-import jakarta.ws.rs.container.ContainerRequestFilter;
+import jakarta.ws.rs.core.MultivaluedMap;
 import jakarta.ws.rs.core.Response;
-import jakarta.ws.rs.ext.Provider;
 
+import io.smallrye.mutiny.Uni;
 import org.eclipse.microprofile.config.ConfigProvider;
 import org.jboss.logging.Logger;
+import org.jboss.resteasy.reactive.server.ServerRequestFilter;
 
 import aussie.core.model.auth.AuthenticationResult;
 import aussie.spi.AuthenticationProvider;
@@ -34,7 +33,10 @@ import aussie.spi.AuthenticationProvider;
  * </pre>
  *
  * <p>This filter tries each available {@link AuthenticationProvider} in priority
- * order (highest first) until one returns a non-Skip result.
+ * order (highest first) until one returns a non-Skip result. Providers are sorted
+ * once, when the filter is created, and called through
+ * {@link AuthenticationProvider#authenticateAsync} so that reactive providers run
+ * on the event loop without blocking it.
  *
  * <p>By default, only admin paths ({@code /admin/*}) require authentication.
  * Gateway proxy paths remain open to allow public traffic.
@@ -49,9 +51,7 @@ import aussie.spi.AuthenticationProvider;
  * @deprecated Use Quarkus Security with {@code @RolesAllowed} annotations instead.
  */
 @Deprecated
-@Provider
-@Priority(Priorities.AUTHENTICATION)
-public class AuthenticationFilter implements ContainerRequestFilter {
+public class AuthenticationFilter {
 
     private static final Logger LOG = Logger.getLogger(AuthenticationFilter.class);
 
@@ -60,96 +60,132 @@ public class AuthenticationFilter implements ContainerRequestFilter {
      */
     public static final String AUTH_CONTEXT_PROPERTY = "aussie.auth.context";
 
-    private final Instance<AuthenticationProvider> providers;
+    private static final String USE_LEGACY_FILTER = "aussie.auth.use-legacy-filter";
+    private static final String ADMIN_PATHS_ONLY = "aussie.auth.admin-paths-only";
+    private static final String AUTH_ENABLED = "aussie.auth.enabled";
+
+    private final List<AuthenticationProvider> sortedProviders;
+    private final boolean useLegacyFilter;
+    private final boolean adminPathsOnly;
+    private final boolean authEnabled;
 
     @Inject
     public AuthenticationFilter(Instance<AuthenticationProvider> providers) {
-        this.providers = providers;
+        this(
+                providers,
+                booleanConfig(USE_LEGACY_FILTER, false),
+                booleanConfig(ADMIN_PATHS_ONLY, true),
+                booleanConfig(AUTH_ENABLED, true));
     }
 
-    private boolean isAuthEnabled() {
-        return ConfigProvider.getConfig()
-                .getOptionalValue("aussie.auth.enabled", Boolean.class)
-                .orElse(true);
+    AuthenticationFilter(
+            Instance<AuthenticationProvider> providers,
+            boolean useLegacyFilter,
+            boolean adminPathsOnly,
+            boolean authEnabled) {
+        // Available providers sorted by priority (highest first)
+        this.sortedProviders = providers.stream()
+                .filter(AuthenticationProvider::isAvailable)
+                .sorted(Comparator.comparingInt(AuthenticationProvider::priority)
+                        .reversed())
+                .toList();
+        this.useLegacyFilter = useLegacyFilter;
+        this.adminPathsOnly = adminPathsOnly;
+        this.authEnabled = authEnabled;
     }
 
-    private boolean isAdminPathsOnly() {
-        return ConfigProvider.getConfig()
-                .getOptionalValue("aussie.auth.admin-paths-only", Boolean.class)
-                .orElse(true);
+    /**
+     * Check whether the configured filter authenticates gateway and pass-through paths.
+     *
+     * <p>The proxy fast path never runs this filter, so it must leave those paths to
+     * JAX-RS when this is true.
+     *
+     * @return true if the legacy filter is on and not limited to admin paths
+     */
+    static boolean coversProxyPaths() {
+        return booleanConfig(USE_LEGACY_FILTER, false)
+                && !booleanConfig(ADMIN_PATHS_ONLY, true)
+                && booleanConfig(AUTH_ENABLED, true);
     }
 
-    private boolean useLegacyFilter() {
+    private static boolean booleanConfig(String name, boolean defaultValue) {
         return ConfigProvider.getConfig()
-                .getOptionalValue("aussie.auth.use-legacy-filter", Boolean.class)
-                .orElse(false);
+                .getOptionalValue(name, Boolean.class)
+                .orElse(defaultValue);
     }
 
-    @Override
-    public void filter(ContainerRequestContext requestContext) throws IOException {
+    /**
+     * Authenticate the request with the first provider that handles it.
+     *
+     * @param requestContext the request
+     * @return Uni with null to continue, or a Response to abort
+     */
+    @ServerRequestFilter(priority = Priorities.AUTHENTICATION)
+    public Uni<Response> filter(ContainerRequestContext requestContext) {
         // Skip if legacy filter is disabled (Quarkus Security handles auth)
-        if (!useLegacyFilter()) {
-            return;
+        if (!useLegacyFilter) {
+            return Uni.createFrom().nullItem();
         }
 
         String path = requestContext.getUriInfo().getPath();
 
         // Skip auth for non-admin paths if configured
-        if (isAdminPathsOnly() && !path.startsWith("admin")) {
-            return;
+        if (adminPathsOnly && !path.startsWith("admin")) {
+            return Uni.createFrom().nullItem();
         }
 
         // Skip if auth is disabled entirely
-        if (!isAuthEnabled()) {
+        if (!authEnabled) {
             LOG.warn("Authentication is disabled (aussie.auth.enabled=false)");
-            return;
+            return Uni.createFrom().nullItem();
         }
 
-        // Get available providers sorted by priority (highest first)
-        List<AuthenticationProvider> sortedProviders = providers.stream()
-                .filter(AuthenticationProvider::isAvailable)
-                .sorted(Comparator.comparingInt(AuthenticationProvider::priority)
-                        .reversed())
-                .toList();
-
         if (sortedProviders.isEmpty()) {
             LOG.error("No authentication providers available!");
-            requestContext.abortWith(Response.status(Response.Status.INTERNAL_SERVER_ERROR)
-                    .entity(Map.of("error", "Authentication not configured"))
-                    .build());
-            return;
+            return Uni.createFrom()
+                    .item(Response.status(Response.Status.INTERNAL_SERVER_ERROR)
+                            .entity(Map.of("error", "Authentication not configured"))
+                            .build());
         }
 
-        // Try each provider in priority order
-        for (AuthenticationProvider provider : sortedProviders) {
-            AuthenticationResult result = provider.authenticate(requestContext.getHeaders(), path);
-
-            switch (result) {
-                case AuthenticationResult.Success success -> {
-                    // Store context for downstream use
-                    requestContext.setProperty(AUTH_CONTEXT_PROPERTY, success.context());
-                    LOG.debugf(
-                            "Authenticated via %s: %s",
-                            provider.name(), success.context().principal().name());
-                    return;
-                }
-                case AuthenticationResult.Failure failure -> {
-                    LOG.debugf("Authentication failed via %s: %s", provider.name(), failure.reason());
-                    requestContext.abortWith(Response.status(failure.statusCode())
-                            .entity(Map.of("error", failure.reason()))
+        return authenticate(requestContext, requestContext.getHeaders(), path, 0);
+    }
+
+    /**
+     * Try the provider at {@code index}, moving on to the next one when it skips.
+     */
+    private Uni<Response> authenticate(
+            ContainerRequestContext requestContext, MultivaluedMap<String, String> headers, String path, int index) {
+        if (index == sortedProviders.size()) {
+            // No provider authenticated the request
+            return Uni.createFrom()
+                    .item(Response.status(Response.Status.UNAUTHORIZED)
+                            .entity(Map.of("error", "Authentication required"))
                             .build());
-                    return;
-                }
-                case AuthenticationResult.Skip skip -> {
-                    // Try next provider
-                    LOG.tracef("Provider %s skipped", provider.name());
-                }
-            }
         }
 
-        // No provider authenticated the request
-        requestContext.abortWith(Response.status(Response.Status.UNAUTHORIZED)
-                .entity(Map.of("error", "Authentication required"))
-                .build());
+        AuthenticationProvider provider = sortedProviders.get(index);
+        return provider.authenticateAsync(headers, path).flatMap(result -> switch (result) {
+            case AuthenticationResult.Success success -> {
+                // Store context for downstream use
+                requestContext.setProperty(AUTH_CONTEXT_PROPERTY, success.context());
+                LOG.debugf(
+                        "Authenticated via %s: %s",
+                        provider.name(), success.context().principal().name());
+                yield Uni.createFrom().<Response>nullItem();
+            }
+            case AuthenticationResult.Failure failure -> {
+                LOG.debugf("Authentication failed via %s: %s", provider.name(), failure.reason());
+                yield Uni.createFrom()
+                        .item(Response.status(failure.statusCode())
+                                .entity(Map.of("error", failure.reason()))
+                                .build());
+            }
+            case AuthenticationResult.Skip skip -> {
+                // Try next provider
+                LOG.tracef("Provider %s skipped", provider.name());
+                yield authenticate(requestContext, headers, path, index + 1);
+            }
+        });
     }
 }
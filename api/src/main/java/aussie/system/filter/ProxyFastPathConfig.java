@@ -0,0 +1,23 @@
+package aussie.system.filter;
+
+import io.smallrye.config.ConfigMapping;
+import io.smallrye.config.WithDefault;
+
+/**
+ * Configuration for the proxy fast path.
+ *
+ * <p>When enabled, gateway and pass-through requests are handled by a Vert.x
+ * route filter instead of JAX-RS. Admin, auth and Quarkus endpoints always go
+ * through JAX-RS.
+ */
+@ConfigMapping(prefix = "aussie.gateway.fast-path")
+public interface ProxyFastPathConfig {
+
+    /**
+     * Enable the proxy fast path.
+     *
+     * @return true if proxy requests bypass JAX-RS (default: false)
+     */
+    @WithDefault("false")
+    boolean enabled();
+}
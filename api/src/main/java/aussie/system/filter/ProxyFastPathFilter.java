@@ -0,0 +1,357 @@
+package aussie.system.filter;
+
+import java.net.URI;
+import java.util.Set;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.inject.Instance;
+import jakarta.inject.Inject;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import io.quarkiverse.resteasy.problem.HttpProblem;
+import io.quarkus.vertx.web.RouteFilter;
+import io.smallrye.mutiny.Uni;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.http.HttpHeaders;
+import io.vertx.core.http.HttpMethod;
+import io.vertx.core.http.HttpServerRequest;
+import io.vertx.core.json.JsonObject;
+import io.vertx.ext.web.RoutingContext;
+import org.jboss.logging.Logger;
+import org.jboss.resteasy.reactive.common.util.Encode;
+
+import aussie.adapter.in.auth.ConflictingAuthFilter;
+import aussie.adapter.in.problem.GatewayProblem;
+import aussie.adapter.out.http.MultiMapHeaders;
+import aussie.core.model.common.ValidationResult;
+import aussie.core.model.gateway.GatewayRequest;
+import aussie.core.model.gateway.GatewayResult;
+import aussie.core.model.ratelimit.RateLimitDecision;
+import aussie.core.port.in.GatewayUseCase;
+import aussie.core.port.in.PassThroughUseCase;
+import aussie.core.service.common.RequestSizeValidator;
+import aussie.core.service.common.SourceIdentifierExtractor;
+
+/**
+ * Vert.x route filter that proxies gateway and pass-through requests without JAX-RS.
+ *
+ * <p>When enabled, requests under {@code /gateway/{path}} and {@code /{serviceId}/{path}}
+ * are handled here and never reach {@code GatewayResource} or {@code PassThroughResource}.
+ * The checks the JAX-RS filters apply to those paths run as composed stages on the
+ * event loop, in the same order: request size, conflicting authentication, rate
+ * limiting, then access control. Route authentication is part of the use cases, as
+ * it is for the JAX-RS resources. Admin, auth and Quarkus ({@code /q}) paths always
+ * continue to JAX-RS. Paths are percent-decoded before matching, as JAX-RS decodes
+ * them, so an encoded slash resolves to the same service and path either way.
+ *
+ * <p>The legacy {@link AuthenticationFilter} only runs in JAX-RS. When it is
+ * configured to authenticate proxy paths, the fast path stays off and every
+ * request continues to JAX-RS, so enabling the fast path never drops that
+ * authentication.
+ *
+ * <p>Problems are written with the application {@link ObjectMapper}, which carries
+ * the problem serializer JAX-RS uses, along with any headers the problem carries.
+ *
+ * <p>Priority 30 runs after CORS (100), security headers (90) and the WebSocket
+ * filters (50, 40), so their headers are already on the response and upgrades never
+ * arrive here.
+ */
+@ApplicationScoped
+public class ProxyFastPathFilter {
+
+    private static final Logger LOG = Logger.getLogger(ProxyFastPathFilter.class);
+
+    private static final String GATEWAY_PREFIX = "/gateway/";
+    private static final Set<String> RESERVED_PATHS = Set.of("admin", "auth", "gateway", "q");
+    private static final Set<HttpMethod> METHODS_WITH_BODY = Set.of(HttpMethod.POST, HttpMethod.PUT, HttpMethod.PATCH);
+    private static final String PROBLEM_JSON = "application/problem+json";
+
+    private final Instance<ProxyFastPathConfig> configInstance;
+    private final RequestSizeValidator sizeValidator;
+    private final ConflictingAuthFilter conflictingAuthFilter;
+    private final RateLimitFilter rateLimitFilter;
+    private final AccessControlFilter accessControlFilter;
+    private final SourceIdentifierExtractor sourceExtractor;
+    private final GatewayUseCase gatewayUseCase;
+    private final PassThroughUseCase passThroughUseCase;
+    private final ObjectMapper objectMapper;
+    private final boolean legacyAuthOnProxyPaths;
+
+    @Inject
+    public ProxyFastPathFilter(
+            Instance<ProxyFastPathConfig> configInstance,
+            RequestSizeValidator sizeValidator,
+            ConflictingAuthFilter conflictingAuthFilter,
+            RateLimitFilter rateLimitFilter,
+            AccessControlFilter accessControlFilter,
+            SourceIdentifierExtractor sourceExtractor,
+            GatewayUseCase gatewayUseCase,
+            PassThroughUseCase passThroughUseCase,
+            ObjectMapper objectMapper) {
+        this(
+                configInstance,
+                sizeValidator,
+                conflictingAuthFilter,
+                rateLimitFilter,
+                accessControlFilter,
+                sourceExtractor,
+                gatewayUseCase,
+                passThroughUseCase,
+                objectMapper,
+                AuthenticationFilter.coversProxyPaths());
+    }
+
+    ProxyFastPathFilter(
+            Instance<ProxyFastPathConfig> configInstance,
+            RequestSizeValidator sizeValidator,
+            ConflictingAuthFilter conflictingAuthFilter,
+            RateLimitFilter rateLimitFilter,
+            AccessControlFilter accessControlFilter,
+            SourceIdentifierExtractor sourceExtractor,
+            GatewayUseCase gatewayUseCase,
+            PassThroughUseCase passThroughUseCase,
+            ObjectMapper objectMapper,
+            boolean legacyAuthOnProxyPaths) {
+        this.configInstance = configInstance;
+        this.sizeValidator = sizeValidator;
+        this.conflictingAuthFilter = conflictingAuthFilter;
+        this.rateLimitFilter = rateLimitFilter;
+        this.accessControlFilter = accessControlFilter;
+        this.sourceExtractor = sourceExtractor;
+        this.gatewayUseCase = gatewayUseCase;
+        this.passThroughUseCase = passThroughUseCase;
+        this.objectMapper = objectMapper;
+        this.legacyAuthOnProxyPaths = legacyAuthOnProxyPaths;
+        if (legacyAuthOnProxyPaths && configInstance.isResolvable() && configInstance.get().enabled()) {
+            LOG.warn("Proxy fast path disabled: the legacy authentication filter authenticates proxy paths "
+                    + "(aussie.auth.use-legacy-filter=true, aussie.auth.admin-paths-only=false)");
+        }
+    }
+
+    /**
+     * Proxy gateway and pass-through requests, or continue to JAX-RS for anything else.
+     */
+    @RouteFilter(30)
+    void proxy(RoutingContext ctx) {
+        if (!isEnabled()) {
+            ctx.next();
+            return;
+        }
+
+        final var path = Encode.decodePath(ctx.normalizedPath());
+        final var target = ProxyTarget.resolve(path);
+        if (target == null) {
+            ctx.next();
+            return;
+        }
+
+        final var request = ctx.request();
+        final var contentLength =
+                RequestValidationFilter.parseContentLength(request.getHeader(HttpHeaders.CONTENT_LENGTH));
+        final var sizeResult = sizeValidator.validateRequest(contentLength, request.headers());
+        if (sizeResult instanceof ValidationResult.Invalid invalid) {
+            writeProblem(ctx, RequestValidationFilter.toProblem(invalid));
+            return;
+        }
+
+        if (conflictingAuthFilter.hasConflictingAuth(request)) {
+            writeConflictingAuth(ctx);
+            return;
+        }
+
+        rateLimitFilter
+                .check(request)
+                .invoke(decision -> rejectIfLimited(ctx, decision))
+                .call(decision -> checkAccess(request, path))
+                .chain(decision -> readBody(ctx)
+                        .chain(body -> forward(target, request, body))
+                        .invoke(result -> writeResult(ctx, result, decision)))
+                .subscribe()
+                .with(result -> {}, error -> writeFailure(ctx, error));
+    }
+
+    private boolean isEnabled() {
+        // The legacy authentication filter only runs in JAX-RS
+        return !legacyAuthOnProxyPaths && configInstance.isResolvable() && configInstance.get().enabled();
+    }
+
+    private void rejectIfLimited(RoutingContext ctx, RateLimitDecision decision) {
+        if (decision == null || decision.allowed()) {
+            return;
+        }
+        final var response = ctx.response();
+        RateLimitFilter.exceededHeaders(decision)
+                .forEach((name, value) -> response.putHeader(name, String.valueOf(value)));
+        throw RateLimitFilter.exceededProblem(decision);
+    }
+
+    private Uni<Void> checkAccess(HttpServerRequest request, String path) {
+        final var socketIp = request.remoteAddress() != null ? request.remoteAddress().host() : null;
+        return accessControlFilter
+                .isAllowed(path, request.method().name(), () -> sourceExtractor.extract(request::getHeader, socketIp))
+                .map(allowed -> {
+                    if (!allowed) {
+                        // Return 404 to hide resource existence from unauthorized users
+                        throw GatewayProblem.notFound("Not found");
+                    }
+                    return null;
+                });
+    }
+
+    private Uni<byte[]> readBody(RoutingContext ctx) {
+        if (!METHODS_WITH_BODY.contains(ctx.request().method())) {
+            return Uni.createFrom().nullItem();
+        }
+        // A body handler earlier in the chain may already have read the body
+        if (ctx.body().available()) {
+            final var buffer = ctx.body().buffer();
+            return Uni.createFrom().item(buffer != null ? buffer.getBytes() : new byte[0]);
+        }
+        return Uni.createFrom()
+                .completionStage(ctx.request().body().toCompletionStage())
+                .map(Buffer::getBytes);
+    }
+
+    private Uni<GatewayResult> forward(ProxyTarget target, HttpServerRequest request, byte[] body) {
+        final var remoteAddress = request.remoteAddress();
+        final var gatewayRequest = new GatewayRequest(
+                request.method().name(),
+                target.path(),
+                new MultiMapHeaders(request.headers()),
+                URI.create(request.absoluteURI()),
+                body,
+                remoteAddress != null ? remoteAddress.host() : null);
+
+        return target.serviceId() == null
+                ? gatewayUseCase.forward(gatewayRequest)
+                : passThroughUseCase.forward(target.serviceId(), gatewayRequest);
+    }
+
+    private void writeResult(RoutingContext ctx, GatewayResult result, RateLimitDecision decision) {
+        if (!(result instanceof GatewayResult.Success success)) {
+            writeProblem(ctx, toProblem(result));
+            return;
+        }
+
+        final var response = ctx.response();
+        if (response.ended()) {
+            return;
+        }
+        response.setStatusCode(success.statusCode());
+
+        final var hasBody = success.body().length > 0;
+        for (var entry : success.headers().entrySet()) {
+            // The response sets Content-Length from the body it writes
+            if (hasBody && HttpHeaders.CONTENT_LENGTH.toString().equalsIgnoreCase(entry.getKey())) {
+                continue;
+            }
+            response.headers().add(entry.getKey(), entry.getValue());
+        }
+
+        if (decision != null && rateLimitFilter.includeHeaders()) {
+            RateLimitFilter.allowedHeaders(decision)
+                    .forEach((name, value) -> response.putHeader(name, String.valueOf(value)));
+        }
+
+        if (hasBody) {
+            response.end(Buffer.buffer(success.body()));
+        } else {
+            response.end();
+        }
+    }
+
+    private HttpProblem toProblem(GatewayResult result) {
+        return switch (result) {
+            case GatewayResult.RouteNotFound r -> GatewayProblem.routeNotFound(r.path());
+            case GatewayResult.ServiceNotFound s -> GatewayProblem.serviceNotFound(s.serviceId());
+            case GatewayResult.ReservedPath rp -> GatewayProblem.notFound("Path '%s' is reserved".formatted(rp.path()));
+            case GatewayResult.Error e -> GatewayProblem.badGateway(e.message());
+            case GatewayResult.Unauthorized u -> GatewayProblem.unauthorized(u.reason());
+            case GatewayResult.Forbidden f -> GatewayProblem.forbidden(f.reason());
+            case GatewayResult.BadRequest b -> GatewayProblem.badRequest(b.reason());
+            case GatewayResult.Success s -> throw new IllegalArgumentException("Not a problem result");
+        };
+    }
+
+    private void writeFailure(RoutingContext ctx, Throwable error) {
+        if (error instanceof HttpProblem problem) {
+            writeProblem(ctx, problem);
+        } else if (error instanceof IllegalArgumentException) {
+            writeProblem(ctx, GatewayProblem.badRequest(error.getMessage()));
+        } else {
+            LOG.errorv(error, "Proxy fast path failed for {0}", ctx.request().path());
+            writeProblem(ctx, GatewayProblem.internalError("An unexpected error occurred"));
+        }
+    }
+
+    /**
+     * Write a problem as {@code application/problem+json}, as the JAX-RS problem
+     * mapper does.
+     *
+     * <p>The body comes from the same serializer, and {@code instance} defaults to
+     * the request path as it does for problems thrown from resources. Headers the
+     * problem carries are written too.
+     */
+    private void writeProblem(RoutingContext ctx, HttpProblem problem) {
+        final var response = ctx.response();
+        if (response.ended()) {
+            return;
+        }
+
+        final ObjectNode json = objectMapper.valueToTree(problem);
+        if (!json.hasNonNull("instance")) {
+            json.put("instance", ctx.request().path());
+        }
+        problem.getHeaders().forEach((name, value) -> response.putHeader(name, String.valueOf(value)));
+
+        response.setStatusCode(problem.getStatusCode())
+                .putHeader(HttpHeaders.CONTENT_TYPE, PROBLEM_JSON)
+                .end(Buffer.buffer(json.toString()));
+    }
+
+    private void writeConflictingAuth(RoutingContext ctx) {
+        LOG.warnf("Rejecting request with conflicting authentication: "
+                + "both Authorization header and session cookie present");
+
+        final var json = new JsonObject()
+                .put("error", ConflictingAuthFilter.ERROR_CODE)
+                .put("message", ConflictingAuthFilter.ERROR_MESSAGE);
+
+        ctx.response()
+                .setStatusCode(400)
+                .putHeader(HttpHeaders.CONTENT_TYPE, "application/json")
+                .end(json.toBuffer());
+    }
+
+    /**
+     * Where a proxy request goes.
+     *
+     * @param serviceId the pass-through service, or null for gateway mode
+     * @param path      the path forwarded to the use case
+     */
+    record ProxyTarget(String serviceId, String path) {
+
+        /**
+         * Resolve the target for a request path, mirroring the JAX-RS resource paths.
+         *
+         * @param path the normalized request path
+         * @return the target, or null if the path is not a proxy path
+         */
+        static ProxyTarget resolve(String path) {
+            if (path == null || !path.startsWith("/") || path.length() == 1) {
+                return null;
+            }
+            if (path.startsWith(GATEWAY_PREFIX)) {
+                return new ProxyTarget(null, path.substring(GATEWAY_PREFIX.length() - 1));
+            }
+
+            final var slashIndex = path.indexOf('/', 1);
+            final var serviceId = slashIndex > 0 ? path.substring(1, slashIndex) : path.substring(1);
+            if (serviceId.isEmpty() || RESERVED_PATHS.contains(serviceId.toLowerCase())) {
+                return null;
+            }
+            return new ProxyTarget(serviceId, slashIndex > 0 ? path.substring(slashIndex) : "/");
+        }
+    }
+}
@@ -1,6 +1,8 @@
 package aussie.system.filter;
 
 import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.Optional;
 
 import jakarta.enterprise.inject.Instance;
@@ -12,6 +14,7 @@ import jakarta.ws.rs.core.Response;
 
 import io.opentelemetry.api.trace.Span;
 import io.opentelemetry.api.trace.StatusCode;
+import io.quarkiverse.resteasy.problem.HttpProblem;
 import io.smallrye.mutiny.Uni;
 import io.vertx.core.http.HttpServerRequest;
 import org.jboss.resteasy.reactive.server.ServerRequestFilter;
@@ -100,6 +103,32 @@ public class RateLimitFilter {
      */
     @ServerRequestFilter(priority = jakarta.ws.rs.Priorities.AUTHENTICATION - 50)
     public Uni<Response> filterRequest(ContainerRequestContext requestContext, HttpServerRequest request) {
+        return check(request).map(decision -> {
+            if (decision == null) {
+                return null;
+            }
+            requestContext.setProperty(RATE_LIMIT_DECISION_ATTR, decision);
+
+            if (!decision.allowed()) {
+                return buildRateLimitResponse(decision);
+            }
+
+            // Return null to continue processing
+            return null;
+        });
+    }
+
+    /**
+     * Check and consume the rate limit for a request.
+     *
+     * <p>Records metrics and span attributes, and dispatches a security event when
+     * the limit is exceeded. Shared by the JAX-RS filter and the proxy fast path,
+     * which each render the decision themselves.
+     *
+     * @param request the Vert.x request
+     * @return the decision, or a null item if rate limiting is disabled
+     */
+    public Uni<RateLimitDecision> check(HttpServerRequest request) {
         if (!config().enabled()) {
             return Uni.createFrom().nullItem();
         }
@@ -120,9 +149,7 @@ public class RateLimitFilter {
                 routeResult != null ? routeResult.endpoint().map(e -> e.path()).orElse(null) : null;
         final var key = RateLimitKey.http(clientId, serviceId, endpointId);
 
-        return rateLimiter.checkAndConsume(key, effectiveLimit).map(decision -> {
-            requestContext.setProperty(RATE_LIMIT_DECISION_ATTR, decision);
-
+        return rateLimiter.checkAndConsume(key, effectiveLimit).invoke(decision -> {
             recordMetrics(serviceId, decision);
             setSpanAttributes(decision);
 
@@ -130,32 +157,76 @@ public class RateLimitFilter {
                 metrics.recordRateLimitExceeded(serviceId, "http");
                 dispatchSecurityEvent(decision, serviceId, clientId);
                 setExceededSpanAttributes(decision);
-                return buildRateLimitResponse(decision);
             }
-
-            // Return null to continue processing
-            return null;
         });
     }
 
+    /**
+     * Whether rate limit headers are added to allowed responses.
+     *
+     * @return true if {@code X-RateLimit-*} headers should be sent
+     */
+    public boolean includeHeaders() {
+        return config().includeHeaders();
+    }
+
     /**
      * Response filter that adds rate limit headers.
      */
     @ServerResponseFilter
     public void filterResponse(ContainerRequestContext requestContext, ContainerResponseContext responseContext) {
-        if (!config().includeHeaders()) {
+        if (!includeHeaders()) {
             return;
         }
 
         // Read decision from request context property
         final var decision = (RateLimitDecision) requestContext.getProperty(RATE_LIMIT_DECISION_ATTR);
         if (decision != null && decision.allowed()) {
-            responseContext.getHeaders().add("X-RateLimit-Limit", decision.limit());
-            responseContext.getHeaders().add("X-RateLimit-Remaining", decision.remaining());
-            responseContext.getHeaders().add("X-RateLimit-Reset", decision.resetAtEpochSeconds());
+            allowedHeaders(decision).forEach(responseContext.getHeaders()::add);
         }
     }
 
+    /**
+     * Headers describing the remaining limit, added to allowed responses.
+     *
+     * @param decision an allowing decision
+     * @return header names and values, in the order they are sent
+     */
+    static Map<String, Object> allowedHeaders(RateLimitDecision decision) {
+        final var headers = new LinkedHashMap<String, Object>();
+        headers.put("X-RateLimit-Limit", decision.limit());
+        headers.put("X-RateLimit-Remaining", decision.remaining());
+        headers.put("X-RateLimit-Reset", decision.resetAtEpochSeconds());
+        return headers;
+    }
+
+    /**
+     * Headers sent when a request is rejected: when to retry, and the exhausted limit.
+     *
+     * @param decision a rejecting decision
+     * @return header names and values, in the order they are sent
+     */
+    static Map<String, Object> exceededHeaders(RateLimitDecision decision) {
+        final var headers = new LinkedHashMap<String, Object>();
+        headers.put("Retry-After", decision.retryAfterSeconds());
+        headers.put("X-RateLimit-Limit", decision.limit());
+        headers.put("X-RateLimit-Remaining", 0);
+        headers.put("X-RateLimit-Reset", decision.resetAtEpochSeconds());
+        return headers;
+    }
+
+    /**
+     * Problem body for a rejected request.
+     *
+     * @param decision a rejecting decision
+     * @return 429 problem
+     */
+    static HttpProblem exceededProblem(RateLimitDecision decision) {
+        final var detail = "Rate limit exceeded. Retry after %d seconds.".formatted(decision.retryAfterSeconds());
+        return GatewayProblem.tooManyRequests(
+                detail, decision.retryAfterSeconds(), decision.limit(), 0, decision.resetAtEpochSeconds());
+    }
+
     private void recordMetrics(String serviceId, RateLimitDecision decision) {
         metrics.recordRateLimitCheck(serviceId, decision.allowed(), decision.remaining());
     }
@@ -184,16 +255,9 @@ public class RateLimitFilter {
     }
 
     private Response buildRateLimitResponse(RateLimitDecision decision) {
-        final var detail = "Rate limit exceeded. Retry after %d seconds.".formatted(decision.retryAfterSeconds());
-
-        return Response.status(429)
-                .header("Retry-After", decision.retryAfterSeconds())
-                .header("X-RateLimit-Limit", decision.limit())
-                .header("X-RateLimit-Remaining", 0)
-                .header("X-RateLimit-Reset", decision.resetAtEpochSeconds())
-                .entity(GatewayProblem.tooManyRequests(
-                        detail, decision.retryAfterSeconds(), decision.limit(), 0, decision.resetAtEpochSeconds()))
-                .build();
+        final var response = Response.status(429).entity(exceededProblem(decision));
+        exceededHeaders(decision).forEach(response::header);
+        return response.build();
     }
 
     // -------------------------------------------------------------------------
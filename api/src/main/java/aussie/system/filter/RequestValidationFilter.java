@@ -1,25 +1,27 @@
 package aussie.system.filter;
 
-import java.io.IOException;
-import java.util.ArrayList;
-import java.util.HashMap;
-import java.util.List;
-import java.util.Map;
-
-import jakarta.annotation.Priority;
 import jakarta.inject.Inject;
 import jakarta.ws.rs.Priorities;
-import jakarta.ws.rs.container.ContainerRequestContext;
-import jakarta.ws.rs.container.ContainerRequestFilter;
-import jakarta.ws.rs.ext.Provider;
+
+import io.quarkiverse.resteasy.problem.HttpProblem;
+import io.vertx.core.http.HttpHeaders;
+import io.vertx.core.http.HttpServerRequest;
+import org.jboss.resteasy.reactive.server.ServerRequestFilter;
 
 import aussie.adapter.in.problem.GatewayProblem;
 import aussie.core.model.common.ValidationResult;
 import aussie.core.service.common.RequestSizeValidator;
 
-@Provider
-@Priority(Priorities.AUTHENTICATION - 100)
-public class RequestValidationFilter implements ContainerRequestFilter {
+/**
+ * Request size validation filter.
+ *
+ * <p>Validates body and header sizes straight from the Vert.x request headers,
+ * without copying them into a JAX-RS header map. The HTTP server enforces the same
+ * total header and body limits before a request reaches this filter (see the
+ * {@code quarkus.http.limits.*} properties); this filter adds the per-header limit
+ * and returns problem responses consistent with the rest of the gateway.
+ */
+public class RequestValidationFilter {
 
     private final RequestSizeValidator validator;
 
@@ -28,29 +30,38 @@ public class RequestValidationFilter implements ContainerRequestFilter {
         this.validator = validator;
     }
 
-    @Override
-    public void filter(ContainerRequestContext requestContext) throws IOException {
-        var contentLength = parseContentLength(requestContext);
-        var headers = extractHeaders(requestContext);
+    @ServerRequestFilter(priority = Priorities.AUTHENTICATION - 100)
+    public void filter(HttpServerRequest request) {
+        var contentLength = parseContentLength(request.getHeader(HttpHeaders.CONTENT_LENGTH));
 
-        var result = validator.validateRequest(contentLength, headers);
+        var result = validator.validateRequest(contentLength, request.headers());
 
         if (result instanceof ValidationResult.Invalid invalid) {
-            int statusCode = invalid.suggestedStatusCode();
-            String reason = invalid.reason();
-
-            if (statusCode == 413) {
-                throw GatewayProblem.payloadTooLarge(reason);
-            } else if (statusCode == 431) {
-                throw GatewayProblem.headerTooLarge(reason);
-            } else {
-                throw GatewayProblem.badRequest(reason);
-            }
+            throw toProblem(invalid);
         }
     }
 
-    private long parseContentLength(ContainerRequestContext requestContext) {
-        var contentLengthHeader = requestContext.getHeaderString("Content-Length");
+    /**
+     * Map a failed size check to its problem response.
+     *
+     * @param invalid the failed validation
+     * @return 413, 431, or 400 problem, following the suggested status code
+     */
+    static HttpProblem toProblem(ValidationResult.Invalid invalid) {
+        return switch (invalid.suggestedStatusCode()) {
+            case 413 -> GatewayProblem.payloadTooLarge(invalid.reason());
+            case 431 -> GatewayProblem.headerTooLarge(invalid.reason());
+            default -> GatewayProblem.badRequest(invalid.reason());
+        };
+    }
+
+    /**
+     * Parse a Content-Length header, treating a missing or malformed value as no body.
+     *
+     * @param contentLengthHeader the header value, or null
+     * @return the declared length, or 0
+     */
+    static long parseContentLength(String contentLengthHeader) {
         if (contentLengthHeader == null || contentLengthHeader.isEmpty()) {
             return 0;
         }
@@ -60,12 +71,4 @@ public class RequestValidationFilter implements ContainerRequestFilter {
             return 0;
         }
     }
-
-    private Map<String, List<String>> extractHeaders(ContainerRequestContext requestContext) {
-        Map<String, List<String>> headers = new HashMap<>();
-        for (var headerName : requestContext.getHeaders().keySet()) {
-            headers.put(headerName, new ArrayList<>(requestContext.getHeaders().get(headerName)));
-        }
-        return headers;
-    }
 }
@@ -0,0 +1,65 @@
+package aussie;
+
+import static io.restassured.RestAssured.given;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.Map;
+
+import io.quarkus.test.junit.QuarkusTest;
+import io.quarkus.test.junit.QuarkusTestProfile;
+import io.quarkus.test.junit.TestProfile;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Integration tests for the proxy fast path.
+ *
+ * <p>
+ * Pins the problem bodies the fast path writes to the shape the JAX-RS problem
+ * mapper produces in the same application.
+ */
+@QuarkusTest
+@TestProfile(ProxyFastPathIntegrationTest.FastPathEnabledProfile.class)
+@DisplayName("Proxy Fast Path Integration Tests")
+public class ProxyFastPathIntegrationTest {
+
+    /**
+     * Test profile that enables the proxy fast path.
+     */
+    public static class FastPathEnabledProfile implements QuarkusTestProfile {
+        @Override
+        public Map<String, String> getConfigOverrides() {
+            return Map.of("aussie.gateway.fast-path.enabled", "true");
+        }
+    }
+
+    @Test
+    @DisplayName("Should write problems in the same shape as JAX-RS")
+    void shouldWriteProblemsLikeJaxRs() {
+        // Handled by the fast path
+        Map<String, Object> fastPath = given().when()
+                .get("/nonexistent-service/api/health")
+                .then()
+                .statusCode(404)
+                .contentType("application/problem+json")
+                .extract()
+                .jsonPath()
+                .getMap("");
+
+        // Handled by AdminResource and the JAX-RS problem mapper
+        Map<String, Object> jaxRs = given().when()
+                .get("/admin/services/nonexistent-service")
+                .then()
+                .statusCode(404)
+                .contentType("application/problem+json")
+                .extract()
+                .jsonPath()
+                .getMap("");
+
+        assertEquals(jaxRs.keySet(), fastPath.keySet());
+        assertEquals("Service Not Found", fastPath.get("title"));
+        assertEquals(404, fastPath.get("status"));
+        assertEquals("/nonexistent-service/api/health", fastPath.get("instance"));
+        assertEquals("/admin/services/nonexistent-service", jaxRs.get("instance"));
+    }
+}
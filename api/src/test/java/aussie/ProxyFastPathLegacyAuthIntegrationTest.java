@@ -0,0 +1,51 @@
+package aussie;
+
+import static io.restassured.RestAssured.given;
+
+import java.util.Map;
+
+import io.quarkus.test.junit.QuarkusTest;
+import io.quarkus.test.junit.QuarkusTestProfile;
+import io.quarkus.test.junit.TestProfile;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Integration tests for the proxy fast path alongside the legacy authentication filter.
+ *
+ * <p>
+ * The legacy filter only runs in JAX-RS, so when it authenticates proxy paths the
+ * fast path must leave them to JAX-RS rather than skip authentication.
+ */
+@QuarkusTest
+@TestProfile(ProxyFastPathLegacyAuthIntegrationTest.LegacyAuthOnProxyPathsProfile.class)
+@DisplayName("Proxy Fast Path with Legacy Authentication Integration Tests")
+public class ProxyFastPathLegacyAuthIntegrationTest {
+
+    /**
+     * Test profile that enables the fast path and the legacy filter on every path.
+     */
+    public static class LegacyAuthOnProxyPathsProfile implements QuarkusTestProfile {
+        @Override
+        public Map<String, String> getConfigOverrides() {
+            return Map.of(
+                    "aussie.gateway.fast-path.enabled", "true",
+                    "aussie.auth.use-legacy-filter", "true",
+                    "aussie.auth.admin-paths-only", "false",
+                    // Disable dangerous-noop so no provider accepts unauthenticated requests
+                    "aussie.auth.dangerous-noop", "false");
+        }
+    }
+
+    @Test
+    @DisplayName("Should authenticate pass-through requests through the legacy filter")
+    void shouldAuthenticatePassThroughRequests() {
+        given().when().get("/nonexistent-service/api/health").then().statusCode(401);
+    }
+
+    @Test
+    @DisplayName("Should authenticate gateway requests through the legacy filter")
+    void shouldAuthenticateGatewayRequests() {
+        given().when().get("/gateway/api/health").then().statusCode(401);
+    }
+}
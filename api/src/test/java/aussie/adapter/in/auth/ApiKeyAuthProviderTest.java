@@ -147,6 +147,39 @@ class ApiKeyAuthProviderTest {
         }
     }
 
+    @Nested
+    @DisplayName("authenticateAsync")
+    class AuthenticateAsyncTests {
+
+        @Test
+        @DisplayName("should skip when no Authorization header present")
+        void shouldSkipWhenNoAuthorizationHeader() {
+            var result = provider.authenticateAsync(new MultivaluedHashMap<>(), "/admin/services")
+                    .await()
+                    .indefinitely();
+
+            assertInstanceOf(AuthenticationResult.Skip.class, result);
+        }
+
+        @Test
+        @DisplayName("should succeed with valid API key")
+        void shouldSucceedWithValidApiKey() {
+            var createResult = apiKeyService
+                    .create("async-key", null, Set.of(Permission.SERVICE_CONFIG_READ_VALUE), null, "test")
+                    .await()
+                    .indefinitely();
+            var headers = new MultivaluedHashMap<String, String>();
+            headers.putSingle("Authorization", "Bearer " + createResult.plaintextKey());
+
+            var result = provider.authenticateAsync(headers, "/admin/services")
+                    .await()
+                    .indefinitely();
+
+            assertInstanceOf(AuthenticationResult.Success.class, result);
+            assertEquals("async-key", ((AuthenticationResult.Success) result).context().principal().name());
+        }
+    }
+
     @Nested
     @DisplayName("metadata")
     class MetadataTests {
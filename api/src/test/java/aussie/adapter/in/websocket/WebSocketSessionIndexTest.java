@@ -0,0 +1,83 @@
+package aussie.adapter.in.websocket;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import aussie.core.model.session.SessionInvalidatedEvent;
+import aussie.core.model.websocket.WebSocketProxySession;
+
+@DisplayName("WebSocketSessionIndex")
+class WebSocketSessionIndexTest {
+
+    private WebSocketSessionIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new WebSocketSessionIndex();
+    }
+
+    private WebSocketProxySession session(String authSessionId, String userId) {
+        var session = mock(WebSocketProxySession.class);
+        when(session.authSessionId()).thenReturn(Optional.ofNullable(authSessionId));
+        when(session.userId()).thenReturn(Optional.ofNullable(userId));
+        return session;
+    }
+
+    @Test
+    @DisplayName("Should find sessions by auth session ID")
+    void shouldFindByAuthSessionId() {
+        var target = session("auth-1", "user-1");
+        index.add(target);
+        index.add(session("auth-2", "user-1"));
+
+        assertEquals(List.of(target), index.find(SessionInvalidatedEvent.forSession("auth-1")));
+    }
+
+    @Test
+    @DisplayName("Should find every session for a user")
+    void shouldFindByUserId() {
+        var first = session("auth-1", "user-1");
+        var second = session("auth-2", "user-1");
+        index.add(first);
+        index.add(second);
+        index.add(session("auth-3", "user-2"));
+
+        var found = index.find(SessionInvalidatedEvent.forUser("user-1"));
+
+        assertEquals(2, found.size());
+        assertTrue(found.containsAll(List.of(first, second)));
+    }
+
+    @Test
+    @DisplayName("Should not index unauthenticated sessions")
+    void shouldNotIndexUnauthenticatedSessions() {
+        index.add(session(null, null));
+
+        assertEquals(0, index.keyCount());
+    }
+
+    @Test
+    @DisplayName("Should drop empty keys when sessions are removed")
+    void shouldDropEmptyKeysOnRemove() {
+        var first = session("auth-1", "user-1");
+        var second = session("auth-2", "user-1");
+        index.add(first);
+        index.add(second);
+
+        index.remove(first);
+        assertEquals(List.of(second), index.find(SessionInvalidatedEvent.forUser("user-1")));
+
+        index.remove(second);
+        assertTrue(index.find(SessionInvalidatedEvent.forUser("user-1")).isEmpty());
+        assertEquals(0, index.keyCount());
+    }
+}
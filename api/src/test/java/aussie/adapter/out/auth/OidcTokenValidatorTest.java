@@ -175,6 +175,26 @@ class OidcTokenValidatorTest {
             assertEquals("ext-123", valid.claims().get("external_id"));
             assertEquals("ext-123", valid.claims().get("internal_id"));
         }
+
+        @Test
+        @DisplayName("should validate repeated tokens per provider configuration")
+        void shouldValidateRepeatedTokensPerProviderConfig() throws Exception {
+            final var audienceConfig = TokenProviderConfig.builder("test-provider", TEST_ISSUER, TEST_JWKS_URI)
+                    .audiences(Set.of("expected-audience"))
+                    .build();
+            final var token = createValidToken();
+            when(jwksCache.getKey(TEST_JWKS_URI, TEST_KEY_ID))
+                    .thenReturn(Uni.createFrom().item(Optional.of(rsaJwk)));
+
+            final var first = validator.validate(token, config).await().atMost(Duration.ofSeconds(1));
+            final var second = validator.validate(token, config).await().atMost(Duration.ofSeconds(1));
+            final var withAudience =
+                    validator.validate(token, audienceConfig).await().atMost(Duration.ofSeconds(1));
+
+            assertInstanceOf(TokenValidationResult.Valid.class, first);
+            assertInstanceOf(TokenValidationResult.Valid.class, second);
+            assertInstanceOf(TokenValidationResult.Invalid.class, withAudience);
+        }
     }
 
     @Nested
@@ -2,6 +2,7 @@ package aussie.adapter.out.auth;
 
 import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
 import static com.github.tomakehurst.wiremock.client.WireMock.equalToJson;
+import static com.github.tomakehurst.wiremock.client.WireMock.exactly;
 import static com.github.tomakehurst.wiremock.client.WireMock.post;
 import static com.github.tomakehurst.wiremock.client.WireMock.postRequestedFor;
 import static com.github.tomakehurst.wiremock.client.WireMock.urlEqualTo;
@@ -10,9 +11,12 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.time.Duration;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
@@ -20,6 +24,7 @@ import java.util.Set;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.github.tomakehurst.wiremock.WireMockServer;
 import com.github.tomakehurst.wiremock.core.WireMockConfiguration;
+import io.smallrye.mutiny.Uni;
 import io.vertx.mutiny.core.Vertx;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
@@ -68,6 +73,11 @@ class RemoteTokenTranslatorProviderTest {
         lenient().when(config.remote()).thenReturn(remoteConfig);
         lenient().when(remoteConfig.timeout()).thenReturn(Duration.ofSeconds(5));
         lenient().when(remoteConfig.failMode()).thenReturn(FailMode.deny);
+        lenient().when(remoteConfig.maxPoolSize()).thenReturn(20);
+        lenient().when(remoteConfig.connectTimeout()).thenReturn(Duration.ofSeconds(1));
+        lenient().when(remoteConfig.keepAliveTimeout()).thenReturn(Duration.ofSeconds(60));
+        lenient().when(remoteConfig.batchMaxSize()).thenReturn(50);
+        lenient().when(remoteConfig.batchWindow()).thenReturn(Duration.ofMillis(20));
     }
 
     @AfterEach
@@ -342,4 +352,150 @@ class RemoteTokenTranslatorProviderTest {
             assertTrue(result.isEmpty());
         }
     }
+
+    @Nested
+    @DisplayName("Coalescing")
+    class Coalescing {
+
+        @Test
+        @DisplayName("should share one remote call between identical concurrent translations")
+        void shouldShareIdenticalInFlightCalls() {
+            initProvider(wireMockServer.baseUrl() + "/translate");
+            wireMockServer.stubFor(post(urlEqualTo("/translate"))
+                    .willReturn(aResponse()
+                            .withStatus(200)
+                            .withHeader("Content-Type", "application/json")
+                            .withBody("{\"roles\": [\"admin\"], \"permissions\": []}")
+                            .withFixedDelay(200)));
+
+            var claims = Map.<String, Object>of("groups", "admins");
+            var results = Uni.join()
+                    .all(
+                            provider.translate(ISSUER, SUBJECT, claims),
+                            provider.translate(ISSUER, SUBJECT, claims),
+                            provider.translate(ISSUER, SUBJECT, claims))
+                    .andFailFast()
+                    .await()
+                    .indefinitely();
+
+            results.forEach(result -> assertEquals(Set.of("admin"), result.roles()));
+            wireMockServer.verify(exactly(1), postRequestedFor(urlEqualTo("/translate")));
+            verify(metrics, times(2)).recordRemoteCoalesced();
+        }
+
+        @Test
+        @DisplayName("should call again once the previous call has completed")
+        void shouldNotReuseCompletedCalls() {
+            initProvider(wireMockServer.baseUrl() + "/translate");
+            wireMockServer.stubFor(post(urlEqualTo("/translate"))
+                    .willReturn(aResponse()
+                            .withStatus(200)
+                            .withHeader("Content-Type", "application/json")
+                            .withBody("{\"roles\": [], \"permissions\": []}")));
+
+            provider.translate(ISSUER, SUBJECT, Map.of()).await().indefinitely();
+            provider.translate(ISSUER, SUBJECT, Map.of()).await().indefinitely();
+
+            wireMockServer.verify(exactly(2), postRequestedFor(urlEqualTo("/translate")));
+        }
+    }
+
+    @Nested
+    @DisplayName("Batching")
+    class Batching {
+
+        @Test
+        @DisplayName("should send concurrent translations in one batch request")
+        void shouldBatchConcurrentTranslations() {
+            lenient().when(remoteConfig.batchUrl()).thenReturn(Optional.of(wireMockServer.baseUrl() + "/batch"));
+            initProvider(wireMockServer.baseUrl() + "/translate");
+            wireMockServer.stubFor(post(urlEqualTo("/batch"))
+                    .willReturn(aResponse()
+                            .withStatus(200)
+                            .withHeader("Content-Type", "application/json")
+                            .withBody(
+                                    """
+                                    {
+                                      "results": [
+                                        {"roles": ["admin"], "permissions": ["write"]},
+                                        {"error": "unknown subject"}
+                                      ]
+                                    }
+                                    """)));
+
+            var first = provider.translate(ISSUER, "user-1", Map.of());
+            var second = provider.translate(ISSUER, "user-2", Map.of());
+            var results = Uni.join()
+                    .all(
+                            first.map(List::of),
+                            second.map(List::of).onFailure().recoverWithItem(List.of()))
+                    .andFailFast()
+                    .await()
+                    .indefinitely();
+
+            assertEquals(Set.of("admin"), results.get(0).get(0).roles());
+            assertTrue(results.get(1).isEmpty());
+            verify(metrics).recordError("remote", "BatchEntryError");
+            wireMockServer.verify(
+                    exactly(1),
+                    postRequestedFor(urlEqualTo("/batch"))
+                            .withRequestBody(equalToJson(
+                                    """
+                                    {
+                                      "requests": [
+                                        {"issuer": "https://issuer.example.com", "subject": "user-1", "claims": {}},
+                                        {"issuer": "https://issuer.example.com", "subject": "user-2", "claims": {}}
+                                      ]
+                                    }
+                                    """)));
+            wireMockServer.verify(exactly(0), postRequestedFor(urlEqualTo("/translate")));
+        }
+
+        @Test
+        @DisplayName("should fail every translation in a rejected batch")
+        void shouldFailWholeBatchOnError() {
+            lenient().when(remoteConfig.batchUrl()).thenReturn(Optional.of(wireMockServer.baseUrl() + "/batch"));
+            initProvider(wireMockServer.baseUrl() + "/translate");
+            wireMockServer.stubFor(post(urlEqualTo("/batch")).willReturn(aResponse().withStatus(503)));
+
+            assertThrows(
+                    RemoteTokenTranslatorProvider.RemoteTranslationException.class,
+                    () -> provider.translate(ISSUER, SUBJECT, Map.of()).await().indefinitely());
+        }
+
+        @Test
+        @DisplayName("should translate with only a batch URL configured")
+        void shouldTranslateWithOnlyBatchUrl() {
+            lenient().when(remoteConfig.batchUrl()).thenReturn(Optional.of(wireMockServer.baseUrl() + "/batch"));
+            initProvider(null);
+            wireMockServer.stubFor(post(urlEqualTo("/batch"))
+                    .willReturn(aResponse()
+                            .withStatus(200)
+                            .withHeader("Content-Type", "application/json")
+                            .withBody("{\"results\": [{\"roles\": [\"admin\"]}]}")));
+
+            assertTrue(provider.isAvailable());
+            var result = provider.translate(ISSUER, SUBJECT, Map.of()).await().indefinitely();
+
+            assertEquals(Set.of("admin"), result.roles());
+        }
+    }
+
+    @Nested
+    @DisplayName("Misconfiguration")
+    class Misconfiguration {
+
+        @Test
+        @DisplayName("should apply the fail mode when no URL is configured")
+        void shouldApplyFailModeWithoutUrl() {
+            lenient().when(remoteConfig.batchUrl()).thenReturn(Optional.empty());
+            lenient().when(remoteConfig.failMode()).thenReturn(FailMode.allow_empty);
+            initProvider(null);
+
+            var result = provider.translate(ISSUER, SUBJECT, Map.of()).await().indefinitely();
+
+            assertTrue(result.roles().isEmpty());
+            assertTrue(result.permissions().isEmpty());
+        }
+    }
 }
@@ -158,6 +158,45 @@ class InMemoryRateLimiterTest {
         }
     }
 
+    @Nested
+    @DisplayName("Synchronous check")
+    class SynchronousCheckTests {
+
+        @Test
+        @DisplayName("should decide synchronously and share state with asynchronous checks")
+        void shouldShareStateWithAsynchronousChecks() {
+            var key = RateLimitKey.wsMessage("client-1", "service-1", "conn-1");
+            var limit = new EffectiveRateLimit(100, 60, 2);
+
+            var first = rateLimiter.tryCheckAndConsume(key, limit);
+            assertTrue(first.isPresent());
+            assertTrue(first.get().allowed());
+
+            rateLimiter.checkAndConsume(key, limit).await().atMost(Duration.ofSeconds(1));
+
+            var rejected = rateLimiter.tryCheckAndConsume(key, limit);
+            assertTrue(rejected.isPresent());
+            assertFalse(rejected.get().allowed());
+        }
+
+        @Test
+        @DisplayName("should allow synchronously when disabled")
+        void shouldAllowSynchronouslyWhenDisabled() {
+            var disabledLimiter =
+                    new InMemoryRateLimiter(algorithmRegistry, RateLimitAlgorithm.BUCKET, false, WINDOW_SECONDS);
+            try {
+                var key = RateLimitKey.wsMessage("client-1", "service-1", "conn-1");
+
+                var decision = disabledLimiter.tryCheckAndConsume(key, new EffectiveRateLimit(1, 60, 1));
+
+                assertTrue(decision.isPresent());
+                assertTrue(decision.get().allowed());
+            } finally {
+                disabledLimiter.shutdown();
+            }
+        }
+    }
+
     @Nested
     @DisplayName("Status check")
     class StatusCheckTests {
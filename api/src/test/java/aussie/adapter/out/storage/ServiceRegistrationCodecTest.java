@@ -0,0 +1,95 @@
+package aussie.adapter.out.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jdk8.Jdk8Module;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import aussie.core.model.auth.ServiceAccessConfig;
+import aussie.core.model.common.CorsConfig;
+import aussie.core.model.ratelimit.EndpointRateLimitConfig;
+import aussie.core.model.routing.EndpointConfig;
+import aussie.core.model.routing.EndpointType;
+import aussie.core.model.routing.EndpointVisibility;
+import aussie.core.model.service.ServiceRegistration;
+
+@DisplayName("ServiceRegistrationCodec")
+class ServiceRegistrationCodecTest {
+
+    private final ServiceRegistrationCodec codec = new ServiceRegistrationCodec();
+
+    private static ServiceRegistration registration(int endpointCount) {
+        var endpoints = new ArrayList<EndpointConfig>();
+        for (int i = 0; i < endpointCount; i++) {
+            endpoints.add(new EndpointConfig(
+                    "/api/resource-" + i + "/{id}",
+                    Set.of("GET", "PUT"),
+                    i % 2 == 0 ? EndpointVisibility.PUBLIC : EndpointVisibility.PRIVATE,
+                    Optional.empty(),
+                    true,
+                    EndpointType.HTTP,
+                    i % 10 == 0 ? Optional.of(EndpointRateLimitConfig.of(100, 60)) : Optional.empty()));
+        }
+        return ServiceRegistration.builder("orders")
+                .displayName("Orders")
+                .baseUrl("http://orders:8080")
+                .endpoints(endpoints)
+                .accessConfig(new ServiceAccessConfig(
+                        Optional.of(List.of("10.0.0.0/8")), Optional.empty(), Optional.empty()))
+                .corsConfig(CorsConfig.allowAll())
+                .version(7)
+                .build();
+    }
+
+    @Test
+    @DisplayName("should round-trip a registration")
+    void shouldRoundTrip() {
+        var original = registration(20);
+
+        var encoded = codec.encode(original);
+
+        assertEquals(ServiceRegistrationCodec.SCHEMA_VERSION, encoded[0]);
+        assertEquals(original, codec.decode(encoded));
+    }
+
+    @Test
+    @DisplayName("should decode legacy JSON")
+    void shouldDecodeLegacyJson() throws Exception {
+        var original = registration(3);
+        var json = new ObjectMapper()
+                .registerModule(new Jdk8Module())
+                .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false)
+                .writeValueAsBytes(original);
+
+        assertEquals(original, codec.decode(json));
+    }
+
+    @Test
+    @DisplayName("should reject unknown schema versions")
+    void shouldRejectUnknownSchemaVersion() {
+        var encoded = codec.encode(registration(1));
+        encoded[0] = 99;
+
+        assertThrows(IllegalArgumentException.class, () -> codec.decode(encoded));
+        assertThrows(IllegalArgumentException.class, () -> codec.decode(new byte[0]));
+    }
+
+    @Test
+    @DisplayName("should be smaller than JSON for large registrations")
+    void shouldBeSmallerThanJson() throws Exception {
+        var original = registration(500);
+        var json = new ObjectMapper().registerModule(new Jdk8Module()).writeValueAsBytes(original);
+
+        assertTrue(codec.encode(original).length < json.length);
+    }
+}
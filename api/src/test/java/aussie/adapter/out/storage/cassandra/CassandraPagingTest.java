@@ -0,0 +1,124 @@
+package aussie.adapter.out.storage.cassandra;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+import com.datastax.oss.driver.api.core.CqlSession;
+import com.datastax.oss.driver.api.core.cql.AsyncResultSet;
+import com.datastax.oss.driver.api.core.cql.BoundStatement;
+import com.datastax.oss.driver.api.core.cql.Row;
+import io.smallrye.mutiny.helpers.test.AssertSubscriber;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import aussie.spi.StorageAdapterConfig;
+
+@DisplayName("CassandraPaging")
+class CassandraPagingTest {
+
+    private static final Executor DIRECT = Runnable::run;
+
+    private CqlSession session;
+    private BoundStatement statement;
+
+    @BeforeEach
+    void setUp() {
+        session = mock(CqlSession.class);
+        statement = mock(BoundStatement.class);
+    }
+
+    private static AsyncResultSet page(List<Row> rows, AsyncResultSet next) {
+        var page = mock(AsyncResultSet.class);
+        when(page.currentPage()).thenReturn(rows);
+        when(page.hasMorePages()).thenReturn(next != null);
+        if (next != null) {
+            when(page.fetchNextPage()).thenReturn(CompletableFuture.completedFuture(next));
+        }
+        return page;
+    }
+
+    @Nested
+    @DisplayName("rows()")
+    class Rows {
+
+        @Test
+        @DisplayName("should emit the rows of every page in order")
+        void shouldEmitEveryPage() {
+            var r1 = mock(Row.class);
+            var r2 = mock(Row.class);
+            var r3 = mock(Row.class);
+            var last = page(List.of(r3), null);
+            var first = page(List.of(r1, r2), last);
+            when(session.executeAsync(statement)).thenReturn(CompletableFuture.completedFuture(first));
+
+            var rows = CassandraPaging.rows(session, statement, DIRECT)
+                    .collect()
+                    .asList()
+                    .await()
+                    .indefinitely();
+
+            assertEquals(List.of(r1, r2, r3), rows);
+        }
+
+        @Test
+        @DisplayName("should not fetch the next page until the current one is consumed")
+        void shouldFetchPagesOnDemand() {
+            var r1 = mock(Row.class);
+            var r2 = mock(Row.class);
+            var first = page(List.of(r1, r2), mock(AsyncResultSet.class));
+            when(session.executeAsync(statement)).thenReturn(CompletableFuture.completedFuture(first));
+
+            var subscriber = CassandraPaging.rows(session, statement, DIRECT)
+                    .subscribe()
+                    .withSubscriber(AssertSubscriber.<Row>create(1));
+
+            subscriber.assertItems(r1);
+            verify(first, never()).fetchNextPage();
+        }
+
+        @Test
+        @DisplayName("should not execute the query before subscription")
+        void shouldBeLazy() {
+            CassandraPaging.rows(session, statement, DIRECT);
+
+            verify(session, never()).executeAsync(any(BoundStatement.class));
+        }
+    }
+
+    @Nested
+    @DisplayName("pageSize()")
+    class PageSize {
+
+        @Test
+        @DisplayName("should use the first configured property")
+        void shouldUseFirstConfiguredProperty() {
+            var config = mock(StorageAdapterConfig.class);
+            when(config.getInt("specific")).thenReturn(Optional.empty());
+            when(config.getInt("general")).thenReturn(Optional.of(50));
+
+            assertEquals(50, CassandraPaging.pageSize(config, "specific", "general"));
+        }
+
+        @Test
+        @DisplayName("should fall back to the default when unset or not positive")
+        void shouldFallBackToDefault() {
+            var config = mock(StorageAdapterConfig.class);
+            when(config.getInt("unset")).thenReturn(Optional.empty());
+            when(config.getInt("zero")).thenReturn(Optional.of(0));
+
+            assertEquals(CassandraPaging.DEFAULT_PAGE_SIZE, CassandraPaging.pageSize(config, "unset"));
+            assertEquals(CassandraPaging.DEFAULT_PAGE_SIZE, CassandraPaging.pageSize(config, "zero"));
+        }
+    }
+}
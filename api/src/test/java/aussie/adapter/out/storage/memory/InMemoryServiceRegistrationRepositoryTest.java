@@ -6,12 +6,14 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.time.Duration;
 import java.util.List;
+import java.util.Set;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 
+import aussie.core.model.service.RegistryChanges;
 import aussie.core.model.service.ServiceRegistration;
 
 @DisplayName("InMemoryServiceRegistrationRepository")
@@ -143,6 +145,56 @@ class InMemoryServiceRegistrationRepositoryTest {
         }
     }
 
+    @Nested
+    @DisplayName("findChangedSince()")
+    class FindChangedSinceTests {
+
+        @Test
+        @DisplayName("Should return a full snapshot for an unversioned caller")
+        void shouldReturnSnapshotWhenUnversioned() {
+            repository.save(createService("service-1")).await().atMost(TIMEOUT);
+            repository.save(createService("service-2")).await().atMost(TIMEOUT);
+
+            var result = repository.findChangedSince(RegistryChanges.UNVERSIONED).await().atMost(TIMEOUT);
+
+            assertTrue(result.fullSnapshot());
+            assertEquals(2, result.version());
+            assertEquals(2, result.updated().size());
+        }
+
+        @Test
+        @DisplayName("Should return only services changed after the given version")
+        void shouldReturnDelta() {
+            repository.save(createService("service-1")).await().atMost(TIMEOUT);
+            repository.save(createService("service-2")).await().atMost(TIMEOUT);
+            var since = repository.findChangedSince(RegistryChanges.UNVERSIONED).await().atMost(TIMEOUT).version();
+
+            repository.save(createService("service-3")).await().atMost(TIMEOUT);
+            repository.delete("service-1").await().atMost(TIMEOUT);
+
+            var result = repository.findChangedSince(since).await().atMost(TIMEOUT);
+
+            assertFalse(result.fullSnapshot());
+            assertEquals(since + 2, result.version());
+            assertEquals(
+                    List.of("service-3"),
+                    result.updated().stream().map(ServiceRegistration::serviceId).toList());
+            assertEquals(Set.of("service-1"), result.deleted());
+        }
+
+        @Test
+        @DisplayName("Should return no changes when the caller is up to date")
+        void shouldReturnNoChangesWhenCurrent() {
+            repository.save(createService("service-1")).await().atMost(TIMEOUT);
+            var since = repository.findChangedSince(RegistryChanges.UNVERSIONED).await().atMost(TIMEOUT).version();
+
+            var result = repository.findChangedSince(since).await().atMost(TIMEOUT);
+
+            assertFalse(result.hasChanges());
+            assertEquals(since, result.version());
+        }
+    }
+
     @Nested
     @DisplayName("exists()")
     class ExistsTests {
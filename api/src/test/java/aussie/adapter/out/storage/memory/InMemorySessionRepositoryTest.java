@@ -177,6 +177,39 @@ class InMemorySessionRepositoryTest {
         }
     }
 
+    @Nested
+    @DisplayName("touch")
+    class TouchTests {
+
+        @Test
+        @DisplayName("should update lastAccessedAt and expiresAt only")
+        void shouldUpdateTouchedFields() {
+            var session = createTestSession("session-1", "user-1");
+            repository.save(session).await().indefinitely();
+
+            var lastAccessedAt = Instant.now().plusSeconds(60);
+            var expiresAt = Instant.now().plus(Duration.ofHours(9));
+            repository.touch("session-1", lastAccessedAt, expiresAt).await().indefinitely();
+
+            var found = repository.findById("session-1").await().indefinitely();
+            assertTrue(found.isPresent());
+            assertEquals(lastAccessedAt, found.get().lastAccessedAt());
+            assertEquals(expiresAt, found.get().expiresAt());
+            assertEquals(session.userId(), found.get().userId());
+        }
+
+        @Test
+        @DisplayName("should not create a session that does not exist")
+        void shouldIgnoreMissingSession() {
+            repository
+                    .touch("non-existent", Instant.now(), Instant.now().plusSeconds(60))
+                    .await()
+                    .indefinitely();
+
+            assertFalse(repository.exists("non-existent").await().indefinitely());
+        }
+    }
+
     @Nested
     @DisplayName("delete")
     class DeleteTests {
@@ -0,0 +1,201 @@
+package aussie.adapter.out.telemetry;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.net.URI;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import aussie.core.model.gateway.GatewayRequest;
+import aussie.core.model.gateway.GatewayResult;
+import aussie.core.model.service.ServiceRegistration;
+
+@DisplayName("BufferedRequestTelemetry")
+class BufferedRequestTelemetryTest {
+
+    private static final ServiceRegistration SERVICE = ServiceRegistration.builder("svc")
+            .displayName("svc")
+            .baseUrl(URI.create("http://localhost:8081"))
+            .endpoints(List.of())
+            .build();
+
+    private SimpleMeterRegistry registry;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+    }
+
+    private BufferedRequestTelemetry telemetry(boolean enabled, int bufferSize) {
+        var telemetryConfig = mock(TelemetryConfig.class);
+        var metricsConfig = mock(TelemetryConfig.MetricsConfig.class);
+        var attributionConfig = mock(TelemetryConfig.AttributionConfig.class);
+        when(telemetryConfig.enabled()).thenReturn(enabled);
+        when(telemetryConfig.metrics()).thenReturn(metricsConfig);
+        when(telemetryConfig.attribution()).thenReturn(attributionConfig);
+        when(metricsConfig.enabled()).thenReturn(true);
+        when(metricsConfig.bufferSize()).thenReturn(bufferSize);
+        when(attributionConfig.enabled()).thenReturn(true);
+        when(attributionConfig.teamHeader()).thenReturn("X-Team-ID");
+        when(attributionConfig.tenantHeader()).thenReturn("X-Tenant-ID");
+        when(attributionConfig.clientAppHeader()).thenReturn("X-Client-Application");
+
+        return new BufferedRequestTelemetry(
+                new GatewayMetrics(registry, telemetryConfig),
+                new TrafficAttributionService(registry, telemetryConfig),
+                registry,
+                telemetryConfig);
+    }
+
+    private GatewayRequest request() {
+        return new GatewayRequest(
+                "GET",
+                "/orders",
+                Map.of("X-Team-ID", List.of("team-a")),
+                URI.create("http://gateway:8080/orders"),
+                new byte[10],
+                "192.168.1.100");
+    }
+
+    private double requestCount() {
+        var counter = registry.find("aussie.requests.total").counter();
+        return counter != null ? counter.count() : 0;
+    }
+
+    @Test
+    @DisplayName("should record samples only when flushed")
+    void shouldRecordOnFlush() {
+        var telemetry = telemetry(true, 16);
+
+        telemetry.recordCompletion(request(), SERVICE, new GatewayResult.Success(200, Map.of(), new byte[20]), 5);
+
+        assertEquals(0.0, requestCount());
+        assertEquals(1, telemetry.pendingCount());
+
+        assertEquals(1, telemetry.flush());
+        assertEquals(0, telemetry.pendingCount());
+        assertEquals(
+                1.0,
+                registry.get("aussie.requests.total")
+                        .tags("service_id", "svc", "method", "GET", "status", "200")
+                        .counter()
+                        .count());
+        assertEquals(1, registry.get("aussie.proxy.latency").timer().count());
+        assertEquals(
+                1.0,
+                registry.get("aussie.gateway.results")
+                        .tags("result_type", "success")
+                        .counter()
+                        .count());
+    }
+
+    @Test
+    @DisplayName("should attribute traffic using headers captured at record time")
+    void shouldAttributeTraffic() {
+        var telemetry = telemetry(true, 16);
+
+        telemetry.recordCompletion(request(), SERVICE, new GatewayResult.Success(200, Map.of(), new byte[20]), 5);
+        telemetry.flush();
+
+        assertEquals(
+                10.0,
+                registry.get("aussie.attributed.bytes.ingress")
+                        .tags("service_id", "svc", "team_id", "team-a", "tenant_id", "unknown")
+                        .counter()
+                        .count());
+        assertEquals(
+                20.0,
+                registry.get("aussie.attributed.bytes.egress")
+                        .tags("team_id", "team-a")
+                        .counter()
+                        .count());
+    }
+
+    @Test
+    @DisplayName("should record upstream errors without request metrics")
+    void shouldRecordErrors() {
+        var telemetry = telemetry(true, 16);
+
+        telemetry.recordCompletion(request(), SERVICE, new GatewayResult.Error("connection refused"), 5);
+        telemetry.flush();
+
+        assertEquals(
+                1.0,
+                registry.get("aussie.errors.total")
+                        .tags("service_id", "svc", "error_type", "upstream_error")
+                        .counter()
+                        .count());
+        assertEquals(0.0, requestCount());
+        assertNull(registry.find("aussie.attributed.requests.total").counter());
+    }
+
+    @Test
+    @DisplayName("should count samples dropped while the buffer is full")
+    void shouldCountDroppedSamples() {
+        var telemetry = telemetry(true, 2);
+        var success = new GatewayResult.Success(200, Map.of(), null);
+
+        for (int i = 0; i < 5; i++) {
+            telemetry.recordCompletion(request(), SERVICE, success, 1);
+        }
+        telemetry.flush();
+
+        assertEquals(3.0, registry.get("aussie.telemetry.dropped").counter().count());
+        assertEquals(2.0, requestCount());
+    }
+
+    @Test
+    @DisplayName("should not lose samples offered concurrently")
+    void shouldAcceptConcurrentProducers() throws InterruptedException {
+        var telemetry = telemetry(true, 1 << 14);
+        var success = new GatewayResult.Success(204, Map.of(), null);
+        int threads = 8;
+        int perThread = 1000;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        var start = new CountDownLatch(1);
+        try {
+            for (int t = 0; t < threads; t++) {
+                executor.submit(() -> {
+                    start.await();
+                    for (int i = 0; i < perThread; i++) {
+                        telemetry.recordCompletion(request(), SERVICE, success, 1);
+                    }
+                    return null;
+                });
+            }
+            start.countDown();
+            executor.shutdown();
+            executor.awaitTermination(10, TimeUnit.SECONDS);
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertEquals(threads * perThread, telemetry.flush());
+        assertEquals(threads * perThread, requestCount());
+        assertEquals(0.0, registry.get("aussie.telemetry.dropped").counter().count());
+    }
+
+    @Test
+    @DisplayName("should buffer nothing when telemetry is disabled")
+    void shouldBufferNothingWhenDisabled() {
+        var telemetry = telemetry(false, 16);
+
+        telemetry.recordCompletion(request(), SERVICE, new GatewayResult.Success(200, Map.of(), null), 5);
+
+        assertEquals(0, telemetry.pendingCount());
+        assertEquals(0, telemetry.flush());
+        assertNull(registry.find("aussie.telemetry.dropped").counter());
+    }
+}
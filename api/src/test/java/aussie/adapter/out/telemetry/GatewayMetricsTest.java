@@ -0,0 +1,141 @@
+package aussie.adapter.out.telemetry;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import aussie.core.model.gateway.GatewayResult;
+
+@DisplayName("GatewayMetrics")
+class GatewayMetricsTest {
+
+    private SimpleMeterRegistry registry;
+    private GatewayMetrics metrics;
+
+    @BeforeEach
+    void setUp() {
+        var telemetryConfig = mock(TelemetryConfig.class);
+        var metricsConfig = mock(TelemetryConfig.MetricsConfig.class);
+        when(telemetryConfig.enabled()).thenReturn(true);
+        when(telemetryConfig.metrics()).thenReturn(metricsConfig);
+        when(metricsConfig.enabled()).thenReturn(true);
+
+        registry = new SimpleMeterRegistry();
+        metrics = new GatewayMetrics(registry, telemetryConfig);
+    }
+
+    @Test
+    @DisplayName("should reuse one counter per service, method and status")
+    void shouldReuseRequestCounter() {
+        metrics.recordRequest("svc", "GET", 200);
+        metrics.recordRequest("svc", "GET", 200);
+        metrics.recordRequest("svc", "GET", 404);
+
+        var ok = registry.get("aussie.requests.total")
+                .tags("service_id", "svc", "method", "GET", "status", "200", "status_class", "2xx")
+                .counter();
+        var notFound = registry.get("aussie.requests.total")
+                .tags("status", "404", "status_class", "4xx")
+                .counter();
+        assertEquals(2.0, ok.count());
+        assertEquals(1.0, notFound.count());
+        assertEquals(2, registry.get("aussie.requests.total").counters().size());
+    }
+
+    @Test
+    @DisplayName("should record non-standard methods and status codes without cached slots")
+    void shouldRecordNonStandardRequests() {
+        metrics.recordRequest("svc", "PROPFIND", 207);
+        metrics.recordRequest("svc", "GET", 999);
+
+        assertEquals(
+                1.0,
+                registry.get("aussie.requests.total")
+                        .tags("method", "PROPFIND", "status_class", "2xx")
+                        .counter()
+                        .count());
+        assertEquals(
+                1.0,
+                registry.get("aussie.requests.total")
+                        .tags("status", "999", "status_class", "unknown")
+                        .counter()
+                        .count());
+    }
+
+    @Test
+    @DisplayName("should tag null service IDs as unknown")
+    void shouldTagNullServiceAsUnknown() {
+        metrics.recordGatewayResult(null, new GatewayResult.RouteNotFound("/missing"));
+
+        var counter = registry.get("aussie.gateway.results")
+                .tags("service_id", "unknown", "result_type", "route_not_found")
+                .counter();
+        assertEquals(1.0, counter.count());
+    }
+
+    @Test
+    @DisplayName("should record latency and traffic against cached handles")
+    void shouldRecordLatencyAndTraffic() {
+        metrics.recordProxyLatency("svc", "POST", 503, 12);
+        metrics.recordProxyLatency("svc", "POST", 500, 8);
+        metrics.recordTraffic("svc", null, 100, 200);
+        metrics.recordTraffic("svc", null, 1, 2);
+
+        var timer = registry.get("aussie.proxy.latency")
+                .tags("service_id", "svc", "method", "POST", "status_class", "5xx")
+                .timer();
+        assertEquals(2, timer.count());
+        assertEquals(
+                101.0,
+                registry.get("aussie.traffic.bytes")
+                        .tags("team_id", "unknown", "direction", "inbound")
+                        .counter()
+                        .count());
+        assertEquals(
+                202.0,
+                registry.get("aussie.traffic.bytes")
+                        .tags("direction", "outbound")
+                        .counter()
+                        .count());
+    }
+
+    @Test
+    @DisplayName("should keep string-tagged counters separate per value")
+    void shouldSeparateStringTaggedCounters() {
+        metrics.recordRateLimitExceeded("svc", "ws_message");
+        metrics.recordRateLimitExceeded("svc", "ws_message");
+        metrics.recordRateLimitExceeded("svc", "http");
+
+        assertEquals(
+                2.0,
+                registry.get("aussie.ratelimit.exceeded.total")
+                        .tags("limit_type", "ws_message")
+                        .counter()
+                        .count());
+        assertEquals(
+                1.0,
+                registry.get("aussie.ratelimit.exceeded.total")
+                        .tags("limit_type", "http")
+                        .counter()
+                        .count());
+    }
+
+    @Test
+    @DisplayName("should register nothing when disabled")
+    void shouldRegisterNothingWhenDisabled() {
+        var disabledConfig = mock(TelemetryConfig.class);
+        when(disabledConfig.enabled()).thenReturn(false);
+        var disabledRegistry = new SimpleMeterRegistry();
+        var disabled = new GatewayMetrics(disabledRegistry, disabledConfig);
+
+        disabled.recordRequest("svc", "GET", 200);
+
+        assertNull(disabledRegistry.find("aussie.requests.total").counter());
+    }
+}
@@ -0,0 +1,116 @@
+package aussie.adapter.out.telemetry;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import aussie.adapter.out.telemetry.SecurityEventQueue.Outcome;
+import aussie.adapter.out.telemetry.TelemetryConfig.SecurityConfig.DispatchConfig.OverflowPolicy;
+import aussie.spi.SecurityEvent;
+
+@DisplayName("SecurityEventQueue")
+class SecurityEventQueueTest {
+
+    private static SecurityEvent rateLimited(String client, int count) {
+        return new SecurityEvent.RateLimitExceeded(Instant.now(), client, "svc", count, 100, 60);
+    }
+
+    private static List<SecurityEventQueue.Entry> drain(SecurityEventQueue queue) {
+        var batch = new ArrayList<SecurityEventQueue.Entry>();
+        queue.drainTo(batch, Integer.MAX_VALUE);
+        return batch;
+    }
+
+    private static List<String> clients(List<SecurityEventQueue.Entry> entries) {
+        return entries.stream().map(e -> e.event().clientIdentifier()).toList();
+    }
+
+    @Test
+    @DisplayName("should drain in batches, oldest first")
+    void shouldDrainInBatches() {
+        var queue = new SecurityEventQueue(8, OverflowPolicy.DROP_OLDEST, 1);
+        for (int i = 0; i < 5; i++) {
+            assertEquals(Outcome.QUEUED, queue.offer(rateLimited("c" + i, i)));
+        }
+
+        var batch = new ArrayList<SecurityEventQueue.Entry>();
+        assertEquals(3, queue.drainTo(batch, 3));
+        assertEquals(List.of("c0", "c1", "c2"), clients(batch));
+        assertEquals(2, queue.size());
+    }
+
+    @Nested
+    @DisplayName("when full")
+    class WhenFull {
+
+        @Test
+        @DisplayName("DROP_OLDEST should replace the oldest event")
+        void dropOldestShouldReplaceOldest() {
+            var queue = new SecurityEventQueue(2, OverflowPolicy.DROP_OLDEST, 1);
+            queue.offer(rateLimited("a", 1));
+            queue.offer(rateLimited("b", 1));
+
+            assertEquals(Outcome.QUEUED_DROPPED_OLDEST, queue.offer(rateLimited("c", 1)));
+            assertEquals(List.of("b", "c"), clients(drain(queue)));
+        }
+
+        @Test
+        @DisplayName("SAMPLE should keep one in every interval events")
+        void sampleShouldKeepEveryNth() {
+            var queue = new SecurityEventQueue(1, OverflowPolicy.SAMPLE, 3);
+            queue.offer(rateLimited("first", 1));
+
+            var outcomes = new ArrayList<Outcome>();
+            for (int i = 0; i < 6; i++) {
+                outcomes.add(queue.offer(rateLimited("o" + i, 1)));
+            }
+
+            assertEquals(
+                    List.of(
+                            Outcome.QUEUED_DROPPED_OLDEST,
+                            Outcome.DROPPED,
+                            Outcome.DROPPED,
+                            Outcome.QUEUED_DROPPED_OLDEST,
+                            Outcome.DROPPED,
+                            Outcome.DROPPED),
+                    outcomes);
+            assertEquals(List.of("o3"), clients(drain(queue)));
+        }
+
+        @Test
+        @DisplayName("COALESCE should fold repeats into the queued event")
+        void coalesceShouldCountRepeats() {
+            var queue = new SecurityEventQueue(2, OverflowPolicy.COALESCE, 1);
+            queue.offer(rateLimited("a", 1));
+            queue.offer(rateLimited("b", 1));
+
+            assertEquals(Outcome.COALESCED, queue.offer(rateLimited("a", 2)));
+            assertEquals(Outcome.COALESCED, queue.offer(rateLimited("a", 3)));
+
+            var entries = drain(queue);
+            assertEquals(List.of("a", "b"), clients(entries));
+            assertEquals(3, entries.get(0).occurrences());
+            assertEquals(3, ((SecurityEvent.RateLimitExceeded) entries.get(0).event()).requestCount());
+            assertEquals(1, entries.get(1).occurrences());
+        }
+
+        @Test
+        @DisplayName("COALESCE should drop the oldest event for a new client")
+        void coalesceShouldDropOldestForNewKey() {
+            var queue = new SecurityEventQueue(2, OverflowPolicy.COALESCE, 1);
+            queue.offer(rateLimited("a", 1));
+            queue.offer(rateLimited("b", 1));
+
+            assertEquals(Outcome.QUEUED_DROPPED_OLDEST, queue.offer(rateLimited("c", 1)));
+            // "a" has left the queue, so it can no longer absorb repeats
+            assertEquals(Outcome.QUEUED_DROPPED_OLDEST, queue.offer(rateLimited("a", 2)));
+            assertEquals(List.of("c", "a"), clients(drain(queue)));
+        }
+    }
+}
@@ -0,0 +1,184 @@
+package aussie.adapter.out.telemetry;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import aussie.spi.SecurityEvent;
+
+@DisplayName("SecurityMonitor")
+class SecurityMonitorTest {
+
+    private static final int THRESHOLD = 10;
+
+    private AtomicLong clock;
+    private SecurityEventDispatcher dispatcher;
+    private SecurityMonitor monitor;
+
+    @BeforeEach
+    void setUp() {
+        var config = mock(TelemetryConfig.class);
+        var securityConfig = mock(TelemetryConfig.SecurityConfig.class);
+        var dosConfig = mock(TelemetryConfig.SecurityConfig.DosDetectionConfig.class);
+        when(config.enabled()).thenReturn(true);
+        when(config.security()).thenReturn(securityConfig);
+        when(securityConfig.enabled()).thenReturn(true);
+        when(securityConfig.rateLimitWindow()).thenReturn(Duration.ofMinutes(1));
+        when(securityConfig.rateLimitThreshold()).thenReturn(THRESHOLD);
+        when(securityConfig.dosDetection()).thenReturn(dosConfig);
+        when(dosConfig.enabled()).thenReturn(true);
+        when(dosConfig.spikeThreshold()).thenReturn(5.0);
+        when(dosConfig.errorRateThreshold()).thenReturn(0.5);
+
+        clock = new AtomicLong(60_000);
+        dispatcher = mock(SecurityEventDispatcher.class);
+        monitor = new SecurityMonitor(config, dispatcher, clock::get);
+    }
+
+    private void requests(String clientIp, int count, boolean isError) {
+        for (int i = 0; i < count; i++) {
+            monitor.recordRequest(clientIp, "svc", isError);
+        }
+    }
+
+    @Test
+    @DisplayName("should dispatch rate limit events once a client passes the threshold")
+    void shouldDispatchRateLimitExceeded() {
+        requests("10.0.0.1", THRESHOLD, false);
+        verify(dispatcher, never()).dispatch(any());
+
+        monitor.recordRequest("10.0.0.1", "svc", false);
+
+        var captor = ArgumentCaptor.forClass(SecurityEvent.class);
+        verify(dispatcher).dispatch(captor.capture());
+        var event = (SecurityEvent.RateLimitExceeded) captor.getValue();
+        assertEquals(THRESHOLD + 1, event.requestCount());
+        assertEquals(Integer.toHexString("10.0.0.1".hashCode()), event.clientIdentifier());
+    }
+
+    @Test
+    @DisplayName("should weight the previous window by its overlap with the sliding window")
+    void shouldWeightPreviousWindow() {
+        requests("10.0.0.1", THRESHOLD, false);
+
+        // Halfway into the next window, half of the previous count still applies
+        clock.addAndGet(Duration.ofSeconds(90).toMillis());
+        requests("10.0.0.1", THRESHOLD / 2, false);
+        verify(dispatcher, never()).dispatch(any());
+
+        monitor.recordRequest("10.0.0.1", "svc", false);
+
+        var captor = ArgumentCaptor.forClass(SecurityEvent.class);
+        verify(dispatcher).dispatch(captor.capture());
+        assertEquals(THRESHOLD + 1, ((SecurityEvent.RateLimitExceeded) captor.getValue()).requestCount());
+    }
+
+    @Test
+    @DisplayName("should catch a burst that straddles a window boundary")
+    void shouldCatchBurstAcrossBoundary() {
+        clock.addAndGet(Duration.ofSeconds(59).toMillis());
+        requests("10.0.0.1", THRESHOLD, false);
+
+        clock.addAndGet(Duration.ofSeconds(1).toMillis());
+        monitor.recordRequest("10.0.0.1", "svc", false);
+
+        verify(dispatcher).dispatch(any(SecurityEvent.RateLimitExceeded.class));
+    }
+
+    @Test
+    @DisplayName("should forget counts once a full window has passed")
+    void shouldExpireCountsAfterSlidingWindow() {
+        requests("10.0.0.1", THRESHOLD, false);
+
+        clock.addAndGet(Duration.ofMinutes(2).toMillis());
+        requests("10.0.0.1", THRESHOLD, false);
+
+        verify(dispatcher, never()).dispatch(any());
+    }
+
+    @Test
+    @DisplayName("should detect request floods and high error rates")
+    void shouldDetectDosPatterns() {
+        requests("10.0.0.1", THRESHOLD * 5 + 1, true);
+
+        var captor = ArgumentCaptor.forClass(SecurityEvent.class);
+        verify(dispatcher, atLeastOnce()).dispatch(captor.capture());
+        assertTrue(captor.getAllValues().stream().anyMatch(SecurityEvent.DosAttackDetected.class::isInstance));
+        assertTrue(captor.getAllValues().stream()
+                .filter(SecurityEvent.SuspiciousPattern.class::isInstance)
+                .map(SecurityEvent.SuspiciousPattern.class::cast)
+                .anyMatch(e -> e.patternType().equals("high_error_rate")));
+    }
+
+    @Test
+    @DisplayName("should flag brute force after repeated auth failures")
+    void shouldDetectBruteForce() {
+        for (int i = 0; i < 5; i++) {
+            monitor.recordAuthFailure("10.0.0.1", "invalid_key", "api_key");
+        }
+
+        var captor = ArgumentCaptor.forClass(SecurityEvent.class);
+        verify(dispatcher, atLeastOnce()).dispatch(captor.capture());
+        var failures = captor.getAllValues().stream()
+                .filter(SecurityEvent.AuthenticationFailure.class::isInstance)
+                .map(SecurityEvent.AuthenticationFailure.class::cast)
+                .toList();
+        assertEquals(5, failures.getLast().failureCount());
+        assertTrue(captor.getAllValues().stream().anyMatch(SecurityEvent.SuspiciousPattern.class::isInstance));
+    }
+
+    @Test
+    @DisplayName("should report the heaviest clients first")
+    void shouldReportTopClients() {
+        requests("10.0.0.1", 3, false);
+        requests("10.0.0.2", 7, false);
+        requests("10.0.0.3", 5, false);
+
+        var top = monitor.topClients();
+
+        assertEquals(
+                List.of(
+                        Integer.toHexString("10.0.0.2".hashCode()),
+                        Integer.toHexString("10.0.0.3".hashCode()),
+                        Integer.toHexString("10.0.0.1".hashCode())),
+                List.copyOf(top.keySet()));
+        assertEquals(7L, top.values().iterator().next());
+    }
+
+    @Test
+    @DisplayName("should keep memory fixed for many distinct clients")
+    void shouldTrackManyClientsInFixedMemory() {
+        for (int i = 0; i < 10_000; i++) {
+            monitor.recordRequest("2001:db8::" + Integer.toHexString(i), "svc", false);
+        }
+
+        assertEquals(16, monitor.topClients().size());
+        verify(dispatcher, never()).dispatch(any());
+    }
+
+    @Test
+    @DisplayName("should forget a client on reset")
+    void shouldResetClient() {
+        requests("10.0.0.1", THRESHOLD, false);
+
+        monitor.resetClient("10.0.0.1");
+        requests("10.0.0.1", THRESHOLD, false);
+
+        verify(dispatcher, never()).dispatch(any());
+        assertTrue(monitor.topClients().values().stream().allMatch(count -> count <= THRESHOLD));
+    }
+}
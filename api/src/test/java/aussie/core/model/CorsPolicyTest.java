@@ -0,0 +1,152 @@
+package aussie.core.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import aussie.core.model.common.CorsConfig;
+import aussie.core.model.common.CorsPolicy;
+
+@DisplayName("CorsPolicy Tests")
+class CorsPolicyTest {
+
+    private static CorsPolicy policy(String... origins) {
+        return CorsPolicy.compile(CorsConfig.builder()
+                .allowedOrigins(origins)
+                .allowedMethods("GET", "POST")
+                .build());
+    }
+
+    @Nested
+    @DisplayName("Origin Matching")
+    class OriginMatchingTests {
+
+        @Test
+        @DisplayName("Should match exact origins")
+        void shouldMatchExactOrigins() {
+            var policy = policy("https://app.example.com", "https://admin.example.com");
+
+            assertTrue(policy.isOriginAllowed("https://app.example.com"));
+            assertTrue(policy.isOriginAllowed("https://admin.example.com"));
+            assertFalse(policy.isOriginAllowed("https://other.example.com"));
+        }
+
+        @Test
+        @DisplayName("Should match subdomains of wildcard patterns but not the domain itself")
+        void shouldMatchWildcardSubdomains() {
+            var policy = policy("*.example.com", "*.example.org");
+
+            assertTrue(policy.isOriginAllowed("https://app.example.com"));
+            assertTrue(policy.isOriginAllowed("https://a.b.example.org"));
+            assertFalse(policy.isOriginAllowed("example.com"));
+            assertFalse(policy.isOriginAllowed("https://badexample.com"));
+            assertFalse(policy.isOriginAllowed("https://example.net"));
+        }
+
+        @Test
+        @DisplayName("Should match nested wildcard domains independently")
+        void shouldMatchNestedWildcardDomains() {
+            var policy = policy("*.api.example.com");
+
+            assertTrue(policy.isOriginAllowed("https://v1.api.example.com"));
+            assertFalse(policy.isOriginAllowed("https://www.example.com"));
+        }
+
+        @Test
+        @DisplayName("Should agree with CorsConfig")
+        void shouldAgreeWithCorsConfig() {
+            var config = CorsConfig.builder()
+                    .allowedOrigins("https://exact.test", "*.example.com", "*.co.uk")
+                    .build();
+            var policy = CorsPolicy.compile(config);
+
+            for (var origin : List.of(
+                    "https://exact.test",
+                    "https://exact.test.evil",
+                    "https://a.example.com",
+                    "https://example.com",
+                    "https://shop.co.uk",
+                    "co.uk",
+                    "")) {
+                assertEquals(config.isOriginAllowed(origin), policy.isOriginAllowed(origin), origin);
+            }
+        }
+
+        @Test
+        @DisplayName("Should allow any origin with *")
+        void shouldAllowAnyOrigin() {
+            assertTrue(policy("*").isOriginAllowed("https://anything.test"));
+        }
+
+        @Test
+        @DisplayName("Should reject null, blank, and unconfigured origins")
+        void shouldRejectMissingOrigins() {
+            assertFalse(policy("*").isOriginAllowed(null));
+            assertFalse(policy("*").isOriginAllowed(" "));
+            assertFalse(policy().isOriginAllowed("https://app.example.com"));
+        }
+    }
+
+    @Nested
+    @DisplayName("Method Matching")
+    class MethodMatchingTests {
+
+        @Test
+        @DisplayName("Should match methods ignoring case")
+        void shouldMatchMethodsIgnoringCase() {
+            var policy = policy("*");
+
+            assertTrue(policy.isMethodAllowed("GET"));
+            assertTrue(policy.isMethodAllowed("post"));
+            assertFalse(policy.isMethodAllowed("DELETE"));
+            assertFalse(policy.isMethodAllowed(null));
+        }
+    }
+
+    @Nested
+    @DisplayName("Response Headers")
+    class ResponseHeaderTests {
+
+        @Test
+        @DisplayName("Should prebuild header values from the config")
+        void shouldPrebuildHeaderValues() {
+            var config = new CorsConfig(
+                    List.of("*"), Set.of("*"), Set.of("*"), Set.of("X-Trace"), false, Optional.of(600L));
+            var policy = CorsPolicy.compile(config);
+
+            assertEquals(config.getAllowedMethodsString(), policy.allowedMethodsHeader());
+            assertEquals("*", policy.allowedHeadersHeader());
+            assertEquals("X-Trace", policy.exposedHeadersHeader());
+            assertEquals("600", policy.maxAgeHeader());
+            assertTrue(policy.respondsWithWildcardOrigin());
+        }
+
+        @Test
+        @DisplayName("Should echo the origin when credentials are allowed")
+        void shouldEchoOriginWithCredentials() {
+            var policy = CorsPolicy.compile(CorsConfig.allowAll());
+
+            assertFalse(policy.respondsWithWildcardOrigin());
+            assertTrue(policy.allowCredentials());
+        }
+
+        @Test
+        @DisplayName("Should omit optional headers that are not configured")
+        void shouldOmitUnconfiguredHeaders() {
+            var policy = policy("https://app.example.com");
+
+            assertNull(policy.exposedHeadersHeader());
+            assertNull(policy.maxAgeHeader());
+            assertFalse(policy.respondsWithWildcardOrigin());
+        }
+    }
+}
@@ -0,0 +1,122 @@
+package aussie.core.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import aussie.core.model.gateway.HeaderView;
+
+@DisplayName("HeaderView")
+class HeaderViewTest {
+
+    private static final Set<String> EXCLUDED = HeaderView.names(List.of("connection", "host"));
+
+    private static Map<String, List<String>> source() {
+        var headers = new LinkedHashMap<String, List<String>>();
+        headers.put("Accept", List.of("application/json"));
+        headers.put("Connection", List.of("keep-alive"));
+        headers.put("Host", List.of("client"));
+        headers.put("X-Multi", List.of("a", "b"));
+        return headers;
+    }
+
+    @Nested
+    @DisplayName("Lookup")
+    class LookupTests {
+
+        @Test
+        @DisplayName("Should read through to the source without copying")
+        void shouldReadThroughToSource() {
+            var source = source();
+            var view = HeaderView.filtered(source, EXCLUDED);
+
+            assertSame(source.get("X-Multi"), view.get("X-Multi"));
+        }
+
+        @Test
+        @DisplayName("Should ignore case")
+        void shouldIgnoreCase() {
+            var view = HeaderView.filtered(source(), EXCLUDED);
+
+            assertEquals(List.of("application/json"), view.get("accept"));
+            assertTrue(view.containsKey("X-MULTI"));
+        }
+
+        @Test
+        @DisplayName("Should hide excluded headers in any case")
+        void shouldHideExcludedHeaders() {
+            var view = HeaderView.filtered(source(), EXCLUDED);
+
+            assertNull(view.get("Connection"));
+            assertFalse(view.containsKey("HOST"));
+        }
+
+        @Test
+        @DisplayName("Should prefer overrides over source and exclusions")
+        void shouldPreferOverrides() {
+            var view = new HeaderView(source(), EXCLUDED, Map.of("host", List.of("backend"), "X-New", List.of("1")));
+
+            assertEquals(List.of("backend"), view.get("Host"));
+            assertEquals(List.of("1"), view.get("x-new"));
+        }
+
+        @Test
+        @DisplayName("Should reflect later changes to the source")
+        void shouldReflectSourceChanges() {
+            var source = new HashMap<String, List<String>>();
+            var view = HeaderView.filtered(source, EXCLUDED);
+
+            source.put("X-Late", List.of("v"));
+
+            assertEquals(List.of("v"), view.get("X-Late"));
+        }
+    }
+
+    @Nested
+    @DisplayName("Iteration")
+    class IterationTests {
+
+        @Test
+        @DisplayName("Should yield passed-through source headers then sorted overrides")
+        void shouldYieldSourceThenOverrides() {
+            var view = new HeaderView(
+                    source(), EXCLUDED, Map.of("HOST", List.of("backend"), "accept", List.of("text/plain")));
+
+            var names = new ArrayList<String>();
+            view.forEach((name, values) -> names.add(name));
+
+            assertEquals(List.of("X-Multi", "accept", "HOST"), names);
+            assertEquals(3, view.size());
+        }
+
+        @Test
+        @DisplayName("Should compare equal to a map with the same headers")
+        void shouldCompareEqualToMap() {
+            var view = HeaderView.filtered(source(), EXCLUDED);
+
+            assertEquals(Map.of("Accept", List.of("application/json"), "X-Multi", List.of("a", "b")), view);
+        }
+
+        @Test
+        @DisplayName("Should be read-only")
+        void shouldBeReadOnly() {
+            var view = HeaderView.filtered(source(), EXCLUDED);
+
+            assertThrows(UnsupportedOperationException.class, () -> view.put("X-New", List.of("v")));
+        }
+    }
+}
@@ -2,6 +2,7 @@ package aussie.core.model;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.util.Map;
@@ -11,6 +12,7 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 
+import aussie.core.model.auth.PermissionSet;
 import aussie.core.model.auth.RoleMapping;
 
 @DisplayName("RoleMapping")
@@ -210,4 +212,35 @@ class RoleMappingTest {
             assertEquals(3, mapping.size());
         }
     }
+
+    @Nested
+    @DisplayName("permission bitsets")
+    class BitsetTests {
+
+        @Test
+        @DisplayName("should expand roles into a shared bitset")
+        void shouldExpandIntoBitset() {
+            final var mapping = new RoleMapping(Map.of(
+                    "developers", Set.of("apikeys.read"),
+                    "operators", Set.of("service.config.read")));
+
+            final var result = mapping.expandRoles(Set.of("developers", "operators"));
+
+            assertTrue(result instanceof PermissionSet);
+            assertSame(result, mapping.expandRoles(Set.of("operators", "developers")));
+        }
+
+        @Test
+        @DisplayName("should keep direct permissions unknown to the mapping")
+        void shouldKeepUnknownDirectPermissions() {
+            final var mapping = new RoleMapping(Map.of("developers", Set.of("apikeys.read")));
+
+            final var known = mapping.getEffectivePermissions(Set.of("developers"), Set.of("apikeys.write"));
+            final var unknown = mapping.getEffectivePermissions(Set.of("developers"), Set.of("custom"));
+
+            assertTrue(known instanceof PermissionSet);
+            assertEquals(Set.of("apikeys.read", "apikeys.write"), known);
+            assertEquals(Set.of("apikeys.read", "custom"), unknown);
+        }
+    }
 }
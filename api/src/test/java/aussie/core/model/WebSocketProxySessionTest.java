@@ -5,9 +5,9 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
@@ -15,11 +15,16 @@ import static org.mockito.Mockito.when;
 
 import java.time.Duration;
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
-import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicLong;
 
+import io.smallrye.mutiny.Uni;
+import io.vertx.core.Future;
 import io.vertx.core.Handler;
-import io.vertx.core.Vertx;
+import io.vertx.core.Promise;
 import io.vertx.core.buffer.Buffer;
 import io.vertx.core.http.ServerWebSocket;
 import io.vertx.core.http.WebSocket;
@@ -31,25 +36,30 @@ import org.mockito.ArgumentCaptor;
 
 import aussie.core.config.*;
 import aussie.core.config.WebSocketConfig;
+import aussie.core.model.ratelimit.MessageRateLimitHandler;
 import aussie.core.model.session.*;
 import aussie.core.model.websocket.*;
 
 @DisplayName("WebSocketProxySession")
 class WebSocketProxySessionTest {
 
-    private Vertx vertx;
+    private AtomicLong clock;
+    private WebSocketTimerWheel timers;
     private ServerWebSocket clientSocket;
     private WebSocket backendSocket;
     private WebSocketConfig config;
     private WebSocketConfig.PingConfig pingConfig;
+    private WebSocketConfig.BackpressureConfig backpressureConfig;
 
     @BeforeEach
     void setUp() {
-        vertx = mock(Vertx.class);
+        clock = new AtomicLong(1_000_000L);
+        timers = new WebSocketTimerWheel(1000, 64, clock::get);
         clientSocket = mock(ServerWebSocket.class);
         backendSocket = mock(WebSocket.class);
         config = mock(WebSocketConfig.class);
         pingConfig = mock(WebSocketConfig.PingConfig.class);
+        backpressureConfig = mock(WebSocketConfig.BackpressureConfig.class);
 
         // Default config values
         when(config.idleTimeout()).thenReturn(Duration.ofMinutes(5));
@@ -58,10 +68,24 @@ class WebSocketProxySessionTest {
         when(pingConfig.enabled()).thenReturn(true);
         when(pingConfig.interval()).thenReturn(Duration.ofSeconds(30));
         when(pingConfig.timeout()).thenReturn(Duration.ofSeconds(10));
+        when(config.backpressure()).thenReturn(backpressureConfig);
+        when(backpressureConfig.highWatermark()).thenReturn(16);
+        when(backpressureConfig.lowWatermark()).thenReturn(4);
 
-        // Timer returns a timer ID
-        when(vertx.setTimer(anyLong(), any())).thenReturn(1L);
-        when(vertx.setPeriodic(anyLong(), any())).thenReturn(2L);
+        // Writes complete immediately unless a test says otherwise
+        when(clientSocket.write(any(Buffer.class))).thenReturn(Future.succeededFuture());
+        when(backendSocket.write(any(Buffer.class))).thenReturn(Future.succeededFuture());
+    }
+
+    /**
+     * Advance the clock one wheel tick at a time, firing deadlines as the gateway would.
+     */
+    private void advance(Duration duration) {
+        var end = clock.get() + duration.toMillis();
+        while (clock.get() < end) {
+            clock.set(Math.min(end, clock.get() + timers.tickMillis()));
+            timers.tick();
+        }
     }
 
     @Nested
@@ -71,7 +95,7 @@ class WebSocketProxySessionTest {
         @Test
         @DisplayName("Should initialize with correct session ID")
         void shouldInitializeWithCorrectSessionId() {
-            var session = new WebSocketProxySession("test-session", clientSocket, backendSocket, vertx, config);
+            var session = new WebSocketProxySession("test-session", clientSocket, backendSocket, timers, config);
 
             assertEquals("test-session", session.sessionId());
         }
@@ -79,19 +103,16 @@ class WebSocketProxySessionTest {
         @Test
         @DisplayName("Should set connectedAt to current time")
         void shouldSetConnectedAtToCurrentTime() {
-            var before = Instant.now();
-            var session = new WebSocketProxySession("test-session", clientSocket, backendSocket, vertx, config);
-            var after = Instant.now();
+            var session = new WebSocketProxySession("test-session", clientSocket, backendSocket, timers, config);
 
             assertNotNull(session.connectedAt());
-            assertTrue(session.connectedAt().compareTo(before) >= 0);
-            assertTrue(session.connectedAt().compareTo(after) <= 0);
+            assertEquals(Instant.ofEpochMilli(clock.get()), session.connectedAt());
         }
 
         @Test
         @DisplayName("Should set lastActivity to current time")
         void shouldSetLastActivityToCurrentTime() {
-            var session = new WebSocketProxySession("test-session", clientSocket, backendSocket, vertx, config);
+            var session = new WebSocketProxySession("test-session", clientSocket, backendSocket, timers, config);
 
             assertNotNull(session.lastActivity());
         }
@@ -99,7 +120,7 @@ class WebSocketProxySessionTest {
         @Test
         @DisplayName("Should not be closing initially")
         void shouldNotBeClosingInitially() {
-            var session = new WebSocketProxySession("test-session", clientSocket, backendSocket, vertx, config);
+            var session = new WebSocketProxySession("test-session", clientSocket, backendSocket, timers, config);
 
             assertFalse(session.isClosing());
         }
@@ -112,7 +133,7 @@ class WebSocketProxySessionTest {
         @Test
         @DisplayName("Should set up client message handler")
         void shouldSetUpClientMessageHandler() {
-            var session = new WebSocketProxySession("test-session", clientSocket, backendSocket, vertx, config);
+            var session = new WebSocketProxySession("test-session", clientSocket, backendSocket, timers, config);
 
             session.start();
 
@@ -122,7 +143,7 @@ class WebSocketProxySessionTest {
         @Test
         @DisplayName("Should set up backend message handler")
         void shouldSetUpBackendMessageHandler() {
-            var session = new WebSocketProxySession("test-session", clientSocket, backendSocket, vertx, config);
+            var session = new WebSocketProxySession("test-session", clientSocket, backendSocket, timers, config);
 
             session.start();
 
@@ -132,7 +153,7 @@ class WebSocketProxySessionTest {
         @Test
         @DisplayName("Should set up close handlers")
         void shouldSetUpCloseHandlers() {
-            var session = new WebSocketProxySession("test-session", clientSocket, backendSocket, vertx, config);
+            var session = new WebSocketProxySession("test-session", clientSocket, backendSocket, timers, config);
 
             session.start();
 
@@ -143,7 +164,7 @@ class WebSocketProxySessionTest {
         @Test
         @DisplayName("Should set up exception handlers")
         void shouldSetUpExceptionHandlers() {
-            var session = new WebSocketProxySession("test-session", clientSocket, backendSocket, vertx, config);
+            var session = new WebSocketProxySession("test-session", clientSocket, backendSocket, timers, config);
 
             session.start();
 
@@ -154,7 +175,7 @@ class WebSocketProxySessionTest {
         @Test
         @DisplayName("Should set up pong handler")
         void shouldSetUpPongHandler() {
-            var session = new WebSocketProxySession("test-session", clientSocket, backendSocket, vertx, config);
+            var session = new WebSocketProxySession("test-session", clientSocket, backendSocket, timers, config);
 
             session.start();
 
@@ -162,44 +183,26 @@ class WebSocketProxySessionTest {
         }
 
         @Test
-        @DisplayName("Should start idle timer")
-        void shouldStartIdleTimer() {
-            var session = new WebSocketProxySession("test-session", clientSocket, backendSocket, vertx, config);
-
-            session.start();
-
-            verify(vertx).setTimer(eq(Duration.ofMinutes(5).toMillis()), any());
-        }
-
-        @Test
-        @DisplayName("Should start max lifetime timer")
-        void shouldStartMaxLifetimeTimer() {
-            var session = new WebSocketProxySession("test-session", clientSocket, backendSocket, vertx, config);
+        @DisplayName("Should schedule lifecycle deadlines on the timer wheel")
+        void shouldScheduleDeadlines() {
+            var session = new WebSocketProxySession("test-session", clientSocket, backendSocket, timers, config);
 
             session.start();
 
-            verify(vertx).setTimer(eq(Duration.ofHours(24).toMillis()), any());
+            assertEquals(1, timers.scheduledCount());
         }
 
         @Test
-        @DisplayName("Should start ping timer when enabled")
-        void shouldStartPingTimerWhenEnabled() {
-            var session = new WebSocketProxySession("test-session", clientSocket, backendSocket, vertx, config);
-
-            session.start();
-
-            verify(vertx).setPeriodic(eq(Duration.ofSeconds(30).toMillis()), any());
-        }
-
-        @Test
-        @DisplayName("Should not start ping timer when disabled")
-        void shouldNotStartPingTimerWhenDisabled() {
+        @DisplayName("Should not ping when disabled")
+        void shouldNotPingWhenDisabled() {
             when(pingConfig.enabled()).thenReturn(false);
-            var session = new WebSocketProxySession("test-session", clientSocket, backendSocket, vertx, config);
+            var session = new WebSocketProxySession("test-session", clientSocket, backendSocket, timers, config);
 
             session.start();
+            advance(Duration.ofSeconds(30));
 
-            verify(vertx, never()).setPeriodic(anyLong(), any());
+            verify(clientSocket, never()).writePing(any());
+            assertFalse(session.isClosing());
         }
     }
 
@@ -212,7 +215,7 @@ class WebSocketProxySessionTest {
         void shouldForwardClientMessagesToBackend() {
             @SuppressWarnings("unchecked")
             ArgumentCaptor<Handler<Buffer>> handlerCaptor = ArgumentCaptor.forClass(Handler.class);
-            var session = new WebSocketProxySession("test-session", clientSocket, backendSocket, vertx, config);
+            var session = new WebSocketProxySession("test-session", clientSocket, backendSocket, timers, config);
 
             session.start();
 
@@ -230,7 +233,7 @@ class WebSocketProxySessionTest {
         void shouldForwardBackendMessagesToClient() {
             @SuppressWarnings("unchecked")
             ArgumentCaptor<Handler<Buffer>> handlerCaptor = ArgumentCaptor.forClass(Handler.class);
-            var session = new WebSocketProxySession("test-session", clientSocket, backendSocket, vertx, config);
+            var session = new WebSocketProxySession("test-session", clientSocket, backendSocket, timers, config);
 
             session.start();
 
@@ -244,6 +247,201 @@ class WebSocketProxySessionTest {
         }
     }
 
+    @Nested
+    @DisplayName("Backpressure")
+    class BackpressureTests {
+
+        @Test
+        @DisplayName("Should pause the client when backend writes exceed the high watermark")
+        void shouldPauseClientAboveHighWatermark() {
+            Promise<Void> pending = Promise.promise();
+            when(backendSocket.write(any(Buffer.class))).thenReturn(pending.future());
+            @SuppressWarnings("unchecked")
+            ArgumentCaptor<Handler<Buffer>> handlerCaptor = ArgumentCaptor.forClass(Handler.class);
+            var session = new WebSocketProxySession("test-session", clientSocket, backendSocket, timers, config);
+
+            session.start();
+            verify(clientSocket).handler(handlerCaptor.capture());
+            handlerCaptor.getValue().handle(Buffer.buffer("0123456789"));
+
+            verify(clientSocket, never()).pause();
+            assertEquals(10, session.bufferedBytes());
+
+            handlerCaptor.getValue().handle(Buffer.buffer("0123456789"));
+
+            verify(clientSocket).pause();
+            assertEquals(20, session.bufferedBytes());
+            assertEquals(1, session.backpressurePauseCount());
+        }
+
+        @Test
+        @DisplayName("Should resume the client once pending writes drain to the low watermark")
+        void shouldResumeClientBelowLowWatermark() {
+            Promise<Void> pending = Promise.promise();
+            when(backendSocket.write(any(Buffer.class))).thenReturn(pending.future());
+            @SuppressWarnings("unchecked")
+            ArgumentCaptor<Handler<Buffer>> handlerCaptor = ArgumentCaptor.forClass(Handler.class);
+            var session = new WebSocketProxySession("test-session", clientSocket, backendSocket, timers, config);
+
+            session.start();
+            verify(clientSocket).handler(handlerCaptor.capture());
+            handlerCaptor.getValue().handle(Buffer.buffer("01234567890123456789"));
+            verify(clientSocket).pause();
+
+            pending.complete();
+
+            verify(clientSocket).resume();
+            assertEquals(0, session.bufferedBytes());
+        }
+
+        @Test
+        @DisplayName("Should pause the backend when the client write queue is full")
+        void shouldPauseBackendWhenClientQueueFull() {
+            when(clientSocket.writeQueueFull()).thenReturn(true);
+            @SuppressWarnings("unchecked")
+            ArgumentCaptor<Handler<Buffer>> handlerCaptor = ArgumentCaptor.forClass(Handler.class);
+            @SuppressWarnings("unchecked")
+            ArgumentCaptor<Handler<Void>> drainCaptor = ArgumentCaptor.forClass(Handler.class);
+            var session = new WebSocketProxySession("test-session", clientSocket, backendSocket, timers, config);
+
+            session.start();
+            verify(backendSocket).handler(handlerCaptor.capture());
+            verify(clientSocket).drainHandler(drainCaptor.capture());
+            handlerCaptor.getValue().handle(Buffer.buffer("x"));
+
+            verify(backendSocket).pause();
+
+            when(clientSocket.writeQueueFull()).thenReturn(false);
+            drainCaptor.getValue().handle(null);
+
+            verify(backendSocket).resume();
+        }
+    }
+
+    @Nested
+    @DisplayName("Message Admission")
+    class MessageAdmissionTests {
+
+        private WebSocketProxySession sessionWith(MessageRateLimitHandler handler) {
+            return new WebSocketProxySession(
+                    "test-session",
+                    clientSocket,
+                    backendSocket,
+                    timers,
+                    config,
+                    Optional.empty(),
+                    Optional.empty(),
+                    handler);
+        }
+
+        private MessageRateLimitHandler synchronousHandler(MessageRateLimitHandler.Admission admission) {
+            return new MessageRateLimitHandler() {
+                @Override
+                public Uni<Void> checkAndProceed(Runnable onAllowed) {
+                    throw new AssertionError("Asynchronous check should not be used");
+                }
+
+                @Override
+                public Admission tryAdmit() {
+                    return admission;
+                }
+            };
+        }
+
+        @Test
+        @DisplayName("Should forward allowed messages without an asynchronous check")
+        void shouldForwardOnSynchronousAdmission() {
+            @SuppressWarnings("unchecked")
+            ArgumentCaptor<Handler<Buffer>> handlerCaptor = ArgumentCaptor.forClass(Handler.class);
+            var session = sessionWith(synchronousHandler(MessageRateLimitHandler.Admission.ALLOWED));
+
+            session.start();
+            verify(clientSocket).handler(handlerCaptor.capture());
+            var buffer = Buffer.buffer("fast");
+            handlerCaptor.getValue().handle(buffer);
+
+            verify(backendSocket).write(buffer);
+            assertEquals(0, session.pendingMessageCount());
+        }
+
+        @Test
+        @DisplayName("Should close with 4429 on synchronous rejection")
+        void shouldCloseOnSynchronousRejection() {
+            @SuppressWarnings("unchecked")
+            ArgumentCaptor<Handler<Buffer>> handlerCaptor = ArgumentCaptor.forClass(Handler.class);
+            var session = sessionWith(synchronousHandler(MessageRateLimitHandler.Admission.REJECTED));
+
+            session.start();
+            verify(clientSocket).handler(handlerCaptor.capture());
+            handlerCaptor.getValue().handle(Buffer.buffer("rejected"));
+
+            verify(backendSocket, never()).write(any(Buffer.class));
+            verify(clientSocket).close((short) 4429, "Message rate limit exceeded");
+            assertEquals(1, session.rateLimitedMessageCount());
+        }
+
+        @Test
+        @DisplayName("Should forward messages in arrival order when decisions are asynchronous")
+        void shouldPreserveOrderForAsynchronousDecisions() {
+            var checks = new ArrayList<CompletableFuture<Void>>();
+            MessageRateLimitHandler handler = onAllowed -> {
+                var check = new CompletableFuture<Void>();
+                checks.add(check);
+                return Uni.createFrom().completionStage(check).invoke(onAllowed);
+            };
+            @SuppressWarnings("unchecked")
+            ArgumentCaptor<Handler<Buffer>> handlerCaptor = ArgumentCaptor.forClass(Handler.class);
+            var session = sessionWith(handler);
+
+            session.start();
+            verify(clientSocket).handler(handlerCaptor.capture());
+            var first = Buffer.buffer("first");
+            var second = Buffer.buffer("second");
+            handlerCaptor.getValue().handle(first);
+            handlerCaptor.getValue().handle(second);
+
+            // The second frame waits for the first decision instead of racing it
+            assertEquals(1, checks.size());
+            assertEquals(2, session.pendingMessageCount());
+
+            checks.get(0).complete(null);
+            assertEquals(2, checks.size());
+            checks.get(1).complete(null);
+
+            var writes = inOrder(backendSocket);
+            writes.verify(backendSocket).write(first);
+            writes.verify(backendSocket).write(second);
+            assertEquals(0, session.pendingMessageCount());
+        }
+
+        @Test
+        @DisplayName("Should drop queued messages when an asynchronous decision rejects")
+        void shouldDropQueuedMessagesOnAsynchronousRejection() {
+            var checks = new ArrayList<CompletableFuture<Void>>();
+            MessageRateLimitHandler handler = onAllowed -> {
+                var check = new CompletableFuture<Void>();
+                checks.add(check);
+                return Uni.createFrom().completionStage(check).invoke(onAllowed);
+            };
+            @SuppressWarnings("unchecked")
+            ArgumentCaptor<Handler<Buffer>> handlerCaptor = ArgumentCaptor.forClass(Handler.class);
+            var session = sessionWith(handler);
+
+            session.start();
+            verify(clientSocket).handler(handlerCaptor.capture());
+            for (var payload : List.of("a", "b", "c")) {
+                handlerCaptor.getValue().handle(Buffer.buffer(payload));
+            }
+
+            checks.get(0).completeExceptionally(new RuntimeException("Message rate limit exceeded"));
+
+            verify(backendSocket, never()).write(any(Buffer.class));
+            verify(clientSocket).close((short) 4429, "Message rate limit exceeded");
+            assertEquals(1, checks.size());
+            assertEquals(0, session.pendingMessageCount());
+        }
+    }
+
     @Nested
     @DisplayName("closeWithReason()")
     class CloseWithReasonTests {
@@ -251,7 +449,7 @@ class WebSocketProxySessionTest {
         @Test
         @DisplayName("Should close both sockets")
         void shouldCloseBothSockets() {
-            var session = new WebSocketProxySession("test-session", clientSocket, backendSocket, vertx, config);
+            var session = new WebSocketProxySession("test-session", clientSocket, backendSocket, timers, config);
 
             session.closeWithReason((short) 1000, "Test reason");
 
@@ -262,7 +460,7 @@ class WebSocketProxySessionTest {
         @Test
         @DisplayName("Should set closing flag")
         void shouldSetClosingFlag() {
-            var session = new WebSocketProxySession("test-session", clientSocket, backendSocket, vertx, config);
+            var session = new WebSocketProxySession("test-session", clientSocket, backendSocket, timers, config);
 
             assertFalse(session.isClosing());
             session.closeWithReason((short) 1000, "Test reason");
@@ -272,7 +470,7 @@ class WebSocketProxySessionTest {
         @Test
         @DisplayName("Should be idempotent - second call has no effect")
         void shouldBeIdempotent() {
-            var session = new WebSocketProxySession("test-session", clientSocket, backendSocket, vertx, config);
+            var session = new WebSocketProxySession("test-session", clientSocket, backendSocket, timers, config);
 
             session.closeWithReason((short) 1000, "First close");
             session.closeWithReason((short) 1001, "Second close");
@@ -284,20 +482,16 @@ class WebSocketProxySessionTest {
         }
 
         @Test
-        @DisplayName("Should cancel all timers")
-        void shouldCancelAllTimers() {
-            when(vertx.setTimer(anyLong(), any())).thenReturn(10L, 20L);
-            when(vertx.setPeriodic(anyLong(), any())).thenReturn(30L);
-
-            var session = new WebSocketProxySession("test-session", clientSocket, backendSocket, vertx, config);
+        @DisplayName("Should leave the timer wheel at the next deadline")
+        void shouldLeaveTimerWheel() {
+            var session = new WebSocketProxySession("test-session", clientSocket, backendSocket, timers, config);
             session.start();
 
             session.closeWithReason((short) 1000, "Test reason");
+            advance(Duration.ofSeconds(30));
 
-            // Verify timer cancellations (idle timer ID: 10, max lifetime ID: 20, ping ID: 30)
-            verify(vertx).cancelTimer(10L);
-            verify(vertx).cancelTimer(20L);
-            verify(vertx).cancelTimer(30L);
+            assertEquals(0, timers.scheduledCount());
+            verify(clientSocket, never()).writePing(any());
         }
     }
 
@@ -310,7 +504,7 @@ class WebSocketProxySessionTest {
         void shouldCloseSessionWhenClientDisconnects() {
             @SuppressWarnings("unchecked")
             ArgumentCaptor<Handler<Void>> closeHandlerCaptor = ArgumentCaptor.forClass(Handler.class);
-            var session = new WebSocketProxySession("test-session", clientSocket, backendSocket, vertx, config);
+            var session = new WebSocketProxySession("test-session", clientSocket, backendSocket, timers, config);
 
             session.start();
             verify(clientSocket).closeHandler(closeHandlerCaptor.capture());
@@ -326,7 +520,7 @@ class WebSocketProxySessionTest {
         void shouldCloseSessionWhenBackendDisconnects() {
             @SuppressWarnings("unchecked")
             ArgumentCaptor<Handler<Void>> closeHandlerCaptor = ArgumentCaptor.forClass(Handler.class);
-            var session = new WebSocketProxySession("test-session", clientSocket, backendSocket, vertx, config);
+            var session = new WebSocketProxySession("test-session", clientSocket, backendSocket, timers, config);
 
             session.start();
             verify(backendSocket).closeHandler(closeHandlerCaptor.capture());
@@ -347,7 +541,7 @@ class WebSocketProxySessionTest {
         void shouldCloseSessionOnClientError() {
             @SuppressWarnings("unchecked")
             ArgumentCaptor<Handler<Throwable>> exceptionCaptor = ArgumentCaptor.forClass(Handler.class);
-            var session = new WebSocketProxySession("test-session", clientSocket, backendSocket, vertx, config);
+            var session = new WebSocketProxySession("test-session", clientSocket, backendSocket, timers, config);
 
             session.start();
             verify(clientSocket).exceptionHandler(exceptionCaptor.capture());
@@ -364,7 +558,7 @@ class WebSocketProxySessionTest {
         void shouldCloseSessionOnBackendError() {
             @SuppressWarnings("unchecked")
             ArgumentCaptor<Handler<Throwable>> exceptionCaptor = ArgumentCaptor.forClass(Handler.class);
-            var session = new WebSocketProxySession("test-session", clientSocket, backendSocket, vertx, config);
+            var session = new WebSocketProxySession("test-session", clientSocket, backendSocket, timers, config);
 
             session.start();
             verify(backendSocket).exceptionHandler(exceptionCaptor.capture());
@@ -384,42 +578,95 @@ class WebSocketProxySessionTest {
         @Test
         @DisplayName("Should close session when idle timeout expires")
         void shouldCloseSessionWhenIdleTimeoutExpires() {
-            // Capture the timer callback
-            AtomicReference<Handler<Long>> idleTimerCallback = new AtomicReference<>();
-            when(vertx.setTimer(eq(Duration.ofMinutes(5).toMillis()), any())).thenAnswer(invocation -> {
-                idleTimerCallback.set(invocation.getArgument(1));
-                return 1L;
-            });
-
-            var session = new WebSocketProxySession("test-session", clientSocket, backendSocket, vertx, config);
+            when(pingConfig.enabled()).thenReturn(false);
+            var session = new WebSocketProxySession("test-session", clientSocket, backendSocket, timers, config);
             session.start();
 
-            // Trigger idle timeout
-            idleTimerCallback.get().handle(1L);
+            advance(Duration.ofMinutes(5));
 
             assertTrue(session.isClosing());
             verify(clientSocket).close((short) 1000, "Idle timeout exceeded");
         }
 
+        @Test
+        @DisplayName("Should extend the idle deadline on activity without rescheduling")
+        void shouldExtendIdleDeadlineOnActivity() {
+            when(pingConfig.enabled()).thenReturn(false);
+            @SuppressWarnings("unchecked")
+            ArgumentCaptor<Handler<Buffer>> handlerCaptor = ArgumentCaptor.forClass(Handler.class);
+            var session = new WebSocketProxySession("test-session", clientSocket, backendSocket, timers, config);
+            session.start();
+            verify(backendSocket).handler(handlerCaptor.capture());
+
+            advance(Duration.ofMinutes(4));
+            handlerCaptor.getValue().handle(Buffer.buffer("activity"));
+            assertEquals(1, timers.scheduledCount());
+
+            advance(Duration.ofMinutes(2));
+            assertFalse(session.isClosing());
+
+            advance(Duration.ofMinutes(3));
+            assertTrue(session.isClosing());
+            verify(clientSocket).close((short) 1000, "Idle timeout exceeded");
+        }
+
         @Test
         @DisplayName("Should close session when max lifetime expires")
         void shouldCloseSessionWhenMaxLifetimeExpires() {
-            // Capture the timer callback (second call to setTimer is for max lifetime)
-            AtomicReference<Handler<Long>> maxLifetimeCallback = new AtomicReference<>();
-            when(vertx.setTimer(eq(Duration.ofHours(24).toMillis()), any())).thenAnswer(invocation -> {
-                maxLifetimeCallback.set(invocation.getArgument(1));
-                return 2L;
-            });
-
-            var session = new WebSocketProxySession("test-session", clientSocket, backendSocket, vertx, config);
+            when(config.maxLifetime()).thenReturn(Duration.ofMinutes(1));
+            when(pingConfig.enabled()).thenReturn(false);
+            var session = new WebSocketProxySession("test-session", clientSocket, backendSocket, timers, config);
             session.start();
 
-            // Trigger max lifetime expiry
-            maxLifetimeCallback.get().handle(2L);
+            advance(Duration.ofMinutes(1));
 
             assertTrue(session.isClosing());
             verify(clientSocket).close((short) 1000, "Maximum connection lifetime exceeded");
         }
+
+        @Test
+        @DisplayName("Should ping at the interval and close when no pong arrives")
+        void shouldCloseWhenPongMissing() {
+            var session = new WebSocketProxySession("test-session", clientSocket, backendSocket, timers, config);
+            session.start();
+
+            advance(Duration.ofSeconds(30));
+            verify(clientSocket).writePing(any());
+            assertFalse(session.isClosing());
+
+            advance(Duration.ofSeconds(10));
+            assertTrue(session.isClosing());
+            verify(clientSocket).close((short) 1002, "Ping timeout - no pong received");
+        }
+
+        @Test
+        @DisplayName("Should keep the session open when pong arrives")
+        void shouldStayOpenWhenPongArrives() {
+            @SuppressWarnings("unchecked")
+            ArgumentCaptor<Handler<Buffer>> pongCaptor = ArgumentCaptor.forClass(Handler.class);
+            var session = new WebSocketProxySession("test-session", clientSocket, backendSocket, timers, config);
+            session.start();
+            verify(clientSocket).pongHandler(pongCaptor.capture());
+
+            advance(Duration.ofSeconds(30));
+            pongCaptor.getValue().handle(Buffer.buffer("ping"));
+            advance(Duration.ofSeconds(10));
+
+            assertFalse(session.isClosing());
+        }
+
+        @Test
+        @DisplayName("Should fire overdue deadlines after a long pause between ticks")
+        void shouldFireOverdueDeadlinesAfterPause() {
+            var session = new WebSocketProxySession("test-session", clientSocket, backendSocket, timers, config);
+            session.start();
+
+            clock.addAndGet(Duration.ofHours(1).toMillis());
+            timers.tick();
+
+            assertTrue(session.isClosing());
+            assertEquals(0, timers.scheduledCount());
+        }
     }
 
     @Nested
@@ -433,7 +680,7 @@ class WebSocketProxySessionTest {
                     "test-session",
                     clientSocket,
                     backendSocket,
-                    vertx,
+                    timers,
                     config,
                     Optional.of("auth-session-123"),
                     Optional.of("user-456"));
@@ -448,7 +695,7 @@ class WebSocketProxySessionTest {
                     "test-session",
                     clientSocket,
                     backendSocket,
-                    vertx,
+                    timers,
                     config,
                     Optional.of("auth-session-123"),
                     Optional.of("user-456"));
@@ -459,7 +706,7 @@ class WebSocketProxySessionTest {
         @Test
         @DisplayName("Should have empty auth session ID when not provided")
         void shouldHaveEmptyAuthSessionId() {
-            var session = new WebSocketProxySession("test-session", clientSocket, backendSocket, vertx, config);
+            var session = new WebSocketProxySession("test-session", clientSocket, backendSocket, timers, config);
 
             assertTrue(session.authSessionId().isEmpty());
         }
@@ -467,7 +714,7 @@ class WebSocketProxySessionTest {
         @Test
         @DisplayName("Should have empty user ID when not provided")
         void shouldHaveEmptyUserId() {
-            var session = new WebSocketProxySession("test-session", clientSocket, backendSocket, vertx, config);
+            var session = new WebSocketProxySession("test-session", clientSocket, backendSocket, timers, config);
 
             assertTrue(session.userId().isEmpty());
         }
@@ -484,7 +731,7 @@ class WebSocketProxySessionTest {
                     "test-session",
                     clientSocket,
                     backendSocket,
-                    vertx,
+                    timers,
                     config,
                     Optional.of("auth-session-123"),
                     Optional.of("user-456"));
@@ -501,7 +748,7 @@ class WebSocketProxySessionTest {
                     "test-session",
                     clientSocket,
                     backendSocket,
-                    vertx,
+                    timers,
                     config,
                     Optional.of("auth-session-123"),
                     Optional.of("user-456"));
@@ -518,7 +765,7 @@ class WebSocketProxySessionTest {
                     "test-session",
                     clientSocket,
                     backendSocket,
-                    vertx,
+                    timers,
                     config,
                     Optional.of("auth-session-123"),
                     Optional.of("user-456"));
@@ -535,7 +782,7 @@ class WebSocketProxySessionTest {
                     "test-session",
                     clientSocket,
                     backendSocket,
-                    vertx,
+                    timers,
                     config,
                     Optional.of("auth-session-123"),
                     Optional.of("user-456"));
@@ -548,7 +795,7 @@ class WebSocketProxySessionTest {
         @Test
         @DisplayName("Should not close unauthenticated session")
         void shouldNotCloseUnauthenticatedSession() {
-            var session = new WebSocketProxySession("test-session", clientSocket, backendSocket, vertx, config);
+            var session = new WebSocketProxySession("test-session", clientSocket, backendSocket, timers, config);
 
             var event = SessionInvalidatedEvent.forSession("any-session");
 
@@ -558,7 +805,7 @@ class WebSocketProxySessionTest {
         @Test
         @DisplayName("Should not close unauthenticated session for user event")
         void shouldNotCloseUnauthenticatedSessionForUserEvent() {
-            var session = new WebSocketProxySession("test-session", clientSocket, backendSocket, vertx, config);
+            var session = new WebSocketProxySession("test-session", clientSocket, backendSocket, timers, config);
 
             var event = SessionInvalidatedEvent.forUser("any-user");
 
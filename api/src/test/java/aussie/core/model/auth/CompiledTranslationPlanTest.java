@@ -0,0 +1,104 @@
+package aussie.core.model.auth;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import aussie.core.model.auth.TranslationConfigSchema.ClaimSource;
+import aussie.core.model.auth.TranslationConfigSchema.ClaimSource.ClaimType;
+import aussie.core.model.auth.TranslationConfigSchema.Defaults;
+import aussie.core.model.auth.TranslationConfigSchema.Mappings;
+import aussie.core.model.auth.TranslationConfigSchema.Operation;
+import aussie.core.model.auth.TranslationConfigSchema.Transform;
+
+@DisplayName("CompiledTranslationPlan")
+class CompiledTranslationPlanTest {
+
+    private static TranslationConfigSchema schema(
+            List<ClaimSource> sources, List<Transform> transforms, Mappings mappings, boolean includeUnmapped) {
+        return new TranslationConfigSchema(1, sources, transforms, mappings, new Defaults(true, includeUnmapped));
+    }
+
+    @Test
+    @DisplayName("should match the interpreted result for every claim type")
+    void shouldMatchInterpretedResult() {
+        var schema = schema(
+                List.of(
+                        new ClaimSource("groups", "realm_access.roles", ClaimType.ARRAY),
+                        new ClaimSource("scopes", "scope", ClaimType.SPACE_DELIMITED),
+                        new ClaimSource("teams", "teams", ClaimType.COMMA_DELIMITED),
+                        new ClaimSource("tier", "tier", ClaimType.SINGLE)),
+                List.of(new Transform(
+                        "groups", List.of(new Operation.StripPrefix("ROLE_"), new Operation.Lowercase()))),
+                new Mappings(Map.of("admin", List.of("admin.read")), Map.of("read:users", "users.read")),
+                true);
+        var claims = Map.<String, Object>of(
+                "realm_access", Map.of("roles", List.of("ROLE_ADMIN", "ROLE_Viewer")),
+                "scope", "  read:users \t write:users ",
+                "teams", "billing, ,ops,",
+                "tier", "gold");
+
+        var extracted = ClaimTranslator.extractFromSources(schema, claims);
+        var interpreted = ClaimTranslator.applyMappings(schema, ClaimTranslator.applyTransforms(schema, extracted));
+        var compiled = CompiledTranslationPlan.compile(schema).translate(claims);
+
+        assertEquals(interpreted, compiled);
+        assertEquals(Set.of("admin", "viewer", "write:users", "billing", "ops", "gold"), compiled.roles());
+        assertEquals(Set.of("admin.read", "users.read"), compiled.permissions());
+    }
+
+    @Test
+    @DisplayName("should fuse operations from every transform on a source in order")
+    void shouldFuseOperationsInOrder() {
+        var plan = CompiledTranslationPlan.compile(schema(
+                List.of(new ClaimSource("roles", "roles", ClaimType.ARRAY)),
+                List.of(
+                        new Transform("roles", List.of(new Operation.Regex("([a-z]+)_([a-z]+)", "$2-$1"))),
+                        new Transform("roles", List.of(new Operation.Uppercase()))),
+                Mappings.empty(),
+                true));
+
+        var result = plan.translate(Map.of("roles", List.of("user_admin")));
+
+        assertEquals(Set.of("ADMIN-USER"), result.roles());
+    }
+
+    @Test
+    @DisplayName("should use the last source with a value when sources share a name")
+    void shouldPreferLastSourceWithValue() {
+        var plan = CompiledTranslationPlan.compile(schema(
+                List.of(
+                        new ClaimSource("roles", "groups", ClaimType.ARRAY),
+                        new ClaimSource("roles", "realm_access.roles", ClaimType.ARRAY)),
+                List.of(),
+                Mappings.empty(),
+                true));
+
+        assertEquals(
+                Set.of("nested"),
+                plan.translate(Map.of("groups", List.of("top"), "realm_access", Map.of("roles", List.of("nested"))))
+                        .roles());
+        assertEquals(Set.of("top"), plan.translate(Map.of("groups", List.of("top"))).roles());
+    }
+
+    @Test
+    @DisplayName("should ignore claims that do not match the declared type")
+    void shouldIgnoreMismatchedTypes() {
+        var plan = CompiledTranslationPlan.compile(schema(
+                List.of(
+                        new ClaimSource("roles", "roles", ClaimType.ARRAY),
+                        new ClaimSource("scopes", "scope", ClaimType.SPACE_DELIMITED)),
+                List.of(),
+                Mappings.empty(),
+                true));
+
+        var result = plan.translate(Map.of("roles", "admin", "scope", List.of("read")));
+
+        assertEquals(TranslatedClaims.empty(), result);
+    }
+}
@@ -0,0 +1,79 @@
+package aussie.core.model.auth;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("PermissionSet")
+class PermissionSetTest {
+
+    @Test
+    @DisplayName("should number built-in permissions and extra permissions")
+    void shouldNumberPermissions() {
+        var index = PermissionIndex.of(List.of("custom.read", "*"));
+
+        assertEquals(Permission.values().length + 1, index.size());
+        assertEquals("custom.read", index.nameOf(index.idOf("custom.read")));
+        assertEquals(-1, index.idOf("unknown"));
+        assertEquals(-1, index.idOf(null));
+    }
+
+    @Test
+    @DisplayName("should behave as a set of strings")
+    void shouldBehaveAsSet() {
+        var index = PermissionIndex.of(List.of("a", "b", "c"));
+        var set = index.toSet(List.of("a", "c", Permission.ALL_VALUE));
+
+        assertEquals(Set.of("a", "c", "*"), set);
+        assertEquals(new HashSet<>(set), Set.of("a", "c", "*"));
+        assertTrue(set.contains("a"));
+        assertFalse(set.contains("b"));
+        assertFalse(set.contains("unknown"));
+        assertThrows(UnsupportedOperationException.class, () -> set.add("b"));
+    }
+
+    @Test
+    @DisplayName("should return null for permissions outside the index")
+    void shouldRejectUnknownPermissions() {
+        var index = PermissionIndex.of(List.of("a"));
+
+        assertNull(index.toSet(List.of("a", "unknown")));
+    }
+
+    @Test
+    @DisplayName("should union and intersect across many words")
+    void shouldCombineAcrossWords() {
+        var names = new ArrayList<String>();
+        for (int i = 0; i < 200; i++) {
+            names.add("p" + i);
+        }
+        var index = PermissionIndex.of(names);
+        var low = index.toSet(List.of("p0", "p1"));
+        var high = index.toSet(List.of("p150", "p199"));
+
+        var union = low.union(high);
+
+        assertEquals(Set.of("p0", "p1", "p150", "p199"), union);
+        assertFalse(low.intersects(high));
+        assertTrue(union.intersects(high));
+    }
+
+    @Test
+    @DisplayName("should not combine sets from different indexes")
+    void shouldRejectDifferentIndexes() {
+        var first = PermissionIndex.of(List.of("a")).toSet(List.of("a"));
+        var second = PermissionIndex.of(List.of("a")).toSet(List.of("a"));
+
+        assertThrows(IllegalArgumentException.class, () -> first.union(second));
+    }
+}
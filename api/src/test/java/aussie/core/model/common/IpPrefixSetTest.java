@@ -0,0 +1,119 @@
+package aussie.core.model.common;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("IpPrefixSet")
+class IpPrefixSetTest {
+
+    @Nested
+    @DisplayName("IpAddress parsing")
+    class ParseTests {
+
+        @Test
+        @DisplayName("should parse dotted-quad IPv4 into the top 32 bits")
+        void shouldParseIpv4() {
+            var address = IpAddress.parse("192.168.1.10");
+
+            assertEquals(4, address.version());
+            assertEquals(0xC0A8010AL << 32, address.high());
+        }
+
+        @Test
+        @DisplayName("should parse IPv6 literals")
+        void shouldParseIpv6() {
+            var address = IpAddress.parse("fd00::1");
+
+            assertEquals(6, address.version());
+            assertEquals(0xFD00000000000000L, address.high());
+            assertEquals(1L, address.low());
+        }
+
+        @Test
+        @DisplayName("should treat IPv4-mapped IPv6 as IPv4")
+        void shouldTreatMappedAsIpv4() {
+            assertEquals(IpAddress.parse("10.0.0.1"), IpAddress.parse("::ffff:10.0.0.1"));
+        }
+
+        @Test
+        @DisplayName("should reject hostnames and malformed addresses without resolving")
+        void shouldRejectNonLiterals() {
+            assertNull(IpAddress.parse("proxy.internal"));
+            assertNull(IpAddress.parse("256.0.0.1"));
+            assertNull(IpAddress.parse(""));
+            assertNull(IpAddress.parse(null));
+        }
+    }
+
+    @Nested
+    @DisplayName("Matching")
+    class MatchingTests {
+
+        @Test
+        @DisplayName("should match exact IPv4 and IPv6 addresses")
+        void shouldMatchExactAddresses() {
+            var set = IpPrefixSet.compile(List.of("10.0.0.1", "::1"));
+
+            assertTrue(set.contains("10.0.0.1"));
+            assertTrue(set.contains("0:0:0:0:0:0:0:1"));
+            assertFalse(set.contains("10.0.0.2"));
+        }
+
+        @Test
+        @DisplayName("should match CIDR ranges on bit boundaries")
+        void shouldMatchCidrRanges() {
+            var set = IpPrefixSet.compile(List.of("172.16.0.0/12", "fd00::/8"));
+
+            assertTrue(set.contains("172.16.0.1"));
+            assertTrue(set.contains("172.31.255.255"));
+            assertFalse(set.contains("172.32.0.0"));
+            assertTrue(set.contains("fdab::1"));
+            assertFalse(set.contains("fe80::1"));
+        }
+
+        @Test
+        @DisplayName("should match overlapping ranges and zero-length prefixes")
+        void shouldMatchOverlappingRanges() {
+            var set = IpPrefixSet.compile(List.of("10.1.2.3", "10.0.0.0/8", "10.1.0.0/16"));
+
+            assertTrue(set.contains("10.1.2.3"));
+            assertTrue(set.contains("10.200.0.1"));
+            assertTrue(IpPrefixSet.compile(List.of("0.0.0.0/0")).contains("8.8.8.8"));
+        }
+
+        @Test
+        @DisplayName("should not match across address families")
+        void shouldNotMatchAcrossFamilies() {
+            var set = IpPrefixSet.compile(List.of("0.0.0.0/0"));
+
+            assertFalse(set.contains("::2"));
+            assertFalse(IpPrefixSet.compile(List.of("::/0")).contains("10.0.0.1"));
+        }
+
+        @Test
+        @DisplayName("should report invalid patterns and skip them")
+        void shouldReportInvalidPatterns() {
+            var set = IpPrefixSet.compile(List.of("invalid/cidr", "10.0.0.0/33", "fd00::/129", "10.0.0.0/8"));
+
+            assertEquals(List.of("invalid/cidr", "10.0.0.0/33", "fd00::/129"), set.invalidPatterns());
+            assertTrue(set.contains("10.0.0.1"));
+        }
+
+        @Test
+        @DisplayName("should match non-IP exact patterns by string equality")
+        void shouldMatchLiteralPatterns() {
+            var set = IpPrefixSet.compile(List.of("unknown"));
+
+            assertTrue(set.contains("unknown"));
+            assertFalse(set.contains((IpAddress) null));
+        }
+    }
+}
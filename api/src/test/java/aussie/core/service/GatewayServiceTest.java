@@ -18,6 +18,7 @@ import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 
 import aussie.adapter.out.storage.NoOpConfigurationCache;
+import aussie.adapter.out.storage.NoOpRegistryChangePublisher;
 import aussie.adapter.out.storage.memory.InMemoryServiceRegistrationRepository;
 import aussie.core.cache.LocalCacheConfig;
 import aussie.core.model.auth.GatewaySecurityConfig;
@@ -32,8 +33,8 @@ import aussie.core.model.routing.RouteMatch;
 import aussie.core.model.service.ServiceRegistration;
 import aussie.core.port.out.Metrics;
 import aussie.core.port.out.ProxyClient;
+import aussie.core.port.out.RequestTelemetry;
 import aussie.core.port.out.SecurityMonitoring;
-import aussie.core.port.out.TrafficAttributing;
 import aussie.core.service.auth.*;
 import aussie.core.service.gateway.*;
 import aussie.core.service.routing.*;
@@ -48,7 +49,7 @@ class GatewayServiceTest {
     private RouteAuthenticationService routeAuthService;
     private Metrics metrics;
     private SecurityMonitoring securityMonitor;
-    private TrafficAttributing attributionService;
+    private RequestTelemetry requestTelemetry;
     private GatewayService gatewayService;
 
     // Permissive security config for testing
@@ -92,13 +93,14 @@ class GatewayServiceTest {
                 NoOpConfigurationCache.INSTANCE,
                 validator,
                 authService,
+                NoOpRegistryChangePublisher.INSTANCE,
                 TEST_CACHE_CONFIG);
         requestPreparer = new ProxyRequestPreparer(() -> (req, uri) -> Map.of());
         proxyClient = new TestProxyClient();
         routeAuthService = new NoOpRouteAuthService();
         metrics = new NoOpMetrics();
         securityMonitor = new NoOpSecurityMonitoring();
-        attributionService = new NoOpTrafficAttributing();
+        requestTelemetry = (request, service, result, durationMs) -> {};
         gatewayService = new GatewayService(
                 serviceRegistry,
                 requestPreparer,
@@ -106,7 +108,7 @@ class GatewayServiceTest {
                 routeAuthService,
                 metrics,
                 securityMonitor,
-                attributionService);
+                requestTelemetry);
     }
 
     private GatewayRequest createRequest(String method, String path) {
@@ -427,22 +429,4 @@ class GatewayServiceTest {
         @Override
         public void recordAccessDenied(String clientIp, String serviceId, String path, String reason) {}
     }
-
-    /**
-     * No-op traffic attribution for testing.
-     */
-    private static class NoOpTrafficAttributing implements TrafficAttributing {
-        @Override
-        public boolean isEnabled() {
-            return false;
-        }
-
-        @Override
-        public void record(
-                GatewayRequest request,
-                ServiceRegistration service,
-                long requestBodySize,
-                long responseBodySize,
-                long durationMs) {}
-    }
 }
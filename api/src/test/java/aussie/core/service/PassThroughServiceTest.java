@@ -19,6 +19,7 @@ import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ValueSource;
 
 import aussie.adapter.out.storage.NoOpConfigurationCache;
+import aussie.adapter.out.storage.NoOpRegistryChangePublisher;
 import aussie.adapter.out.storage.memory.InMemoryServiceRegistrationRepository;
 import aussie.core.cache.LocalCacheConfig;
 import aussie.core.model.auth.AussieToken;
@@ -32,8 +33,8 @@ import aussie.core.model.routing.RouteMatch;
 import aussie.core.model.service.ServiceRegistration;
 import aussie.core.port.out.Metrics;
 import aussie.core.port.out.ProxyClient;
+import aussie.core.port.out.RequestTelemetry;
 import aussie.core.port.out.SecurityMonitoring;
-import aussie.core.port.out.TrafficAttributing;
 import aussie.core.service.auth.*;
 import aussie.core.service.gateway.*;
 import aussie.core.service.routing.*;
@@ -50,7 +51,7 @@ class PassThroughServiceTest {
     private ConfigurableRouteAuthService routeAuthService;
     private Metrics metrics;
     private SecurityMonitoring securityMonitor;
-    private TrafficAttributing attributionService;
+    private RequestTelemetry requestTelemetry;
     private PassThroughService passThroughService;
 
     // Permissive security config for testing
@@ -94,6 +95,7 @@ class PassThroughServiceTest {
                 NoOpConfigurationCache.INSTANCE,
                 validator,
                 authService,
+                NoOpRegistryChangePublisher.INSTANCE,
                 TEST_CACHE_CONFIG);
         requestPreparer = new ProxyRequestPreparer(() -> (req, uri) -> Map.of());
         proxyClient = new TestProxyClient();
@@ -103,7 +105,7 @@ class PassThroughServiceTest {
         routeAuthService = new ConfigurableRouteAuthService();
         metrics = new NoOpMetrics();
         securityMonitor = new NoOpSecurityMonitoring();
-        attributionService = new NoOpTrafficAttributing();
+        requestTelemetry = (request, service, result, durationMs) -> {};
         passThroughService = new PassThroughService(
                 serviceRegistry,
                 requestPreparer,
@@ -113,7 +115,7 @@ class PassThroughServiceTest {
                 routeAuthService,
                 metrics,
                 securityMonitor,
-                attributionService);
+                requestTelemetry);
     }
 
     private GatewayRequest createRequest(String method, String path) {
@@ -594,22 +596,4 @@ class PassThroughServiceTest {
         @Override
         public void recordAccessDenied(String clientIp, String serviceId, String path, String reason) {}
     }
-
-    /**
-     * No-op traffic attribution for testing.
-     */
-    private static class NoOpTrafficAttributing implements TrafficAttributing {
-        @Override
-        public boolean isEnabled() {
-            return false;
-        }
-
-        @Override
-        public void record(
-                GatewayRequest request,
-                ServiceRegistration service,
-                long requestBodySize,
-                long responseBodySize,
-                long durationMs) {}
-    }
 }
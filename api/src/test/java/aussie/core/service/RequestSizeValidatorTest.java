@@ -5,9 +5,11 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertInstanceOf;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.stream.IntStream;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -246,6 +248,78 @@ class RequestSizeValidatorTest {
         }
     }
 
+    @Nested
+    @DisplayName("Byte Length Calculation")
+    class ByteLengthTests {
+
+        @Test
+        @DisplayName("Should count multi-byte characters by their UTF-8 length")
+        void shouldCountMultiByteCharacters() {
+            // "X: " + e-acute, euro sign, emoji = 3 + 2 + 3 + 4 = 12 bytes
+            config.setMaxHeaderSize(12);
+            assertTrue(validator.validateHeaderSize("X", "\u00e9\u20ac\uD83D\uDE00").isValid());
+
+            config.setMaxHeaderSize(11);
+            var result = (ValidationResult.Invalid) validator.validateHeaderSize("X", "\u00e9\u20ac\uD83D\uDE00");
+            assertTrue(result.reason().contains("size 12"));
+        }
+
+        @Test
+        @DisplayName("Should count an unpaired surrogate as one byte")
+        void shouldCountUnpairedSurrogateAsOneByte() {
+            // getBytes(UTF_8) replaces an unpaired surrogate with '?'
+            config.setMaxHeaderSize(4);
+            assertTrue(validator.validateHeaderSize("X", "\uD83D").isValid());
+        }
+    }
+
+    @Nested
+    @DisplayName("Header Entry Validation")
+    class HeaderEntryTests {
+
+        @Test
+        @DisplayName("Should validate flat header entries")
+        void shouldValidateFlatHeaderEntries() {
+            config.setMaxHeaderSize(1000);
+            config.setMaxTotalHeadersSize(10000);
+
+            var headers = List.of(Map.entry("Accept", "text/html"), Map.entry("Accept", "application/json"));
+
+            assertTrue(validator.validateRequest(100, headers).isValid());
+        }
+
+        @Test
+        @DisplayName("Should reject an oversized header entry")
+        void shouldRejectOversizedHeaderEntry() {
+            config.setMaxHeaderSize(50);
+            config.setMaxTotalHeadersSize(100000);
+
+            var result = validator.validateRequest(100, List.of(Map.entry("X-Large", "x".repeat(100))));
+
+            assertEquals(431, ((ValidationResult.Invalid) result).suggestedStatusCode());
+            assertTrue(((ValidationResult.Invalid) result).reason().contains("X-Large"));
+        }
+
+        @Test
+        @DisplayName("Should stop at the first entry exceeding the total limit")
+        void shouldStopAtTotalLimit() {
+            config.setMaxHeaderSize(1000);
+            // "Header-1: value1\r\n" = 18 bytes, so the third entry exceeds 50
+            config.setMaxTotalHeadersSize(50);
+
+            var consumed = new ArrayList<String>();
+            Iterable<Map.Entry<String, String>> headers = () -> IntStream.rangeClosed(1, 10)
+                    .mapToObj(i -> Map.entry("Header-" + i, "value" + i))
+                    .peek(entry -> consumed.add(entry.getKey()))
+                    .iterator();
+
+            var result = validator.validateRequest(100, headers);
+
+            assertFalse(result.isValid());
+            assertEquals(3, consumed.size());
+        }
+    }
+
     /**
      * Simple test implementation of LimitsConfig.
      */
@@ -1,5 +1,6 @@
 package aussie.core.service;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -11,19 +12,25 @@ import java.util.Set;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.atomic.AtomicInteger;
 
+import io.smallrye.mutiny.Multi;
 import io.smallrye.mutiny.Uni;
+import io.smallrye.mutiny.operators.multi.processors.BroadcastProcessor;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 
 import aussie.adapter.out.storage.NoOpConfigurationCache;
+import aussie.adapter.out.storage.NoOpRegistryChangePublisher;
 import aussie.adapter.out.storage.memory.InMemoryServiceRegistrationRepository;
 import aussie.core.cache.LocalCacheConfig;
 import aussie.core.model.auth.GatewaySecurityConfig;
 import aussie.core.model.routing.EndpointConfig;
 import aussie.core.model.routing.EndpointVisibility;
+import aussie.core.model.routing.ServiceOnlyMatch;
+import aussie.core.model.service.RegistryChanges;
 import aussie.core.model.service.ServiceRegistration;
+import aussie.core.port.out.RegistryChangePublisher;
 import aussie.core.port.out.ServiceRegistrationRepository;
 import aussie.core.service.auth.*;
 import aussie.core.service.routing.*;
@@ -86,10 +93,20 @@ class ServiceRegistryMultiInstanceTest {
 
         // Create two instances sharing the same repository
         instanceA = new ServiceRegistry(
-                sharedRepository, NoOpConfigurationCache.INSTANCE, validator, authService, shortTtlConfig);
+                sharedRepository,
+                NoOpConfigurationCache.INSTANCE,
+                validator,
+                authService,
+                NoOpRegistryChangePublisher.INSTANCE,
+                shortTtlConfig);
 
         instanceB = new ServiceRegistry(
-                sharedRepository, NoOpConfigurationCache.INSTANCE, validator, authService, shortTtlConfig);
+                sharedRepository,
+                NoOpConfigurationCache.INSTANCE,
+                validator,
+                authService,
+                NoOpRegistryChangePublisher.INSTANCE,
+                shortTtlConfig);
     }
 
     @Nested
@@ -263,6 +280,71 @@ class ServiceRegistryMultiInstanceTest {
         }
     }
 
+    @Nested
+    @DisplayName("Change Feed")
+    class ChangeFeed {
+
+        @Test
+        @DisplayName("TTL refresh should apply deltas instead of reloading every registration")
+        void ttlRefreshShouldApplyDeltas() throws InterruptedException {
+            final var findAllCount = new AtomicInteger(0);
+            var countingRepo = new VersionedCountingRepository(sharedRepository, findAllCount);
+            var registry = new ServiceRegistry(
+                    countingRepo,
+                    NoOpConfigurationCache.INSTANCE,
+                    new ServiceRegistrationValidator(PERMISSIVE_CONFIG),
+                    new ServiceAuthorizationService(new DefaultPermissionPolicy()),
+                    NoOpRegistryChangePublisher.INSTANCE,
+                    shortTtlCacheConfig(Duration.ofMillis(50)));
+            registry.initialize().await().atMost(TIMEOUT);
+
+            instanceA.register(serviceWithEndpoint("delta-service", "/api/delta"))
+                    .await()
+                    .atMost(TIMEOUT);
+            Thread.sleep(100);
+
+            assertTrue(registry.findRouteAsync("/api/delta", "GET")
+                    .await()
+                    .atMost(TIMEOUT)
+                    .isPresent());
+
+            instanceA.unregister("delta-service").await().atMost(TIMEOUT);
+            Thread.sleep(100);
+
+            var result = registry.findRouteAsync("/api/delta", "GET").await().atMost(TIMEOUT);
+            assertTrue(result.isEmpty() || result.get() instanceof ServiceOnlyMatch);
+            assertEquals(0, findAllCount.get(), "Deltas should not require a full reload");
+        }
+
+        @Test
+        @DisplayName("Change announced by Instance A should sync Instance B without waiting for TTL")
+        void announcedChangeShouldSyncImmediately() throws InterruptedException {
+            var publisherA = new LinkedChangePublisher();
+            var publisherB = new LinkedChangePublisher();
+            publisherA.peer = publisherB;
+            publisherB.peer = publisherA;
+            var longTtl = shortTtlCacheConfig(Duration.ofHours(1));
+            var validator = new ServiceRegistrationValidator(PERMISSIVE_CONFIG);
+            var authService = new ServiceAuthorizationService(new DefaultPermissionPolicy());
+            var registryA = new ServiceRegistry(
+                    sharedRepository, NoOpConfigurationCache.INSTANCE, validator, authService, publisherA, longTtl);
+            var registryB = new ServiceRegistry(
+                    sharedRepository, NoOpConfigurationCache.INSTANCE, validator, authService, publisherB, longTtl);
+            registryA.initialize().await().atMost(TIMEOUT);
+            registryB.initialize().await().atMost(TIMEOUT);
+
+            registryA.register(serviceWithEndpoint("pushed-service", "/api/pushed"))
+                    .await()
+                    .atMost(TIMEOUT);
+
+            var deadline = System.nanoTime() + TIMEOUT.toNanos();
+            while (registryB.findRoute("/api/pushed", "GET").isEmpty() && System.nanoTime() < deadline) {
+                Thread.sleep(10);
+            }
+            assertTrue(registryB.findRoute("/api/pushed", "GET").isPresent());
+        }
+    }
+
     @Nested
     @DisplayName("Request Coalescing")
     class RequestCoalescing {
@@ -278,7 +360,12 @@ class ServiceRegistryMultiInstanceTest {
             var shortTtlConfig = shortTtlCacheConfig(Duration.ofMillis(50));
 
             var registry = new ServiceRegistry(
-                    countingRepo, NoOpConfigurationCache.INSTANCE, validator, authService, shortTtlConfig);
+                    countingRepo,
+                    NoOpConfigurationCache.INSTANCE,
+                    validator,
+                    authService,
+                    NoOpRegistryChangePublisher.INSTANCE,
+                    shortTtlConfig);
             registry.initialize().await().atMost(TIMEOUT);
 
             // Register a service directly in the shared repo
@@ -345,7 +432,12 @@ class ServiceRegistryMultiInstanceTest {
             var shortTtlConfig = shortTtlCacheConfig(Duration.ofMillis(50));
 
             var registry = new ServiceRegistry(
-                    failOnceRepo, NoOpConfigurationCache.INSTANCE, validator, authService, shortTtlConfig);
+                    failOnceRepo,
+                    NoOpConfigurationCache.INSTANCE,
+                    validator,
+                    authService,
+                    NoOpRegistryChangePublisher.INSTANCE,
+                    shortTtlConfig);
 
             // Register a service in the shared repo
             var endpoint = new EndpointConfig("/api/retry", Set.of("GET"), EndpointVisibility.PUBLIC, Optional.empty());
@@ -400,6 +492,49 @@ class ServiceRegistryMultiInstanceTest {
         };
     }
 
+    private static ServiceRegistration serviceWithEndpoint(String serviceId, String path) {
+        var endpoint = new EndpointConfig(path, Set.of("GET"), EndpointVisibility.PUBLIC, Optional.empty());
+        return ServiceRegistration.builder(serviceId)
+                .baseUrl("http://localhost:8092")
+                .endpoints(List.of(endpoint))
+                .build();
+    }
+
+    /**
+     * Change publisher that delivers straight to a peer, standing in for Redis pub/sub.
+     */
+    private static class LinkedChangePublisher implements RegistryChangePublisher {
+        private final BroadcastProcessor<String> inbound = BroadcastProcessor.create();
+        private LinkedChangePublisher peer;
+
+        @Override
+        public Uni<Void> publish(String serviceId) {
+            return Uni.createFrom().voidItem().invoke(() -> peer.inbound.onNext(serviceId));
+        }
+
+        @Override
+        public Multi<String> subscribe() {
+            return inbound;
+        }
+    }
+
+    /**
+     * Counting repository that also passes change feed reads through to the delegate.
+     */
+    private static class VersionedCountingRepository extends CountingRepository {
+        private final ServiceRegistrationRepository delegate;
+
+        VersionedCountingRepository(ServiceRegistrationRepository delegate, AtomicInteger findAllCount) {
+            super(delegate, findAllCount);
+            this.delegate = delegate;
+        }
+
+        @Override
+        public Uni<RegistryChanges> findChangedSince(long version) {
+            return delegate.findChangedSince(version);
+        }
+    }
+
     /**
      * Repository wrapper that counts findAll invocations.
      */
@@ -18,6 +18,7 @@ import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 
 import aussie.adapter.out.storage.NoOpConfigurationCache;
+import aussie.adapter.out.storage.NoOpRegistryChangePublisher;
 import aussie.adapter.out.storage.memory.InMemoryServiceRegistrationRepository;
 import aussie.core.cache.LocalCacheConfig;
 import aussie.core.model.auth.GatewaySecurityConfig;
@@ -84,6 +85,7 @@ class WebSocketGatewayServiceTest {
                 NoOpConfigurationCache.INSTANCE,
                 validator,
                 authService,
+                NoOpRegistryChangePublisher.INSTANCE,
                 TEST_CACHE_CONFIG);
         routeAuthService = new NoOpRouteAuthService();
         endpointMatcher = new EndpointMatcher(new GlobPatternMatcher());
@@ -7,10 +7,12 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import io.smallrye.mutiny.Uni;
 import org.junit.jupiter.api.BeforeEach;
@@ -21,6 +23,7 @@ import org.mockito.ArgumentCaptor;
 
 import aussie.core.config.RateLimitingConfig;
 import aussie.core.model.ratelimit.EffectiveRateLimit;
+import aussie.core.model.ratelimit.MessageRateLimitHandler.Admission;
 import aussie.core.model.ratelimit.RateLimitDecision;
 import aussie.core.model.ratelimit.RateLimitKey;
 import aussie.core.model.ratelimit.RateLimitKeyType;
@@ -139,6 +142,81 @@ class WebSocketRateLimitServiceTest {
         }
     }
 
+    @Nested
+    @DisplayName("createMessageHandler")
+    class CreateMessageHandler {
+
+        @Test
+        @DisplayName("should defer until the service limit is resolved")
+        void shouldDeferUntilLimitResolved() {
+            when(rateLimiter.tryCheckAndConsume(any(), any())).thenReturn(Optional.of(RateLimitDecision.allow()));
+            var handler = service.createMessageHandler("test-service", "client-123", "conn-456", () -> {});
+
+            assertEquals(Admission.DEFERRED, handler.tryAdmit());
+            verify(rateLimiter, never()).tryCheckAndConsume(any(), any());
+        }
+
+        @Test
+        @DisplayName("should decide synchronously once the limit is resolved")
+        void shouldDecideSynchronouslyAfterFirstCheck() {
+            when(rateLimiter.checkAndConsume(any(), any()))
+                    .thenReturn(Uni.createFrom().item(RateLimitDecision.allow()));
+            when(rateLimiter.tryCheckAndConsume(any(), any())).thenReturn(Optional.of(RateLimitDecision.allow()));
+            var forwarded = new AtomicInteger();
+            var handler = service.createMessageHandler("test-service", "client-123", "conn-456", () -> {});
+
+            handler.checkAndProceed(forwarded::incrementAndGet).await().indefinitely();
+            handler.checkAndProceed(forwarded::incrementAndGet).await().indefinitely();
+
+            assertEquals(2, forwarded.get());
+            assertEquals(Admission.ALLOWED, handler.tryAdmit());
+            verify(serviceRegistry, times(1)).getServiceForRateLimiting("test-service");
+        }
+
+        @Test
+        @DisplayName("should stay deferred when the rate limiter cannot decide synchronously")
+        void shouldStayDeferredForRemoteLimiter() {
+            when(rateLimiter.checkAndConsume(any(), any()))
+                    .thenReturn(Uni.createFrom().item(RateLimitDecision.allow()));
+            when(rateLimiter.tryCheckAndConsume(any(), any())).thenReturn(Optional.empty());
+            var handler = service.createMessageHandler("test-service", "client-123", "conn-456", () -> {});
+
+            handler.checkAndProceed(() -> {}).await().indefinitely();
+
+            assertEquals(Admission.DEFERRED, handler.tryAdmit());
+        }
+
+        @Test
+        @DisplayName("should report synchronous rejections")
+        void shouldReportSynchronousRejection() {
+            var rejected =
+                    RateLimitDecision.rejected(100, 60, java.time.Instant.now().plusSeconds(60), 5, 101, null);
+            when(rateLimiter.checkAndConsume(any(), any()))
+                    .thenReturn(Uni.createFrom().item(RateLimitDecision.allow()));
+            when(rateLimiter.tryCheckAndConsume(any(), any())).thenReturn(Optional.of(rejected));
+            var rejections = new AtomicInteger();
+            var handler = service.createMessageHandler(
+                    "test-service", "client-123", "conn-456", rejections::incrementAndGet);
+
+            handler.checkAndProceed(() -> {}).await().indefinitely();
+
+            assertEquals(Admission.REJECTED, handler.tryAdmit());
+            assertEquals(1, rejections.get());
+        }
+
+        @Test
+        @DisplayName("should admit everything when message rate limiting is disabled")
+        void shouldAdmitWhenDisabled() {
+            var msgConfig = config.websocket().message();
+            when(msgConfig.enabled()).thenReturn(false);
+
+            var handler = service.createMessageHandler("test-service", "client-123", "conn-456", () -> {});
+
+            assertEquals(Admission.ALLOWED, handler.tryAdmit());
+            verify(rateLimiter, never()).tryCheckAndConsume(any(), any());
+        }
+    }
+
     @Nested
     @DisplayName("cleanupConnection")
     class CleanupConnection {
@@ -0,0 +1,188 @@
+package aussie.core.service.auth;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("ExpiringBloomFilter")
+class ExpiringBloomFilterTest {
+
+    private static final Duration WIDTH = Duration.ofMinutes(10);
+
+    private MutableClock clock;
+    private ExpiringBloomFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        clock = new MutableClock(Instant.parse("2026-01-01T00:00:00Z"));
+        filter = ExpiringBloomFilter.create(WIDTH, 6, 1000, 0.0001, clock);
+    }
+
+    @Nested
+    @DisplayName("put() and mightContain()")
+    class PutAndMightContainTests {
+
+        @Test
+        @DisplayName("should contain values until they expire")
+        void shouldContainValuesUntilExpiry() {
+            filter.put("jti-1", clock.instant().plus(Duration.ofMinutes(15)));
+
+            assertTrue(filter.mightContain("jti-1"));
+            assertFalse(filter.mightContain("jti-2"));
+
+            clock.advance(Duration.ofMinutes(20));
+
+            assertFalse(filter.mightContain("jti-1"));
+        }
+
+        @Test
+        @DisplayName("should ignore values that are already expired")
+        void shouldIgnoreExpiredValues() {
+            filter.put("jti-1", clock.instant().minusSeconds(1));
+
+            assertFalse(filter.mightContain("jti-1"));
+            assertEquals(0, filter.generationCount());
+        }
+
+        @Test
+        @DisplayName("should retain values beyond the horizon until their own expiry")
+        void shouldRetainValuesBeyondHorizon() {
+            final var expiry = clock.instant().plus(Duration.ofHours(3));
+            filter.put("long-lived", expiry);
+
+            clock.advance(Duration.ofHours(2));
+            filter.expireGenerations();
+            assertTrue(filter.mightContain("long-lived"));
+
+            clock.advance(Duration.ofHours(1).plusSeconds(1));
+            filter.expireGenerations();
+            assertFalse(filter.mightContain("long-lived"));
+        }
+
+        @Test
+        @DisplayName("should retain values with unknown expiry for the full horizon")
+        void shouldRetainUnknownExpiryForHorizon() {
+            filter.put("unknown", null);
+
+            clock.advance(WIDTH.multipliedBy(6).minusSeconds(1));
+            assertTrue(filter.mightContain("unknown"));
+
+            clock.advance(Duration.ofSeconds(2));
+            assertFalse(filter.mightContain("unknown"));
+        }
+    }
+
+    @Nested
+    @DisplayName("expireGenerations()")
+    class ExpireGenerationsTests {
+
+        @Test
+        @DisplayName("should drop only fully expired generations")
+        void shouldDropOnlyExpiredGenerations() {
+            filter.put("soon", clock.instant().plus(Duration.ofMinutes(5)));
+            filter.put("later", clock.instant().plus(Duration.ofMinutes(35)));
+            assertEquals(2, filter.generationCount());
+
+            clock.advance(Duration.ofMinutes(11));
+
+            assertEquals(1, filter.expireGenerations());
+            assertEquals(1, filter.generationCount());
+            assertTrue(filter.mightContain("later"));
+        }
+
+        @Test
+        @DisplayName("should bring estimated FPP back down once entries expire")
+        void shouldLowerFppAfterExpiry() {
+            for (int i = 0; i < 500; i++) {
+                filter.put("jti-" + i, clock.instant().plus(Duration.ofMinutes(5)));
+            }
+            final var loaded = filter.expectedFpp();
+            assertTrue(loaded > 0.0);
+
+            clock.advance(Duration.ofMinutes(11));
+            filter.expireGenerations();
+
+            assertEquals(0.0, filter.expectedFpp());
+            assertEquals(0.0, filter.fillRatio());
+        }
+    }
+
+    @Nested
+    @DisplayName("growth")
+    class GrowthTests {
+
+        @Test
+        @DisplayName("should grow the last generation instead of overfilling it")
+        void shouldGrowLastGenerationBeyondHorizon() {
+            final var small = ExpiringBloomFilter.create(WIDTH, 6, 100, 0.001, clock);
+            final var expiry = clock.instant().plus(Duration.ofDays(30));
+            for (int i = 0; i < 2000; i++) {
+                small.put("jti-" + i, expiry);
+            }
+
+            assertEquals(1, small.generationCount());
+            assertTrue(small.sliceCount() > 1);
+            assertTrue(small.expectedFpp() <= 0.001, "expected FPP " + small.expectedFpp());
+            for (int i = 0; i < 2000; i++) {
+                assertTrue(small.mightContain("jti-" + i));
+            }
+
+            var falsePositives = 0;
+            for (int i = 0; i < 20000; i++) {
+                if (small.mightContain("absent-" + i)) {
+                    falsePositives++;
+                }
+            }
+            assertTrue(falsePositives < 60, "false positives: " + falsePositives);
+        }
+
+        @Test
+        @DisplayName("should keep a single slice while within capacity")
+        void shouldNotGrowWithinCapacity() {
+            for (int i = 0; i < 1000; i++) {
+                filter.put("jti-" + i, clock.instant().plus(Duration.ofMinutes(5)));
+            }
+
+            assertEquals(1, filter.sliceCount());
+        }
+    }
+
+    private static final class MutableClock extends Clock {
+
+        private Instant now;
+
+        MutableClock(Instant now) {
+            this.now = now;
+        }
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
@@ -1,11 +1,15 @@
 package aussie.core.service.auth;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.time.Duration;
+import java.time.Instant;
 
 import io.smallrye.mutiny.Multi;
 import io.vertx.mutiny.core.Vertx;
@@ -18,6 +22,7 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import aussie.core.config.TokenRevocationConfig;
+import aussie.core.model.auth.RevocationRecord;
 import aussie.core.port.out.RevocationEventPublisher;
 import aussie.spi.TokenRevocationRepository;
 
@@ -54,15 +59,21 @@ class RevocationBloomFilterTest {
         lenient().when(bloomFilterConfig.expectedInsertions()).thenReturn(1000);
         lenient().when(bloomFilterConfig.falsePositiveProbability()).thenReturn(0.001);
         lenient().when(bloomFilterConfig.rebuildInterval()).thenReturn(Duration.ofHours(1));
+        lenient().when(bloomFilterConfig.generationWidth()).thenReturn(Duration.ofHours(1));
+        lenient().when(bloomFilterConfig.maxGenerations()).thenReturn(24);
         lenient().when(pubSubConfig.enabled()).thenReturn(false);
         lenient()
-                .when(repository.streamAllRevokedJtis())
+                .when(repository.streamAllRevokedJtiRecords())
                 .thenReturn(Multi.createFrom().empty());
         lenient()
-                .when(repository.streamAllRevokedUsers())
+                .when(repository.streamAllRevokedUserRecords())
                 .thenReturn(Multi.createFrom().empty());
     }
 
+    private static Multi<RevocationRecord> records(String... ids) {
+        return Multi.createFrom().items(ids).map(id -> new RevocationRecord(id, null));
+    }
+
     private void initializeBloomFilter() {
         bloomFilter = new RevocationBloomFilter(config, repository, eventPublisher, vertx);
         bloomFilter.rebuildFilters().await().indefinitely();
@@ -174,10 +185,10 @@ class RevocationBloomFilterTest {
         @Test
         @DisplayName("should populate filters from repository")
         void shouldPopulateFiltersFromRepository() {
-            when(repository.streamAllRevokedJtis())
-                    .thenReturn(Multi.createFrom().items("jti-1", "jti-2"));
-            when(repository.streamAllRevokedUsers())
-                    .thenReturn(Multi.createFrom().items("user-1"));
+            when(repository.streamAllRevokedJtiRecords())
+                    .thenReturn(records("jti-1", "jti-2"));
+            when(repository.streamAllRevokedUserRecords())
+                    .thenReturn(records("user-1"));
 
             initializeBloomFilter();
 
@@ -187,6 +198,80 @@ class RevocationBloomFilterTest {
             assertTrue(bloomFilter.definitelyNotRevoked("jti-3"));
             assertTrue(bloomFilter.userDefinitelyNotRevoked("user-2"));
         }
+
+        @Test
+        @DisplayName("should keep revocations added while rebuild is in progress")
+        void shouldKeepRevocationsAddedDuringRebuild() {
+            when(repository.streamAllRevokedJtiRecords())
+                    .thenReturn(records("jti-1")
+                            .onItem()
+                            .invoke(() -> bloomFilter.addRevokedJti("concurrent-jti")));
+
+            initializeBloomFilter();
+
+            assertFalse(bloomFilter.definitelyNotRevoked("jti-1"));
+            assertFalse(bloomFilter.definitelyNotRevoked("concurrent-jti"));
+        }
+
+        @Test
+        @DisplayName("should not start until subscribed")
+        void shouldNotStartUntilSubscribed() {
+            bloomFilter = new RevocationBloomFilter(config, repository, eventPublisher, vertx);
+
+            final var rebuild = bloomFilter.rebuildFilters();
+
+            verify(repository, never()).streamAllRevokedJtiRecords();
+            assertFalse(bloomFilter.isEnabled());
+
+            rebuild.await().indefinitely();
+
+            verify(repository).streamAllRevokedJtiRecords();
+            assertTrue(bloomFilter.isEnabled());
+        }
+    }
+
+    @Nested
+    @DisplayName("expiry")
+    class ExpiryTests {
+
+        @Test
+        @DisplayName("should not add already-expired JTIs")
+        void shouldNotAddExpiredJtis() {
+            initializeBloomFilter();
+
+            bloomFilter.addRevokedJti("expired-jti", Instant.now().minusSeconds(1));
+
+            assertTrue(bloomFilter.definitelyNotRevoked("expired-jti"));
+        }
+
+        @Test
+        @DisplayName("should skip expired records during rebuild")
+        void shouldSkipExpiredRecordsDuringRebuild() {
+            when(repository.streamAllRevokedJtiRecords())
+                    .thenReturn(Multi.createFrom()
+                            .items(
+                                    new RevocationRecord("live-jti", Instant.now().plus(Duration.ofMinutes(5))),
+                                    new RevocationRecord("expired-jti", Instant.now().minusSeconds(1))));
+
+            initializeBloomFilter();
+
+            assertFalse(bloomFilter.definitelyNotRevoked("live-jti"));
+            assertTrue(bloomFilter.definitelyNotRevoked("expired-jti"));
+        }
+
+        @Test
+        @DisplayName("should report fill ratio and estimated FPP")
+        void shouldReportFillRatioAndFpp() {
+            initializeBloomFilter();
+            assertEquals(0.0, bloomFilter.jtiFillRatio());
+            assertEquals(0.0, bloomFilter.jtiExpectedFpp());
+
+            bloomFilter.addRevokedJti("jti-1", Instant.now().plus(Duration.ofMinutes(5)));
+
+            assertTrue(bloomFilter.jtiFillRatio() > 0.0);
+            assertTrue(bloomFilter.jtiExpectedFpp() > 0.0);
+            assertTrue(bloomFilter.jtiExpectedFpp() < 0.001);
+        }
     }
 
     @Nested
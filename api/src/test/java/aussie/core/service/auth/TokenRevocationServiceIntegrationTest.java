@@ -80,6 +80,8 @@ class TokenRevocationServiceIntegrationTest {
         lenient().when(bloomFilterConfig.expectedInsertions()).thenReturn(1000);
         lenient().when(bloomFilterConfig.falsePositiveProbability()).thenReturn(0.001);
         lenient().when(bloomFilterConfig.rebuildInterval()).thenReturn(Duration.ofHours(1));
+        lenient().when(bloomFilterConfig.generationWidth()).thenReturn(Duration.ofHours(1));
+        lenient().when(bloomFilterConfig.maxGenerations()).thenReturn(24);
 
         // Configure cache
         lenient().when(cacheConfig.enabled()).thenReturn(true);
@@ -91,10 +93,10 @@ class TokenRevocationServiceIntegrationTest {
 
         // Repository returns empty streams initially
         lenient()
-                .when(repository.streamAllRevokedJtis())
+                .when(repository.streamAllRevokedJtiRecords())
                 .thenReturn(Multi.createFrom().empty());
         lenient()
-                .when(repository.streamAllRevokedUsers())
+                .when(repository.streamAllRevokedUserRecords())
                 .thenReturn(Multi.createFrom().empty());
 
         // Create real bloom filter and cache
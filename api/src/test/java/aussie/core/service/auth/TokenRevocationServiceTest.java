@@ -4,6 +4,7 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
@@ -227,7 +228,7 @@ class TokenRevocationServiceTest {
 
             service.revokeToken(jti, expiresAt).await().atMost(Duration.ofSeconds(1));
 
-            verify(bloomFilter).addRevokedJti(jti);
+            verify(bloomFilter).addRevokedJti(jti, expiresAt);
         }
 
         @Test
@@ -324,7 +325,7 @@ class TokenRevocationServiceTest {
 
             service.revokeAllUserTokens(userId, issuedBefore).await().atMost(Duration.ofSeconds(1));
 
-            verify(bloomFilter).addRevokedUser(userId);
+            verify(bloomFilter).addRevokedUser(eq(userId), any(Instant.class));
         }
 
         @Test
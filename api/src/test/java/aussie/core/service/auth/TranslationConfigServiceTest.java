@@ -6,6 +6,8 @@ import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.util.List;
@@ -52,6 +54,20 @@ class TranslationConfigServiceTest {
                 new TranslationConfigSchema.Defaults(true, false));
     }
 
+    /**
+     * A config stored before regex validation existed, whose pattern cannot be compiled.
+     */
+    private static TranslationConfigSchema uncompilableConfig() {
+        return new TranslationConfigSchema(
+                1,
+                List.of(new TranslationConfigSchema.ClaimSource(
+                        "roles", "roles", TranslationConfigSchema.ClaimSource.ClaimType.ARRAY)),
+                List.of(new TranslationConfigSchema.Transform(
+                        "roles", List.of(new TranslationConfigSchema.Operation.Regex("([a-z", "$1")))),
+                TranslationConfigSchema.Mappings.empty(),
+                null);
+    }
+
     @Nested
     @DisplayName("validate")
     class Validate {
@@ -127,6 +143,22 @@ class TranslationConfigServiceTest {
             assertTrue(errors.stream().anyMatch(e -> e.contains("unknown source")));
         }
 
+        @Test
+        @DisplayName("should return error for invalid regex pattern")
+        void shouldReturnErrorForInvalidRegex() {
+            var config = new TranslationConfigSchema(
+                    1,
+                    List.of(new TranslationConfigSchema.ClaimSource(
+                            "roles", "roles", TranslationConfigSchema.ClaimSource.ClaimType.ARRAY)),
+                    List.of(new TranslationConfigSchema.Transform(
+                            "roles", List.of(new TranslationConfigSchema.Operation.Regex("([a-z", "$1")))),
+                    TranslationConfigSchema.Mappings.empty(),
+                    null);
+
+            var errors = service.validate(config).await().indefinitely();
+            assertTrue(errors.stream().anyMatch(e -> e.contains("invalid pattern")));
+        }
+
         @Test
         @DisplayName("should return error for null mappings")
         void shouldReturnErrorForNullMappings() {
@@ -224,7 +256,9 @@ class TranslationConfigServiceTest {
         @Test
         @DisplayName("should activate version and return true")
         void shouldActivateAndReturnTrue() {
+            var version = TranslationConfigVersion.create("version-id", 1, validConfig, "user", null);
             when(repository.setActive("version-id")).thenReturn(Uni.createFrom().item(true));
+            when(repository.findById("version-id")).thenReturn(Uni.createFrom().item(Optional.of(version)));
 
             var result = service.activate("version-id").await().indefinitely();
 
@@ -234,11 +268,24 @@ class TranslationConfigServiceTest {
         @Test
         @DisplayName("should return false when version not found")
         void shouldReturnFalseWhenNotFound() {
-            when(repository.setActive("missing-id")).thenReturn(Uni.createFrom().item(false));
+            when(repository.findById("missing-id")).thenReturn(Uni.createFrom().item(Optional.empty()));
 
             var result = service.activate("missing-id").await().indefinitely();
 
             assertFalse(result);
+            verify(repository, never()).setActive(any());
+        }
+
+        @Test
+        @DisplayName("should not activate a version that does not compile")
+        void shouldRejectVersionThatDoesNotCompile() {
+            var version = TranslationConfigVersion.create("version-id", 1, uncompilableConfig(), "user", null);
+            when(repository.findById("version-id")).thenReturn(Uni.createFrom().item(Optional.of(version)));
+
+            assertThrows(ConfigValidationException.class, () -> service.activate("version-id")
+                    .await()
+                    .indefinitely());
+            verify(repository, never()).setActive(any());
         }
     }
 
@@ -268,6 +315,18 @@ class TranslationConfigServiceTest {
 
             assertTrue(result.isEmpty());
         }
+
+        @Test
+        @DisplayName("should not roll back to a version that does not compile")
+        void shouldRejectVersionThatDoesNotCompile() {
+            var version = TranslationConfigVersion.create("id", 1, uncompilableConfig(), "user", null);
+            when(repository.findByVersion(1)).thenReturn(Uni.createFrom().item(Optional.of(version)));
+
+            assertThrows(ConfigValidationException.class, () -> service.rollback(1)
+                    .await()
+                    .indefinitely());
+            verify(repository, never()).setActive(any());
+        }
     }
 
     @Nested
@@ -8,14 +8,19 @@ import static org.mockito.Mockito.mock;
 
 import java.time.Duration;
 import java.time.Instant;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.CompletionStage;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 import jakarta.enterprise.event.Event;
 import jakarta.enterprise.event.NotificationOptions;
 import jakarta.enterprise.util.TypeLiteral;
 
+import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.Uni;
+import io.smallrye.mutiny.operators.multi.processors.BroadcastProcessor;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -25,6 +30,8 @@ import aussie.adapter.out.storage.memory.InMemoryRevocationEventPublisher;
 import aussie.adapter.out.storage.memory.InMemorySessionRepository;
 import aussie.adapter.out.storage.memory.InMemoryTokenRevocationRepository;
 import aussie.core.model.session.Session;
+import aussie.core.model.session.SessionInvalidatedEvent;
+import aussie.core.port.out.SessionInvalidationPublisher;
 import aussie.core.service.auth.RevocationBloomFilter;
 import aussie.core.service.auth.RevocationCache;
 import aussie.core.service.auth.TokenRevocationService;
@@ -33,13 +40,18 @@ import aussie.core.service.auth.TokenRevocationService;
 class SessionServiceTest {
 
     private SessionService sessionService;
-    private InMemorySessionRepository repository;
+    private RacingSessionRepository repository;
     private TestSessionConfig config;
+    private TestInvalidationPublisher invalidationPublisher;
 
     @BeforeEach
     void setUp() {
-        repository = new InMemorySessionRepository();
         config = new TestSessionConfig();
+        buildService();
+    }
+
+    private void buildService() {
+        repository = new RacingSessionRepository();
 
         // Create a mock registry that returns our repository
         var registry = new TestSessionStorageProviderRegistry(repository);
@@ -55,8 +67,10 @@ class SessionServiceTest {
         var tokenRevocationService = new TokenRevocationService(
                 revocationConfig, revocationRepository, revocationEventPublisher, bloomFilter, revocationCache);
 
-        sessionService =
-                new SessionService(registry, idGenerator, config, sessionInvalidatedEvent, tokenRevocationService);
+        invalidationPublisher = new TestInvalidationPublisher();
+        sessionService = new SessionService(
+                registry, idGenerator, config, sessionInvalidatedEvent, tokenRevocationService, invalidationPublisher);
+        sessionService.subscribeToInvalidations();
     }
 
     @Nested
@@ -203,6 +217,113 @@ class SessionServiceTest {
         }
     }
 
+    @Nested
+    @DisplayName("local session cache")
+    class SessionCacheTests {
+
+        @Test
+        @DisplayName("should serve repeated lookups from the local cache")
+        void shouldServeRepeatedLookupsFromCache() {
+            var created = sessionService
+                    .createSession("user123", "issuer", Map.of(), Set.of(), null, null)
+                    .await()
+                    .indefinitely();
+            sessionService.getSession(created.id()).await().indefinitely();
+
+            // Remove behind the service's back; the cached copy is still served
+            repository.delete(created.id()).await().indefinitely();
+
+            assertTrue(sessionService.getSession(created.id()).await().indefinitely().isPresent());
+        }
+
+        @Test
+        @DisplayName("should evict and publish on local invalidation")
+        void shouldEvictAndPublishOnInvalidation() {
+            var created = sessionService
+                    .createSession("user123", "issuer", Map.of(), Set.of(), null, null)
+                    .await()
+                    .indefinitely();
+            sessionService.getSession(created.id()).await().indefinitely();
+
+            sessionService.invalidateSession(created.id()).await().indefinitely();
+
+            assertTrue(sessionService.getSession(created.id()).await().indefinitely().isEmpty());
+            assertEquals(
+                    List.of(SessionInvalidatedEvent.forSession(created.id())), invalidationPublisher.published);
+        }
+
+        @Test
+        @DisplayName("should evict all of a user's sessions on remote invalidation")
+        void shouldEvictOnRemoteUserInvalidation() {
+            var first = sessionService
+                    .createSession("user123", "issuer", Map.of(), Set.of(), null, null)
+                    .await()
+                    .indefinitely();
+            var other = sessionService
+                    .createSession("other-user", "issuer", Map.of(), Set.of(), null, null)
+                    .await()
+                    .indefinitely();
+            sessionService.getSession(first.id()).await().indefinitely();
+            sessionService.getSession(other.id()).await().indefinitely();
+
+            // Another instance deleted the sessions and broadcast the invalidation
+            repository.deleteByUserId("user123").await().indefinitely();
+            invalidationPublisher.receive(SessionInvalidatedEvent.forUser("user123"));
+
+            assertTrue(sessionService.getSession(first.id()).await().indefinitely().isEmpty());
+            assertTrue(sessionService.getSession(other.id()).await().indefinitely().isPresent());
+        }
+
+        @Test
+        @DisplayName("should not cache a read that completes after the session was invalidated")
+        void shouldNotCacheReadRacingInvalidation() {
+            var created = sessionService
+                    .createSession("user123", "issuer", Map.of(), Set.of(), null, null)
+                    .await()
+                    .indefinitely();
+            repository.afterRead = () ->
+                    sessionService.invalidateSession(created.id()).await().indefinitely();
+
+            // The in-flight read still returns the session it loaded before the delete
+            assertTrue(sessionService.getSession(created.id()).await().indefinitely().isPresent());
+
+            repository.afterRead = null;
+            assertTrue(sessionService.getSession(created.id()).await().indefinitely().isEmpty());
+        }
+
+        @Test
+        @DisplayName("should not cache a read that completes after the user was invalidated")
+        void shouldNotCacheReadRacingUserInvalidation() {
+            var created = sessionService
+                    .createSession("user123", "issuer", Map.of(), Set.of(), null, null)
+                    .await()
+                    .indefinitely();
+            repository.afterRead = () ->
+                    sessionService.invalidateAllUserSessions("user123").await().indefinitely();
+
+            sessionService.getSession(created.id()).await().indefinitely();
+
+            repository.afterRead = null;
+            assertTrue(sessionService.getSession(created.id()).await().indefinitely().isEmpty());
+        }
+
+        @Test
+        @DisplayName("should read through to the repository when disabled")
+        void shouldReadThroughWhenDisabled() {
+            config.setCacheEnabled(false);
+            buildService();
+
+            var created = sessionService
+                    .createSession("user123", "issuer", Map.of(), Set.of(), null, null)
+                    .await()
+                    .indefinitely();
+            sessionService.getSession(created.id()).await().indefinitely();
+            repository.delete(created.id()).await().indefinitely();
+
+            assertTrue(sessionService.getSession(created.id()).await().indefinitely().isEmpty());
+        }
+    }
+
     @Nested
     @DisplayName("refreshSession")
     class RefreshSessionTests {
@@ -255,6 +376,25 @@ class SessionServiceTest {
             assertTrue(refreshed.get().expiresAt().isAfter(originalExpiration));
         }
 
+        @Test
+        @DisplayName("should skip the write when last access is within touch granularity")
+        void shouldSkipWriteWithinTouchGranularity() {
+            config.setTouchGranularity(Duration.ofMinutes(1));
+
+            var created = sessionService
+                    .createSession("user123", "issuer", Map.of(), Set.of(), null, null)
+                    .await()
+                    .indefinitely();
+
+            var refreshed = sessionService.refreshSession(created.id()).await().indefinitely();
+
+            assertTrue(refreshed.isPresent());
+            assertEquals(created.lastAccessedAt(), refreshed.get().lastAccessedAt());
+            assertEquals(created.expiresAt(), refreshed.get().expiresAt());
+            var stored = repository.findById(created.id()).await().indefinitely();
+            assertEquals(created, stored.get());
+        }
+
         @Test
         @DisplayName("should return empty for non-existent session")
         void shouldReturnEmptyForNonExistentSession() {
@@ -322,11 +462,21 @@ class SessionServiceTest {
         private Duration ttl = Duration.ofHours(8);
         private Duration idleTimeout = Duration.ofMinutes(30);
         private boolean slidingExpiration = true;
+        private Duration touchGranularity = Duration.ZERO;
+        private boolean cacheEnabled = true;
 
         public void setSlidingExpiration(boolean value) {
             this.slidingExpiration = value;
         }
 
+        public void setTouchGranularity(Duration value) {
+            this.touchGranularity = value;
+        }
+
+        public void setCacheEnabled(boolean value) {
+            this.cacheEnabled = value;
+        }
+
         @Override
         public boolean enabled() {
             return true;
@@ -382,6 +532,36 @@ class SessionServiceTest {
             return slidingExpiration;
         }
 
+        @Override
+        public Duration touchGranularity() {
+            return touchGranularity;
+        }
+
+        @Override
+        public CacheConfig cache() {
+            return new CacheConfig() {
+                @Override
+                public boolean enabled() {
+                    return cacheEnabled;
+                }
+
+                @Override
+                public Duration ttl() {
+                    return Duration.ofMinutes(1);
+                }
+
+                @Override
+                public long maxSize() {
+                    return 100;
+                }
+
+                @Override
+                public String invalidationChannel() {
+                    return "test-session-invalidations";
+                }
+            };
+        }
+
         @Override
         public IdGenerationConfig idGeneration() {
             return () -> 3;
@@ -433,6 +613,26 @@ class SessionServiceTest {
         }
     }
 
+    /**
+     * In-memory repository that can run a hook between a read and its result, to
+     * interleave an invalidation with an in-flight lookup.
+     */
+    static class RacingSessionRepository extends InMemorySessionRepository {
+
+        volatile Runnable afterRead;
+
+        @Override
+        public Uni<java.util.Optional<Session>> findById(String sessionId) {
+            return super.findById(sessionId).invoke(() -> {
+                var hook = afterRead;
+                if (hook != null) {
+                    afterRead = null;
+                    hook.run();
+                }
+            });
+        }
+    }
+
     /**
      * Test registry that returns the provided repository.
      * Vetoed to prevent CDI from discovering it during integration tests.
@@ -494,6 +694,16 @@ class SessionServiceTest {
                 public Duration rebuildInterval() {
                     return Duration.ofMinutes(5);
                 }
+
+                @Override
+                public Duration generationWidth() {
+                    return Duration.ofHours(1);
+                }
+
+                @Override
+                public int maxGenerations() {
+                    return 24;
+                }
             };
         }
 
@@ -533,6 +743,29 @@ class SessionServiceTest {
         }
     }
 
+    /**
+     * Invalidation publisher that records published events and lets tests simulate remote ones.
+     */
+    static class TestInvalidationPublisher implements SessionInvalidationPublisher {
+        private final BroadcastProcessor<SessionInvalidatedEvent> processor = BroadcastProcessor.create();
+        final List<SessionInvalidatedEvent> published = new CopyOnWriteArrayList<>();
+
+        void receive(SessionInvalidatedEvent event) {
+            processor.onNext(event);
+        }
+
+        @Override
+        public Uni<Void> publish(SessionInvalidatedEvent event) {
+            published.add(event);
+            return Uni.createFrom().voidItem();
+        }
+
+        @Override
+        public Multi<SessionInvalidatedEvent> subscribe() {
+            return processor;
+        }
+    }
+
     /**
      * No-op Event implementation for testing.
      */
@@ -0,0 +1,70 @@
+package aussie.spi;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("SecurityEventHandler")
+class SecurityEventHandlerTest {
+
+    private static SecurityEvent rateLimited(String client) {
+        return new SecurityEvent.RateLimitExceeded(Instant.now(), client, "svc", 1, 100, 60);
+    }
+
+    /**
+     * Records handled clients and throws for clients named "fail".
+     */
+    private static final class RecordingHandler implements SecurityEventHandler {
+
+        private final List<String> handled = new ArrayList<>();
+
+        @Override
+        public String name() {
+            return "recording";
+        }
+
+        @Override
+        public void handle(SecurityEvent event) {
+            if (event.clientIdentifier().startsWith("fail")) {
+                throw new IllegalStateException("cannot handle " + event.clientIdentifier());
+            }
+            handled.add(event.clientIdentifier());
+        }
+    }
+
+    @Nested
+    @DisplayName("handleBatch()")
+    class HandleBatchTests {
+
+        @Test
+        @DisplayName("should handle every event in order")
+        void shouldHandleEveryEvent() {
+            var handler = new RecordingHandler();
+
+            assertDoesNotThrow(() -> handler.handleBatch(List.of(rateLimited("a"), rateLimited("b"))));
+
+            assertEquals(List.of("a", "b"), handler.handled);
+        }
+
+        @Test
+        @DisplayName("should keep handling after an event fails and report how many failed")
+        void shouldIsolateFailingEvents() {
+            var handler = new RecordingHandler();
+            var batch = List.of(rateLimited("a"), rateLimited("fail-1"), rateLimited("b"), rateLimited("fail-2"));
+
+            var e = assertThrows(SecurityEventBatchException.class, () -> handler.handleBatch(batch));
+
+            assertEquals(List.of("a", "b"), handler.handled);
+            assertEquals(2, e.failedCount());
+            assertEquals("cannot handle fail-1", e.getCause().getMessage());
+        }
+    }
+}
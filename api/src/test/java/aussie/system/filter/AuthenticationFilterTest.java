@@ -1,23 +1,32 @@
 package aussie.system.filter;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.io.IOException;
+import java.util.stream.Stream;
 
 import jakarta.enterprise.inject.Instance;
 import jakarta.ws.rs.container.ContainerRequestContext;
 import jakarta.ws.rs.core.MultivaluedHashMap;
 import jakarta.ws.rs.core.UriInfo;
 
+import io.smallrye.mutiny.Uni;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 
+import aussie.core.model.auth.AuthenticationContext;
+import aussie.core.model.auth.AuthenticationResult;
+import aussie.core.model.auth.Principal;
 import aussie.spi.AuthenticationProvider;
 
 /**
@@ -26,7 +35,8 @@ import aussie.spi.AuthenticationProvider;
  * <p>Note: The AuthenticationFilter is deprecated and disabled by default.
  * Quarkus Security handles authentication via ApiKeyAuthenticationMechanism.
  * These tests verify that the filter correctly skips processing when
- * legacy mode is disabled (the default).
+ * legacy mode is disabled (the default), and how it chains providers when
+ * legacy mode is enabled.
  */
 @DisplayName("AuthenticationFilter (deprecated)")
 @SuppressWarnings("unchecked")
@@ -85,4 +95,90 @@ class AuthenticationFilterTest {
             verify(requestContext, never()).abortWith(any());
         }
     }
+
+    @Nested
+    @DisplayName("when legacy filter is enabled")
+    class LegacyFilterEnabledTests {
+
+        @BeforeEach
+        void setUp() {
+            when(uriInfo.getPath()).thenReturn("admin/services");
+        }
+
+        @Test
+        @DisplayName("should continue and store the context when a provider succeeds")
+        void shouldContinueOnSuccess() {
+            var context = AuthenticationContext.builder(Principal.service("key-1", "ci"))
+                    .build();
+            var first = provider("first", 200, new AuthenticationResult.Success(context));
+            var second = provider("second", 100, AuthenticationResult.Skip.instance());
+            when(providers.stream()).thenReturn(Stream.of(second, first));
+
+            var response = enabledFilter().filter(requestContext).await().indefinitely();
+
+            assertNull(response);
+            verify(requestContext).setProperty(AuthenticationFilter.AUTH_CONTEXT_PROPERTY, context);
+            verify(second, never()).authenticateAsync(any(), any());
+        }
+
+        @Test
+        @DisplayName("should abort with the failure status without trying later providers")
+        void shouldAbortOnFailure() {
+            var first = provider("first", 200, AuthenticationResult.Failure.forbidden("Key revoked"));
+            var second = provider("second", 100, AuthenticationResult.Skip.instance());
+            when(providers.stream()).thenReturn(Stream.of(first, second));
+
+            var response = enabledFilter().filter(requestContext).await().indefinitely();
+
+            assertEquals(403, response.getStatus());
+            verify(requestContext, never()).setProperty(any(), any());
+            verify(second, never()).authenticateAsync(any(), any());
+        }
+
+        @Test
+        @DisplayName("should try providers in priority order until one does not skip")
+        void shouldTryProvidersInPriorityOrder() {
+            var context = AuthenticationContext.builder(Principal.service("key-1", "ci"))
+                    .build();
+            var high = provider("high", 300, AuthenticationResult.Skip.instance());
+            var middle = provider("middle", 200, AuthenticationResult.Skip.instance());
+            var low = provider("low", 100, new AuthenticationResult.Success(context));
+            var unavailable = mock(AuthenticationProvider.class);
+            when(unavailable.isAvailable()).thenReturn(false);
+            when(providers.stream()).thenReturn(Stream.of(low, unavailable, high, middle));
+
+            var response = enabledFilter().filter(requestContext).await().indefinitely();
+
+            assertNull(response);
+            var order = inOrder(high, middle, low);
+            order.verify(high).authenticateAsync(any(), eq("admin/services"));
+            order.verify(middle).authenticateAsync(any(), eq("admin/services"));
+            order.verify(low).authenticateAsync(any(), eq("admin/services"));
+            verify(unavailable, never()).authenticateAsync(any(), any());
+        }
+
+        @Test
+        @DisplayName("should return 401 when every provider skips")
+        void shouldRejectWhenAllProvidersSkip() {
+            var only = provider("only", 100, AuthenticationResult.Skip.instance());
+            when(providers.stream()).thenReturn(Stream.of(only));
+
+            var response = enabledFilter().filter(requestContext).await().indefinitely();
+
+            assertEquals(401, response.getStatus());
+        }
+
+        private AuthenticationFilter enabledFilter() {
+            return new AuthenticationFilter(providers, true, true, true);
+        }
+
+        private AuthenticationProvider provider(String name, int priority, AuthenticationResult result) {
+            var provider = mock(AuthenticationProvider.class);
+            when(provider.name()).thenReturn(name);
+            when(provider.priority()).thenReturn(priority);
+            when(provider.isAvailable()).thenReturn(true);
+            when(provider.authenticateAsync(any(), any())).thenReturn(Uni.createFrom().item(result));
+            return provider;
+        }
+    }
 }
@@ -0,0 +1,357 @@
+package aussie.system.filter;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+
+import jakarta.enterprise.inject.Instance;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import io.quarkiverse.resteasy.problem.HttpProblem;
+import io.smallrye.mutiny.Uni;
+import io.vertx.core.MultiMap;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.http.HttpHeaders;
+import io.vertx.core.http.HttpMethod;
+import io.vertx.core.http.HttpServerRequest;
+import io.vertx.core.http.HttpServerResponse;
+import io.vertx.core.json.JsonObject;
+import io.vertx.ext.web.RoutingContext;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import aussie.adapter.in.auth.ConflictingAuthFilter;
+import aussie.core.model.common.LimitsConfig;
+import aussie.core.model.gateway.GatewayRequest;
+import aussie.core.model.gateway.GatewayResult;
+import aussie.core.model.ratelimit.RateLimitDecision;
+import aussie.core.port.in.GatewayUseCase;
+import aussie.core.port.in.PassThroughUseCase;
+import aussie.core.service.common.RequestSizeValidator;
+import aussie.core.service.common.SourceIdentifierExtractor;
+import aussie.system.filter.ProxyFastPathFilter.ProxyTarget;
+
+@DisplayName("ProxyFastPathFilter")
+class ProxyFastPathFilterTest {
+
+    private ProxyFastPathConfig config;
+    private RateLimitFilter rateLimitFilter;
+    private AccessControlFilter accessControlFilter;
+    private GatewayUseCase gatewayUseCase;
+    private PassThroughUseCase passThroughUseCase;
+    private ProxyFastPathFilter filter;
+    private Instance<ProxyFastPathConfig> configInstance;
+    private RequestSizeValidator sizeValidator;
+
+    private RoutingContext ctx;
+    private HttpServerRequest request;
+    private HttpServerResponse response;
+    private MultiMap responseHeaders;
+
+    @SuppressWarnings("unchecked")
+    @BeforeEach
+    void setUp() {
+        configInstance = mock(Instance.class);
+        config = mock(ProxyFastPathConfig.class);
+        when(configInstance.isResolvable()).thenReturn(true);
+        when(configInstance.get()).thenReturn(config);
+        when(config.enabled()).thenReturn(true);
+
+        var limits = mock(LimitsConfig.class);
+        when(limits.maxBodySize()).thenReturn(1024L);
+        when(limits.maxHeaderSize()).thenReturn(8192);
+        when(limits.maxTotalHeadersSize()).thenReturn(32768);
+
+        rateLimitFilter = mock(RateLimitFilter.class);
+        accessControlFilter = mock(AccessControlFilter.class);
+        gatewayUseCase = mock(GatewayUseCase.class);
+        passThroughUseCase = mock(PassThroughUseCase.class);
+        sizeValidator = new RequestSizeValidator(limits);
+        filter = createFilter(false);
+
+        ctx = mock(RoutingContext.class);
+        request = mock(HttpServerRequest.class);
+        response = mock(HttpServerResponse.class);
+        when(ctx.request()).thenReturn(request);
+        when(ctx.response()).thenReturn(response);
+        when(request.headers()).thenReturn(MultiMap.caseInsensitiveMultiMap());
+        when(request.path()).thenReturn("/demo-service/api/users");
+        when(response.setStatusCode(anyInt())).thenReturn(response);
+        when(response.putHeader(any(CharSequence.class), any(CharSequence.class)))
+                .thenReturn(response);
+        responseHeaders = MultiMap.caseInsensitiveMultiMap();
+        when(response.headers()).thenReturn(responseHeaders);
+    }
+
+    private ProxyFastPathFilter createFilter(boolean legacyAuthOnProxyPaths) {
+        return new ProxyFastPathFilter(
+                configInstance,
+                sizeValidator,
+                mock(ConflictingAuthFilter.class),
+                rateLimitFilter,
+                accessControlFilter,
+                mock(SourceIdentifierExtractor.class),
+                gatewayUseCase,
+                passThroughUseCase,
+                problemMapper(),
+                legacyAuthOnProxyPaths);
+    }
+
+    /**
+     * Stand-in for the application mapper, which serializes problems with the
+     * resteasy-problem serializer.
+     */
+    private static ObjectMapper problemMapper() {
+        var mapper = mock(ObjectMapper.class);
+        when(mapper.<JsonNode>valueToTree(any())).thenAnswer(invocation -> {
+            HttpProblem problem = invocation.getArgument(0);
+            return JsonNodeFactory.instance
+                    .objectNode()
+                    .put("title", problem.getTitle())
+                    .put("status", problem.getStatusCode())
+                    .put("detail", problem.getDetail());
+        });
+        return mapper;
+    }
+
+    @Nested
+    @DisplayName("Target resolution")
+    class TargetResolutionTests {
+
+        @Test
+        @DisplayName("should strip the gateway prefix for gateway mode")
+        void shouldResolveGatewayPaths() {
+            assertEquals(new ProxyTarget(null, "/api/users"), ProxyTarget.resolve("/gateway/api/users"));
+            assertEquals(new ProxyTarget(null, "/"), ProxyTarget.resolve("/gateway/"));
+        }
+
+        @Test
+        @DisplayName("should split the service ID from the path for pass-through mode")
+        void shouldResolvePassThroughPaths() {
+            assertEquals(new ProxyTarget("demo", "/api/users"), ProxyTarget.resolve("/demo/api/users"));
+            assertEquals(new ProxyTarget("demo", "/"), ProxyTarget.resolve("/demo/"));
+            assertEquals(new ProxyTarget("demo", "/"), ProxyTarget.resolve("/demo"));
+        }
+
+        @Test
+        @DisplayName("should leave admin, auth, Quarkus and root paths to JAX-RS")
+        void shouldNotResolveReservedPaths() {
+            assertNull(ProxyTarget.resolve("/admin/services"));
+            assertNull(ProxyTarget.resolve("/Admin/services"));
+            assertNull(ProxyTarget.resolve("/auth/session"));
+            assertNull(ProxyTarget.resolve("/q/health"));
+            assertNull(ProxyTarget.resolve("/gateway"));
+            assertNull(ProxyTarget.resolve("/"));
+            assertNull(ProxyTarget.resolve("//api"));
+        }
+    }
+
+    @Nested
+    @DisplayName("Dispatch")
+    class DispatchTests {
+
+        @Test
+        @DisplayName("should continue to JAX-RS when disabled")
+        void shouldContinueWhenDisabled() {
+            when(config.enabled()).thenReturn(false);
+            when(ctx.normalizedPath()).thenReturn("/demo-service/api/users");
+
+            filter.proxy(ctx);
+
+            verify(ctx).next();
+            verifyNoInteractions(rateLimitFilter, passThroughUseCase);
+        }
+
+        @Test
+        @DisplayName("should continue to JAX-RS when the legacy auth filter covers proxy paths")
+        void shouldContinueWhenLegacyAuthCoversProxyPaths() {
+            when(ctx.normalizedPath()).thenReturn("/demo-service/api/users");
+
+            createFilter(true).proxy(ctx);
+
+            verify(ctx).next();
+            verifyNoInteractions(rateLimitFilter, accessControlFilter, gatewayUseCase, passThroughUseCase);
+        }
+
+        @Test
+        @DisplayName("should continue to JAX-RS for admin paths")
+        void shouldContinueForAdminPaths() {
+            when(ctx.normalizedPath()).thenReturn("/admin/services");
+
+            filter.proxy(ctx);
+
+            verify(ctx).next();
+            verifyNoInteractions(rateLimitFilter, gatewayUseCase, passThroughUseCase);
+        }
+
+        @Test
+        @DisplayName("should reject oversized bodies before rate limiting")
+        void shouldRejectOversizedBodies() {
+            when(ctx.normalizedPath()).thenReturn("/demo-service/api/users");
+            when(request.getHeader(HttpHeaders.CONTENT_LENGTH)).thenReturn("4096");
+
+            filter.proxy(ctx);
+
+            verify(ctx, never()).next();
+            verify(response).setStatusCode(413);
+            verify(response).end(any(Buffer.class));
+            verifyNoInteractions(rateLimitFilter, passThroughUseCase);
+        }
+    }
+
+    @Nested
+    @DisplayName("Forwarding")
+    class ForwardingTests {
+
+        private final RateLimitDecision allowed =
+                RateLimitDecision.allow(99, 100, 60, Instant.ofEpochSecond(1_700_000_060L), 1, null);
+
+        @BeforeEach
+        void setUp() {
+            when(request.method()).thenReturn(HttpMethod.GET);
+            when(request.absoluteURI()).thenReturn("http://localhost:8080/demo-service/api/users");
+            when(rateLimitFilter.check(request)).thenReturn(Uni.createFrom().item(allowed));
+            when(rateLimitFilter.includeHeaders()).thenReturn(true);
+            when(accessControlFilter.isAllowed(anyString(), anyString(), any()))
+                    .thenReturn(Uni.createFrom().item(true));
+        }
+
+        @Test
+        @DisplayName("should forward gateway requests and write the upstream response")
+        void shouldForwardGatewayRequests() {
+            when(ctx.normalizedPath()).thenReturn("/gateway/api/users");
+            var body = "{\"users\":[]}".getBytes(StandardCharsets.UTF_8);
+            when(gatewayUseCase.forward(any()))
+                    .thenReturn(Uni.createFrom()
+                            .item(new GatewayResult.Success(
+                                    200, Map.of("Content-Type", List.of("application/json")), body)));
+
+            filter.proxy(ctx);
+
+            var forwarded = ArgumentCaptor.forClass(GatewayRequest.class);
+            verify(gatewayUseCase).forward(forwarded.capture());
+            assertEquals("/api/users", forwarded.getValue().path());
+            assertEquals("GET", forwarded.getValue().method());
+            verify(response).setStatusCode(200);
+            assertEquals("application/json", responseHeaders.get("Content-Type"));
+            verify(response).putHeader("X-RateLimit-Limit", "100");
+            verify(response).putHeader("X-RateLimit-Remaining", "99");
+            verify(response).putHeader("X-RateLimit-Reset", "1700000060");
+            var written = ArgumentCaptor.forClass(Buffer.class);
+            verify(response).end(written.capture());
+            assertArrayEquals(body, written.getValue().getBytes());
+            verify(ctx, never()).next();
+            verifyNoInteractions(passThroughUseCase);
+        }
+
+        @Test
+        @DisplayName("should forward pass-through requests to the service in the path")
+        void shouldForwardPassThroughRequests() {
+            when(ctx.normalizedPath()).thenReturn("/demo-service/api/users");
+            when(passThroughUseCase.forward(eq("demo-service"), any()))
+                    .thenReturn(Uni.createFrom().item(new GatewayResult.Success(204, Map.of(), new byte[0])));
+
+            filter.proxy(ctx);
+
+            var forwarded = ArgumentCaptor.forClass(GatewayRequest.class);
+            verify(passThroughUseCase).forward(eq("demo-service"), forwarded.capture());
+            assertEquals("/api/users", forwarded.getValue().path());
+            verify(response).setStatusCode(204);
+            verify(response).putHeader("X-RateLimit-Remaining", "99");
+            verify(response).end();
+            verifyNoInteractions(gatewayUseCase);
+        }
+
+        @Test
+        @DisplayName("should decode the path as JAX-RS does before resolving it")
+        void shouldDecodePath() {
+            when(ctx.normalizedPath()).thenReturn("/demo-service/api%2Fusers");
+            when(passThroughUseCase.forward(eq("demo-service"), any()))
+                    .thenReturn(Uni.createFrom().item(new GatewayResult.Success(204, Map.of(), new byte[0])));
+
+            filter.proxy(ctx);
+
+            var forwarded = ArgumentCaptor.forClass(GatewayRequest.class);
+            verify(passThroughUseCase).forward(eq("demo-service"), forwarded.capture());
+            assertEquals("/api/users", forwarded.getValue().path());
+            verify(accessControlFilter).isAllowed(eq("/demo-service/api/users"), eq("GET"), any());
+        }
+
+        @Test
+        @DisplayName("should reject rate-limited requests with 429 and Retry-After")
+        void shouldRejectRateLimitedRequests() {
+            when(ctx.normalizedPath()).thenReturn("/demo-service/api/users");
+            var rejected = RateLimitDecision.rejected(100, 60, Instant.ofEpochSecond(1_700_000_060L), 30, 101, null);
+            when(rateLimitFilter.check(request)).thenReturn(Uni.createFrom().item(rejected));
+
+            filter.proxy(ctx);
+
+            verify(response).setStatusCode(429);
+            verify(response).putHeader("Retry-After", "30");
+            verify(response).putHeader("X-RateLimit-Limit", "100");
+            verify(response).putHeader("X-RateLimit-Remaining", "0");
+            verify(response).putHeader("X-RateLimit-Reset", "1700000060");
+            assertEquals("Too Many Requests", writtenProblem().getString("title"));
+            verifyNoInteractions(accessControlFilter, gatewayUseCase, passThroughUseCase);
+        }
+
+        @Test
+        @DisplayName("should return 404 when access control denies the request")
+        void shouldHideDeniedRequests() {
+            when(ctx.normalizedPath()).thenReturn("/demo-service/api/users");
+            when(accessControlFilter.isAllowed(anyString(), anyString(), any()))
+                    .thenReturn(Uni.createFrom().item(false));
+
+            filter.proxy(ctx);
+
+            verify(response).setStatusCode(404);
+            verify(response).putHeader(HttpHeaders.CONTENT_TYPE, "application/problem+json");
+            var problem = writtenProblem();
+            assertEquals(404, problem.getInteger("status"));
+            assertEquals("/demo-service/api/users", problem.getString("instance"));
+            verifyNoInteractions(gatewayUseCase, passThroughUseCase);
+        }
+
+        @Test
+        @DisplayName("should map use case errors to problem responses")
+        void shouldMapUseCaseErrors() {
+            when(ctx.normalizedPath()).thenReturn("/demo-service/api/users");
+            when(passThroughUseCase.forward(eq("demo-service"), any()))
+                    .thenReturn(Uni.createFrom().item(new GatewayResult.Error("Connection refused")));
+
+            filter.proxy(ctx);
+
+            verify(response).setStatusCode(502);
+            verify(response).putHeader(HttpHeaders.CONTENT_TYPE, "application/problem+json");
+            var problem = writtenProblem();
+            assertEquals("Bad Gateway", problem.getString("title"));
+            assertEquals("Connection refused", problem.getString("detail"));
+            verify(response, never()).putHeader(eq("X-RateLimit-Limit"), anyString());
+        }
+
+        private JsonObject writtenProblem() {
+            var written = ArgumentCaptor.forClass(Buffer.class);
+            verify(response).end(written.capture());
+            return new JsonObject(written.getValue());
+        }
+    }
+}